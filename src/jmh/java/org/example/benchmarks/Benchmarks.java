@@ -0,0 +1,29 @@
+package org.example.benchmarks;
+
+import org.example.Scheduler;
+import schedulers.ComputationScheduler;
+import schedulers.IOThreadScheduler;
+import schedulers.SingleThreadScheduler;
+import schedulers.VirtualThreadScheduler;
+
+/**
+ * Общие настройки бенчмарков.
+ */
+final class Benchmarks {
+
+    private Benchmarks() {
+    }
+
+    /**
+     * Планировщик по имени параметра {@code @Param}.
+     */
+    static Scheduler scheduler(String name) {
+        return switch (name) {
+            case "computation" -> new ComputationScheduler();
+            case "io" -> new IOThreadScheduler();
+            case "single" -> new SingleThreadScheduler();
+            case "virtual" -> new VirtualThreadScheduler();
+            default -> throw new IllegalArgumentException("Unknown scheduler: " + name);
+        };
+    }
+}
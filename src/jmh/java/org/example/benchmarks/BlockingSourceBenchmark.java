@@ -0,0 +1,94 @@
+package org.example.benchmarks;
+
+import org.example.Observable;
+import org.example.Scheduler;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code subscriptions} одновременных блокирующих источников (по {@code blockMillis} мс)
+ * через subscribeOn на IO-пуле и на виртуальных потоках. Кроме времени
+ * выдаёт пиковое число потоков платформы; для памяти — {@code -prof gc}.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xss256k")
+@State(Scope.Benchmark)
+public class BlockingSourceBenchmark {
+
+    @Param({"io", "virtual"})
+    public String scheduler;
+
+    @Param({"10000"})
+    public int subscriptions;
+
+    @Param({"10"})
+    public int blockMillis;
+
+    private Scheduler target;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        target = Benchmarks.scheduler(scheduler);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        target.shutdown();
+    }
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class ThreadCounters {
+        private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+        public long peakPlatformThreads;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            THREADS.resetPeakThreadCount();
+        }
+
+        void record() {
+            peakPlatformThreads = THREADS.getPeakThreadCount();
+        }
+    }
+
+    @Benchmark
+    public void blockingSources(ThreadCounters counters) throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(subscriptions);
+        Observable<Integer> source = Observable.<Integer>create(obs -> {
+            try {
+                Thread.sleep(blockMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            obs.onNext(1);
+            obs.onComplete();
+        }).subscribeOn(target);
+
+        for (int i = 0; i < subscriptions; i++) {
+            source.subscribe(x -> { }, e -> latch.countDown(), latch::countDown);
+        }
+        latch.await();
+        counters.record();
+    }
+}
@@ -0,0 +1,60 @@
+package org.example.benchmarks;
+
+import org.example.Observable;
+import org.example.subjects.ReplaySubject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Запомнить поток из {@code items} элементов и воспроизвести его двум
+ * подписчикам: {@code cache()} (слот массива на элемент) против
+ * {@code ReplaySubject} (узел списка на элемент). С {@code -prof gc}
+ * видно, сколько байт стоит история.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CacheBenchmark {
+    @Param({"100000"})
+    public int items;
+
+    private Integer[] source;
+
+    @Setup
+    public void setup() {
+        source = new Integer[items];
+        for (int i = 0; i < items; i++) {
+            source[i] = i;
+        }
+    }
+
+    @Benchmark
+    public void cache(Blackhole bh) {
+        Observable<Integer> cached = Observable.fromArray(source).cache();
+        cached.subscribe(bh::consume, bh::consume, () -> { });
+        cached.subscribe(bh::consume, bh::consume, () -> { });
+    }
+
+    @Benchmark
+    public void replaySubject(Blackhole bh) {
+        ReplaySubject<Integer> subject = ReplaySubject.create();
+        Observable.fromArray(source).subscribe(subject);
+        subject.subscribe(bh::consume, bh::consume, () -> { });
+        subject.subscribe(bh::consume, bh::consume, () -> { });
+    }
+}
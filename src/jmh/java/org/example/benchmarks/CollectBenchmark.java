@@ -0,0 +1,55 @@
+package org.example.benchmarks;
+
+import org.example.Observable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сборка всего потока в список: {@code toList()} растит массив по мере
+ * поступления, {@code toList(ITEMS)} выделяет его один раз. С {@code -prof gc}
+ * разница видна в gc.alloc.rate.norm.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CollectBenchmark {
+    @Param({"100000", "10000000"})
+    int items;
+
+    private Observable<Integer> source;
+
+    @Setup
+    public void setup() {
+        source = Observable.range(0, items);
+    }
+
+    @Benchmark
+    public void toListGrowing(Blackhole bh) {
+        source.toList().subscribe(bh::consume, bh::consume);
+    }
+
+    @Benchmark
+    public void toListPresized(Blackhole bh) {
+        source.toList(items).subscribe(bh::consume, bh::consume);
+    }
+
+    @Benchmark
+    public void count(Blackhole bh) {
+        source.count().subscribe(bh::consume, bh::consume);
+    }
+}
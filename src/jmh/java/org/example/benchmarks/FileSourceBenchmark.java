@@ -0,0 +1,92 @@
+package org.example.benchmarks;
+
+import org.example.Flowable;
+import org.example.Observable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Построчное чтение CSV-файла размером {@code fileMegabytes}: BufferedReader
+ * внутри {@code Observable.create} (строка — новый String) против
+ * {@code splitLines} над кусками {@code fromFile} и сегментами
+ * {@code fromMappedFile} (строка — срез буфера). С {@code -prof gc} видно,
+ * сколько байт выделяется на файл.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FileSourceBenchmark {
+    private static final int CHUNK = 64 * 1024;
+
+    @Param({"64"})
+    public int fileMegabytes;
+
+    private Path file;
+
+    @Setup
+    public void setup() throws IOException {
+        file = Files.createTempFile("file-source", ".csv");
+        long target = fileMegabytes * 1024L * 1024L;
+        long written = 0;
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (int i = 0; written < target; i++) {
+                String line = i + ",user-" + (i % 1000) + ",2024-01-01T00:00:00Z," + (i * 31 % 9973) + "\n";
+                out.write(line);
+                written += line.length();
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public void bufferedReader(Blackhole bh) {
+        Observable.<String>create(emitter -> {
+            try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null && !emitter.isDisposed()) {
+                    emitter.onNext(line);
+                }
+            } catch (IOException ex) {
+                emitter.onError(ex);
+                return;
+            }
+            emitter.onComplete();
+        }).subscribe(bh::consume, bh::consume, () -> { });
+    }
+
+    @Benchmark
+    public void fromFileLines(Blackhole bh) {
+        Flowable.splitLines(Flowable.fromFile(file, CHUNK)).subscribe(bh::consume, bh::consume, () -> { });
+    }
+
+    @Benchmark
+    public void fromMappedFileLines(Blackhole bh) {
+        Flowable.splitLines(Flowable.fromMappedFile(file, CHUNK * 16)).subscribe(bh::consume, bh::consume, () -> { });
+    }
+}
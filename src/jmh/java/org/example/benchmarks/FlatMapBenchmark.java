@@ -0,0 +1,61 @@
+package org.example.benchmarks;
+
+import org.example.Observable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Элементов в секунду через flatMap при разной ширине веера:
+ * {@code ITEMS / width} внешних элементов, по {@code width} во внутренних потоках.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FlatMapBenchmark {
+    static final int ITEMS = 1_000;
+
+    @Param({"1", "10", "100", "1000"})
+    public int width;
+
+    @Param({"2147483647", "4"})
+    public int maxConcurrency;
+
+    private Observable<Integer> flatMap;
+    private Observable<Integer> concatMap;
+
+    @Setup
+    public void setup() {
+        Observable<Integer> outer = Observable.range(0, ITEMS / width);
+        Observable<Integer> inner = Observable.range(0, width);
+        flatMap = outer.flatMap(i -> inner, maxConcurrency);
+        concatMap = outer.concatMap(i -> inner);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEMS)
+    public void flatMap(Blackhole bh) {
+        flatMap.subscribe(bh::consume, bh::consume, () -> {});
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEMS)
+    public void concatMap(Blackhole bh) {
+        concatMap.subscribe(bh::consume, bh::consume, () -> {});
+    }
+}
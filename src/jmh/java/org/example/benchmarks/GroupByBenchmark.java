@@ -0,0 +1,61 @@
+package org.example.benchmarks;
+
+import org.example.Observable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Раскладка 100k элементов по {@code keys} потребителям: отдельный
+ * {@code filter} на каждый ключ (элемент проверяется {@code keys} раз)
+ * против одного {@code groupBy} (один поиск в таблице на элемент).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GroupByBenchmark {
+    private static final int ITEMS = 100_000;
+
+    @Param({"10", "100"})
+    public int keys;
+
+    private Integer[] items;
+
+    @Setup
+    public void setup() {
+        items = new Integer[ITEMS];
+        for (int i = 0; i < ITEMS; i++) {
+            items[i] = i;
+        }
+    }
+
+    @Benchmark
+    public void filterPerKey(Blackhole bh) {
+        Observable<Integer> source = Observable.fromArray(items);
+        for (int k = 0; k < keys; k++) {
+            int key = k;
+            source.filter(i -> i % keys == key).subscribe(bh::consume, bh::consume, () -> { });
+        }
+    }
+
+    @Benchmark
+    public void groupBy(Blackhole bh) {
+        Observable.fromArray(items)
+                .groupBy(i -> i % keys)
+                .subscribe(group -> group.subscribe(bh::consume, bh::consume, () -> { }), bh::consume, () -> { });
+    }
+}
@@ -0,0 +1,87 @@
+package org.example.benchmarks;
+
+import org.example.Observable;
+import org.example.Scheduler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Элементов в секунду через переход observeOn на каждом из планировщиков:
+ * через очередь (источник create), со слиянием (источник range) и пачками
+ * (buffer перед observeOn, распаковка flatMapIterable после).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ObserveOnBenchmark {
+    static final int ITEMS = 10_000;
+
+    @Param({"computation", "io", "single"})
+    public String scheduler;
+
+    private Scheduler target;
+    private Observable<Integer> queued;
+    private Observable<Integer> fused;
+    private Observable<Integer> batched;
+
+    @Setup
+    public void setup() {
+        target = Benchmarks.scheduler(scheduler);
+        queued = Observable.<Integer>create(obs -> {
+            for (int i = 0; i < ITEMS; i++) obs.onNext(i);
+            obs.onComplete();
+        }).observeOn(target);
+        fused = Observable.range(0, ITEMS).observeOn(target);
+        batched = Observable.<Integer>create(obs -> {
+            for (int i = 0; i < ITEMS; i++) obs.onNext(i);
+            obs.onComplete();
+        }).buffer(Observable.bufferSize()).observeOn(target).flatMapIterable(b -> b);
+    }
+
+    @TearDown
+    public void tearDown() {
+        target.shutdown();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEMS)
+    public void queued(Blackhole bh) throws InterruptedException {
+        await(queued, bh);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEMS)
+    public void fused(Blackhole bh) throws InterruptedException {
+        await(fused, bh);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEMS)
+    public void batched(Blackhole bh) throws InterruptedException {
+        await(batched, bh);
+    }
+
+    private static void await(Observable<Integer> source, Blackhole bh) throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        source.subscribe(bh::consume, e -> latch.countDown(), latch::countDown);
+        latch.await();
+    }
+}
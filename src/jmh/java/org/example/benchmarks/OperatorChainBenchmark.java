@@ -0,0 +1,67 @@
+package org.example.benchmarks;
+
+import org.example.Observable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Элементов в секунду через синхронную цепочку из {@code stages} операторов map.
+ * С {@code -prof gc} показывает выделение памяти на элемент (gc.alloc.rate.norm / ITEMS).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class OperatorChainBenchmark {
+    static final int ITEMS = 1_000;
+
+    @Param({"1", "5", "10"})
+    public int stages;
+
+    private Observable<Integer> range;
+    private Observable<Integer> created;
+
+    @Setup
+    public void setup() {
+        range = chain(Observable.range(0, ITEMS));
+        created = chain(Observable.create(obs -> {
+            for (int i = 0; i < ITEMS; i++) obs.onNext(i);
+            obs.onComplete();
+        }));
+    }
+
+    private Observable<Integer> chain(Observable<Integer> source) {
+        Observable<Integer> result = source;
+        for (int i = 0; i < stages; i++) {
+            result = (i & 1) == 0 ? result.map(x -> x + 1) : result.filter(x -> x >= 0);
+        }
+        return result;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEMS)
+    public void rangeChain(Blackhole bh) {
+        range.subscribe(bh::consume, bh::consume, () -> {});
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEMS)
+    public void createChain(Blackhole bh) {
+        created.subscribe(bh::consume, bh::consume, () -> {});
+    }
+}
@@ -0,0 +1,100 @@
+package org.example.benchmarks;
+
+import org.example.Observable;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import schedulers.IOThreadScheduler;
+import schedulers.SingleThreadScheduler;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Пачка из {@code items} элементов в 10 раз быстрее потребителя: observeOn
+ * против onOverflowLatest и onOverflowDrop(16). Кроме времени пачки выдаёт
+ * p99 задержки между созданием элемента и концом его обработки.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OverflowLatencyBenchmark {
+    private static final long WORK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Param({"observeOn", "latest", "drop"})
+    public String strategy;
+
+    @Param({"1000"})
+    public int items;
+
+    private IOThreadScheduler io;
+    private SingleThreadScheduler consumer;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        io = new IOThreadScheduler();
+        consumer = new SingleThreadScheduler();
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        io.shutdown();
+        consumer.shutdown();
+    }
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class LatencyCounters {
+        public long p99LatencyMillis;
+
+        void record(long[] latencies, int count) {
+            Arrays.sort(latencies, 0, count);
+            p99LatencyMillis = TimeUnit.NANOSECONDS.toMillis(latencies[(int) (count * 0.99)]);
+        }
+    }
+
+    @Benchmark
+    public void burst(LatencyCounters counters) throws InterruptedException {
+        long interval = WORK_NANOS / 10;
+        Observable<Long> source = Observable.<Long>create(emitter -> {
+            for (int i = 0; i < items && !emitter.isDisposed(); i++) {
+                emitter.onNext(System.nanoTime());
+                LockSupport.parkNanos(interval);
+            }
+            emitter.onComplete();
+        }).subscribeOn(io);
+        Observable<Long> stream = switch (strategy) {
+            case "observeOn" -> source.observeOn(consumer);
+            case "latest" -> source.onOverflowLatest(consumer);
+            case "drop" -> source.onOverflowDrop(consumer, 16);
+            default -> throw new IllegalArgumentException("Unknown strategy: " + strategy);
+        };
+
+        // потребитель один, поэтому массив пишется из одного потока
+        long[] latencies = new long[items];
+        int[] count = new int[1];
+        CountDownLatch done = new CountDownLatch(1);
+        stream.subscribe(created -> {
+            LockSupport.parkNanos(WORK_NANOS);
+            latencies[count[0]++] = System.nanoTime() - created;
+        }, e -> done.countDown(), done::countDown);
+        done.await();
+        counters.record(latencies, count[0]);
+    }
+}
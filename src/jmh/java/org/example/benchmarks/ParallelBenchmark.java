@@ -0,0 +1,100 @@
+package org.example.benchmarks;
+
+import org.example.Observable;
+import org.example.Scheduler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Элементов в секунду через CPU-нагруженный map: observeOn (одна рельса)
+ * против parallel(n).runOn(computation). При чисто вычислительной нагрузке
+ * результат {@code parallel} растёт почти линейно с {@code rails}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ParallelBenchmark {
+    static final int ITEMS = 10_000;
+
+    @Param({"1", "2", "4"})
+    public int rails;
+
+    @Param({"1000"})
+    public int work;
+
+    private Scheduler computation;
+    private Observable<Long> observeOn;
+    private Observable<Long> parallel;
+    private Observable<Long> parallelOrdered;
+
+    @Setup
+    public void setup() {
+        computation = Benchmarks.scheduler("computation");
+        int tokens = work;
+        observeOn = Observable.range(0, ITEMS)
+                .observeOn(computation)
+                .map(i -> burn(i, tokens));
+        parallel = Observable.range(0, ITEMS)
+                .parallel(rails)
+                .runOn(computation)
+                .map(i -> burn(i, tokens))
+                .sequential();
+        parallelOrdered = Observable.range(0, ITEMS)
+                .parallel(rails)
+                .runOn(computation)
+                .map(i -> burn(i, tokens))
+                .sequentialOrdered();
+    }
+
+    @TearDown
+    public void tearDown() {
+        computation.shutdown();
+    }
+
+    private static long burn(int i, int tokens) {
+        Blackhole.consumeCPU(tokens);
+        return i;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEMS)
+    public void observeOn(Blackhole bh) throws InterruptedException {
+        await(observeOn, bh);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEMS)
+    public void parallel(Blackhole bh) throws InterruptedException {
+        await(parallel, bh);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEMS)
+    public void parallelOrdered(Blackhole bh) throws InterruptedException {
+        await(parallelOrdered, bh);
+    }
+
+    private static void await(Observable<Long> source, Blackhole bh) throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        source.subscribe(bh::consume, e -> latch.countDown(), latch::countDown);
+        latch.await();
+    }
+}
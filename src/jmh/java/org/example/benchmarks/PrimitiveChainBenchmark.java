@@ -0,0 +1,60 @@
+package org.example.benchmarks;
+
+import org.example.IntObservable;
+import org.example.Observable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Одна и та же цепочка map/filter над Observable&lt;Integer&gt; и над IntObservable.
+ * Значения лежат вне кэша Integer, так что упаковка честно выделяет объект.
+ * Запуск с {@code -prof gc}: у {@code intChain} gc.alloc.rate.norm не растёт
+ * с ITEMS — выделяется только сама подписка.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PrimitiveChainBenchmark {
+    static final int ITEMS = 1_000;
+    static final int START = 1_000_000;
+
+    private Observable<Integer> boxed;
+    private IntObservable primitive;
+
+    @Setup
+    public void setup() {
+        boxed = Observable.range(START, ITEMS)
+                .map(x -> x * 10)
+                .filter(x -> x % 20 == 0);
+        primitive = IntObservable.range(START, ITEMS)
+                .map(x -> x * 10)
+                .filter(x -> x % 20 == 0);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEMS)
+    public void boxedChain(Blackhole bh) {
+        boxed.subscribe(bh::consume, bh::consume, () -> {});
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEMS)
+    public void intChain(Blackhole bh) {
+        primitive.subscribe(bh::consume, bh::consume, () -> {});
+    }
+}
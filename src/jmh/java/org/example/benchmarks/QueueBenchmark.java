@@ -0,0 +1,88 @@
+package org.example.benchmarks;
+
+import org.example.internal.queue.MpscArrayQueue;
+import org.example.internal.queue.MpscLinkedArrayQueue;
+import org.example.internal.queue.SimpleQueue;
+import org.example.internal.queue.SpscArrayQueue;
+import org.example.internal.queue.SpscLinkedArrayQueue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Очереди операторов против {@link ConcurrentLinkedQueue}: пачка из
+ * {@code BURST} элементов кладётся и вычитывается обратно, как в дренаже
+ * observeOn. Кольцевые очереди переиспользуют слоты и не выделяют память
+ * на элемент; у ConcurrentLinkedQueue каждый offer — новый узел. С
+ * {@code -prof gc} разница видна в gc.alloc.rate.norm.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class QueueBenchmark {
+    private static final int BURST = 128;
+    private static final Integer ITEM = 1;
+
+    @Param({"concurrentLinked", "spscArray", "spscLinked", "mpscArray", "mpscLinked"})
+    String queue;
+
+    private SimpleQueue<Integer> q;
+
+    @Setup
+    public void setup() {
+        q = switch (queue) {
+            case "concurrentLinked" -> new ConcurrentLinkedAdapter<>();
+            case "spscArray" -> new SpscArrayQueue<>(BURST);
+            // пачка ровно в кольцо заставляла бы растущие очереди заводить новое кольцо на каждой пачке
+            case "spscLinked" -> new SpscLinkedArrayQueue<>(BURST * 2);
+            case "mpscArray" -> new MpscArrayQueue<>(BURST);
+            case "mpscLinked" -> new MpscLinkedArrayQueue<>(BURST * 2);
+            default -> throw new IllegalArgumentException(queue);
+        };
+    }
+
+    @Benchmark
+    public void offerPollBurst(Blackhole bh) {
+        SimpleQueue<Integer> q = this.q;
+        for (int i = 0; i < BURST; i++) {
+            q.offer(ITEM);
+        }
+        Integer v;
+        while ((v = q.poll()) != null) {
+            bh.consume(v);
+        }
+    }
+
+    /** ConcurrentLinkedQueue за тем же интерфейсом, чтобы вызовы были одинаковыми. */
+    static final class ConcurrentLinkedAdapter<T> extends ConcurrentLinkedQueue<T> implements SimpleQueue<T> {
+        @Override
+        public boolean relaxedOffer(T value) {
+            return offer(value);
+        }
+
+        @Override
+        public T relaxedPoll() {
+            return poll();
+        }
+
+        @Override
+        public void clear() {
+            super.clear();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package org.example.benchmarks;
+
+import org.example.Observable;
+import org.example.Single;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Запрос-ответ с одним значением и одним map: через Observable и через Single.
+ * С {@code -prof gc} видно, сколько байт стоит один вызов.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RequestResponseBenchmark {
+    private Observable<String> observable;
+    private Single<String> single;
+
+    @Setup
+    public void setup() {
+        observable = Observable.<Integer>create(emitter -> {
+            emitter.onNext(42);
+            emitter.onComplete();
+        }).map(String::valueOf);
+        single = Single.<Integer>create(emitter -> emitter.onSuccess(42)).map(String::valueOf);
+    }
+
+    @Benchmark
+    public void observable(Blackhole bh) {
+        observable.subscribe(bh::consume, bh::consume, () -> {});
+    }
+
+    @Benchmark
+    public void single(Blackhole bh) {
+        single.subscribe(bh::consume, bh::consume);
+    }
+
+    @Benchmark
+    public String singleBlockingGet() {
+        return single.blockingGet();
+    }
+}
@@ -0,0 +1,49 @@
+package org.example.benchmarks;
+
+import org.example.subjects.PublishSubject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Стоимость одного onNext в PublishSubject при {@code subscribers} подписчиках:
+ * раздача только читает массив подписчиков, без блокировок.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SubjectFanOutBenchmark {
+
+    @Param({"1", "10", "100"})
+    public int subscribers;
+
+    private PublishSubject<Integer> subject;
+    private final Integer item = 1_000_000;
+
+    @Setup
+    public void setup(Blackhole bh) {
+        subject = PublishSubject.create();
+        for (int i = 0; i < subscribers; i++) {
+            subject.subscribe(bh::consume, bh::consume, () -> {});
+        }
+    }
+
+    @Benchmark
+    public void onNext() {
+        subject.onNext(item);
+    }
+}
@@ -0,0 +1,51 @@
+package org.example.benchmarks;
+
+import org.example.Disposable;
+import org.example.Observable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Стоимость подписки и отмены на цепочке из {@code stages} операторов
+ * без единого элемента.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SubscribeDisposeBenchmark {
+
+    @Param({"0", "1", "10"})
+    public int stages;
+
+    private Observable<Integer> chain;
+
+    @Setup
+    public void setup() {
+        Observable<Integer> result = Observable.create(obs -> { });
+        for (int i = 0; i < stages; i++) {
+            result = result.map(x -> x + 1);
+        }
+        chain = result;
+    }
+
+    @Benchmark
+    public Disposable subscribeAndDispose() {
+        Disposable d = chain.subscribe(x -> { }, e -> { }, () -> { });
+        d.dispose();
+        return d;
+    }
+}
@@ -0,0 +1,14 @@
+package org.example;
+
+/**
+ * База для потоков со своим состоянием (Subject, ConnectableObservable,
+ * группы groupBy): источником служит сам объект, а подписку он принимает
+ * в {@link #subscribeActual(Emitter)}, которую обязан реализовать.
+ */
+public abstract class AbstractObservable<T> extends Observable<T> {
+
+    protected AbstractObservable() {
+    }
+
+    protected abstract void subscribeActual(Emitter<T> emitter);
+}
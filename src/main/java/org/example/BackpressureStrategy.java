@@ -0,0 +1,15 @@
+package org.example;
+
+/**
+ * Что делать с элементами Observable, для которых у Flowable-подписчика нет спроса.
+ */
+public enum BackpressureStrategy {
+    /** Копить всё в неограниченной очереди до появления спроса. */
+    BUFFER,
+    /** Отбрасывать элементы без спроса. */
+    DROP,
+    /** Хранить только последний элемент без спроса. */
+    LATEST,
+    /** Завершать поток {@link MissingBackpressureException}. */
+    ERROR
+}
@@ -0,0 +1,9 @@
+package org.example;
+
+/**
+ * Действие по освобождению ресурса источника (закрыть сокет, снять слушателя).
+ */
+@FunctionalInterface
+public interface Cancellable {
+    void cancel() throws Exception;
+}
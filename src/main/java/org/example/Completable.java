@@ -0,0 +1,170 @@
+package org.example;
+
+import org.example.internal.observers.BlockingMultiObserver;
+import org.example.internal.observers.FutureMultiObserver;
+import org.example.internal.operators.CompletableCreateEmitter;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
+
+/**
+ * Операция без результата: запись, отправка, сброс кэша. Подписчик —
+ * {@link CompletableObserver}, который узнаёт только об успехе или ошибке.
+ */
+public final class Completable {
+
+    @FunctionalInterface
+    public interface OnSubscribe {
+        void call(CompletableEmitter emitter);
+    }
+
+    private final OnSubscribe onSubscribe;
+
+    private Completable(OnSubscribe onSub) {
+        this.onSubscribe = onSub;
+    }
+
+    public static Completable create(OnSubscribe onSub) {
+        Objects.requireNonNull(onSub);
+        return new Completable(onSub);
+    }
+
+    public static Completable complete() {
+        return create(CompletableEmitter::onComplete);
+    }
+
+    public static Completable error(Throwable error) {
+        Objects.requireNonNull(error);
+        return create(emitter -> emitter.onError(error));
+    }
+
+    /**
+     * Выполняет {@code action} при каждой подписке.
+     */
+    public static Completable fromRunnable(Runnable action) {
+        Objects.requireNonNull(action);
+        return create(emitter -> {
+            action.run();
+            emitter.onComplete();
+        });
+    }
+
+    public static Completable fromCompletionStage(CompletionStage<?> stage) {
+        Objects.requireNonNull(stage);
+        return create(emitter -> stage.whenComplete((value, error) -> {
+            if (error != null) {
+                emitter.onError(error);
+            } else {
+                emitter.onComplete();
+            }
+        }));
+    }
+
+    public Disposable subscribe(Runnable onComplete, Consumer<Throwable> onError) {
+        return subscribe(new CompletableObserver() {
+            @Override
+            public void onComplete() {
+                try {
+                    onComplete.run();
+                } catch (Throwable ex) {
+                    Observable.reportUndeliverable(ex);
+                }
+            }
+            @Override
+            public void onError(Throwable t) {
+                onError.accept(t);
+            }
+        });
+    }
+
+    public Disposable subscribe(CompletableObserver observer) {
+        Objects.requireNonNull(observer);
+        CompletableCreateEmitter emitter = new CompletableCreateEmitter(observer);
+        observer.onSubscribe(emitter);
+
+        try {
+            onSubscribe.call(emitter);
+        } catch (Throwable ex) {
+            emitter.onError(ex);
+        }
+        return emitter;
+    }
+
+    /**
+     * После успешного завершения подписывается на {@code next}.
+     */
+    public Completable andThen(Completable next) {
+        Objects.requireNonNull(next);
+        return create(emitter -> subscribe(new CompletableObserver() {
+            @Override
+            public void onSubscribe(Disposable d) {
+                emitter.setDisposable(d);
+            }
+            @Override
+            public void onComplete() {
+                next.subscribe(emitter);
+            }
+            @Override
+            public void onError(Throwable t) {
+                emitter.onError(t);
+            }
+        }));
+    }
+
+    public <T> Single<T> andThen(Single<T> next) {
+        Objects.requireNonNull(next);
+        return Single.create(emitter -> subscribe(new CompletableObserver() {
+            @Override
+            public void onSubscribe(Disposable d) {
+                emitter.setDisposable(d);
+            }
+            @Override
+            public void onComplete() {
+                next.subscribe(emitter);
+            }
+            @Override
+            public void onError(Throwable t) {
+                emitter.onError(t);
+            }
+        }));
+    }
+
+    public <T> Single<T> toSingleDefault(T value) {
+        Objects.requireNonNull(value);
+        return andThen(Single.just(value));
+    }
+
+    public <T> Observable<T> toObservable() {
+        return Observable.create(emitter -> subscribe(new CompletableObserver() {
+            @Override
+            public void onSubscribe(Disposable d) {
+                emitter.setDisposable(d);
+            }
+            @Override
+            public void onComplete() {
+                emitter.onComplete();
+            }
+            @Override
+            public void onError(Throwable t) {
+                emitter.onError(t);
+            }
+        }));
+    }
+
+    /**
+     * Ждёт завершения в текущем потоке; ошибка пробрасывается.
+     */
+    public void blockingAwait() {
+        BlockingMultiObserver<Object> observer = new BlockingMultiObserver<>();
+        subscribe(observer);
+        observer.blockingGet();
+    }
+
+    public CompletableFuture<Void> toCompletableFuture() {
+        FutureMultiObserver<Void> observer = new FutureMultiObserver<>();
+        subscribe(observer);
+        return observer;
+    }
+}
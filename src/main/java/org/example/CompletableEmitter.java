@@ -0,0 +1,19 @@
+package org.example;
+
+/**
+ * CompletableObserver, который получает источник в {@link Completable#create}.
+ * Первый сигнал завершает подписку, следующие отбрасываются.
+ */
+public interface CompletableEmitter extends CompletableObserver {
+
+    boolean isDisposed();
+
+    void setDisposable(Disposable d);
+
+    void setCancellable(Cancellable c);
+
+    @Override
+    default void onSubscribe(Disposable d) {
+        setDisposable(d);
+    }
+}
@@ -0,0 +1,12 @@
+package org.example;
+
+/**
+ * Получатель только факта завершения: onComplete или onError.
+ */
+public interface CompletableObserver {
+    default void onSubscribe(Disposable d) {
+    }
+
+    void onComplete();
+    void onError(Throwable t);
+}
@@ -0,0 +1,107 @@
+package org.example;
+
+import org.example.internal.disposables.DisposableHelper;
+import org.example.internal.operators.ObservableRefCount;
+import org.example.subjects.PublishSubject;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Горячий поток из {@link Observable#publish()}: подписка на него не запускает
+ * источник, это делает {@link #connect()} — один раз на всех подписчиков.
+ * После завершения источника следующий {@code connect()} подключается заново.
+ */
+public final class ConnectableObservable<T> extends AbstractObservable<T> {
+    private final Observable<T> source;
+    private final AtomicReference<Connection<T>> current = new AtomicReference<>();
+
+    ConnectableObservable(Observable<T> source) {
+        this.source = source;
+    }
+
+    private Connection<T> connection() {
+        for (;;) {
+            Connection<T> c = current.get();
+            if (c != null) {
+                return c;
+            }
+            Connection<T> fresh = new Connection<>(this);
+            if (current.compareAndSet(null, fresh)) {
+                return fresh;
+            }
+        }
+    }
+
+    @Override
+    protected void subscribeActual(Emitter<T> emitter) {
+        connection().subject.subscribe(emitter);
+    }
+
+    /**
+     * Подписывает источник; повторный вызов при активном подключении
+     * возвращает то же подключение. Отмена результата отключает источник.
+     */
+    public Disposable connect() {
+        Connection<T> c = connection();
+        if (c.connected.compareAndSet(false, true)) {
+            source.subscribe(c);
+        }
+        return c;
+    }
+
+    /**
+     * Подключается с первым подписчиком и отключается, когда отписался последний.
+     */
+    public Observable<T> refCount() {
+        return Observable.create(new ObservableRefCount<>(this));
+    }
+
+    /**
+     * Одно подключение: Subject, раздающий сигналы, и подписка на источник.
+     */
+    static final class Connection<T> implements Observer<T>, Disposable {
+        private final ConnectableObservable<T> parent;
+        final PublishSubject<T> subject = PublishSubject.create();
+        final AtomicBoolean connected = new AtomicBoolean();
+        private final AtomicReference<Disposable> upstream = new AtomicReference<>();
+
+        Connection(ConnectableObservable<T> parent) {
+            this.parent = parent;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            DisposableHelper.setOnce(upstream, d);
+        }
+
+        @Override
+        public void onNext(T item) {
+            subject.onNext(item);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            parent.current.compareAndSet(this, null);
+            subject.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            parent.current.compareAndSet(this, null);
+            subject.onComplete();
+        }
+
+        @Override
+        public void dispose() {
+            if (DisposableHelper.dispose(upstream)) {
+                parent.current.compareAndSet(this, null);
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return DisposableHelper.isDisposed(upstream.get());
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package org.example;
+
+import org.example.internal.operators.DoubleCreateEmitter;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Поток значений double без упаковки: операторы принимают примитивные функции,
+ * подписчик — {@link DoubleObserver}. Значение на пути от источника до подписчика
+ * не превращается в объект, так что горячий путь не создаёт мусора.
+ * Переход к обычному Observable — {@link #boxed()}, обратно — {@code Observable.mapToDouble}.
+ */
+public final class DoubleObservable {
+
+    @FunctionalInterface
+    public interface OnSubscribe {
+        void call(DoubleEmitter emitter);
+    }
+
+    private final OnSubscribe onSubscribe;
+
+    private DoubleObservable(OnSubscribe onSub) {
+        this.onSubscribe = onSub;
+    }
+
+    public static DoubleObservable create(OnSubscribe onSub) {
+        return new DoubleObservable(onSub);
+    }
+
+    public static DoubleObservable fromArray(double... items) {
+        Objects.requireNonNull(items);
+        return create(emitter -> {
+            for (double item : items) {
+                if (emitter.isDisposed()) return;
+                emitter.onNext(item);
+            }
+            emitter.onComplete();
+        });
+    }
+
+    public Disposable subscribe(DoubleConsumer onNext, Consumer<Throwable> onError, Runnable onComplete) {
+        return subscribe(new DoubleObserver() {
+            private Disposable upstream;
+            private boolean done;
+
+            @Override
+            public void onSubscribe(Disposable d) {
+                upstream = d;
+            }
+            @Override
+            public void onNext(double item) {
+                if (done) return;
+                try {
+                    onNext.accept(item);
+                } catch (Throwable ex) {
+                    upstream.dispose();
+                    onError(ex);
+                }
+            }
+            @Override
+            public void onError(Throwable t) {
+                if (done) return;
+                done = true;
+                onError.accept(t);
+            }
+            @Override
+            public void onComplete() {
+                if (done) return;
+                done = true;
+                onComplete.run();
+            }
+        });
+    }
+
+    public Disposable subscribe(DoubleObserver observer) {
+        Objects.requireNonNull(observer);
+        DoubleCreateEmitter emitter = new DoubleCreateEmitter(observer);
+        observer.onSubscribe(emitter);
+
+        try {
+            onSubscribe.call(emitter);
+        } catch (Throwable ex) {
+            emitter.onError(ex);
+        }
+        return emitter;
+    }
+
+    public DoubleObservable map(DoubleUnaryOperator mapper) {
+        Objects.requireNonNull(mapper);
+        return create(emitter -> subscribe(new Stage(emitter) {
+            @Override
+            public void onNext(double item) {
+                double v;
+                try {
+                    v = mapper.applyAsDouble(item);
+                } catch (Throwable ex) {
+                    emitter.onError(ex);
+                    return;
+                }
+                emitter.onNext(v);
+            }
+        }));
+    }
+
+    public DoubleObservable filter(DoublePredicate predicate) {
+        Objects.requireNonNull(predicate);
+        return create(emitter -> subscribe(new Stage(emitter) {
+            @Override
+            public void onNext(double item) {
+                boolean pass;
+                try {
+                    pass = predicate.test(item);
+                } catch (Throwable ex) {
+                    emitter.onError(ex);
+                    return;
+                }
+                if (pass) {
+                    emitter.onNext(item);
+                }
+            }
+        }));
+    }
+
+    public <R> Observable<R> mapToObj(DoubleFunction<? extends R> mapper) {
+        Objects.requireNonNull(mapper);
+        return Observable.create(emitter -> subscribe(new DoubleObserver() {
+            @Override
+            public void onSubscribe(Disposable d) {
+                emitter.onSubscribe(d);
+            }
+            @Override
+            public void onNext(double item) {
+                R v;
+                try {
+                    v = mapper.apply(item);
+                } catch (Throwable ex) {
+                    emitter.onError(ex);
+                    return;
+                }
+                emitter.onNext(v);
+            }
+            @Override
+            public void onError(Throwable t) {
+                emitter.onError(t);
+            }
+            @Override
+            public void onComplete() {
+                emitter.onComplete();
+            }
+        }));
+    }
+
+    public Observable<Double> boxed() {
+        return mapToObj(Double::valueOf);
+    }
+
+    /**
+     * Стадия DoubleObservable -> DoubleObservable: терминальные сигналы и отмена
+     * проходят насквозь. После ошибки функции emitter отменяет источник,
+     * поэтому отдельный флаг завершения не нужен.
+     */
+    private abstract static class Stage implements DoubleObserver {
+        final DoubleEmitter emitter;
+
+        Stage(DoubleEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            emitter.onSubscribe(d);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            emitter.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            emitter.onComplete();
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package org.example;
+
+/**
+ * Получатель значений double без упаковки; аналог {@link Observer}.
+ */
+public interface DoubleObserver {
+    default void onSubscribe(Disposable d) {
+    }
+
+    void onNext(double item);
+    void onError(Throwable t);
+    void onComplete();
+}
@@ -0,0 +1,38 @@
+package org.example;
+
+/**
+ * Observer, который получает источник в {@link Observable#create}.
+ * Через него источник узнаёт об отмене подписки ещё до начала эмиссии
+ * и регистрирует свои ресурсы, которые нужно освободить при отмене.
+ */
+public interface Emitter<T> extends Observer<T> {
+
+    /**
+     * Подписка отменена или поток уже завершён: дальше выдавать незачем.
+     */
+    boolean isDisposed();
+
+    /**
+     * Ресурс, освобождаемый при отмене или завершении. Предыдущий ресурс
+     * при этом освобождается; если подписка уже отменена — освобождается новый.
+     */
+    void setDisposable(Disposable d);
+
+    void setCancellable(Cancellable c);
+
+    /**
+     * Обёртка, которую можно вызывать из нескольких потоков одновременно:
+     * сигналы уходят вниз по одному, onComplete/onError — после всех
+     * принятых элементов. См. {@link SerializedObserver}.
+     */
+    Emitter<T> serialize();
+
+    /**
+     * Передавая emitter как Observer вверх по цепочке, получаем связку:
+     * отмена этого emitter'а отменяет и источник выше.
+     */
+    @Override
+    default void onSubscribe(Disposable d) {
+        setDisposable(d);
+    }
+}
@@ -0,0 +1,458 @@
+package org.example;
+
+import org.example.internal.observers.BlockingIterator;
+import org.example.internal.operators.FlowableCombineLatest;
+import org.example.internal.operators.FlowableFlatMap;
+import org.example.internal.operators.FlowableFromChannel;
+import org.example.internal.operators.FlowableFromFile;
+import org.example.internal.operators.FlowableFromIterable;
+import org.example.internal.operators.FlowableObserveOn;
+import org.example.internal.operators.FlowableSplitLines;
+import org.example.internal.operators.FlowableSubscribeOn;
+import org.example.internal.operators.FlowableZip;
+import org.example.internal.operators.ObservableToFlowable;
+import org.example.internal.subscriptions.SubscriptionHelper;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Реактивный поток с обратным давлением: источник выдаёт не больше элементов,
+ * чем подписчик запросил через {@link Subscription#request(long)}.
+ */
+public class Flowable<T> {
+
+    @FunctionalInterface
+    public interface OnSubscribe<T> {
+        void call(Subscriber<? super T> subscriber);
+    }
+
+    private final OnSubscribe<T> onSubscribe;
+
+    private Flowable(OnSubscribe<T> onSub) {
+        this.onSubscribe = onSub;
+    }
+
+    /**
+     * Источник, который сам соблюдает протокол request(n).
+     */
+    public static <U> Flowable<U> create(OnSubscribe<U> onSub) {
+        return new Flowable<>(onSub);
+    }
+
+    /**
+     * Источник в стиле {@link Observable#create}, не знающий о спросе;
+     * лишние элементы обрабатываются согласно {@code strategy}.
+     */
+    public static <U> Flowable<U> create(Observable.OnSubscribe<U> onSub, BackpressureStrategy strategy) {
+        return Observable.create(onSub).toFlowable(strategy);
+    }
+
+    public static <U> Flowable<U> fromIterable(Iterable<? extends U> source) {
+        Objects.requireNonNull(source);
+        return create(new FlowableFromIterable<>(source));
+    }
+
+    public static Flowable<Integer> range(int start, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("count >= 0 required but it was " + count);
+        }
+        return fromIterable(() -> IntStream.range(start, start + count).iterator());
+    }
+
+    /**
+     * Файл кусками по {@code chunkSize} байт; каждый кусок читается в новый
+     * буфер только под запрошенный спрос, в потоке, выставившем спрос.
+     * Буферы не переиспользуются, поэтому кусок и его срезы остаются
+     * валидными сколько угодно долго. Отмена закрывает файл.
+     */
+    public static Flowable<ByteBuffer> fromFile(Path path, int chunkSize) {
+        Objects.requireNonNull(path);
+        checkChunkSize(chunkSize);
+        return create(new FlowableFromFile(path, chunkSize, false));
+    }
+
+    /**
+     * Файл сегментами по {@code segmentSize} байт, отображёнными в память
+     * ({@code MappedByteBuffer}, только чтение): данные не копируются в кучу,
+     * очередной сегмент отображается под запрошенный спрос.
+     */
+    public static Flowable<ByteBuffer> fromMappedFile(Path path, int segmentSize) {
+        Objects.requireNonNull(path);
+        checkChunkSize(segmentSize);
+        return create(new FlowableFromFile(path, segmentSize, true));
+    }
+
+    /**
+     * Файл через {@link AsynchronousFileChannel} с начала: не больше одного
+     * чтения в полёте и только пока есть спрос. Элементы приходят в потоках
+     * канала; отмена прекращает чтения, закрыть канал — забота вызывающего.
+     */
+    public static Flowable<ByteBuffer> fromChannel(AsynchronousFileChannel channel, int chunkSize) {
+        Objects.requireNonNull(channel);
+        checkChunkSize(chunkSize);
+        return create(new FlowableFromChannel(channel, chunkSize));
+    }
+
+    /**
+     * Строки из кусков {@code fromFile}/{@code fromMappedFile}/{@code fromChannel}:
+     * срезы кусков без '\n' и '\r' перед ним, без копирования; копируется
+     * только строка на границе кусков. Следующий кусок запрашивается, когда
+     * строки текущего выданы.
+     */
+    public static Flowable<ByteBuffer> splitLines(Flowable<ByteBuffer> chunks) {
+        Objects.requireNonNull(chunks);
+        return create(new FlowableSplitLines(chunks));
+    }
+
+    /**
+     * Элементы всех источников по мере поступления; у каждого запрашивается
+     * не больше {@link Observable#bufferSize()} элементов вперёд.
+     */
+    @SafeVarargs
+    public static <U> Flowable<U> merge(Flowable<? extends U>... sources) {
+        Objects.requireNonNull(sources);
+        return merge(Arrays.asList(sources));
+    }
+
+    public static <U> Flowable<U> merge(Iterable<? extends Flowable<? extends U>> sources) {
+        Objects.requireNonNull(sources);
+        return Flowable.<Flowable<? extends U>>fromIterable(sources).flatMap(Function.identity(), Integer.MAX_VALUE);
+    }
+
+    /**
+     * zip с ограниченной памятью: у каждого источника запрашивается не
+     * больше {@link Observable#bufferSize()} элементов вперёд, и источник,
+     * обогнавший остальные, ждёт спроса.
+     */
+    public static <U, R> Flowable<R> zip(Iterable<? extends Flowable<? extends U>> sources,
+                                         Function<? super Object[], ? extends R> zipper) {
+        Objects.requireNonNull(zipper);
+        return create(new FlowableZip<U, R>(toArray(sources), zipper, Observable.bufferSize()));
+    }
+
+    @SafeVarargs
+    public static <U, R> Flowable<R> zip(Function<? super Object[], ? extends R> zipper,
+                                         Flowable<? extends U>... sources) {
+        Objects.requireNonNull(sources);
+        return zip(Arrays.asList(sources), zipper);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, R> Flowable<R> zip(Flowable<? extends A> first, Flowable<? extends B> second,
+                                            BiFunction<? super A, ? super B, ? extends R> zipper) {
+        Objects.requireNonNull(zipper);
+        return zip(Arrays.asList(first, second), row -> zipper.apply((A) row[0], (B) row[1]));
+    }
+
+    /**
+     * combineLatest со спросом: комбинация на каждый элемент, у каждого
+     * источника запрошено не больше {@link Observable#bufferSize()} элементов
+     * вперёд, так что без спроса подписчика источники стоят, а не копят элементы.
+     */
+    public static <U, R> Flowable<R> combineLatest(Iterable<? extends Flowable<? extends U>> sources,
+                                                   Function<? super Object[], ? extends R> combiner) {
+        Objects.requireNonNull(combiner);
+        return create(new FlowableCombineLatest<U, R>(toArray(sources), combiner, Observable.bufferSize()));
+    }
+
+    @SafeVarargs
+    public static <U, R> Flowable<R> combineLatest(Function<? super Object[], ? extends R> combiner,
+                                                   Flowable<? extends U>... sources) {
+        Objects.requireNonNull(sources);
+        return combineLatest(Arrays.asList(sources), combiner);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, R> Flowable<R> combineLatest(Flowable<? extends A> first, Flowable<? extends B> second,
+                                                      BiFunction<? super A, ? super B, ? extends R> combiner) {
+        Objects.requireNonNull(combiner);
+        return combineLatest(Arrays.asList(first, second), row -> combiner.apply((A) row[0], (B) row[1]));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <U> Flowable<? extends U>[] toArray(Iterable<? extends Flowable<? extends U>> sources) {
+        Objects.requireNonNull(sources);
+        List<Flowable<? extends U>> list = new ArrayList<>();
+        for (Flowable<? extends U> source : sources) {
+            list.add(Objects.requireNonNull(source));
+        }
+        return list.toArray(new Flowable[0]);
+    }
+
+    private static void checkChunkSize(int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize > 0 required but it was " + chunkSize);
+        }
+    }
+
+    public void subscribe(Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber);
+        try {
+            onSubscribe.call(subscriber);
+        } catch (Throwable ex) {
+            subscriber.onError(ex);
+        }
+    }
+
+    /**
+     * Подписка без ограничения спроса.
+     */
+    public Disposable subscribe(
+            Consumer<? super T> onNext,
+            Consumer<Throwable> onError,
+            Runnable onComplete
+    ) {
+        AtomicReference<Subscription> upstream = new AtomicReference<>();
+
+        subscribe(new Subscriber<T>() {
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                if (SubscriptionHelper.setOnce(upstream, subscription)) {
+                    subscription.request(Long.MAX_VALUE);
+                }
+            }
+            @Override
+            public void onNext(T item) {
+                if (upstream.get() == SubscriptionHelper.CANCELLED) return;
+                try {
+                    onNext.accept(item);
+                } catch (Throwable ex) {
+                    // как в Observable.subscribe: источник отменяется, ошибка уходит в onError
+                    upstream.get().cancel();
+                    onError(ex);
+                }
+            }
+            @Override
+            public void onError(Throwable t) {
+                if (upstream.getAndSet(SubscriptionHelper.CANCELLED) != SubscriptionHelper.CANCELLED) {
+                    onError.accept(t);
+                }
+            }
+            @Override
+            public void onComplete() {
+                if (upstream.getAndSet(SubscriptionHelper.CANCELLED) != SubscriptionHelper.CANCELLED) {
+                    onComplete.run();
+                }
+            }
+        });
+
+        return new Disposable() {
+            @Override
+            public void dispose() {
+                SubscriptionHelper.cancel(upstream);
+            }
+            @Override
+            public boolean isDisposed() {
+                return upstream.get() == SubscriptionHelper.CANCELLED;
+            }
+        };
+    }
+
+    /**
+     * Подписка на источник выполняется в {@code scheduler}; onSubscribe
+     * подписчик получает сразу. Отмена до старта снимает задачу, отказ
+     * планировщика приходит в onError.
+     */
+    public Flowable<T> subscribeOn(Scheduler scheduler) {
+        Objects.requireNonNull(scheduler);
+        return create(new FlowableSubscribeOn<>(this, scheduler));
+    }
+
+    public Flowable<T> observeOn(Scheduler scheduler) {
+        return observeOn(scheduler, Observable.bufferSize());
+    }
+
+    /**
+     * Переносит сигналы в планировщик, запрашивая у источника не больше
+     * {@code prefetch} элементов вперёд.
+     */
+    public Flowable<T> observeOn(Scheduler scheduler, int prefetch) {
+        Objects.requireNonNull(scheduler);
+        if (prefetch <= 0) {
+            throw new IllegalArgumentException("prefetch > 0 required but it was " + prefetch);
+        }
+        return create(new FlowableObserveOn<>(this, scheduler, prefetch));
+    }
+
+    public <R> Flowable<R> map(Function<? super T, ? extends R> mapper) {
+        Objects.requireNonNull(mapper);
+        return create(subscriber ->
+                this.subscribe(new Subscriber<T>() {
+                    private Subscription upstream;
+                    private boolean done;
+
+                    @Override
+                    public void onSubscribe(Subscription subscription) {
+                        upstream = subscription;
+                        subscriber.onSubscribe(subscription);
+                    }
+                    @Override
+                    public void onNext(T item) {
+                        if (done) return;
+                        R result;
+                        try {
+                            result = mapper.apply(item);
+                        } catch (Throwable ex) {
+                            upstream.cancel();
+                            onError(ex);
+                            return;
+                        }
+                        subscriber.onNext(result);
+                    }
+                    @Override
+                    public void onError(Throwable t) {
+                        if (done) return;
+                        done = true;
+                        subscriber.onError(t);
+                    }
+                    @Override
+                    public void onComplete() {
+                        if (done) return;
+                        done = true;
+                        subscriber.onComplete();
+                    }
+                })
+        );
+    }
+
+    public Flowable<T> filter(Predicate<? super T> predicate) {
+        Objects.requireNonNull(predicate);
+        return create(subscriber ->
+                this.subscribe(new Subscriber<T>() {
+                    private Subscription upstream;
+                    private boolean done;
+
+                    @Override
+                    public void onSubscribe(Subscription subscription) {
+                        upstream = subscription;
+                        subscriber.onSubscribe(subscription);
+                    }
+                    @Override
+                    public void onNext(T item) {
+                        if (done) return;
+                        boolean pass;
+                        try {
+                            pass = predicate.test(item);
+                        } catch (Throwable ex) {
+                            upstream.cancel();
+                            onError(ex);
+                            return;
+                        }
+                        if (pass) {
+                            subscriber.onNext(item);
+                        } else {
+                            // отброшенный элемент не должен съедать спрос
+                            upstream.request(1);
+                        }
+                    }
+                    @Override
+                    public void onError(Throwable t) {
+                        if (done) return;
+                        done = true;
+                        subscriber.onError(t);
+                    }
+                    @Override
+                    public void onComplete() {
+                        if (done) return;
+                        done = true;
+                        subscriber.onComplete();
+                    }
+                })
+        );
+    }
+
+    public <R> Flowable<R> flatMap(Function<? super T, ? extends Flowable<? extends R>> mapper) {
+        return flatMap(mapper, Observable.bufferSize());
+    }
+
+    /**
+     * Объединяет внутренние потоки по мере поступления, держа подписанными
+     * не больше {@code maxConcurrency} из них.
+     */
+    public <R> Flowable<R> flatMap(Function<? super T, ? extends Flowable<? extends R>> mapper, int maxConcurrency) {
+        Objects.requireNonNull(mapper);
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("maxConcurrency > 0 required but it was " + maxConcurrency);
+        }
+        return create(new FlowableFlatMap<>(this, mapper, maxConcurrency, Observable.bufferSize()));
+    }
+
+    /**
+     * Переход к Observable: у источника запрашивается неограниченный спрос;
+     * отмена подписки на Observable отменяет Subscription.
+     */
+    public Observable<T> toObservable() {
+        return Observable.create(observer ->
+                this.subscribe(new Subscriber<T>() {
+                    @Override
+                    public void onSubscribe(Subscription subscription) {
+                        observer.setCancellable(subscription::cancel);
+                        subscription.request(Long.MAX_VALUE);
+                    }
+                    @Override
+                    public void onNext(T item) {
+                        observer.onNext(item);
+                    }
+                    @Override
+                    public void onError(Throwable t) {
+                        observer.onError(t);
+                    }
+                    @Override
+                    public void onComplete() {
+                        observer.onComplete();
+                    }
+                })
+        );
+    }
+
+    /**
+     * Элементы в виде Iterable для синхронного кода: у источника запрашивается
+     * {@code bufferSize()} элементов и дозапрашивается по мере чтения.
+     */
+    public Iterable<T> blockingIterable() {
+        return blockingIterable(Observable.bufferSize());
+    }
+
+    /**
+     * Каждый {@code iterator()} подписывается заново; источник уходит вперёд
+     * потребителя не больше чем на {@code prefetch} элементов, поток итератора
+     * паркуется, только когда очередь пуста.
+     */
+    public Iterable<T> blockingIterable(int prefetch) {
+        if (prefetch <= 0) {
+            throw new IllegalArgumentException("prefetch > 0 required but it was " + prefetch);
+        }
+        return () -> {
+            BlockingIterator<T> it = BlockingIterator.bounded(prefetch);
+            subscribe(it);
+            return it;
+        };
+    }
+
+    /**
+     * Последовательный Stream элементов с тем же ограниченным забеганием;
+     * {@code close()} отменяет подписку.
+     */
+    public Stream<T> blockingStream() {
+        BlockingIterator<T> it = BlockingIterator.bounded(Observable.bufferSize());
+        subscribe(it);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(it, Spliterator.ORDERED), false)
+                .onClose(it::dispose);
+    }
+}
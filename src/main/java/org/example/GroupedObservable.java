@@ -0,0 +1,18 @@
+package org.example;
+
+/**
+ * Группа из {@link Observable#groupBy}: элементы источника с одним ключом
+ * в исходном порядке. На группу можно подписаться только один раз;
+ * до подписки её элементы копятся.
+ */
+public abstract class GroupedObservable<K, V> extends AbstractObservable<V> {
+    private final K key;
+
+    protected GroupedObservable(K key) {
+        this.key = key;
+    }
+
+    public K getKey() {
+        return key;
+    }
+}
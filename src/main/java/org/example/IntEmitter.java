@@ -0,0 +1,17 @@
+package org.example;
+
+/**
+ * {@link Emitter} для {@link IntObservable}.
+ */
+public interface IntEmitter extends IntObserver {
+    boolean isDisposed();
+
+    void setDisposable(Disposable d);
+
+    void setCancellable(Cancellable c);
+
+    @Override
+    default void onSubscribe(Disposable d) {
+        setDisposable(d);
+    }
+}
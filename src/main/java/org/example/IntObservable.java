@@ -0,0 +1,203 @@
+package org.example;
+
+import org.example.internal.operators.IntCreateEmitter;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Поток значений int без упаковки: операторы принимают примитивные функции,
+ * подписчик — {@link IntObserver}. Значение на пути от источника до подписчика
+ * не превращается в объект, так что горячий путь не создаёт мусора.
+ * Переход к обычному Observable — {@link #boxed()}, обратно — {@code Observable.mapToInt}.
+ */
+public final class IntObservable {
+
+    @FunctionalInterface
+    public interface OnSubscribe {
+        void call(IntEmitter emitter);
+    }
+
+    private final OnSubscribe onSubscribe;
+
+    private IntObservable(OnSubscribe onSub) {
+        this.onSubscribe = onSub;
+    }
+
+    public static IntObservable create(OnSubscribe onSub) {
+        return new IntObservable(onSub);
+    }
+
+    public static IntObservable fromArray(int... items) {
+        Objects.requireNonNull(items);
+        return create(emitter -> {
+            for (int item : items) {
+                if (emitter.isDisposed()) return;
+                emitter.onNext(item);
+            }
+            emitter.onComplete();
+        });
+    }
+
+    public static IntObservable range(int start, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("count >= 0 required but it was " + count);
+        }
+        return create(emitter -> {
+            int end = start + count;
+            for (int i = start; i != end; i++) {
+                if (emitter.isDisposed()) return;
+                emitter.onNext(i);
+            }
+            emitter.onComplete();
+        });
+    }
+
+    public Disposable subscribe(IntConsumer onNext, Consumer<Throwable> onError, Runnable onComplete) {
+        return subscribe(new IntObserver() {
+            private Disposable upstream;
+            private boolean done;
+
+            @Override
+            public void onSubscribe(Disposable d) {
+                upstream = d;
+            }
+            @Override
+            public void onNext(int item) {
+                if (done) return;
+                try {
+                    onNext.accept(item);
+                } catch (Throwable ex) {
+                    upstream.dispose();
+                    onError(ex);
+                }
+            }
+            @Override
+            public void onError(Throwable t) {
+                if (done) return;
+                done = true;
+                onError.accept(t);
+            }
+            @Override
+            public void onComplete() {
+                if (done) return;
+                done = true;
+                onComplete.run();
+            }
+        });
+    }
+
+    public Disposable subscribe(IntObserver observer) {
+        Objects.requireNonNull(observer);
+        IntCreateEmitter emitter = new IntCreateEmitter(observer);
+        observer.onSubscribe(emitter);
+
+        try {
+            onSubscribe.call(emitter);
+        } catch (Throwable ex) {
+            emitter.onError(ex);
+        }
+        return emitter;
+    }
+
+    public IntObservable map(IntUnaryOperator mapper) {
+        Objects.requireNonNull(mapper);
+        return create(emitter -> subscribe(new Stage(emitter) {
+            @Override
+            public void onNext(int item) {
+                int v;
+                try {
+                    v = mapper.applyAsInt(item);
+                } catch (Throwable ex) {
+                    emitter.onError(ex);
+                    return;
+                }
+                emitter.onNext(v);
+            }
+        }));
+    }
+
+    public IntObservable filter(IntPredicate predicate) {
+        Objects.requireNonNull(predicate);
+        return create(emitter -> subscribe(new Stage(emitter) {
+            @Override
+            public void onNext(int item) {
+                boolean pass;
+                try {
+                    pass = predicate.test(item);
+                } catch (Throwable ex) {
+                    emitter.onError(ex);
+                    return;
+                }
+                if (pass) {
+                    emitter.onNext(item);
+                }
+            }
+        }));
+    }
+
+    public <R> Observable<R> mapToObj(IntFunction<? extends R> mapper) {
+        Objects.requireNonNull(mapper);
+        return Observable.create(emitter -> subscribe(new IntObserver() {
+            @Override
+            public void onSubscribe(Disposable d) {
+                emitter.onSubscribe(d);
+            }
+            @Override
+            public void onNext(int item) {
+                R v;
+                try {
+                    v = mapper.apply(item);
+                } catch (Throwable ex) {
+                    emitter.onError(ex);
+                    return;
+                }
+                emitter.onNext(v);
+            }
+            @Override
+            public void onError(Throwable t) {
+                emitter.onError(t);
+            }
+            @Override
+            public void onComplete() {
+                emitter.onComplete();
+            }
+        }));
+    }
+
+    public Observable<Integer> boxed() {
+        return mapToObj(Integer::valueOf);
+    }
+
+    /**
+     * Стадия IntObservable -> IntObservable: терминальные сигналы и отмена
+     * проходят насквозь. После ошибки функции emitter отменяет источник,
+     * поэтому отдельный флаг завершения не нужен.
+     */
+    private abstract static class Stage implements IntObserver {
+        final IntEmitter emitter;
+
+        Stage(IntEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            emitter.onSubscribe(d);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            emitter.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            emitter.onComplete();
+        }
+    }
+}
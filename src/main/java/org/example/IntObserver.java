@@ -0,0 +1,13 @@
+package org.example;
+
+/**
+ * Получатель значений int без упаковки; аналог {@link Observer}.
+ */
+public interface IntObserver {
+    default void onSubscribe(Disposable d) {
+    }
+
+    void onNext(int item);
+    void onError(Throwable t);
+    void onComplete();
+}
@@ -0,0 +1,17 @@
+package org.example;
+
+/**
+ * {@link Emitter} для {@link LongObservable}.
+ */
+public interface LongEmitter extends LongObserver {
+    boolean isDisposed();
+
+    void setDisposable(Disposable d);
+
+    void setCancellable(Cancellable c);
+
+    @Override
+    default void onSubscribe(Disposable d) {
+        setDisposable(d);
+    }
+}
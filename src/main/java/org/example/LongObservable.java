@@ -0,0 +1,222 @@
+package org.example;
+
+import org.example.internal.operators.LongCreateEmitter;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Поток значений long без упаковки: операторы принимают примитивные функции,
+ * подписчик — {@link LongObserver}. Значение на пути от источника до подписчика
+ * не превращается в объект, так что горячий путь не создаёт мусора.
+ * Переход к обычному Observable — {@link #boxed()}, обратно — {@code Observable.mapToLong}.
+ */
+public final class LongObservable {
+
+    @FunctionalInterface
+    public interface OnSubscribe {
+        void call(LongEmitter emitter);
+    }
+
+    private final OnSubscribe onSubscribe;
+
+    private LongObservable(OnSubscribe onSub) {
+        this.onSubscribe = onSub;
+    }
+
+    public static LongObservable create(OnSubscribe onSub) {
+        return new LongObservable(onSub);
+    }
+
+    public static LongObservable fromArray(long... items) {
+        Objects.requireNonNull(items);
+        return create(emitter -> {
+            for (long item : items) {
+                if (emitter.isDisposed()) return;
+                emitter.onNext(item);
+            }
+            emitter.onComplete();
+        });
+    }
+
+    public static LongObservable range(long start, long count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("count >= 0 required but it was " + count);
+        }
+        return create(emitter -> {
+            long end = start + count;
+            for (long i = start; i != end; i++) {
+                if (emitter.isDisposed()) return;
+                emitter.onNext(i);
+            }
+            emitter.onComplete();
+        });
+    }
+
+    /**
+     * Как {@link Observable#interval(long, long, TimeUnit, Scheduler)}, но без упаковки номера тика.
+     */
+    public static LongObservable interval(long initialDelay, long period, TimeUnit unit, Scheduler scheduler) {
+        Objects.requireNonNull(unit);
+        Objects.requireNonNull(scheduler);
+        return create(emitter -> {
+            AtomicLong counter = new AtomicLong();
+            emitter.setDisposable(scheduler.createWorker().schedulePeriodically(
+                    () -> emitter.onNext(counter.getAndIncrement()), initialDelay, period, unit));
+        });
+    }
+
+    public static LongObservable interval(long period, TimeUnit unit, Scheduler scheduler) {
+        return interval(period, period, unit, scheduler);
+    }
+
+    public Disposable subscribe(LongConsumer onNext, Consumer<Throwable> onError, Runnable onComplete) {
+        return subscribe(new LongObserver() {
+            private Disposable upstream;
+            private boolean done;
+
+            @Override
+            public void onSubscribe(Disposable d) {
+                upstream = d;
+            }
+            @Override
+            public void onNext(long item) {
+                if (done) return;
+                try {
+                    onNext.accept(item);
+                } catch (Throwable ex) {
+                    upstream.dispose();
+                    onError(ex);
+                }
+            }
+            @Override
+            public void onError(Throwable t) {
+                if (done) return;
+                done = true;
+                onError.accept(t);
+            }
+            @Override
+            public void onComplete() {
+                if (done) return;
+                done = true;
+                onComplete.run();
+            }
+        });
+    }
+
+    public Disposable subscribe(LongObserver observer) {
+        Objects.requireNonNull(observer);
+        LongCreateEmitter emitter = new LongCreateEmitter(observer);
+        observer.onSubscribe(emitter);
+
+        try {
+            onSubscribe.call(emitter);
+        } catch (Throwable ex) {
+            emitter.onError(ex);
+        }
+        return emitter;
+    }
+
+    public LongObservable map(LongUnaryOperator mapper) {
+        Objects.requireNonNull(mapper);
+        return create(emitter -> subscribe(new Stage(emitter) {
+            @Override
+            public void onNext(long item) {
+                long v;
+                try {
+                    v = mapper.applyAsLong(item);
+                } catch (Throwable ex) {
+                    emitter.onError(ex);
+                    return;
+                }
+                emitter.onNext(v);
+            }
+        }));
+    }
+
+    public LongObservable filter(LongPredicate predicate) {
+        Objects.requireNonNull(predicate);
+        return create(emitter -> subscribe(new Stage(emitter) {
+            @Override
+            public void onNext(long item) {
+                boolean pass;
+                try {
+                    pass = predicate.test(item);
+                } catch (Throwable ex) {
+                    emitter.onError(ex);
+                    return;
+                }
+                if (pass) {
+                    emitter.onNext(item);
+                }
+            }
+        }));
+    }
+
+    public <R> Observable<R> mapToObj(LongFunction<? extends R> mapper) {
+        Objects.requireNonNull(mapper);
+        return Observable.create(emitter -> subscribe(new LongObserver() {
+            @Override
+            public void onSubscribe(Disposable d) {
+                emitter.onSubscribe(d);
+            }
+            @Override
+            public void onNext(long item) {
+                R v;
+                try {
+                    v = mapper.apply(item);
+                } catch (Throwable ex) {
+                    emitter.onError(ex);
+                    return;
+                }
+                emitter.onNext(v);
+            }
+            @Override
+            public void onError(Throwable t) {
+                emitter.onError(t);
+            }
+            @Override
+            public void onComplete() {
+                emitter.onComplete();
+            }
+        }));
+    }
+
+    public Observable<Long> boxed() {
+        return mapToObj(Long::valueOf);
+    }
+
+    /**
+     * Стадия LongObservable -> LongObservable: терминальные сигналы и отмена
+     * проходят насквозь. После ошибки функции emitter отменяет источник,
+     * поэтому отдельный флаг завершения не нужен.
+     */
+    private abstract static class Stage implements LongObserver {
+        final LongEmitter emitter;
+
+        Stage(LongEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            emitter.onSubscribe(d);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            emitter.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            emitter.onComplete();
+        }
+    }
+}
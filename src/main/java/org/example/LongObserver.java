@@ -0,0 +1,13 @@
+package org.example;
+
+/**
+ * Получатель значений long без упаковки; аналог {@link Observer}.
+ */
+public interface LongObserver {
+    default void onSubscribe(Disposable d) {
+    }
+
+    void onNext(long item);
+    void onError(Throwable t);
+    void onComplete();
+}
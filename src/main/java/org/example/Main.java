@@ -1,10 +1,7 @@
 package org.example;
 
-import schedulers.ComputationScheduler;
-import schedulers.IOThreadScheduler;
-import schedulers.SingleThreadScheduler;
+import schedulers.Schedulers;
 
-import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
 public class Main {
@@ -24,10 +21,7 @@ public class Main {
                 );
 
         System.out.println("\nПреобразование: map и filter");
-        Observable.<Integer>create(obs -> {
-                    for (int i = 1; i <= 5; i++) obs.onNext(i);
-                    obs.onComplete();
-                })
+        IntObservable.range(1, 5)
                 .map(x -> x * 10)
                 .filter(x -> x % 20 == 0)
                 .subscribe(
@@ -54,40 +48,20 @@ public class Main {
                 );
 
         System.out.println("\nПотоки: subscribeOn и observeOn");
-        CountDownLatch latch = new CountDownLatch(2);
         Observable.<Integer>create(obs -> {
                     obs.onNext(100);
                     obs.onNext(200);
                     obs.onComplete();
                 })
-                .subscribeOn(new IOThreadScheduler())
-                .observeOn(new ComputationScheduler())
-                .subscribe(
-                        x -> {
-                            System.out.printf("  Поток %s получил %d%n",
-                                    Thread.currentThread().getName(), x);
-                            latch.countDown();
-                        },
-                        err -> System.err.println("  ошибка: " + err),
-                        ()  -> { /* ignore */ }
-                );
-        // ждём два onNext
-        latch.await(2, TimeUnit.SECONDS);
+                .subscribeOn(Schedulers.io())
+                .observeOn(Schedulers.computation())
+                .map(x -> String.format("  Поток %s получил %d", Thread.currentThread().getName(), x))
+                // ждём завершения в main, без ручных защёлок
+                .blockingForEach(System.out::println);
 
         System.out.println("\nОтмена подписки");
-        Observable<Long> ticker = Observable.create(obs -> {
-            long i = 0L;
-            try {
-                while (!Thread.currentThread().isInterrupted()) {
-                    obs.onNext(i++);
-                    Thread.sleep(300);
-                }
-            } catch (InterruptedException ex) {
-                obs.onComplete();
-            }
-        });
+        LongObservable ticker = LongObservable.interval(0, 300, TimeUnit.MILLISECONDS, Schedulers.single());
         Disposable disp = ticker
-                .subscribeOn(new SingleThreadScheduler())
                 .subscribe(
                         i   -> System.out.println("  счетчик: " + i),
                         err -> System.err.println("  ошибка: " + err),
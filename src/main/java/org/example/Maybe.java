@@ -0,0 +1,307 @@
+package org.example;
+
+import org.example.internal.observers.BlockingMultiObserver;
+import org.example.internal.observers.FutureMultiObserver;
+import org.example.internal.operators.MaybeCreateEmitter;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Поток из не более чем одного значения: поиск, который может ничего не найти.
+ * Подписчик — {@link MaybeObserver}.
+ */
+public final class Maybe<T> {
+
+    @FunctionalInterface
+    public interface OnSubscribe<T> {
+        void call(MaybeEmitter<T> emitter);
+    }
+
+    private final OnSubscribe<T> onSubscribe;
+
+    private Maybe(OnSubscribe<T> onSub) {
+        this.onSubscribe = onSub;
+    }
+
+    public static <T> Maybe<T> create(OnSubscribe<T> onSub) {
+        Objects.requireNonNull(onSub);
+        return new Maybe<>(onSub);
+    }
+
+    public static <T> Maybe<T> just(T value) {
+        Objects.requireNonNull(value);
+        return create(emitter -> emitter.onSuccess(value));
+    }
+
+    public static <T> Maybe<T> empty() {
+        return create(MaybeEmitter::onComplete);
+    }
+
+    public static <T> Maybe<T> error(Throwable error) {
+        Objects.requireNonNull(error);
+        return create(emitter -> emitter.onError(error));
+    }
+
+    /**
+     * Вызывает {@code callable} при каждой подписке; {@code null} означает «нет значения».
+     */
+    public static <T> Maybe<T> fromCallable(Callable<? extends T> callable) {
+        Objects.requireNonNull(callable);
+        return create(emitter -> {
+            T value;
+            try {
+                value = callable.call();
+            } catch (Throwable ex) {
+                emitter.onError(ex);
+                return;
+            }
+            if (value == null) {
+                emitter.onComplete();
+            } else {
+                emitter.onSuccess(value);
+            }
+        });
+    }
+
+    public Disposable subscribe(Consumer<? super T> onSuccess, Consumer<Throwable> onError, Runnable onComplete) {
+        return subscribe(new MaybeObserver<T>() {
+            @Override
+            public void onSuccess(T value) {
+                try {
+                    onSuccess.accept(value);
+                } catch (Throwable ex) {
+                    Observable.reportUndeliverable(ex);
+                }
+            }
+            @Override
+            public void onComplete() {
+                onComplete.run();
+            }
+            @Override
+            public void onError(Throwable t) {
+                onError.accept(t);
+            }
+        });
+    }
+
+    public Disposable subscribe(MaybeObserver<? super T> observer) {
+        Objects.requireNonNull(observer);
+        MaybeCreateEmitter<T> emitter = new MaybeCreateEmitter<>(observer);
+        observer.onSubscribe(emitter);
+
+        try {
+            onSubscribe.call(emitter);
+        } catch (Throwable ex) {
+            emitter.onError(ex);
+        }
+        return emitter;
+    }
+
+    public <R> Maybe<R> map(Function<? super T, ? extends R> mapper) {
+        Objects.requireNonNull(mapper);
+        return create(emitter -> subscribe(new Relay<T, R>(emitter) {
+            @Override
+            public void onSuccess(T value) {
+                R result;
+                try {
+                    result = Objects.requireNonNull(mapper.apply(value), "mapper returned null");
+                } catch (Throwable ex) {
+                    emitter.onError(ex);
+                    return;
+                }
+                emitter.onSuccess(result);
+            }
+        }));
+    }
+
+    public Maybe<T> filter(Predicate<? super T> predicate) {
+        Objects.requireNonNull(predicate);
+        return create(emitter -> subscribe(new Relay<T, T>(emitter) {
+            @Override
+            public void onSuccess(T value) {
+                boolean pass;
+                try {
+                    pass = predicate.test(value);
+                } catch (Throwable ex) {
+                    emitter.onError(ex);
+                    return;
+                }
+                if (pass) {
+                    emitter.onSuccess(value);
+                } else {
+                    emitter.onComplete();
+                }
+            }
+        }));
+    }
+
+    public <R> Maybe<R> flatMap(Function<? super T, ? extends Maybe<? extends R>> mapper) {
+        Objects.requireNonNull(mapper);
+        return create(emitter -> subscribe(new Relay<T, R>(emitter) {
+            @Override
+            public void onSuccess(T value) {
+                Maybe<? extends R> next;
+                try {
+                    next = Objects.requireNonNull(mapper.apply(value), "mapper returned null");
+                } catch (Throwable ex) {
+                    emitter.onError(ex);
+                    return;
+                }
+                next.subscribe(emitter);
+            }
+        }));
+    }
+
+    public <R> Maybe<R> flatMapSingle(Function<? super T, ? extends Single<? extends R>> mapper) {
+        Objects.requireNonNull(mapper);
+        return create(emitter -> subscribe(new Relay<T, R>(emitter) {
+            @Override
+            public void onSuccess(T value) {
+                Single<? extends R> next;
+                try {
+                    next = Objects.requireNonNull(mapper.apply(value), "mapper returned null");
+                } catch (Throwable ex) {
+                    emitter.onError(ex);
+                    return;
+                }
+                next.subscribe(new SingleObserver<R>() {
+                    @Override
+                    public void onSubscribe(Disposable d) {
+                        emitter.setDisposable(d);
+                    }
+                    @Override
+                    public void onSuccess(R result) {
+                        emitter.onSuccess(result);
+                    }
+                    @Override
+                    public void onError(Throwable t) {
+                        emitter.onError(t);
+                    }
+                });
+            }
+        }));
+    }
+
+    /**
+     * Значение или {@code defaultValue}, если его нет.
+     */
+    public Single<T> defaultIfEmpty(T defaultValue) {
+        Objects.requireNonNull(defaultValue);
+        return Single.create(emitter -> subscribe(new MaybeObserver<T>() {
+            @Override
+            public void onSubscribe(Disposable d) {
+                emitter.setDisposable(d);
+            }
+            @Override
+            public void onSuccess(T value) {
+                emitter.onSuccess(value);
+            }
+            @Override
+            public void onComplete() {
+                emitter.onSuccess(defaultValue);
+            }
+            @Override
+            public void onError(Throwable t) {
+                emitter.onError(t);
+            }
+        }));
+    }
+
+    /**
+     * Значение или {@link NoSuchElementException}, если его нет.
+     */
+    public Single<T> toSingle() {
+        return Single.create(emitter -> subscribe(new MaybeObserver<T>() {
+            @Override
+            public void onSubscribe(Disposable d) {
+                emitter.setDisposable(d);
+            }
+            @Override
+            public void onSuccess(T value) {
+                emitter.onSuccess(value);
+            }
+            @Override
+            public void onComplete() {
+                emitter.onError(new NoSuchElementException());
+            }
+            @Override
+            public void onError(Throwable t) {
+                emitter.onError(t);
+            }
+        }));
+    }
+
+    public Observable<T> toObservable() {
+        return Observable.create(emitter -> subscribe(new MaybeObserver<T>() {
+            @Override
+            public void onSubscribe(Disposable d) {
+                emitter.setDisposable(d);
+            }
+            @Override
+            public void onSuccess(T value) {
+                emitter.onNext(value);
+                emitter.onComplete();
+            }
+            @Override
+            public void onComplete() {
+                emitter.onComplete();
+            }
+            @Override
+            public void onError(Throwable t) {
+                emitter.onError(t);
+            }
+        }));
+    }
+
+    /**
+     * Ждёт результат в текущем потоке.
+     *
+     * @return значение или {@code null}, если его нет
+     */
+    public T blockingGet() {
+        BlockingMultiObserver<T> observer = new BlockingMultiObserver<>();
+        subscribe(observer);
+        return observer.blockingGet();
+    }
+
+    /**
+     * Future результата; при отсутствии значения завершается {@code null}.
+     */
+    public CompletableFuture<T> toCompletableFuture() {
+        FutureMultiObserver<T> observer = new FutureMultiObserver<>();
+        subscribe(observer);
+        return observer;
+    }
+
+    /**
+     * Передаёт вниз всё, кроме onSuccess.
+     */
+    private abstract static class Relay<T, R> implements MaybeObserver<T> {
+        final MaybeEmitter<R> emitter;
+
+        Relay(MaybeEmitter<R> emitter) {
+            this.emitter = emitter;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            emitter.setDisposable(d);
+        }
+
+        @Override
+        public void onComplete() {
+            emitter.onComplete();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            emitter.onError(t);
+        }
+    }
+}
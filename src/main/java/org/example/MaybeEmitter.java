@@ -0,0 +1,19 @@
+package org.example;
+
+/**
+ * MaybeObserver, который получает источник в {@link Maybe#create}.
+ * Первый сигнал завершает подписку, следующие отбрасываются.
+ */
+public interface MaybeEmitter<T> extends MaybeObserver<T> {
+
+    boolean isDisposed();
+
+    void setDisposable(Disposable d);
+
+    void setCancellable(Cancellable c);
+
+    @Override
+    default void onSubscribe(Disposable d) {
+        setDisposable(d);
+    }
+}
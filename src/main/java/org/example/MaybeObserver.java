@@ -0,0 +1,14 @@
+package org.example;
+
+/**
+ * Получатель не более одного значения: onSuccess, onComplete (значения нет)
+ * или onError — ровно один из них.
+ */
+public interface MaybeObserver<T> {
+    default void onSubscribe(Disposable d) {
+    }
+
+    void onSuccess(T value);
+    void onComplete();
+    void onError(Throwable t);
+}
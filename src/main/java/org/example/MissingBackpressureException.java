@@ -0,0 +1,10 @@
+package org.example;
+
+/**
+ * Источник выдал элемент, который подписчик не запрашивал.
+ */
+public class MissingBackpressureException extends RuntimeException {
+    public MissingBackpressureException(String message) {
+        super(message);
+    }
+}
@@ -1,31 +1,267 @@
 package org.example;
 
+import org.example.internal.fuseable.SyncFuseable;
+import org.example.internal.observers.BlockingIterator;
+import org.example.internal.operators.CreateEmitter;
+import org.example.internal.operators.ObservableCollect;
+import org.example.internal.operators.ObservableCombineLatest;
+import org.example.internal.operators.ObservableCount;
+import org.example.internal.operators.ObservableDebounce;
+import org.example.internal.operators.ObservableFirst;
+import org.example.internal.operators.ObservableBuffer;
+import org.example.internal.operators.ObservableBufferTimed;
+import org.example.internal.operators.ObservableCacheReplay;
+import org.example.internal.operators.ObservableDelay;
+import org.example.internal.operators.ObservableFlatMap;
+import org.example.internal.operators.ObservableFlatMapIterable;
+import org.example.internal.operators.ObservableFromIterable;
+import org.example.internal.operators.ObservableGroupBy;
+import org.example.internal.operators.ObservableMapFilter;
+import org.example.internal.operators.ObservableObserveOn;
+import org.example.internal.operators.ObservableReduce;
+import org.example.internal.operators.ObservableSample;
+import org.example.internal.operators.ObservableScan;
+import org.example.internal.operators.ObservableSubscribeOn;
+import org.example.internal.operators.ObservableSwitchMap;
+import org.example.internal.operators.ObservableThrottleFirst;
+import org.example.internal.operators.ObservableTimeout;
+import org.example.internal.operators.ObservableToFlowable;
+import org.example.internal.operators.ObservableWindow;
+import org.example.internal.operators.ObservableWindowTimed;
+import org.example.internal.operators.ObservableZip;
+import org.example.plugins.Plugins;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collector;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Базовый класс реактивного потока.
  */
 public class Observable<T> {
 
+    /**
+     * Источник получает {@link Emitter}: по нему можно проверить отмену
+     * и зарегистрировать ресурсы, которые нужно освободить при отмене.
+     */
     @FunctionalInterface
     public interface OnSubscribe<T> {
-        void call(Observer<T> observer);
+        void call(Emitter<T> emitter);
     }
 
+    /**
+     * Размер пачки по умолчанию для операторов с очередью (observeOn).
+     * Переопределяется системным свойством {@code customrx.buffer-size}.
+     */
+    private static final int BUFFER_SIZE = Math.max(1, Integer.getInteger("customrx.buffer-size", 128));
+
     private final OnSubscribe<T> onSubscribe;
+    /** Имя стадии из {@link #name(String)} или {@code null}. */
+    private final String name;
 
-    private Observable(OnSubscribe<T> onSub) {
+    private Observable(OnSubscribe<T> onSub, String name) {
         this.onSubscribe = onSub;
+        this.name = name;
+    }
+
+    /**
+     * Только для {@link AbstractObservable}: источник — его
+     * {@link AbstractObservable#subscribeActual(Emitter)}.
+     */
+    Observable() {
+        this.onSubscribe = ((AbstractObservable<T>) this)::subscribeActual;
+        this.name = null;
     }
 
     public static <U> Observable<U> create(OnSubscribe<U> onSub) {
-        return new Observable<>(onSub);
+        return new Observable<>(onSub, null);
+    }
+
+    /**
+     * Синхронный источник из коллекции. Перед observeOn не подписывается,
+     * а вычитывается прямо задачей планировщика.
+     */
+    public static <U> Observable<U> fromIterable(Iterable<? extends U> source) {
+        Objects.requireNonNull(source);
+        return create(new ObservableFromIterable<>(source));
+    }
+
+    @SafeVarargs
+    public static <U> Observable<U> fromArray(U... items) {
+        Objects.requireNonNull(items);
+        return fromIterable(Arrays.asList(items));
+    }
+
+    public static Observable<Integer> range(int start, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("count >= 0 required but it was " + count);
+        }
+        return fromIterable(() -> IntStream.range(start, start + count).iterator());
+    }
+
+    /**
+     * Выдаёт 0, 1, 2, ... с заданным периодом. Ожидание идёт на общем таймере,
+     * элементы выдаются в потоке {@code scheduler}. Отмена снимает таймер.
+     */
+    public static Observable<Long> interval(long initialDelay, long period, TimeUnit unit, Scheduler scheduler) {
+        Objects.requireNonNull(unit);
+        Objects.requireNonNull(scheduler);
+        return create(emitter -> {
+            AtomicLong counter = new AtomicLong();
+            emitter.setDisposable(scheduler.createWorker().schedulePeriodically(
+                    () -> emitter.onNext(counter.getAndIncrement()), initialDelay, period, unit));
+        });
+    }
+
+    public static Observable<Long> interval(long period, TimeUnit unit, Scheduler scheduler) {
+        return interval(period, period, unit, scheduler);
+    }
+
+    /**
+     * Выдаёт 0L через {@code delay} и завершается.
+     */
+    public static Observable<Long> timer(long delay, TimeUnit unit, Scheduler scheduler) {
+        Objects.requireNonNull(unit);
+        Objects.requireNonNull(scheduler);
+        return create(emitter ->
+                emitter.setDisposable(scheduler.schedule(() -> {
+                    emitter.onNext(0L);
+                    emitter.onComplete();
+                }, delay, unit))
+        );
+    }
+
+    /**
+     * Элементы всех источников по мере поступления; на все источники
+     * подписывается сразу. Ошибка любого немедленно завершает результат.
+     */
+    @SafeVarargs
+    public static <U> Observable<U> merge(Observable<? extends U>... sources) {
+        Objects.requireNonNull(sources);
+        return merge(Arrays.asList(sources));
+    }
+
+    public static <U> Observable<U> merge(Iterable<? extends Observable<? extends U>> sources) {
+        Objects.requireNonNull(sources);
+        return Observable.<Observable<? extends U>>fromIterable(sources).flatMap(Function.identity());
+    }
+
+    /**
+     * i-й элемент результата — {@code zipper} от i-х элементов всех
+     * источников. Завершается, как только один из источников исчерпан.
+     * Observable не может притормозить источник, поэтому элементы того,
+     * кто забежал вперёд, ждут в его очереди; ограниченную память даёт
+     * {@link Flowable#zip(Iterable, Function)}.
+     */
+    public static <U, R> Observable<R> zip(Iterable<? extends Observable<? extends U>> sources,
+                                           Function<? super Object[], ? extends R> zipper) {
+        Objects.requireNonNull(zipper);
+        return create(new ObservableZip<U, R>(toArray(sources), zipper));
+    }
+
+    @SafeVarargs
+    public static <U, R> Observable<R> zip(Function<? super Object[], ? extends R> zipper,
+                                           Observable<? extends U>... sources) {
+        Objects.requireNonNull(sources);
+        return zip(Arrays.asList(sources), zipper);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, R> Observable<R> zip(Observable<? extends A> first, Observable<? extends B> second,
+                                              BiFunction<? super A, ? super B, ? extends R> zipper) {
+        Objects.requireNonNull(zipper);
+        return zip(Arrays.asList(first, second), row -> zipper.apply((A) row[0], (B) row[1]));
+    }
+
+    /**
+     * После каждого элемента любого источника выдаёт {@code combiner} от
+     * последних элементов всех источников — начиная с момента, когда у
+     * каждого есть хотя бы один. Элементы, пришедшие, пока выдавалась
+     * предыдущая комбинация, ждут в очереди источника на
+     * {@link #bufferSize()} элементов; переполнение очереди завершает поток
+     * ошибкой {@link MissingBackpressureException}.
+     */
+    public static <U, R> Observable<R> combineLatest(Iterable<? extends Observable<? extends U>> sources,
+                                                     Function<? super Object[], ? extends R> combiner) {
+        Objects.requireNonNull(combiner);
+        return create(new ObservableCombineLatest<U, R>(toArray(sources), combiner));
+    }
+
+    @SafeVarargs
+    public static <U, R> Observable<R> combineLatest(Function<? super Object[], ? extends R> combiner,
+                                                     Observable<? extends U>... sources) {
+        Objects.requireNonNull(sources);
+        return combineLatest(Arrays.asList(sources), combiner);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, R> Observable<R> combineLatest(Observable<? extends A> first, Observable<? extends B> second,
+                                                        BiFunction<? super A, ? super B, ? extends R> combiner) {
+        Objects.requireNonNull(combiner);
+        return combineLatest(Arrays.asList(first, second), row -> combiner.apply((A) row[0], (B) row[1]));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <U> Observable<? extends U>[] toArray(Iterable<? extends Observable<? extends U>> sources) {
+        Objects.requireNonNull(sources);
+        List<Observable<? extends U>> list = new ArrayList<>();
+        for (Observable<? extends U> source : sources) {
+            list.add(Objects.requireNonNull(source));
+        }
+        return list.toArray(new Observable[0]);
+    }
+
+    /**
+     * Файл кусками по {@code chunkSize} байт (см. {@link Flowable#fromFile}).
+     * Чтение идёт в потоке подписки, следующий кусок — после возврата из
+     * onNext предыдущего; за асинхронной границей (observeOn) Observable
+     * притормозить нельзя, и ограниченное забегание даёт только Flowable.
+     */
+    public static Observable<ByteBuffer> fromFile(Path path, int chunkSize) {
+        return Flowable.fromFile(path, chunkSize).toObservable();
+    }
+
+    /**
+     * Файл сегментами, отображёнными в память (см. {@link Flowable#fromMappedFile}).
+     */
+    public static Observable<ByteBuffer> fromMappedFile(Path path, int segmentSize) {
+        return Flowable.fromMappedFile(path, segmentSize).toObservable();
+    }
+
+    /**
+     * Файл через {@link AsynchronousFileChannel}: следующее чтение запускается,
+     * когда предыдущий кусок выдан (см. {@link Flowable#fromChannel}).
+     */
+    public static Observable<ByteBuffer> fromChannel(AsynchronousFileChannel channel, int chunkSize) {
+        return Flowable.fromChannel(channel, chunkSize).toObservable();
+    }
+
+    public static int bufferSize() {
+        return BUFFER_SIZE;
     }
 
     public Disposable subscribe(
@@ -33,127 +269,690 @@ public class Observable<T> {
             Consumer<Throwable> onError,
             Runnable onComplete
     ) {
-        AtomicBoolean cancelled = new AtomicBoolean(false);
+        return subscribe(new Observer<T>() {
+            private Disposable upstream;
+            private boolean done;
 
-        Observer<T> actual = new Observer<>() {
+            @Override
+            public void onSubscribe(Disposable d) {
+                upstream = d;
+            }
             @Override
             public void onNext(T item) {
-                if (!cancelled.get()) onNext.accept(item);
+                if (done) return;
+                try {
+                    onNext.accept(item);
+                } catch (Throwable ex) {
+                    // сбой обработчика отменяет источник и уходит в onError, как в RxJava
+                    upstream.dispose();
+                    onError(ex);
+                }
             }
             @Override
             public void onError(Throwable t) {
-                if (!cancelled.get()) {
-                    cancelled.set(true);
-                    onError.accept(t);
-                }
+                if (done) return;
+                done = true;
+                onError.accept(t);
             }
             @Override
             public void onComplete() {
-                if (!cancelled.get()) {
-                    cancelled.set(true);
-                    onComplete.run();
-                }
+                if (done) return;
+                done = true;
+                onComplete.run();
             }
-        };
+        });
+    }
+
+    /**
+     * Возвращаемый Disposable — тот же emitter, что получил источник:
+     * его отмена доходит до источника и всех операторов между ними.
+     */
+    public Disposable subscribe(Observer<? super T> observer) {
+        Objects.requireNonNull(observer);
+        observer = Plugins.onSubscribe(this, observer);
+        CreateEmitter<T> emitter = new CreateEmitter<>(observer);
+        observer.onSubscribe(emitter);
 
         try {
-            onSubscribe.call(actual);
+            onSubscribe.call(emitter);
         } catch (Throwable ex) {
-            actual.onError(ex);
+            emitter.onError(ex);
         }
+        return emitter;
+    }
+
+    /**
+     * Подписка на источник выполняется в {@code scheduler}. Отмена до старта
+     * снимает задачу, во время подписки — прерывает поток, в котором работает
+     * блокирующий источник.
+     */
+    public Observable<T> subscribeOn(Scheduler scheduler) {
+        Objects.requireNonNull(scheduler);
+        return create(new ObservableSubscribeOn<>(this, scheduler));
+    }
+
+    public Observable<T> observeOn(Scheduler scheduler) {
+        return observeOn(scheduler, bufferSize());
+    }
+
+    /**
+     * Переносит сигналы в планировщик. На подписку ставится не больше одной
+     * задачи за раз; она вычитывает до {@code bufferSize} элементов и затем
+     * перепланирует себя, если очередь не опустела.
+     */
+    public Observable<T> observeOn(Scheduler scheduler, int bufferSize) {
+        Objects.requireNonNull(scheduler);
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("bufferSize > 0 required but it was " + bufferSize);
+        }
+        SyncFuseable<T> sync = fuseable();
+        return create(new ObservableObserveOn<>(this, sync, scheduler, bufferSize));
+    }
+
+    /**
+     * Сдвигает каждый сигнал, включая onError и onComplete, на {@code delay}.
+     */
+    public Observable<T> delay(long delay, TimeUnit unit, Scheduler scheduler) {
+        Objects.requireNonNull(unit);
+        Objects.requireNonNull(scheduler);
+        return create(new ObservableDelay<>(this, delay, unit, scheduler));
+    }
+
+    /**
+     * Завершает поток {@link java.util.concurrent.TimeoutException}, если
+     * очередной сигнал не пришёл за {@code timeout} после подписки или предыдущего элемента.
+     */
+    public Observable<T> timeout(long timeout, TimeUnit unit, Scheduler scheduler) {
+        Objects.requireNonNull(unit);
+        Objects.requireNonNull(scheduler);
+        return create(new ObservableTimeout<>(this, timeout, unit, scheduler));
+    }
+
+    /**
+     * Выдаёт элемент и отбрасывает следующие, пока не пройдёт {@code window}
+     * по часам {@code scheduler}. Таймеров не заводит.
+     */
+    public Observable<T> throttleFirst(long window, TimeUnit unit, Scheduler scheduler) {
+        Objects.requireNonNull(unit);
+        Objects.requireNonNull(scheduler);
+        return create(new ObservableThrottleFirst<>(this, window, unit, scheduler));
+    }
+
+    /**
+     * Раз в {@code period} выдаёт последний пришедший элемент, если с прошлого
+     * раза был новый. Один периодический таймер на подписку; элементы
+     * приходят в потоке {@code scheduler}.
+     */
+    public Observable<T> sample(long period, TimeUnit unit, Scheduler scheduler) {
+        Objects.requireNonNull(unit);
+        Objects.requireNonNull(scheduler);
+        return create(new ObservableSample<>(this, period, unit, scheduler));
+    }
+
+    /**
+     * То же, что {@link #sample(long, TimeUnit, Scheduler)}.
+     */
+    public Observable<T> throttleLast(long period, TimeUnit unit, Scheduler scheduler) {
+        return sample(period, unit, scheduler);
+    }
+
+    /**
+     * Выдаёт элемент, только если за {@code timeout} после него источник
+     * ничего не прислал; при завершении выдаёт последний ожидающий.
+     * Взведён не больше чем один таймер на подписку.
+     */
+    public Observable<T> debounce(long timeout, TimeUnit unit, Scheduler scheduler) {
+        Objects.requireNonNull(unit);
+        Objects.requireNonNull(scheduler);
+        return create(new ObservableDebounce<>(this, timeout, unit, scheduler));
+    }
+
+    /**
+     * Как {@link #observeOn(Scheduler)}, но очередь к потребителю ограничена
+     * {@code capacity} элементами: пока она полна, новые элементы отбрасываются,
+     * а не копятся. Задержка доставки ограничена временем обработки очереди.
+     */
+    public Observable<T> onOverflowDrop(Scheduler scheduler, int capacity) {
+        Objects.requireNonNull(scheduler);
+        return toFlowable(BackpressureStrategy.DROP).observeOn(scheduler, capacity).toObservable();
+    }
+
+    /**
+     * Как {@link #observeOn(Scheduler)}, но занятый потребитель получает не
+     * всё пропущенное, а только самый свежий элемент: между источником и
+     * потребителем не больше двух элементов.
+     */
+    public Observable<T> onOverflowLatest(Scheduler scheduler) {
+        Objects.requireNonNull(scheduler);
+        return toFlowable(BackpressureStrategy.LATEST).observeOn(scheduler, 1).toObservable();
+    }
+
+    /**
+     * Подписывается на источник один раз, с первым подписчиком, и раздаёт
+     * всем подписчикам, в том числе поздним, одну и ту же историю
+     * (включая ошибку). Отмена подписчиков источник не останавливает.
+     * История хранится в массивах-сегментах, слот на элемент.
+     */
+    public Observable<T> cache() {
+        return create(new ObservableCacheReplay<>(this));
+    }
+
+    /**
+     * Как {@link #cache()}, но результат живёт {@code ttl} с момента
+     * подписки на источник (по часам {@code scheduler}): первый подписчик
+     * после истечения срока подписывается на источник заново. Ошибка не
+     * кэшируется — следующий подписчик повторит загрузку.
+     */
+    public Observable<T> cacheWithTtl(long ttl, TimeUnit unit, Scheduler scheduler) {
+        return ObservableCache.<Observable<T>, T>create(Function.identity(), 1, ttl, unit, scheduler).get(this);
+    }
+
+    /**
+     * Переход к Flowable; элементы, на которые нет спроса, обрабатываются
+     * согласно {@code strategy}.
+     */
+    public Flowable<T> toFlowable(BackpressureStrategy strategy) {
+        Objects.requireNonNull(strategy);
+        return Flowable.create(new ObservableToFlowable<>(this, strategy));
+    }
+
+    /**
+     * Подряд идущие map/filter сливаются в одну стадию.
+     */
+    public <R> Observable<R> map(Function<? super T, ? extends R> mapper) {
+        Objects.requireNonNull(mapper);
+        if (name == null && onSubscribe instanceof ObservableMapFilter<?, T> fused) {
+            return create(fused.withMap(mapper));
+        }
+        return create(ObservableMapFilter.of(this, fuseable(), mapper, false));
+    }
+
+    public Observable<T> filter(Predicate<? super T> predicate) {
+        Objects.requireNonNull(predicate);
+        if (name == null && onSubscribe instanceof ObservableMapFilter<?, T> fused) {
+            return create(fused.withFilter(predicate));
+        }
+        return create(ObservableMapFilter.of(this, fuseable(), predicate, true));
+    }
+
+    /**
+     * Собирает элементы в списки по {@code count}; последний список может быть короче.
+     * Список, переданный вниз, принадлежит подписчику.
+     */
+    public Observable<List<T>> buffer(int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("count > 0 required but it was " + count);
+        }
+        return create(new ObservableBuffer<>(this, count));
+    }
+
+    /**
+     * Выдаёт накопленное раз в {@code timespan}; пустые пачки пропускаются.
+     */
+    public Observable<List<T>> buffer(long timespan, TimeUnit unit, Scheduler scheduler) {
+        return buffer(timespan, unit, scheduler, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Пачка уходит по набору {@code count} элементов или по истечении
+     * {@code timespan} — что раньше. Удобно для пакетной записи: задержка
+     * ограничена временем, размер пачки — {@code count}. После observeOn
+     * пачка переходит в другой поток одной задачей, а не {@code count} задачами.
+     */
+    public Observable<List<T>> buffer(long timespan, TimeUnit unit, Scheduler scheduler, int count) {
+        Objects.requireNonNull(unit);
+        Objects.requireNonNull(scheduler);
+        if (timespan <= 0) {
+            throw new IllegalArgumentException("timespan > 0 required but it was " + timespan);
+        }
+        if (count <= 0) {
+            throw new IllegalArgumentException("count > 0 required but it was " + count);
+        }
+        return create(new ObservableBufferTimed<>(this, timespan, unit, scheduler, count));
+    }
+
+    /**
+     * Как buffer(count), но каждая пачка — Observable. На окно можно
+     * подписаться один раз; элементы до подписки окно хранит само.
+     */
+    public Observable<Observable<T>> window(int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("count > 0 required but it was " + count);
+        }
+        return create(new ObservableWindow<>(this, count));
+    }
+
+    public Observable<Observable<T>> window(long timespan, TimeUnit unit, Scheduler scheduler) {
+        Objects.requireNonNull(unit);
+        Objects.requireNonNull(scheduler);
+        if (timespan <= 0) {
+            throw new IllegalArgumentException("timespan > 0 required but it was " + timespan);
+        }
+        return create(new ObservableWindowTimed<>(this, timespan, unit, scheduler));
+    }
+
+    public <K> Observable<GroupedObservable<K, T>> groupBy(Function<? super T, ? extends K> keySelector) {
+        return groupBy(keySelector, Function.identity());
+    }
+
+    public <K, V> Observable<GroupedObservable<K, V>> groupBy(Function<? super T, ? extends K> keySelector,
+                                                             Function<? super T, ? extends V> valueSelector) {
+        return groupBy(keySelector, valueSelector, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Делит поток на группы по ключу: первая встреча ключа выдаёт новую
+     * {@link GroupedObservable}, дальше его элементы идут в неё в исходном
+     * порядке. Открыто не больше {@code maxGroups} групп: при переполнении
+     * завершается группа, дольше всех простаивавшая, и её ключ при следующей
+     * встрече откроет новую. Группы независимы, и каждую можно перенести
+     * на свой планировщик через {@code observeOn}.
+     */
+    public <K, V> Observable<GroupedObservable<K, V>> groupBy(Function<? super T, ? extends K> keySelector,
+                                                             Function<? super T, ? extends V> valueSelector,
+                                                             int maxGroups) {
+        Objects.requireNonNull(keySelector);
+        Objects.requireNonNull(valueSelector);
+        if (maxGroups <= 0) {
+            throw new IllegalArgumentException("maxGroups > 0 required but it was " + maxGroups);
+        }
+        return create(new ObservableGroupBy<>(this, keySelector, valueSelector, maxGroups));
+    }
+
+    /**
+     * Разворачивает каждый элемент в последовательность синхронно. Пара
+     * {@code buffer(n).observeOn(s).flatMapIterable(b -> b)} переносит элементы
+     * в другой поток пачками.
+     */
+    public <R> Observable<R> flatMapIterable(Function<? super T, ? extends Iterable<? extends R>> mapper) {
+        Objects.requireNonNull(mapper);
+        return create(new ObservableFlatMapIterable<>(this, mapper));
+    }
+
+    /**
+     * Первый элемент; источник после него отменяется. Пустой источник
+     * завершается {@link java.util.NoSuchElementException}.
+     */
+    public Single<T> firstOrError() {
+        return Single.create(new ObservableFirst<>(this));
+    }
+
+    /**
+     * Первый элемент или пустой Maybe, если источник пуст.
+     */
+    public Maybe<T> firstElement() {
+        return Maybe.create(new ObservableFirst<>(this));
+    }
 
-        return new Disposable() {
+    /**
+     * Только факт завершения или ошибка; элементы отбрасываются.
+     */
+    public Completable ignoreElements() {
+        return Completable.create(emitter -> subscribe(new Observer<T>() {
             @Override
-            public void dispose() {
-                cancelled.set(true);
+            public void onSubscribe(Disposable d) {
+                emitter.setDisposable(d);
             }
             @Override
-            public boolean isDisposed() {
-                return cancelled.get();
+            public void onNext(T item) {
             }
+            @Override
+            public void onError(Throwable t) {
+                emitter.onError(t);
+            }
+            @Override
+            public void onComplete() {
+                emitter.onComplete();
+            }
+        }));
+    }
+
+    /**
+     * Элементы в виде Iterable для синхронного кода. Каждый {@code iterator()}
+     * подписывается заново; поток итератора паркуется, только когда очередь
+     * пуста. Итератор реализует {@link Disposable}: отмена до конца обхода
+     * отписывается от источника.
+     */
+    public Iterable<T> blockingIterable() {
+        return blockingIterable(bufferSize());
+    }
+
+    /**
+     * @param prefetch размер кольца очереди. Observable не умеет притормаживать
+     *                 источник, поэтому при отставании потребителя очередь растёт
+     *                 следующими кольцами. Источник, забегающий вперёд не больше
+     *                 чем на {@code prefetch}, — {@link Flowable#blockingIterable(int)}.
+     */
+    public Iterable<T> blockingIterable(int prefetch) {
+        if (prefetch <= 0) {
+            throw new IllegalArgumentException("prefetch > 0 required but it was " + prefetch);
+        }
+        return () -> {
+            BlockingIterator<T> it = BlockingIterator.unbounded(prefetch);
+            subscribe(it);
+            return it;
         };
     }
 
-    public Observable<T> subscribeOn(Scheduler scheduler) {
-        return create(observer ->
-                scheduler.execute(() -> {
-                    try {
-                        onSubscribe.call(observer);
-                    } catch (Throwable ex) {
-                        observer.onError(ex);
-                    }
-                })
-        );
+    /**
+     * Последовательный Stream элементов; {@code close()} отменяет подписку.
+     */
+    public Stream<T> blockingStream() {
+        BlockingIterator<T> it = BlockingIterator.unbounded(bufferSize());
+        subscribe(it);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(it, Spliterator.ORDERED), false)
+                .onClose(it::dispose);
     }
 
-    public Observable<T> observeOn(Scheduler scheduler) {
-        return create(observer ->
-                this.subscribe(
-                        item -> scheduler.execute(() -> observer.onNext(item)),
-                        err  -> scheduler.execute(() -> observer.onError(err)),
-                        ()   -> scheduler.execute(observer::onComplete)
-                )
-        );
+    /**
+     * Ждёт первый элемент; пустой источник — {@link java.util.NoSuchElementException}.
+     */
+    public T blockingFirst() {
+        return firstOrError().blockingGet();
     }
 
-    public <R> Observable<R> map(Function<? super T, ? extends R> mapper) {
+    /**
+     * Выдаёт элементы {@code onNext} в текущем потоке и возвращается после
+     * завершения источника. Ошибка источника выбрасывается; исключение из
+     * {@code onNext} отменяет подписку и выбрасывается дальше.
+     */
+    public void blockingForEach(Consumer<? super T> onNext) {
+        Objects.requireNonNull(onNext);
+        BlockingIterator<T> it = BlockingIterator.unbounded(bufferSize());
+        subscribe(it);
+        while (it.hasNext()) {
+            try {
+                onNext.accept(it.next());
+            } catch (RuntimeException | Error ex) {
+                it.dispose();
+                throw ex;
+            }
+        }
+    }
+
+    /**
+     * Сворачивает все элементы в одно значение. Пустой источник завершается
+     * {@link java.util.NoSuchElementException}.
+     */
+    public Single<T> reduce(BinaryOperator<T> reducer) {
+        Objects.requireNonNull(reducer);
+        return Single.create(new ObservableReduce<>(this, reducer));
+    }
+
+    /**
+     * Свёртка с начальным значением; для изменяемого аккумулятора —
+     * {@link #collect(Supplier, BiConsumer)}.
+     */
+    @SuppressWarnings("unchecked")
+    public <R> Single<R> reduce(R seed, BiFunction<R, ? super T, R> reducer) {
+        Objects.requireNonNull(seed);
+        Objects.requireNonNull(reducer);
+        return Single.create(new ObservableCollect<T, Object[], R>(this, () -> new Object[]{seed},
+                (a, item) -> a[0] = reducer.apply((R) a[0], item), a -> (R) a[0]));
+    }
+
+    /**
+     * Выдаёт каждое промежуточное значение свёртки, начиная с первого элемента.
+     */
+    public Observable<T> scan(BinaryOperator<T> accumulator) {
+        Objects.requireNonNull(accumulator);
+        return create(new ObservableScan<T, T>(this, null, accumulator));
+    }
+
+    /**
+     * Выдаёт {@code initialValue}, затем каждое промежуточное значение свёртки.
+     */
+    public <R> Observable<R> scan(R initialValue, BiFunction<R, ? super T, R> accumulator) {
+        Objects.requireNonNull(initialValue);
+        Objects.requireNonNull(accumulator);
+        return create(new ObservableScan<>(this, () -> initialValue, accumulator));
+    }
+
+    /**
+     * Складывает элементы в контейнер, созданный {@code supplier} на каждую
+     * подписку. Контейнер заполняется из одного потока; по завершении
+     * источника он и выдаётся.
+     */
+    public <C> Single<C> collect(Supplier<C> supplier, BiConsumer<C, ? super T> accumulator) {
+        Objects.requireNonNull(supplier);
+        Objects.requireNonNull(accumulator);
+        return Single.create(new ObservableCollect<T, C, C>(this, supplier, accumulator, c -> c));
+    }
+
+    /**
+     * Сборка стандартным {@link Collector} ({@code Collectors.groupingBy},
+     * {@code summingLong}, ...). Тот же Collector умеет объединять частичные
+     * результаты — см. {@link ParallelObservable#collect(Collector)}.
+     */
+    @SuppressWarnings("unchecked")
+    public <A, R> Single<R> collect(Collector<? super T, A, R> collector) {
+        Objects.requireNonNull(collector);
+        return Single.create(new ObservableCollect<>(this, collector.supplier(),
+                (BiConsumer<A, ? super T>) collector.accumulator(), collector.finisher()));
+    }
+
+    public Single<Long> count() {
+        return Single.create(new ObservableCount<>(this));
+    }
+
+    public Single<List<T>> toList() {
+        return toList(16);
+    }
+
+    /**
+     * @param capacityHint ожидаемое число элементов: список создаётся сразу
+     *                     такого размера и не перевыделяется по мере роста
+     */
+    public Single<List<T>> toList(int capacityHint) {
+        if (capacityHint <= 0) {
+            throw new IllegalArgumentException("capacityHint > 0 required but it was " + capacityHint);
+        }
+        return collect(() -> new ArrayList<>(capacityHint), List::add);
+    }
+
+    /**
+     * Элементы по ключу; при совпадении ключей остаётся последний элемент.
+     */
+    public <K> Single<Map<K, T>> toMap(Function<? super T, ? extends K> keySelector) {
+        return toMap(keySelector, item -> item);
+    }
+
+    public <K, V> Single<Map<K, V>> toMap(Function<? super T, ? extends K> keySelector,
+                                          Function<? super T, ? extends V> valueSelector) {
+        Objects.requireNonNull(keySelector);
+        Objects.requireNonNull(valueSelector);
+        return collect(HashMap::new, (map, item) -> map.put(keySelector.apply(item), valueSelector.apply(item)));
+    }
+
+    /**
+     * Горячий вариант: источник запускается один раз по {@code connect()},
+     * сигналы раздаются всем подписчикам.
+     */
+    public ConnectableObservable<T> publish() {
+        return new ConnectableObservable<>(this);
+    }
+
+    /**
+     * {@code publish().refCount()}: один запуск источника на всех, пока есть хотя бы один подписчик.
+     */
+    public Observable<T> share() {
+        return publish().refCount();
+    }
+
+    /**
+     * Делит поток на рельсы по числу ядер; см. {@link ParallelObservable}.
+     */
+    public ParallelObservable<T> parallel() {
+        return parallel(Runtime.getRuntime().availableProcessors());
+    }
+
+    public ParallelObservable<T> parallel(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism > 0 required but it was " + parallelism);
+        }
+        return new ParallelObservable<>(this, parallelism);
+    }
+
+    /**
+     * Переход к потоку примитивов: дальше по цепочке значения не упаковываются.
+     */
+    public IntObservable mapToInt(ToIntFunction<? super T> mapper) {
         Objects.requireNonNull(mapper);
-        return create(subObs ->
-                this.subscribe(
-                        t -> subObs.onNext(mapper.apply(t)),
-                        subObs::onError,
-                        subObs::onComplete
-                )
-        );
+        return IntObservable.create(emitter -> subscribe(new Observer<T>() {
+            @Override
+            public void onSubscribe(Disposable d) {
+                emitter.onSubscribe(d);
+            }
+            @Override
+            public void onNext(T item) {
+                int v;
+                try {
+                    v = mapper.applyAsInt(item);
+                } catch (Throwable ex) {
+                    emitter.onError(ex);
+                    return;
+                }
+                emitter.onNext(v);
+            }
+            @Override
+            public void onError(Throwable t) {
+                emitter.onError(t);
+            }
+            @Override
+            public void onComplete() {
+                emitter.onComplete();
+            }
+        }));
     }
 
-    public Observable<T> filter(Predicate<? super T> predicate) {
-        Objects.requireNonNull(predicate);
-        return create(subObs ->
-                this.subscribe(
-                        t -> {
-                            if (predicate.test(t)) subObs.onNext(t);
-                        },
-                        subObs::onError,
-                        subObs::onComplete
-                )
-        );
+    public LongObservable mapToLong(ToLongFunction<? super T> mapper) {
+        Objects.requireNonNull(mapper);
+        return LongObservable.create(emitter -> subscribe(new Observer<T>() {
+            @Override
+            public void onSubscribe(Disposable d) {
+                emitter.onSubscribe(d);
+            }
+            @Override
+            public void onNext(T item) {
+                long v;
+                try {
+                    v = mapper.applyAsLong(item);
+                } catch (Throwable ex) {
+                    emitter.onError(ex);
+                    return;
+                }
+                emitter.onNext(v);
+            }
+            @Override
+            public void onError(Throwable t) {
+                emitter.onError(t);
+            }
+            @Override
+            public void onComplete() {
+                emitter.onComplete();
+            }
+        }));
     }
 
+    public DoubleObservable mapToDouble(ToDoubleFunction<? super T> mapper) {
+        Objects.requireNonNull(mapper);
+        return DoubleObservable.create(emitter -> subscribe(new Observer<T>() {
+            @Override
+            public void onSubscribe(Disposable d) {
+                emitter.onSubscribe(d);
+            }
+            @Override
+            public void onNext(T item) {
+                double v;
+                try {
+                    v = mapper.applyAsDouble(item);
+                } catch (Throwable ex) {
+                    emitter.onError(ex);
+                    return;
+                }
+                emitter.onNext(v);
+            }
+            @Override
+            public void onError(Throwable t) {
+                emitter.onError(t);
+            }
+            @Override
+            public void onComplete() {
+                emitter.onComplete();
+            }
+        }));
+    }
 
-    public <R> Observable<R> flatMap(Function<? super T, Observable<R>> mapper) {
+    public <R> Observable<R> flatMap(Function<? super T, ? extends Observable<? extends R>> mapper) {
+        return flatMap(mapper, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Для каждого элемента подписывается на внутренний поток и выдаёт его
+     * элементы сразу по мере поступления. Одновременно подписано не больше
+     * {@code maxConcurrency} внутренних потоков, остальные ждут в очереди.
+     * Ошибка любого потока немедленно завершает результат.
+     */
+    public <R> Observable<R> flatMap(Function<? super T, ? extends Observable<? extends R>> mapper,
+                                     int maxConcurrency) {
         Objects.requireNonNull(mapper);
-        return create(subObs ->
-                this.subscribe(
-                        t -> {
-                            Observable<R> inner = mapper.apply(t);
-                            List<R> buffer = new ArrayList<>();
-                            AtomicBoolean errorOccurred = new AtomicBoolean(false);
-
-                            inner.subscribe(
-                                    r -> {
-                                        if (!errorOccurred.get()) {
-                                            buffer.add(r);
-                                        }
-                                    },
-                                    err -> {
-                                        // при первой ошибке чистим буфер и прокидываем ошибку
-                                        errorOccurred.set(true);
-                                        subObs.onError(err);
-                                    },
-                                    () -> {
-                                        if (!errorOccurred.get()) {
-                                            // flush buffer
-                                            for (R r : buffer) {
-                                                subObs.onNext(r);
-                                            }
-                                        }
-                                    }
-                            );
-                        },
-                        subObs::onError,
-                        subObs::onComplete
-                )
-        );
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("maxConcurrency > 0 required but it was " + maxConcurrency);
+        }
+        return create(new ObservableFlatMap<>(this, mapper, maxConcurrency));
+    }
+
+    /**
+     * Как flatMap, но внутренние потоки подписываются строго по одному и по порядку.
+     */
+    public <R> Observable<R> concatMap(Function<? super T, ? extends Observable<? extends R>> mapper) {
+        return flatMap(mapper, 1);
+    }
+
+    /**
+     * Выдаёт элементы только последнего внутреннего потока: новый элемент
+     * источника «переключает» результат на новый поток.
+     */
+    public <R> Observable<R> switchMap(Function<? super T, ? extends Observable<? extends R>> mapper) {
+        Objects.requireNonNull(mapper);
+        return create(new ObservableSwitchMap<>(this, mapper));
+    }
+
+    /**
+     * Та же стадия под именем {@code name}: под ним она видна в метриках
+     * и хуках {@link Plugins}. Именованная стадия не сливается с соседними
+     * map/filter и observeOn, чтобы её сигналы оставались наблюдаемыми.
+     */
+    public Observable<T> name(String name) {
+        Objects.requireNonNull(name);
+        return new Observable<>(onSubscribe, name);
+    }
+
+    /**
+     * Имя стадии: заданное через {@link #name(String)}, иначе — вид оператора
+     * ({@code "observeOn"}, {@code "mapFilter"}, {@code "create"}, ...).
+     */
+    @Override
+    public String toString() {
+        if (name != null) return name;
+        if (getClass() != Observable.class) return getClass().getSimpleName();
+        Class<?> type = onSubscribe.getClass();
+        String simple = type.getSimpleName();
+        if (type.isHidden() || simple.isEmpty()) return "create";
+        if (simple.startsWith("Observable") && simple.length() > "Observable".length()) {
+            String op = simple.substring("Observable".length());
+            return Character.toLowerCase(op.charAt(0)) + op.substring(1);
+        }
+        return simple;
+    }
+
+    @SuppressWarnings("unchecked")
+    private SyncFuseable<T> fuseable() {
+        return name == null && onSubscribe instanceof SyncFuseable<?> f ? (SyncFuseable<T>) f : null;
+    }
+
+    static void reportUndeliverable(Throwable ex) {
+        Thread current = Thread.currentThread();
+        current.getUncaughtExceptionHandler().uncaughtException(current, ex);
     }
 }
@@ -0,0 +1,123 @@
+package org.example;
+
+import org.example.internal.operators.ObservableCacheReplay;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Кэш потоков по ключу. {@link #get(Object)} не вызывает загрузку сразу:
+ * первый подписчик на ключ запускает {@code loader}, а все, кто подписался,
+ * пока загрузка идёт или её результат свеж, получают тот же результат —
+ * одновременные запросы одного ключа сливаются в один вызов источника.
+ * <p>
+ * Записей не больше {@code maxSize}: при переполнении вытесняется та, к
+ * которой дольше всех не обращались. Запись старше {@code ttl} (по
+ * монотонным часам планировщика, с момента запуска загрузки) и запись,
+ * загрузка которой завершилась ошибкой, при следующем обращении
+ * загружаются заново. Таблица под блокировкой только на время поиска,
+ * подписка идёт уже вне её.
+ */
+public final class ObservableCache<K, T> {
+    private final Function<? super K, ? extends Observable<T>> loader;
+    private final long ttlNanos;
+    private final Scheduler clock;
+    private final Map<K, Entry<T>> entries;
+
+    private ObservableCache(Function<? super K, ? extends Observable<T>> loader, int maxSize,
+                            long ttlNanos, Scheduler clock) {
+        this.loader = loader;
+        this.ttlNanos = ttlNanos;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<T>> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Кэш без срока жизни: запись живёт, пока её не вытеснят или не
+     * сбросят через {@link #invalidate(Object)}.
+     */
+    public static <K, T> ObservableCache<K, T> create(Function<? super K, ? extends Observable<T>> loader,
+                                                      int maxSize) {
+        Objects.requireNonNull(loader);
+        checkMaxSize(maxSize);
+        return new ObservableCache<>(loader, maxSize, Long.MAX_VALUE, null);
+    }
+
+    public static <K, T> ObservableCache<K, T> create(Function<? super K, ? extends Observable<T>> loader,
+                                                      int maxSize, long ttl, TimeUnit unit, Scheduler scheduler) {
+        Objects.requireNonNull(loader);
+        Objects.requireNonNull(unit);
+        Objects.requireNonNull(scheduler);
+        checkMaxSize(maxSize);
+        if (ttl <= 0) {
+            throw new IllegalArgumentException("ttl > 0 required but it was " + ttl);
+        }
+        return new ObservableCache<>(loader, maxSize, unit.toNanos(ttl), scheduler);
+    }
+
+    private static void checkMaxSize(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize > 0 required but it was " + maxSize);
+        }
+    }
+
+    /**
+     * Поток для ключа; запись ищется заново при каждой подписке.
+     */
+    public Observable<T> get(K key) {
+        Objects.requireNonNull(key);
+        return Observable.create(emitter -> entry(key).cached.subscribe(emitter));
+    }
+
+    public void invalidate(K key) {
+        synchronized (entries) {
+            entries.remove(key);
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private Entry<T> entry(K key) {
+        long now = clock != null ? clock.now(TimeUnit.NANOSECONDS) : 0L;
+        synchronized (entries) {
+            Entry<T> e = entries.get(key);
+            if (e != null && !e.replay.hasFailed() && (clock == null || now - e.loadedAt < ttlNanos)) {
+                return e;
+            }
+            // loader только собирает Observable; сама загрузка начнётся с подпиской
+            e = new Entry<>(new ObservableCacheReplay<>(loader.apply(key)), now);
+            entries.put(key, e);
+            return e;
+        }
+    }
+
+    private static final class Entry<T> {
+        final ObservableCacheReplay<T> replay;
+        final Observable<T> cached;
+        final long loadedAt;
+
+        Entry(ObservableCacheReplay<T> replay, long loadedAt) {
+            this.replay = replay;
+            this.cached = Observable.create(replay);
+            this.loadedAt = loadedAt;
+        }
+    }
+}
@@ -4,7 +4,14 @@ package org.example;
  * Интерфейс получателя событий от Observable.
  */
 public interface Observer<T> {
+    /**
+     * Вызывается до первого элемента; через {@code d} можно отменить
+     * подписку, не дожидаясь возврата из {@code subscribe}.
+     */
+    default void onSubscribe(Disposable d) {
+    }
+
     void onNext(T item);
     void onError(Throwable t);
     void onComplete();
-}
\ No newline at end of file
+}
@@ -0,0 +1,124 @@
+package org.example;
+
+import org.example.internal.operators.ObservableParallel;
+import org.example.internal.operators.ObservableReduce;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collector;
+
+/**
+ * Поток, разбитый на {@code parallelism} «рельс». Элементы раздаются по рельсам
+ * по кругу; map/filter/reduce/collect выполняются в каждой рельсе независимо — после
+ * {@link #runOn(Scheduler)} в собственном исполнителе планировщика. Обратно
+ * в Observable рельсы сливает {@link #sequential()} или {@link #sequentialOrdered()}.
+ */
+public final class ParallelObservable<T> {
+    private final Observable<?> source;
+    private final int parallelism;
+    private final Scheduler scheduler;
+    private final Object[] stages;
+    private final boolean[] filters;
+
+    ParallelObservable(Observable<?> source, int parallelism) {
+        this(source, parallelism, null, new Object[0], new boolean[0]);
+    }
+
+    private ParallelObservable(Observable<?> source, int parallelism, Scheduler scheduler,
+                               Object[] stages, boolean[] filters) {
+        this.source = source;
+        this.parallelism = parallelism;
+        this.scheduler = scheduler;
+        this.stages = stages;
+        this.filters = filters;
+    }
+
+    public int parallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Каждая рельса получает свой {@code scheduler.createWorker()}; у
+     * ComputationScheduler это разные потоки пула.
+     */
+    public ParallelObservable<T> runOn(Scheduler scheduler) {
+        Objects.requireNonNull(scheduler);
+        return new ParallelObservable<>(source, parallelism, scheduler, stages, filters);
+    }
+
+    public <R> ParallelObservable<R> map(Function<? super T, ? extends R> mapper) {
+        Objects.requireNonNull(mapper);
+        return append(mapper, false);
+    }
+
+    public ParallelObservable<T> filter(Predicate<? super T> predicate) {
+        Objects.requireNonNull(predicate);
+        return append(predicate, true);
+    }
+
+    private <R> ParallelObservable<R> append(Object stage, boolean filter) {
+        int n = stages.length;
+        Object[] s = Arrays.copyOf(stages, n + 1);
+        boolean[] f = Arrays.copyOf(filters, n + 1);
+        s[n] = stage;
+        f[n] = filter;
+        return new ParallelObservable<>(source, parallelism, scheduler, s, f);
+    }
+
+    /**
+     * Сливает рельсы в порядке готовности результатов.
+     */
+    public Observable<T> sequential() {
+        return merge(false, null);
+    }
+
+    /**
+     * Сливает рельсы в исходном порядке элементов. Медленная рельса
+     * задерживает выдачу остальных, но не их вычисления.
+     */
+    public Observable<T> sequentialOrdered() {
+        return merge(true, null);
+    }
+
+    /**
+     * Сворачивает элементы сначала внутри каждой рельсы, затем результаты рельс
+     * между собой. {@code reducer} должен быть ассоциативным. Пустой поток даёт пустой результат.
+     */
+    @SuppressWarnings("unchecked")
+    public Observable<T> reduce(BinaryOperator<T> reducer) {
+        Objects.requireNonNull(reducer);
+        BinaryOperator<Object> r = (BinaryOperator<Object>) reducer;
+        Collector<Object, Object[], Object> reducing = Collector.of(
+                () -> new Object[1],
+                (a, v) -> a[0] = a[0] == null ? v : r.apply(a[0], v),
+                (a, b) -> {
+                    if (b[0] != null) {
+                        a[0] = a[0] == null ? b[0] : r.apply(a[0], b[0]);
+                    }
+                    return a;
+                },
+                a -> a[0]);
+        return merge(false, reducing);
+    }
+
+    /**
+     * Каждая рельса собирает свои элементы в собственный контейнер
+     * {@code collector.supplier()}, без синхронизации; контейнеры рельс затем
+     * объединяются {@code collector.combiner()}. Пустой поток даёт
+     * {@code finisher} от пустого контейнера.
+     */
+    public <A, R> Single<R> collect(Collector<? super T, A, R> collector) {
+        Objects.requireNonNull(collector);
+        // слияние выдаёт ровно одно значение
+        return Single.create(new ObservableReduce<>(this.<R>merge(false, collector), (a, b) -> b));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <R> Observable<R> merge(boolean ordered, Collector<?, ?, ?> collector) {
+        return Observable.create(new ObservableParallel<>((Observable<Object>) source, parallelism, scheduler,
+                stages, filters, ordered, (Collector<Object, Object, Object>) collector));
+    }
+}
@@ -1,8 +1,73 @@
 package org.example;
 
+import org.example.internal.schedulers.InterruptibleTask;
+import org.example.internal.schedulers.SchedulerTimer;
+
+import java.util.concurrent.TimeUnit;
+
 /**
  * Интерфейс планировщика задач.
+ * Отложенные и периодические задачи ждут своего времени на общем таймере
+ * и лишь затем попадают в {@link #execute(Runnable)} — поток планировщика
+ * на ожидание не тратится.
  */
 public interface Scheduler {
     void execute(Runnable task);
+
+    /**
+     * Как {@link #execute(Runnable)}, но задачу можно отменить: ещё не начатая
+     * не запустится, выполняющаяся получит прерывание потока.
+     */
+    default Disposable schedule(Runnable task) {
+        InterruptibleTask interruptible = new InterruptibleTask(task);
+        execute(interruptible);
+        return interruptible;
+    }
+
+    default Disposable schedule(Runnable task, long delay, TimeUnit unit) {
+        return SchedulerTimer.schedule(this, task, delay, unit);
+    }
+
+    /**
+     * Запускает задачу с фиксированным периодом. Запуски одной задачи
+     * никогда не пересекаются во времени.
+     */
+    default Disposable schedulePeriodically(Runnable task, long initialDelay, long period, TimeUnit unit) {
+        if (period <= 0) {
+            throw new IllegalArgumentException("period > 0 required but it was " + period);
+        }
+        return SchedulerTimer.schedulePeriodically(this, task, initialDelay, period, unit);
+    }
+
+    /**
+     * Текущее время по монотонным часам планировщика; пригодно только для
+     * измерения интервалов.
+     */
+    default long now(TimeUnit unit) {
+        return unit.convert(System.nanoTime(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Исполнитель для одной подписки. Пул может закрепить подписку за одним
+     * потоком ради локальности кэша, и тогда её задачи выполняются по одной и
+     * в порядке поступления ({@code ComputationScheduler}). По умолчанию — сам
+     * планировщик, без такой гарантии: у многопоточного планировщика задачи
+     * одного исполнителя могут идти параллельно, поэтому операторы сами
+     * упорядочивают свои задачи.
+     */
+    default Scheduler createWorker() {
+        return this;
+    }
+
+    /**
+     * Перезапускает остановленный планировщик.
+     */
+    default void start() {
+    }
+
+    /**
+     * Останавливает приём новых задач; уже принятые доработают.
+     */
+    default void shutdown() {
+    }
 }
@@ -0,0 +1,93 @@
+package org.example;
+
+import org.example.internal.queue.MpscLinkedArrayQueue;
+import org.example.internal.queue.SimpleQueue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Делает Observer безопасным для вызова из нескольких потоков: сигналы
+ * доходят до обёрнутого Observer строго по одному, а терминальный — только
+ * после всех уже принятых элементов.
+ * <p>
+ * Без блокировок: счётчик (AtomicInteger) — work-in-progress. Поток, поднявший
+ * его с нуля, выдаёт элемент сам и затем дренирует то, что за это время
+ * положили в очередь другие. Без конкуренции элемент стоит одного CAS.
+ */
+public class SerializedObserver<T> extends AtomicInteger implements Observer<T> {
+    private final Observer<? super T> downstream;
+    /** Нужна только при гонке производителей, поэтому кольцо небольшое. */
+    private final SimpleQueue<T> queue = new MpscLinkedArrayQueue<>(16);
+    private Throwable error;
+    private volatile boolean done;
+    /** Терминальный сигнал уже выдан; читается только под счётчиком. */
+    private boolean terminated;
+
+    public SerializedObserver(Observer<? super T> downstream) {
+        this.downstream = downstream;
+    }
+
+    @Override
+    public void onSubscribe(Disposable d) {
+        downstream.onSubscribe(d);
+    }
+
+    @Override
+    public void onNext(T item) {
+        if (done) return;
+        if (get() == 0 && compareAndSet(0, 1)) {
+            if (!terminated) {
+                downstream.onNext(item);
+            }
+            if (decrementAndGet() == 0) return;
+        } else {
+            queue.offer(item);
+            if (getAndIncrement() != 0) return;
+        }
+        drainLoop();
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        terminate(t);
+    }
+
+    @Override
+    public void onComplete() {
+        terminate(null);
+    }
+
+    private void terminate(Throwable t) {
+        if (done) return;
+        error = t;
+        done = true;
+        if (getAndIncrement() == 0) {
+            drainLoop();
+        }
+    }
+
+    private void drainLoop() {
+        int missed = 1;
+        for (;;) {
+            if (terminated) {
+                queue.clear();
+            } else {
+                T item;
+                while ((item = queue.poll()) != null) {
+                    downstream.onNext(item);
+                }
+                if (done && queue.isEmpty()) {
+                    terminated = true;
+                    Throwable ex = error;
+                    if (ex != null) {
+                        downstream.onError(ex);
+                    } else {
+                        downstream.onComplete();
+                    }
+                }
+            }
+            missed = addAndGet(-missed);
+            if (missed == 0) break;
+        }
+    }
+}
@@ -0,0 +1,284 @@
+package org.example;
+
+import org.example.internal.observers.BlockingMultiObserver;
+import org.example.internal.observers.FutureMultiObserver;
+import org.example.internal.operators.ConsumerSingleEmitter;
+import org.example.internal.operators.SingleCreateEmitter;
+import org.example.internal.operators.SingleMapEmitter;
+
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Поток ровно из одного значения или ошибки: результат запроса, агрегации
+ * ({@code reduce}, {@code collect}, {@code count}, ...). Подписчик —
+ * {@link SingleObserver} с двумя методами вместо трёх у Observer.
+ */
+public final class Single<T> {
+
+    @FunctionalInterface
+    public interface OnSubscribe<T> {
+        void call(SingleEmitter<T> emitter);
+    }
+
+    private final OnSubscribe<T> onSubscribe;
+
+    private Single(OnSubscribe<T> onSub) {
+        this.onSubscribe = onSub;
+    }
+
+    public static <T> Single<T> create(OnSubscribe<T> onSub) {
+        Objects.requireNonNull(onSub);
+        return new Single<>(onSub);
+    }
+
+    public static <T> Single<T> just(T value) {
+        Objects.requireNonNull(value);
+        return create(emitter -> emitter.onSuccess(value));
+    }
+
+    public static <T> Single<T> error(Throwable error) {
+        Objects.requireNonNull(error);
+        return create(emitter -> emitter.onError(error));
+    }
+
+    /**
+     * Вызывает {@code callable} при каждой подписке; {@code null} — ошибка.
+     */
+    public static <T> Single<T> fromCallable(Callable<? extends T> callable) {
+        Objects.requireNonNull(callable);
+        return create(emitter -> {
+            T value;
+            try {
+                value = callable.call();
+            } catch (Throwable ex) {
+                emitter.onError(ex);
+                return;
+            }
+            if (value == null) {
+                emitter.onError(new NullPointerException("callable returned null"));
+            } else {
+                emitter.onSuccess(value);
+            }
+        });
+    }
+
+    /**
+     * Результат уже запущенной операции. Отмена подписки не отменяет саму
+     * операцию — только отписывается от её результата.
+     */
+    public static <T> Single<T> fromCompletionStage(CompletionStage<? extends T> stage) {
+        Objects.requireNonNull(stage);
+        return create(emitter -> stage.whenComplete((value, error) -> {
+            if (error != null) {
+                emitter.onError(error);
+            } else if (value == null) {
+                emitter.onError(new NullPointerException("stage completed with null"));
+            } else {
+                emitter.onSuccess(value);
+            }
+        }));
+    }
+
+    /**
+     * Обработчики вызывает сам emitter источника — на вызов создаётся
+     * на один объект меньше, чем через SingleObserver.
+     */
+    public Disposable subscribe(Consumer<? super T> onSuccess, Consumer<Throwable> onError) {
+        Objects.requireNonNull(onSuccess);
+        Objects.requireNonNull(onError);
+        ConsumerSingleEmitter<T> emitter = new ConsumerSingleEmitter<>(onSuccess, onError);
+        subscribeDirect(emitter);
+        return emitter;
+    }
+
+    public Disposable subscribe(SingleObserver<? super T> observer) {
+        Objects.requireNonNull(observer);
+        SingleCreateEmitter<T> emitter = new SingleCreateEmitter<>(observer);
+        observer.onSubscribe(emitter);
+
+        try {
+            onSubscribe.call(emitter);
+        } catch (Throwable ex) {
+            emitter.onError(ex);
+        }
+        return emitter;
+    }
+
+    /**
+     * Подписка emitter'ом, который уже отбрасывает повторные сигналы и держит
+     * ресурс источника, — без обёртки {@link SingleCreateEmitter}.
+     */
+    private void subscribeDirect(SingleEmitter<T> emitter) {
+        try {
+            onSubscribe.call(emitter);
+        } catch (Throwable ex) {
+            emitter.onError(ex);
+        }
+    }
+
+    public <R> Single<R> map(Function<? super T, ? extends R> mapper) {
+        Objects.requireNonNull(mapper);
+        return create(emitter -> {
+            SingleMapEmitter<T, R> parent = new SingleMapEmitter<>(emitter, mapper);
+            emitter.setDisposable(parent);
+            subscribeDirect(parent);
+        });
+    }
+
+    /**
+     * Значение, если оно проходит условие, иначе — пустой Maybe.
+     */
+    public Maybe<T> filter(Predicate<? super T> predicate) {
+        Objects.requireNonNull(predicate);
+        return Maybe.create(emitter -> subscribe(new SingleObserver<T>() {
+            @Override
+            public void onSubscribe(Disposable d) {
+                emitter.setDisposable(d);
+            }
+            @Override
+            public void onSuccess(T value) {
+                boolean pass;
+                try {
+                    pass = predicate.test(value);
+                } catch (Throwable ex) {
+                    emitter.onError(ex);
+                    return;
+                }
+                if (pass) {
+                    emitter.onSuccess(value);
+                } else {
+                    emitter.onComplete();
+                }
+            }
+            @Override
+            public void onError(Throwable t) {
+                emitter.onError(t);
+            }
+        }));
+    }
+
+    /**
+     * Следующий запрос по результату предыдущего. Отмена снимает
+     * ту подписку, что активна сейчас.
+     */
+    public <R> Single<R> flatMap(Function<? super T, ? extends Single<? extends R>> mapper) {
+        Objects.requireNonNull(mapper);
+        return create(emitter -> subscribe(new SingleObserver<T>() {
+            @Override
+            public void onSubscribe(Disposable d) {
+                emitter.setDisposable(d);
+            }
+            @Override
+            public void onSuccess(T value) {
+                Single<? extends R> next;
+                try {
+                    next = Objects.requireNonNull(mapper.apply(value), "mapper returned null");
+                } catch (Throwable ex) {
+                    emitter.onError(ex);
+                    return;
+                }
+                next.subscribe(emitter);
+            }
+            @Override
+            public void onError(Throwable t) {
+                emitter.onError(t);
+            }
+        }));
+    }
+
+    public <R> Maybe<R> flatMapMaybe(Function<? super T, ? extends Maybe<? extends R>> mapper) {
+        Objects.requireNonNull(mapper);
+        return Maybe.create(emitter -> subscribe(new SingleObserver<T>() {
+            @Override
+            public void onSubscribe(Disposable d) {
+                emitter.setDisposable(d);
+            }
+            @Override
+            public void onSuccess(T value) {
+                Maybe<? extends R> next;
+                try {
+                    next = Objects.requireNonNull(mapper.apply(value), "mapper returned null");
+                } catch (Throwable ex) {
+                    emitter.onError(ex);
+                    return;
+                }
+                next.subscribe(emitter);
+            }
+            @Override
+            public void onError(Throwable t) {
+                emitter.onError(t);
+            }
+        }));
+    }
+
+    public Completable flatMapCompletable(Function<? super T, ? extends Completable> mapper) {
+        Objects.requireNonNull(mapper);
+        return Completable.create(emitter -> subscribe(new SingleObserver<T>() {
+            @Override
+            public void onSubscribe(Disposable d) {
+                emitter.setDisposable(d);
+            }
+            @Override
+            public void onSuccess(T value) {
+                Completable next;
+                try {
+                    next = Objects.requireNonNull(mapper.apply(value), "mapper returned null");
+                } catch (Throwable ex) {
+                    emitter.onError(ex);
+                    return;
+                }
+                next.subscribe(emitter);
+            }
+            @Override
+            public void onError(Throwable t) {
+                emitter.onError(t);
+            }
+        }));
+    }
+
+    /**
+     * Observable из одного элемента и onComplete (или только onError).
+     */
+    public Observable<T> toObservable() {
+        return Observable.create(emitter -> subscribe(new SingleObserver<T>() {
+            @Override
+            public void onSubscribe(Disposable d) {
+                emitter.setDisposable(d);
+            }
+            @Override
+            public void onSuccess(T value) {
+                emitter.onNext(value);
+                emitter.onComplete();
+            }
+            @Override
+            public void onError(Throwable t) {
+                emitter.onError(t);
+            }
+        }));
+    }
+
+    /**
+     * Ждёт значение в текущем потоке. Ошибка источника пробрасывается как есть
+     * (проверяемая — обёрнутой в RuntimeException).
+     */
+    public T blockingGet() {
+        BlockingMultiObserver<T> observer = new BlockingMultiObserver<>();
+        subscribe(observer);
+        return observer.blockingGet();
+    }
+
+    /**
+     * Подписывается и возвращает future результата; {@code cancel} отменяет подписку.
+     */
+    public CompletableFuture<T> toCompletableFuture() {
+        FutureMultiObserver<T> observer = new FutureMultiObserver<>();
+        subscribe(observer);
+        return observer;
+    }
+}
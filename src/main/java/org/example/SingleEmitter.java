@@ -0,0 +1,22 @@
+package org.example;
+
+/**
+ * SingleObserver, который получает источник в {@link Single#create}.
+ * Первый сигнал завершает подписку, следующие отбрасываются.
+ */
+public interface SingleEmitter<T> extends SingleObserver<T> {
+
+    boolean isDisposed();
+
+    /**
+     * Ресурс, освобождаемый при отмене или выдаче результата.
+     */
+    void setDisposable(Disposable d);
+
+    void setCancellable(Cancellable c);
+
+    @Override
+    default void onSubscribe(Disposable d) {
+        setDisposable(d);
+    }
+}
@@ -0,0 +1,15 @@
+package org.example;
+
+/**
+ * Получатель ровно одного сигнала: значения или ошибки.
+ */
+public interface SingleObserver<T> {
+    /**
+     * Вызывается до результата; через {@code d} можно отменить подписку.
+     */
+    default void onSubscribe(Disposable d) {
+    }
+
+    void onSuccess(T value);
+    void onError(Throwable t);
+}
@@ -0,0 +1,12 @@
+package org.example;
+
+/**
+ * Получатель событий Flowable с управлением спросом.
+ * До первого {@link Subscription#request(long)} элементы не поступают.
+ */
+public interface Subscriber<T> {
+    void onSubscribe(Subscription subscription);
+    void onNext(T item);
+    void onError(Throwable t);
+    void onComplete();
+}
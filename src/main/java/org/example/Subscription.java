@@ -0,0 +1,13 @@
+package org.example;
+
+/**
+ * Связь между Flowable и Subscriber: запрос элементов и отмена.
+ */
+public interface Subscription {
+    /**
+     * Разрешает источнику выдать ещё {@code n} элементов (n > 0).
+     * {@link Long#MAX_VALUE} означает отсутствие ограничений.
+     */
+    void request(long n);
+    void cancel();
+}
@@ -0,0 +1,34 @@
+package org.example.internal.disposables;
+
+import org.example.Cancellable;
+import org.example.Disposable;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Disposable поверх {@link Cancellable}: действие выполняется не больше одного раза.
+ */
+public final class CancellableDisposable extends AtomicReference<Cancellable> implements Disposable {
+
+    public CancellableDisposable(Cancellable c) {
+        super(c);
+    }
+
+    @Override
+    public void dispose() {
+        Cancellable c = getAndSet(null);
+        if (c != null) {
+            try {
+                c.cancel();
+            } catch (Throwable ex) {
+                Thread current = Thread.currentThread();
+                current.getUncaughtExceptionHandler().uncaughtException(current, ex);
+            }
+        }
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return get() == null;
+    }
+}
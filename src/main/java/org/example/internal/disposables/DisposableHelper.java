@@ -0,0 +1,71 @@
+package org.example.internal.disposables;
+
+import org.example.Disposable;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Операции над ссылкой на Disposable с маркером «отменено».
+ */
+public final class DisposableHelper {
+
+    /** Маркер отменённого ресурса. */
+    public static final Disposable DISPOSED = new Disposable() {
+        @Override
+        public void dispose() {
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return true;
+        }
+    };
+
+    private DisposableHelper() {
+    }
+
+    public static boolean isDisposed(Disposable d) {
+        return d == DISPOSED;
+    }
+
+    /**
+     * Ставит новый ресурс, освобождая прежний. Если ссылка уже отменена —
+     * освобождает новый.
+     */
+    public static boolean set(AtomicReference<Disposable> ref, Disposable d) {
+        for (;;) {
+            Disposable current = ref.get();
+            if (current == DISPOSED) {
+                if (d != null) d.dispose();
+                return false;
+            }
+            if (ref.compareAndSet(current, d)) {
+                if (current != null) current.dispose();
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Ставит ресурс, если ссылка пуста; если уже отменена — освобождает его.
+     */
+    public static boolean setOnce(AtomicReference<Disposable> ref, Disposable d) {
+        if (!ref.compareAndSet(null, d)) {
+            d.dispose();
+            return false;
+        }
+        return true;
+    }
+
+    public static boolean dispose(AtomicReference<Disposable> ref) {
+        Disposable current = ref.get();
+        if (current != DISPOSED) {
+            current = ref.getAndSet(DISPOSED);
+            if (current != DISPOSED) {
+                if (current != null) current.dispose();
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.internal.fuseable;
+
+import java.util.Iterator;
+
+/**
+ * Синхронный источник, из которого оператор с очередью (observeOn) может
+ * сам вытягивать элементы, минуя промежуточную очередь и подписку.
+ */
+public interface SyncFuseable<T> {
+    /**
+     * Новый итератор по элементам источника или {@code null}, если для этой
+     * цепочки слияние невозможно. Исключения итератора трактуются как onError.
+     */
+    Iterator<T> fusedIterator();
+}
@@ -0,0 +1,179 @@
+package org.example.internal.observers;
+
+import org.example.Disposable;
+import org.example.MissingBackpressureException;
+import org.example.Observer;
+import org.example.Subscriber;
+import org.example.Subscription;
+import org.example.internal.disposables.DisposableHelper;
+import org.example.internal.queue.SimpleQueue;
+import org.example.internal.queue.SpscArrayQueue;
+import org.example.internal.queue.SpscLinkedArrayQueue;
+
+import java.lang.invoke.VarHandle;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Итератор поверх асинхронного источника. Источник складывает элементы в
+ * очередь, потребитель забирает их без синхронизации и паркуется только
+ * тогда, когда очередь пуста. Ошибка источника выбрасывается из
+ * {@link #hasNext()} после уже полученных элементов.
+ * <p>
+ * Для Flowable очередь — кольцо на {@code prefetch} элементов: у источника
+ * запрашивается столько же и дозапрашивается по мере чтения, так что он
+ * уходит вперёд не больше чем на {@code prefetch}. Observable спрос не
+ * поддерживает, поэтому для него очередь растёт кольцами по {@code prefetch}.
+ */
+public final class BlockingIterator<T> extends AtomicReference<Disposable>
+        implements Observer<T>, Subscriber<T>, Iterator<T>, Disposable {
+    private final SimpleQueue<T> queue;
+    private final int prefetch;
+    /** После стольких прочитанных элементов у Flowable дозапрашивается столько же. */
+    private final int limit;
+    private volatile Subscription subscription;
+    private volatile Thread waiter;
+    private Throwable error;
+    private volatile boolean done;
+    /** Прочитано с последнего дозапроса; меняет только потребитель. */
+    private int consumed;
+
+    private BlockingIterator(SimpleQueue<T> queue, int prefetch) {
+        this.queue = queue;
+        this.prefetch = prefetch;
+        this.limit = prefetch - (prefetch >> 2);
+    }
+
+    /** Итератор для Observable: очередь без ограничения. */
+    public static <T> BlockingIterator<T> unbounded(int prefetch) {
+        return new BlockingIterator<>(new SpscLinkedArrayQueue<>(prefetch), prefetch);
+    }
+
+    /** Итератор для Flowable: в очереди не больше {@code prefetch} элементов. */
+    public static <T> BlockingIterator<T> bounded(int prefetch) {
+        return new BlockingIterator<>(new SpscArrayQueue<>(prefetch), prefetch);
+    }
+
+    @Override
+    public void onSubscribe(Disposable d) {
+        DisposableHelper.setOnce(this, d);
+    }
+
+    @Override
+    public void onSubscribe(Subscription s) {
+        subscription = s;
+        if (isDisposed()) {
+            s.cancel();
+        } else {
+            s.request(prefetch);
+        }
+    }
+
+    @Override
+    public void onNext(T item) {
+        if (done) return;
+        if (!queue.offer(item)) {
+            subscription.cancel();
+            error = new MissingBackpressureException("blockingIterable: queue is full despite backpressure");
+            done = true;
+        }
+        signal();
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        error = t;
+        done = true;
+        signal();
+    }
+
+    @Override
+    public void onComplete() {
+        done = true;
+        signal();
+    }
+
+    private void signal() {
+        // элемент публикуется записью с release: без барьера чтение waiter могло бы её обогнать
+        VarHandle.fullFence();
+        Thread w = waiter;
+        if (w != null) {
+            LockSupport.unpark(w);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        for (;;) {
+            if (isDisposed()) {
+                return false;
+            }
+            boolean d = done;
+            if (!queue.isEmpty()) {
+                return true;
+            }
+            if (d) {
+                Throwable ex = error;
+                if (ex != null) {
+                    if (ex instanceof RuntimeException re) throw re;
+                    if (ex instanceof Error e) throw e;
+                    throw new RuntimeException(ex);
+                }
+                return false;
+            }
+            await();
+        }
+    }
+
+    private void await() {
+        waiter = Thread.currentThread();
+        VarHandle.fullFence();
+        while (!done && queue.isEmpty() && !isDisposed()) {
+            LockSupport.park(this);
+            if (Thread.interrupted()) {
+                waiter = null;
+                dispose();
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("interrupted while waiting for the next element");
+            }
+        }
+        waiter = null;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        T item = queue.poll();
+        Subscription s = subscription;
+        if (s != null && ++consumed == limit) {
+            consumed = 0;
+            s.request(limit);
+        }
+        return item;
+    }
+
+    /**
+     * Отменяет источник; {@link #hasNext()} после этого возвращает {@code false}.
+     */
+    @Override
+    public void dispose() {
+        DisposableHelper.dispose(this);
+        Subscription s = subscription;
+        if (s != null) {
+            s.cancel();
+        }
+        Thread w = waiter;
+        if (w != null) {
+            LockSupport.unpark(w);
+        }
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return DisposableHelper.isDisposed(get());
+    }
+}
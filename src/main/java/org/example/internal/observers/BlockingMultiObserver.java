@@ -0,0 +1,70 @@
+package org.example.internal.observers;
+
+import org.example.CompletableObserver;
+import org.example.Disposable;
+import org.example.MaybeObserver;
+import org.example.SingleObserver;
+
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Ожидание результата Single/Maybe/Completable в вызывающем потоке.
+ * Прерывание ожидания отменяет подписку.
+ */
+public final class BlockingMultiObserver<T> extends CountDownLatch
+        implements SingleObserver<T>, MaybeObserver<T>, CompletableObserver {
+    private T value;
+    private Throwable error;
+    private volatile Disposable upstream;
+
+    public BlockingMultiObserver() {
+        super(1);
+    }
+
+    @Override
+    public void onSubscribe(Disposable d) {
+        upstream = d;
+    }
+
+    @Override
+    public void onSuccess(T value) {
+        this.value = value;
+        countDown();
+    }
+
+    @Override
+    public void onComplete() {
+        countDown();
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        error = t;
+        countDown();
+    }
+
+    /**
+     * @return значение или {@code null}, если источник завершился без него
+     */
+    public T blockingGet() {
+        if (getCount() != 0) {
+            try {
+                await();
+            } catch (InterruptedException ex) {
+                Disposable d = upstream;
+                if (d != null) {
+                    d.dispose();
+                }
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("interrupted while waiting for the result", ex);
+            }
+        }
+        Throwable ex = error;
+        if (ex != null) {
+            if (ex instanceof RuntimeException re) throw re;
+            if (ex instanceof Error e) throw e;
+            throw new RuntimeException(ex);
+        }
+        return value;
+    }
+}
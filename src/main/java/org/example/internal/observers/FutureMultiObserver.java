@@ -0,0 +1,46 @@
+package org.example.internal.observers;
+
+import org.example.CompletableObserver;
+import org.example.Disposable;
+import org.example.MaybeObserver;
+import org.example.SingleObserver;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * CompletableFuture, который заполняется результатом подписки. Отмена
+ * future отменяет и подписку.
+ */
+public final class FutureMultiObserver<T> extends CompletableFuture<T>
+        implements SingleObserver<T>, MaybeObserver<T>, CompletableObserver {
+    private volatile Disposable upstream;
+
+    @Override
+    public void onSubscribe(Disposable d) {
+        upstream = d;
+    }
+
+    @Override
+    public void onSuccess(T value) {
+        complete(value);
+    }
+
+    @Override
+    public void onComplete() {
+        complete(null);
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        completeExceptionally(t);
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        Disposable d = upstream;
+        if (d != null) {
+            d.dispose();
+        }
+        return super.cancel(mayInterruptIfRunning);
+    }
+}
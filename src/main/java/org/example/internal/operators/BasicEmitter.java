@@ -0,0 +1,33 @@
+package org.example.internal.operators;
+
+import org.example.Cancellable;
+import org.example.Disposable;
+import org.example.internal.disposables.CancellableDisposable;
+import org.example.internal.disposables.DisposableHelper;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Общая часть emitter'ов, которые {@code subscribe} отдаёт источнику:
+ * ссылка хранит ресурс источника, её отмена означает конец подписки.
+ */
+abstract class BasicEmitter extends AtomicReference<Disposable> implements Disposable {
+
+    public void setDisposable(Disposable d) {
+        DisposableHelper.set(this, d);
+    }
+
+    public void setCancellable(Cancellable c) {
+        setDisposable(new CancellableDisposable(c));
+    }
+
+    @Override
+    public void dispose() {
+        DisposableHelper.dispose(this);
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return DisposableHelper.isDisposed(get());
+    }
+}
@@ -0,0 +1,38 @@
+package org.example.internal.operators;
+
+import org.example.CompletableEmitter;
+import org.example.CompletableObserver;
+
+/**
+ * Emitter, который {@code Completable.subscribe} отдаёт источнику. Первый
+ * сигнал доставляется и освобождает ресурс источника, остальные отбрасываются.
+ */
+public final class CompletableCreateEmitter extends BasicEmitter implements CompletableEmitter {
+    private final CompletableObserver observer;
+
+    public CompletableCreateEmitter(CompletableObserver observer) {
+        this.observer = observer;
+    }
+
+    @Override
+    public void onComplete() {
+        if (!isDisposed()) {
+            try {
+                observer.onComplete();
+            } finally {
+                dispose();
+            }
+        }
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        if (!isDisposed()) {
+            try {
+                observer.onError(t);
+            } finally {
+                dispose();
+            }
+        }
+    }
+}
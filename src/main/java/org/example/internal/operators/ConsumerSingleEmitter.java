@@ -0,0 +1,45 @@
+package org.example.internal.operators;
+
+import org.example.SingleEmitter;
+
+import java.util.function.Consumer;
+
+/**
+ * {@code Single.subscribe(onSuccess, onError)}: emitter источника сам вызывает
+ * обработчики — отдельный SingleObserver между ними не создаётся.
+ */
+public final class ConsumerSingleEmitter<T> extends BasicEmitter implements SingleEmitter<T> {
+    private final Consumer<? super T> onSuccess;
+    private final Consumer<Throwable> onError;
+
+    public ConsumerSingleEmitter(Consumer<? super T> onSuccess, Consumer<Throwable> onError) {
+        this.onSuccess = onSuccess;
+        this.onError = onError;
+    }
+
+    @Override
+    public void onSuccess(T value) {
+        if (!isDisposed()) {
+            try {
+                onSuccess.accept(value);
+            } catch (Throwable ex) {
+                // сбой обработчика не подменяет сигнал источника
+                Thread current = Thread.currentThread();
+                current.getUncaughtExceptionHandler().uncaughtException(current, ex);
+            } finally {
+                dispose();
+            }
+        }
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        if (!isDisposed()) {
+            try {
+                onError.accept(t);
+            } finally {
+                dispose();
+            }
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package org.example.internal.operators;
+
+import org.example.Emitter;
+import org.example.Observer;
+
+/**
+ * Emitter, который {@code Observable.subscribe} отдаёт источнику и возвращает
+ * подписчику как Disposable. После отмены или терминального сигнала
+ * дальнейшие сигналы отбрасываются.
+ */
+public final class CreateEmitter<T> extends BasicEmitter implements Emitter<T> {
+    private final Observer<? super T> observer;
+
+    public CreateEmitter(Observer<? super T> observer) {
+        this.observer = observer;
+    }
+
+    @Override
+    public Emitter<T> serialize() {
+        return new SerializedEmitter<>(this);
+    }
+
+    @Override
+    public void onNext(T item) {
+        if (!isDisposed()) {
+            observer.onNext(item);
+        }
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        if (!isDisposed()) {
+            try {
+                observer.onError(t);
+            } finally {
+                dispose();
+            }
+        }
+    }
+
+    @Override
+    public void onComplete() {
+        if (!isDisposed()) {
+            try {
+                observer.onComplete();
+            } finally {
+                dispose();
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package org.example.internal.operators;
+
+import org.example.DoubleEmitter;
+import org.example.DoubleObserver;
+
+/**
+ * {@link CreateEmitter} для значений double.
+ */
+public final class DoubleCreateEmitter extends BasicEmitter implements DoubleEmitter {
+    private final DoubleObserver observer;
+
+    public DoubleCreateEmitter(DoubleObserver observer) {
+        this.observer = observer;
+    }
+
+    @Override
+    public void onNext(double item) {
+        if (!isDisposed()) {
+            observer.onNext(item);
+        }
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        if (!isDisposed()) {
+            try {
+                observer.onError(t);
+            } finally {
+                dispose();
+            }
+        }
+    }
+
+    @Override
+    public void onComplete() {
+        if (!isDisposed()) {
+            try {
+                observer.onComplete();
+            } finally {
+                dispose();
+            }
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package org.example.internal.operators;
+
+import org.example.Flowable;
+import org.example.MissingBackpressureException;
+import org.example.Subscriber;
+import org.example.Subscription;
+import org.example.internal.queue.SimpleQueue;
+import org.example.internal.queue.SpscArrayQueue;
+import org.example.internal.subscriptions.SubscriptionHelper;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * combineLatest для Flowable: как и у Observable, каждый элемент каждого
+ * источника даёт свою комбинацию. У источника ограниченная очередь на
+ * {@code prefetch} элементов, и столько же у него запрошено вперёд; дозапрос
+ * идёт по мере того, как дренаж забирает элементы. Элемент, который дал бы
+ * комбинацию, без спроса подписчика остаётся в очереди — источники стоят,
+ * а не копят элементы.
+ */
+public final class FlowableCombineLatest<T, R> implements Flowable.OnSubscribe<R> {
+    private final Flowable<? extends T>[] sources;
+    private final Function<? super Object[], ? extends R> combiner;
+    private final int prefetch;
+
+    public FlowableCombineLatest(Flowable<? extends T>[] sources, Function<? super Object[], ? extends R> combiner,
+                                 int prefetch) {
+        this.sources = sources;
+        this.combiner = combiner;
+        this.prefetch = prefetch;
+    }
+
+    @Override
+    public void call(Subscriber<? super R> subscriber) {
+        LatestCoordinator<T, R> parent = new LatestCoordinator<>(subscriber, combiner, sources.length, prefetch);
+        subscriber.onSubscribe(parent);
+        parent.subscribe(sources);
+    }
+
+    /**
+     * Счётчик (AtomicInteger) — work-in-progress дренажа.
+     */
+    static final class LatestCoordinator<T, R> extends AtomicInteger implements Subscription {
+        private final Subscriber<? super R> downstream;
+        private final Function<? super Object[], ? extends R> combiner;
+        private final LatestSubscriber<T>[] subscribers;
+        private final AtomicLong requested = new AtomicLong();
+        /** Последние элементы источников; трогаются только из дренажа. */
+        private final Object[] latest;
+        private int filled;
+        private volatile boolean cancelled;
+        private boolean terminated;
+
+        @SuppressWarnings("unchecked")
+        LatestCoordinator(Subscriber<? super R> downstream, Function<? super Object[], ? extends R> combiner,
+                          int count, int prefetch) {
+            this.downstream = downstream;
+            this.combiner = combiner;
+            this.subscribers = new LatestSubscriber[count];
+            for (int i = 0; i < count; i++) {
+                subscribers[i] = new LatestSubscriber<>(this, prefetch);
+            }
+            this.latest = new Object[count];
+        }
+
+        void subscribe(Flowable<? extends T>[] sources) {
+            if (sources.length == 0) {
+                terminated = true;
+                downstream.onComplete();
+                return;
+            }
+            for (int i = 0; i < sources.length; i++) {
+                if (cancelled || terminated) return;
+                sources[i].subscribe(subscribers[i]);
+            }
+        }
+
+        @Override
+        public void request(long n) {
+            if (!SubscriptionHelper.validate(n)) {
+                cancel();
+                downstream.onError(SubscriptionHelper.invalidRequest(n));
+                return;
+            }
+            SubscriptionHelper.add(requested, n);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            if (cancelled) return;
+            cancelled = true;
+            cancelSources();
+            if (getAndIncrement() == 0) {
+                clear();
+            }
+        }
+
+        private void cancelSources() {
+            for (LatestSubscriber<T> subscriber : subscribers) {
+                SubscriptionHelper.cancel(subscriber);
+            }
+        }
+
+        private void clear() {
+            for (LatestSubscriber<T> subscriber : subscribers) {
+                subscriber.queue.clear();
+            }
+            Arrays.fill(latest, null);
+        }
+
+        /**
+         * За проход у каждого источника забирается не больше одного элемента.
+         * Пока комбинаций нет, элементы забираются и без спроса: они лишь
+         * обновляют последнее значение.
+         */
+        void drain() {
+            if (getAndIncrement() != 0) return;
+            int missed = 1;
+            LatestSubscriber<T>[] subscribers = this.subscribers;
+            Object[] latest = this.latest;
+            for (;;) {
+                long r = requested.get();
+                long e = 0L;
+                for (;;) {
+                    if (cancelled || terminated) {
+                        clear();
+                        return;
+                    }
+                    boolean progress = false;
+                    int finished = 0;
+                    for (int i = 0; i < subscribers.length; i++) {
+                        LatestSubscriber<T> subscriber = subscribers[i];
+                        // done читается до очереди: элемент перед onComplete не потеряется
+                        boolean d = subscriber.done;
+                        Throwable ex = d ? subscriber.error : null;
+                        if (ex != null) {
+                            terminate(ex);
+                            return;
+                        }
+                        boolean emits = filled + (latest[i] == null ? 1 : 0) == latest.length;
+                        if (emits && e == r) {
+                            // элемент дал бы комбинацию, а спроса нет
+                            continue;
+                        }
+                        T v = subscriber.queue.poll();
+                        if (v != null) {
+                            progress = true;
+                            if (latest[i] == null) {
+                                filled++;
+                            }
+                            latest[i] = v;
+                            subscriber.consumed();
+                            if (emits) {
+                                if (!emit(latest)) return;
+                                e++;
+                            }
+                        } else if (d) {
+                            if (latest[i] == null) {
+                                // источник без элементов: комбинаций не будет никогда
+                                terminate(null);
+                                return;
+                            }
+                            finished++;
+                        }
+                    }
+                    if (finished == subscribers.length) {
+                        terminate(null);
+                        return;
+                    }
+                    if (!progress) break;
+                }
+                if (e != 0L) {
+                    SubscriptionHelper.produced(requested, e);
+                }
+                missed = addAndGet(-missed);
+                if (missed == 0) break;
+            }
+        }
+
+        private boolean emit(Object[] latest) {
+            R result;
+            try {
+                result = combiner.apply(latest.clone());
+                if (result == null) {
+                    throw new NullPointerException("combiner returned null");
+                }
+            } catch (Throwable ex) {
+                terminate(ex);
+                return false;
+            }
+            downstream.onNext(result);
+            return true;
+        }
+
+        private void terminate(Throwable ex) {
+            terminated = true;
+            cancelSources();
+            clear();
+            if (ex != null) {
+                downstream.onError(ex);
+            } else {
+                downstream.onComplete();
+            }
+        }
+
+        void innerOverflow(LatestSubscriber<T> subscriber) {
+            subscriber.error = new MissingBackpressureException("combineLatest: queue is full despite backpressure");
+            subscriber.done = true;
+            drain();
+        }
+    }
+
+    static final class LatestSubscriber<T> extends AtomicReference<Subscription> implements Subscriber<T> {
+        private final LatestCoordinator<T, ?> parent;
+        private final int prefetch;
+        private final int limit;
+        final SimpleQueue<T> queue;
+        Throwable error;
+        volatile boolean done;
+        /** Забрано дренажом с последнего дозапроса; трогается только из дренажа. */
+        private long produced;
+
+        LatestSubscriber(LatestCoordinator<T, ?> parent, int prefetch) {
+            this.parent = parent;
+            this.prefetch = prefetch;
+            this.limit = prefetch - (prefetch >> 2);
+            this.queue = new SpscArrayQueue<>(prefetch);
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            if (SubscriptionHelper.setOnce(this, subscription)) {
+                subscription.request(prefetch);
+            }
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (done) return;
+            if (!queue.offer(item)) {
+                SubscriptionHelper.cancel(this);
+                parent.innerOverflow(this);
+                return;
+            }
+            parent.drain();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (done) return;
+            error = t;
+            done = true;
+            parent.drain();
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) return;
+            done = true;
+            parent.drain();
+        }
+
+        void consumed() {
+            if (++produced == limit) {
+                get().request(produced);
+                produced = 0L;
+            }
+        }
+    }
+}
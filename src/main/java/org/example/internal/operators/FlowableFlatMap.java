@@ -0,0 +1,256 @@
+package org.example.internal.operators;
+
+import org.example.Flowable;
+import org.example.MissingBackpressureException;
+import org.example.Subscriber;
+import org.example.Subscription;
+import org.example.internal.queue.SimpleQueue;
+import org.example.internal.queue.SpscArrayQueue;
+import org.example.internal.subscriptions.SubscriptionHelper;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * flatMap для Flowable: не больше {@code maxConcurrency} внутренних источников
+ * одновременно, у каждого запрашивается не больше {@code prefetch} элементов вперёд.
+ */
+public final class FlowableFlatMap<T, R> implements Flowable.OnSubscribe<R> {
+    private final Flowable<T> source;
+    private final Function<? super T, ? extends Flowable<? extends R>> mapper;
+    private final int maxConcurrency;
+    private final int prefetch;
+
+    public FlowableFlatMap(Flowable<T> source, Function<? super T, ? extends Flowable<? extends R>> mapper,
+                           int maxConcurrency, int prefetch) {
+        this.source = source;
+        this.mapper = mapper;
+        this.maxConcurrency = maxConcurrency;
+        this.prefetch = prefetch;
+    }
+
+    @Override
+    public void call(Subscriber<? super R> subscriber) {
+        source.subscribe(new MergeSubscriber<>(subscriber, mapper, maxConcurrency, prefetch));
+    }
+
+    static final class MergeSubscriber<T, R> extends AtomicInteger implements Subscriber<T>, Subscription {
+        private final Subscriber<? super R> downstream;
+        private final Function<? super T, ? extends Flowable<? extends R>> mapper;
+        private final int maxConcurrency;
+        private final int prefetch;
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicReference<Throwable> error = new AtomicReference<>();
+        private final Set<InnerSubscriber<R>> inners = ConcurrentHashMap.newKeySet();
+
+        private Subscription upstream;
+        private volatile boolean done;
+        private volatile boolean cancelled;
+
+        MergeSubscriber(Subscriber<? super R> downstream, Function<? super T, ? extends Flowable<? extends R>> mapper,
+                        int maxConcurrency, int prefetch) {
+            this.downstream = downstream;
+            this.mapper = mapper;
+            this.maxConcurrency = maxConcurrency;
+            this.prefetch = prefetch;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            upstream = subscription;
+            downstream.onSubscribe(this);
+            subscription.request(maxConcurrency == Integer.MAX_VALUE ? Long.MAX_VALUE : maxConcurrency);
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (done) return;
+            Flowable<? extends R> inner;
+            try {
+                inner = mapper.apply(item);
+            } catch (Throwable ex) {
+                upstream.cancel();
+                onError(ex);
+                return;
+            }
+            InnerSubscriber<R> subscriber = new InnerSubscriber<>(this, prefetch);
+            inners.add(subscriber);
+            if (cancelled) {
+                subscriber.cancel();
+                return;
+            }
+            inner.subscribe(subscriber);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (done) return;
+            if (error.compareAndSet(null, t)) {
+                done = true;
+                drain();
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) return;
+            done = true;
+            drain();
+        }
+
+        @Override
+        public void request(long n) {
+            if (!SubscriptionHelper.validate(n)) {
+                cancel();
+                downstream.onError(SubscriptionHelper.invalidRequest(n));
+                return;
+            }
+            SubscriptionHelper.add(requested, n);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            if (cancelled) return;
+            cancelled = true;
+            upstream.cancel();
+            cancelInners();
+        }
+
+        void innerError(Throwable t) {
+            if (error.compareAndSet(null, t)) {
+                upstream.cancel();
+                done = true;
+                drain();
+            }
+        }
+
+        void drain() {
+            if (getAndIncrement() == 0) {
+                drainLoop();
+            }
+        }
+
+        private void cancelInners() {
+            for (InnerSubscriber<R> inner : inners) {
+                inner.cancel();
+            }
+            inners.clear();
+        }
+
+        private void drainLoop() {
+            int missed = 1;
+            for (;;) {
+                if (cancelled) {
+                    cancelInners();
+                    return;
+                }
+                Throwable ex = error.get();
+                if (ex != null) {
+                    cancelled = true;
+                    cancelInners();
+                    downstream.onError(ex);
+                    return;
+                }
+
+                boolean d = done;
+                long r = requested.get();
+                long e = 0L;
+                int finished = 0;
+
+                for (InnerSubscriber<R> inner : inners) {
+                    while (e != r) {
+                        if (cancelled) return;
+                        R item = inner.queue.poll();
+                        if (item == null) break;
+                        downstream.onNext(item);
+                        e++;
+                        inner.consumed();
+                    }
+                    if (inner.done && inner.queue.isEmpty()) {
+                        inners.remove(inner);
+                        finished++;
+                    }
+                }
+
+                if (e != 0L && r != Long.MAX_VALUE) {
+                    requested.addAndGet(-e);
+                }
+                if (d && inners.isEmpty() && error.get() == null) {
+                    cancelled = true;
+                    downstream.onComplete();
+                    return;
+                }
+                if (finished != 0 && maxConcurrency != Integer.MAX_VALUE && !cancelled) {
+                    upstream.request(finished);
+                }
+                if (finished != 0 || e != 0L) {
+                    // освободившиеся слоты или спрос могли открыть новые элементы
+                    continue;
+                }
+                missed = addAndGet(-missed);
+                if (missed == 0) break;
+            }
+        }
+    }
+
+    static final class InnerSubscriber<R> extends AtomicReference<Subscription> implements Subscriber<R> {
+        private final MergeSubscriber<?, R> parent;
+        private final int prefetch;
+        private final int limit;
+        final SimpleQueue<R> queue;
+        volatile boolean done;
+        /** Выдано вниз с последнего дозапроса; трогается только из дренажа. */
+        private long produced;
+
+        InnerSubscriber(MergeSubscriber<?, R> parent, int prefetch) {
+            this.parent = parent;
+            this.prefetch = prefetch;
+            this.limit = prefetch - (prefetch >> 2);
+            this.queue = new SpscArrayQueue<>(prefetch);
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            if (SubscriptionHelper.setOnce(this, subscription)) {
+                subscription.request(prefetch);
+            }
+        }
+
+        @Override
+        public void onNext(R item) {
+            if (!queue.offer(item)) {
+                cancel();
+                parent.innerError(new MissingBackpressureException("flatMap: inner queue is full despite backpressure"));
+                return;
+            }
+            parent.drain();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            parent.innerError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            done = true;
+            parent.drain();
+        }
+
+        void consumed() {
+            if (++produced == limit) {
+                get().request(produced);
+                produced = 0L;
+            }
+        }
+
+        void cancel() {
+            SubscriptionHelper.cancel(this);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package org.example.internal.operators;
+
+import org.example.Flowable;
+import org.example.Subscriber;
+import org.example.Subscription;
+import org.example.internal.subscriptions.SubscriptionHelper;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Файл через {@link AsynchronousFileChannel}: в полёте не больше одного
+ * чтения, и следующее запускается, только пока есть спрос. Элементы
+ * выдаются в потоке, завершившем чтение. Канал принадлежит вызывающему:
+ * отмена прекращает чтения, но канал не закрывает.
+ */
+public final class FlowableFromChannel implements Flowable.OnSubscribe<ByteBuffer> {
+    private final AsynchronousFileChannel channel;
+    private final int chunkSize;
+
+    public FlowableFromChannel(AsynchronousFileChannel channel, int chunkSize) {
+        this.channel = channel;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public void call(Subscriber<? super ByteBuffer> subscriber) {
+        subscriber.onSubscribe(new ChannelSubscription(subscriber, channel, chunkSize));
+    }
+
+    /**
+     * Сам объект — счётчик спроса. Чтение запускает тот, кто поднял спрос
+     * с нуля, а дальше — обработчик завершения, пока спрос не исчерпан.
+     */
+    static final class ChannelSubscription extends AtomicLong
+            implements Subscription, CompletionHandler<Integer, ByteBuffer> {
+        private final Subscriber<? super ByteBuffer> downstream;
+        private final AsynchronousFileChannel channel;
+        private final int chunkSize;
+        private volatile boolean cancelled;
+        /** Смещение следующего чтения; чтения идут строго друг за другом. */
+        private long position;
+
+        ChannelSubscription(Subscriber<? super ByteBuffer> downstream, AsynchronousFileChannel channel,
+                            int chunkSize) {
+            this.downstream = downstream;
+            this.channel = channel;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        public void request(long n) {
+            if (!SubscriptionHelper.validate(n)) {
+                cancel();
+                downstream.onError(SubscriptionHelper.invalidRequest(n));
+                return;
+            }
+            if (SubscriptionHelper.add(this, n) == 0L) {
+                read();
+            }
+        }
+
+        private void read() {
+            if (cancelled) return;
+            ByteBuffer chunk = ByteBuffer.allocate(chunkSize);
+            try {
+                channel.read(chunk, position, chunk, this);
+            } catch (Throwable ex) {
+                failed(ex, chunk);
+            }
+        }
+
+        @Override
+        public void completed(Integer bytes, ByteBuffer chunk) {
+            if (cancelled) return;
+            if (bytes < 0) {
+                cancelled = true;
+                downstream.onComplete();
+                return;
+            }
+            position += bytes;
+            chunk.flip();
+            downstream.onNext(chunk);
+            if (SubscriptionHelper.produced(this, 1) != 0L) {
+                read();
+            }
+        }
+
+        @Override
+        public void failed(Throwable ex, ByteBuffer chunk) {
+            if (cancelled) return;
+            cancelled = true;
+            downstream.onError(ex);
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package org.example.internal.operators;
+
+import org.example.Flowable;
+import org.example.Subscriber;
+import org.example.Subscription;
+import org.example.internal.subscriptions.SubscriptionHelper;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Файл кусками по {@code chunkSize} байт: обычным чтением в новый буфер
+ * или отображением очередного сегмента в память ({@code mapped}). Кусок
+ * читается только под запрошенный спрос, в потоке, который этот спрос
+ * выставил. Файл читается до размера, который был у него при подписке.
+ */
+public final class FlowableFromFile implements Flowable.OnSubscribe<ByteBuffer> {
+    private final Path path;
+    private final int chunkSize;
+    private final boolean mapped;
+
+    public FlowableFromFile(Path path, int chunkSize, boolean mapped) {
+        this.path = path;
+        this.chunkSize = chunkSize;
+        this.mapped = mapped;
+    }
+
+    @Override
+    public void call(Subscriber<? super ByteBuffer> subscriber) {
+        FileChannel channel;
+        long size;
+        try {
+            channel = FileChannel.open(path, StandardOpenOption.READ);
+            size = channel.size();
+        } catch (Throwable ex) {
+            subscriber.onSubscribe(SubscriptionHelper.CANCELLED);
+            subscriber.onError(ex);
+            return;
+        }
+        FileSubscription subscription = new FileSubscription(subscriber, channel, size, chunkSize, mapped);
+        subscriber.onSubscribe(subscription);
+        if (size == 0) {
+            subscription.completeEmpty();
+        }
+    }
+
+    /**
+     * Сам объект — счётчик спроса; читает и выдаёт тот поток, который поднял
+     * спрос с нуля. {@link #cancel()} тоже поднимает счётчик, поэтому канал
+     * закрывает либо читающий поток, либо сама отмена, если чтение не идёт.
+     */
+    static final class FileSubscription extends AtomicLong implements Subscription {
+        private final Subscriber<? super ByteBuffer> downstream;
+        private final FileChannel channel;
+        private final long size;
+        private final int chunkSize;
+        private final boolean mapped;
+        volatile boolean cancelled;
+        /** Пустой файл завершают и call(), и поток спроса; onComplete выдаёт только один. */
+        private final AtomicBoolean emptyCompleted = new AtomicBoolean();
+        /** Смещение следующего куска; меняет только читающий поток. */
+        private long position;
+
+        FileSubscription(Subscriber<? super ByteBuffer> downstream, FileChannel channel, long size,
+                         int chunkSize, boolean mapped) {
+            this.downstream = downstream;
+            this.channel = channel;
+            this.size = size;
+            this.chunkSize = chunkSize;
+            this.mapped = mapped;
+        }
+
+        @Override
+        public void request(long n) {
+            if (!SubscriptionHelper.validate(n)) {
+                cancel();
+                downstream.onError(SubscriptionHelper.invalidRequest(n));
+                return;
+            }
+            if (SubscriptionHelper.add(this, n) == 0L) {
+                emit(n);
+            }
+        }
+
+        private void emit(long r) {
+            long e = 0L;
+            for (;;) {
+                while (e != r) {
+                    if (cancelled) {
+                        close();
+                        return;
+                    }
+                    if (position >= size) {
+                        // пустой файл: спрос выставлен раньше, чем call() успел его завершить
+                        completeEmpty();
+                        return;
+                    }
+                    ByteBuffer chunk;
+                    try {
+                        chunk = read();
+                    } catch (Throwable ex) {
+                        cancelled = true;
+                        close();
+                        downstream.onError(ex);
+                        return;
+                    }
+                    downstream.onNext(chunk);
+                    if (cancelled) {
+                        close();
+                        return;
+                    }
+                    if (position >= size) {
+                        cancelled = true;
+                        close();
+                        downstream.onComplete();
+                        return;
+                    }
+                    e++;
+                }
+                r = get();
+                if (e == r) {
+                    r = addAndGet(-e);
+                    if (r == 0L) return;
+                    e = 0L;
+                }
+            }
+        }
+
+        void completeEmpty() {
+            if (!cancelled && emptyCompleted.compareAndSet(false, true)) {
+                cancelled = true;
+                close();
+                downstream.onComplete();
+            }
+        }
+
+        private ByteBuffer read() throws IOException {
+            int length = (int) Math.min(chunkSize, size - position);
+            ByteBuffer chunk;
+            if (mapped) {
+                chunk = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+            } else {
+                chunk = ByteBuffer.allocate(length);
+                while (chunk.hasRemaining()) {
+                    if (channel.read(chunk, position + chunk.position()) < 0) {
+                        break;
+                    }
+                }
+                chunk.flip();
+            }
+            position += length;
+            return chunk;
+        }
+
+        void close() {
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+                // данные уже выданы или не нужны: закрыть канал — последнее, что остаётся
+            }
+        }
+
+        @Override
+        public void cancel() {
+            if (cancelled) return;
+            cancelled = true;
+            if (SubscriptionHelper.add(this, 1) == 0L) {
+                close();
+            }
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package org.example.internal.operators;
+
+import org.example.Flowable;
+import org.example.Subscriber;
+import org.example.Subscription;
+import org.example.internal.subscriptions.SubscriptionHelper;
+
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Источник из Iterable: выдаёт ровно столько элементов, сколько запрошено.
+ */
+public final class FlowableFromIterable<T> implements Flowable.OnSubscribe<T> {
+    private final Iterable<? extends T> source;
+
+    public FlowableFromIterable(Iterable<? extends T> source) {
+        this.source = source;
+    }
+
+    @Override
+    public void call(Subscriber<? super T> subscriber) {
+        Iterator<? extends T> it;
+        boolean hasNext;
+        try {
+            it = source.iterator();
+            hasNext = it.hasNext();
+        } catch (Throwable ex) {
+            subscriber.onSubscribe(SubscriptionHelper.CANCELLED);
+            subscriber.onError(ex);
+            return;
+        }
+        IterableSubscription<T> subscription = new IterableSubscription<>(subscriber, it);
+        subscriber.onSubscribe(subscription);
+        if (!hasNext && !subscription.cancelled) {
+            subscription.cancelled = true;
+            subscriber.onComplete();
+        }
+    }
+
+    /**
+     * Сам объект — счётчик спроса; эмиссию ведёт тот поток, который поднял спрос с нуля.
+     */
+    static final class IterableSubscription<T> extends AtomicLong implements Subscription {
+        private final Subscriber<? super T> downstream;
+        private final Iterator<? extends T> it;
+        volatile boolean cancelled;
+
+        IterableSubscription(Subscriber<? super T> downstream, Iterator<? extends T> it) {
+            this.downstream = downstream;
+            this.it = it;
+        }
+
+        @Override
+        public void request(long n) {
+            if (!SubscriptionHelper.validate(n)) {
+                cancel();
+                downstream.onError(SubscriptionHelper.invalidRequest(n));
+                return;
+            }
+            if (SubscriptionHelper.add(this, n) == 0L) {
+                emit(n);
+            }
+        }
+
+        private void emit(long r) {
+            long e = 0L;
+            for (;;) {
+                while (e != r) {
+                    if (cancelled) return;
+                    T item;
+                    boolean hasNext;
+                    try {
+                        item = it.next();
+                    } catch (Throwable ex) {
+                        cancelled = true;
+                        downstream.onError(ex);
+                        return;
+                    }
+                    downstream.onNext(item);
+                    if (cancelled) return;
+                    try {
+                        hasNext = it.hasNext();
+                    } catch (Throwable ex) {
+                        cancelled = true;
+                        downstream.onError(ex);
+                        return;
+                    }
+                    if (!hasNext) {
+                        cancelled = true;
+                        downstream.onComplete();
+                        return;
+                    }
+                    e++;
+                }
+                r = get();
+                if (e == r) {
+                    r = addAndGet(-e);
+                    if (r == 0L) return;
+                    e = 0L;
+                }
+            }
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+    }
+}
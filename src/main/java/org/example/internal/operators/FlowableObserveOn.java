@@ -0,0 +1,179 @@
+package org.example.internal.operators;
+
+import org.example.Flowable;
+import org.example.MissingBackpressureException;
+import org.example.Observable;
+import org.example.Scheduler;
+import org.example.Subscriber;
+import org.example.Subscription;
+import org.example.internal.queue.SimpleQueue;
+import org.example.internal.queue.SpscArrayQueue;
+import org.example.internal.queue.SpscLinkedArrayQueue;
+import org.example.internal.subscriptions.SubscriptionHelper;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * observeOn для Flowable: у источника запрашивается не больше {@code prefetch}
+ * элементов вперёд, поэтому очередь между потоками — кольцо на {@code prefetch}
+ * слотов. Источник, присылающий больше запрошенного, получает
+ * {@link MissingBackpressureException}.
+ */
+public final class FlowableObserveOn<T> implements Flowable.OnSubscribe<T> {
+    private final Flowable<T> source;
+    private final Scheduler scheduler;
+    private final int prefetch;
+
+    public FlowableObserveOn(Flowable<T> source, Scheduler scheduler, int prefetch) {
+        this.source = source;
+        this.scheduler = scheduler;
+        this.prefetch = prefetch;
+    }
+
+    @Override
+    public void call(Subscriber<? super T> subscriber) {
+        source.subscribe(new ObserveOnSubscriber<>(subscriber, scheduler.createWorker(), prefetch));
+    }
+
+    static final class ObserveOnSubscriber<T> extends AtomicInteger implements Subscriber<T>, Subscription, Runnable {
+        private final Subscriber<? super T> downstream;
+        private final Scheduler scheduler;
+        private final int prefetch;
+        /** После стольких выданных элементов у источника дозапрашивается столько же. */
+        private final int limit;
+        private final AtomicLong requested = new AtomicLong();
+        private final SimpleQueue<T> queue;
+
+        private Subscription upstream;
+        private Throwable error;
+        private volatile boolean done;
+        private volatile boolean cancelled;
+        /** Выдано с последнего дозапроса; меняется только внутри дренажа. */
+        private long produced;
+
+        ObserveOnSubscriber(Subscriber<? super T> downstream, Scheduler scheduler, int prefetch) {
+            this.downstream = downstream;
+            this.scheduler = scheduler;
+            this.prefetch = prefetch;
+            this.limit = prefetch - (prefetch >> 2);
+            this.queue = prefetch == Integer.MAX_VALUE
+                    ? new SpscLinkedArrayQueue<>(Observable.bufferSize())
+                    : new SpscArrayQueue<>(prefetch);
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            upstream = subscription;
+            downstream.onSubscribe(this);
+            subscription.request(prefetch);
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (done) return;
+            if (!queue.offer(item)) {
+                upstream.cancel();
+                error = new MissingBackpressureException("observeOn: queue is full despite backpressure");
+                done = true;
+            }
+            schedule();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (done) return;
+            error = t;
+            done = true;
+            schedule();
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) return;
+            done = true;
+            schedule();
+        }
+
+        @Override
+        public void request(long n) {
+            if (!SubscriptionHelper.validate(n)) {
+                cancel();
+                downstream.onError(SubscriptionHelper.invalidRequest(n));
+                return;
+            }
+            SubscriptionHelper.add(requested, n);
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            if (cancelled) return;
+            cancelled = true;
+            upstream.cancel();
+            if (getAndIncrement() == 0) {
+                queue.clear();
+            }
+        }
+
+        private void schedule() {
+            if (getAndIncrement() == 0) {
+                scheduler.execute(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            int missed = 1;
+            long e = produced;
+            for (;;) {
+                long r = requested.get();
+                while (e != r) {
+                    boolean d = done;
+                    T item = queue.poll();
+                    boolean empty = item == null;
+                    if (checkTerminated(d, empty)) return;
+                    if (empty) break;
+
+                    downstream.onNext(item);
+                    e++;
+                    if (e == limit) {
+                        if (r != Long.MAX_VALUE) {
+                            r = requested.addAndGet(-e);
+                        }
+                        upstream.request(e);
+                        e = 0L;
+                    }
+                }
+                if (e == r && checkTerminated(done, queue.isEmpty())) return;
+
+                int w = get();
+                if (missed == w) {
+                    produced = e;
+                    missed = addAndGet(-missed);
+                    if (missed == 0) break;
+                } else {
+                    missed = w;
+                }
+            }
+        }
+
+        private boolean checkTerminated(boolean d, boolean empty) {
+            if (cancelled) {
+                queue.clear();
+                return true;
+            }
+            if (d && empty) {
+                cancelled = true;
+                Throwable ex = error;
+                if (ex != null) {
+                    downstream.onError(ex);
+                } else {
+                    downstream.onComplete();
+                }
+                return true;
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package org.example.internal.operators;
+
+import org.example.Flowable;
+import org.example.Subscriber;
+import org.example.Subscription;
+import org.example.internal.subscriptions.SubscriptionHelper;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Делит поток кусков файла на строки без '\n' (и без '\r' перед ним).
+ * Строка — срез куска без копирования; копируется только строка,
+ * попавшая на границу двух кусков. Следующий кусок запрашивается у
+ * источника, лишь когда текущий разобран, а строки ещё запрошены.
+ */
+public final class FlowableSplitLines implements Flowable.OnSubscribe<ByteBuffer> {
+    private final Flowable<ByteBuffer> source;
+
+    public FlowableSplitLines(Flowable<ByteBuffer> source) {
+        this.source = source;
+    }
+
+    @Override
+    public void call(Subscriber<? super ByteBuffer> subscriber) {
+        source.subscribe(new SplitLinesSubscriber(subscriber));
+    }
+
+    /**
+     * Счётчик (AtomicInteger) — work-in-progress дренажа. В полёте не больше
+     * одного запрошенного куска, поэтому для передачи хватает одного поля.
+     */
+    static final class SplitLinesSubscriber extends AtomicInteger implements Subscriber<ByteBuffer>, Subscription {
+        private final Subscriber<? super ByteBuffer> downstream;
+        private final AtomicLong requested = new AtomicLong();
+        private Subscription upstream;
+        private volatile ByteBuffer arrived;
+        private Throwable error;
+        private volatile boolean done;
+        private volatile boolean cancelled;
+
+        /** Разбираемый кусок; трогается только из дренажа. */
+        private ByteBuffer current;
+        /** Начало строки, не закончившейся в прошлых кусках. */
+        private ByteBuffer carry;
+        private boolean chunkRequested;
+        private boolean terminated;
+
+        SplitLinesSubscriber(Subscriber<? super ByteBuffer> downstream) {
+            this.downstream = downstream;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            upstream = subscription;
+            downstream.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(ByteBuffer chunk) {
+            arrived = chunk;
+            drain();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            error = t;
+            done = true;
+            drain();
+        }
+
+        @Override
+        public void onComplete() {
+            done = true;
+            drain();
+        }
+
+        @Override
+        public void request(long n) {
+            if (!SubscriptionHelper.validate(n)) {
+                cancel();
+                downstream.onError(SubscriptionHelper.invalidRequest(n));
+                return;
+            }
+            SubscriptionHelper.add(requested, n);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            if (cancelled) return;
+            cancelled = true;
+            upstream.cancel();
+        }
+
+        private void drain() {
+            if (getAndIncrement() != 0) return;
+            int missed = 1;
+            for (;;) {
+                long r = requested.get();
+                long e = 0L;
+                for (;;) {
+                    if (cancelled || terminated) return;
+                    if (current == null) {
+                        current = arrived;
+                        if (current != null) {
+                            arrived = null;
+                            chunkRequested = false;
+                        }
+                    }
+                    if (current != null) {
+                        if (e == r) break;
+                        ByteBuffer line = nextLine(current);
+                        if (line == null) {
+                            current = null;
+                            continue;
+                        }
+                        downstream.onNext(line);
+                        e++;
+                        continue;
+                    }
+                    boolean d = done;
+                    if (arrived != null) continue;
+                    if (d) {
+                        Throwable ex = error;
+                        if (ex == null && carry != null && carry.position() > 0) {
+                            if (e == r) break;
+                            // последняя строка без '\n'
+                            carry.flip();
+                            ByteBuffer last = trimCr(carry);
+                            carry = null;
+                            downstream.onNext(last);
+                            e++;
+                        }
+                        terminated = true;
+                        if (ex != null) {
+                            downstream.onError(ex);
+                        } else {
+                            downstream.onComplete();
+                        }
+                        return;
+                    }
+                    if (e == r || chunkRequested) break;
+                    chunkRequested = true;
+                    upstream.request(1);
+                }
+                if (e != 0L) {
+                    SubscriptionHelper.produced(requested, e);
+                }
+                missed = addAndGet(-missed);
+                if (missed == 0) break;
+            }
+        }
+
+        /**
+         * @return очередная строка или {@code null}, если кусок разобран
+         *         (его хвост без '\n' переносится в {@code carry})
+         */
+        private ByteBuffer nextLine(ByteBuffer chunk) {
+            int start = chunk.position();
+            int limit = chunk.limit();
+            for (int i = start; i < limit; i++) {
+                if (chunk.get(i) == '\n') {
+                    chunk.position(i + 1);
+                    if (carry == null || carry.position() == 0) {
+                        return trimCr(chunk.slice(start, i - start));
+                    }
+                    appendToCarry(chunk, start, i);
+                    carry.flip();
+                    ByteBuffer line = ByteBuffer.allocate(carry.remaining()).put(carry).flip();
+                    carry.clear();
+                    return trimCr(line);
+                }
+            }
+            appendToCarry(chunk, start, limit);
+            chunk.position(limit);
+            return null;
+        }
+
+        private void appendToCarry(ByteBuffer chunk, int from, int to) {
+            int length = to - from;
+            if (length == 0) return;
+            if (carry == null) {
+                carry = ByteBuffer.allocate(Math.max(256, length));
+            } else if (carry.remaining() < length) {
+                int capacity = Math.max(carry.capacity() * 2, carry.position() + length);
+                carry = ByteBuffer.allocate(capacity).put(carry.flip());
+            }
+            carry.put(carry.position(), chunk, from, length);
+            carry.position(carry.position() + length);
+        }
+
+        private static ByteBuffer trimCr(ByteBuffer line) {
+            int end = line.limit();
+            if (end > line.position() && line.get(end - 1) == '\r') {
+                line.limit(end - 1);
+            }
+            return line;
+        }
+    }
+}
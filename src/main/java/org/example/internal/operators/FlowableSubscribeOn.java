@@ -0,0 +1,143 @@
+package org.example.internal.operators;
+
+import org.example.Disposable;
+import org.example.Flowable;
+import org.example.Scheduler;
+import org.example.Subscriber;
+import org.example.Subscription;
+import org.example.internal.disposables.DisposableHelper;
+import org.example.internal.subscriptions.SubscriptionHelper;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * subscribeOn для Flowable: подписка на источник уходит задачей в
+ * планировщик, а подписчик получает onSubscribe сразу. Спрос, выставленный
+ * до подписки на источник, копится и передаётся ему целиком; спрос из
+ * чужих потоков тоже выставляется в планировщике.
+ */
+public final class FlowableSubscribeOn<T> implements Flowable.OnSubscribe<T> {
+    private final Flowable<T> source;
+    private final Scheduler scheduler;
+
+    public FlowableSubscribeOn(Flowable<T> source, Scheduler scheduler) {
+        this.source = source;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public void call(Subscriber<? super T> subscriber) {
+        SubscribeOnSubscriber<T> parent = new SubscribeOnSubscriber<>(subscriber, source, scheduler);
+        subscriber.onSubscribe(parent);
+        parent.start();
+    }
+
+    /**
+     * Сам объект — ссылка на подписку источника. Отмена до старта задачи
+     * снимает задачу, во время подписки — прерывает её поток.
+     */
+    static final class SubscribeOnSubscriber<T> extends AtomicReference<Subscription>
+            implements Subscriber<T>, Subscription, Runnable {
+        private final Subscriber<? super T> downstream;
+        private final Flowable<T> source;
+        private final Scheduler scheduler;
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicReference<Disposable> task = new AtomicReference<>();
+        /** Поток, в котором выполнялась подписка на источник. */
+        private volatile Thread thread;
+
+        SubscribeOnSubscriber(Subscriber<? super T> downstream, Flowable<T> source, Scheduler scheduler) {
+            this.downstream = downstream;
+            this.source = source;
+            this.scheduler = scheduler;
+        }
+
+        void start() {
+            Disposable d;
+            try {
+                d = scheduler.schedule(this);
+            } catch (RejectedExecutionException ex) {
+                if (get() != SubscriptionHelper.CANCELLED) {
+                    downstream.onError(ex);
+                }
+                return;
+            }
+            DisposableHelper.setOnce(task, d);
+        }
+
+        @Override
+        public void run() {
+            thread = Thread.currentThread();
+            source.subscribe(this);
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            if (SubscriptionHelper.setOnce(this, subscription)) {
+                long r = requested.getAndSet(0L);
+                if (r != 0L) {
+                    requestUpstream(r, subscription);
+                }
+            }
+        }
+
+        @Override
+        public void request(long n) {
+            if (!SubscriptionHelper.validate(n)) {
+                cancel();
+                downstream.onError(SubscriptionHelper.invalidRequest(n));
+                return;
+            }
+            Subscription s = get();
+            if (s != null) {
+                requestUpstream(n, s);
+                return;
+            }
+            SubscriptionHelper.add(requested, n);
+            // источник мог подписаться между get() и add()
+            s = get();
+            if (s != null) {
+                long r = requested.getAndSet(0L);
+                if (r != 0L) {
+                    requestUpstream(r, s);
+                }
+            }
+        }
+
+        private void requestUpstream(long n, Subscription s) {
+            if (Thread.currentThread() == thread) {
+                s.request(n);
+                return;
+            }
+            try {
+                scheduler.execute(() -> s.request(n));
+            } catch (RejectedExecutionException ex) {
+                // планировщик остановлен, а источник уже работает: спрос выставляется здесь
+                s.request(n);
+            }
+        }
+
+        @Override
+        public void cancel() {
+            SubscriptionHelper.cancel(this);
+            DisposableHelper.dispose(task);
+        }
+
+        @Override
+        public void onNext(T item) {
+            downstream.onNext(item);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            downstream.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            downstream.onComplete();
+        }
+    }
+}
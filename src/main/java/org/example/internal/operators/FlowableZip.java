@@ -0,0 +1,245 @@
+package org.example.internal.operators;
+
+import org.example.Flowable;
+import org.example.MissingBackpressureException;
+import org.example.Subscriber;
+import org.example.Subscription;
+import org.example.internal.queue.SimpleQueue;
+import org.example.internal.queue.SpscArrayQueue;
+import org.example.internal.subscriptions.SubscriptionHelper;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * zip для Flowable: у каждого источника запрашивается не больше
+ * {@code prefetch} элементов вперёд, и очередь каждого ограничена тем же
+ * размером. Источник, обогнавший остальные, просто не получает спроса,
+ * пока отстающие не догонят.
+ */
+public final class FlowableZip<T, R> implements Flowable.OnSubscribe<R> {
+    private final Flowable<? extends T>[] sources;
+    private final Function<? super Object[], ? extends R> zipper;
+    private final int prefetch;
+
+    public FlowableZip(Flowable<? extends T>[] sources, Function<? super Object[], ? extends R> zipper, int prefetch) {
+        this.sources = sources;
+        this.zipper = zipper;
+        this.prefetch = prefetch;
+    }
+
+    @Override
+    public void call(Subscriber<? super R> subscriber) {
+        ZipCoordinator<T, R> parent = new ZipCoordinator<>(subscriber, zipper, sources.length, prefetch);
+        subscriber.onSubscribe(parent);
+        parent.subscribe(sources);
+    }
+
+    /**
+     * Счётчик (AtomicInteger) — work-in-progress дренажа.
+     */
+    static final class ZipCoordinator<T, R> extends AtomicInteger implements Subscription {
+        private final Subscriber<? super R> downstream;
+        private final Function<? super Object[], ? extends R> zipper;
+        private final ZipSubscriber<T>[] subscribers;
+        private final AtomicLong requested = new AtomicLong();
+        /** Собираемый набор; трогается только из дренажа. */
+        private final Object[] row;
+        private volatile boolean cancelled;
+        private boolean terminated;
+
+        @SuppressWarnings("unchecked")
+        ZipCoordinator(Subscriber<? super R> downstream, Function<? super Object[], ? extends R> zipper,
+                       int count, int prefetch) {
+            this.downstream = downstream;
+            this.zipper = zipper;
+            this.subscribers = new ZipSubscriber[count];
+            for (int i = 0; i < count; i++) {
+                subscribers[i] = new ZipSubscriber<>(this, prefetch);
+            }
+            this.row = new Object[count];
+        }
+
+        void subscribe(Flowable<? extends T>[] sources) {
+            if (sources.length == 0) {
+                terminated = true;
+                downstream.onComplete();
+                return;
+            }
+            for (int i = 0; i < sources.length; i++) {
+                if (cancelled || terminated) return;
+                sources[i].subscribe(subscribers[i]);
+            }
+        }
+
+        @Override
+        public void request(long n) {
+            if (!SubscriptionHelper.validate(n)) {
+                cancel();
+                downstream.onError(SubscriptionHelper.invalidRequest(n));
+                return;
+            }
+            SubscriptionHelper.add(requested, n);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            if (cancelled) return;
+            cancelled = true;
+            cancelSources();
+            if (getAndIncrement() == 0) {
+                clear();
+            }
+        }
+
+        private void cancelSources() {
+            for (ZipSubscriber<T> subscriber : subscribers) {
+                SubscriptionHelper.cancel(subscriber);
+            }
+        }
+
+        private void clear() {
+            for (ZipSubscriber<T> subscriber : subscribers) {
+                subscriber.queue.clear();
+            }
+            Arrays.fill(row, null);
+        }
+
+        void drain() {
+            if (getAndIncrement() != 0) return;
+            int missed = 1;
+            ZipSubscriber<T>[] subscribers = this.subscribers;
+            Object[] row = this.row;
+            for (;;) {
+                long r = requested.get();
+                long e = 0L;
+                for (;;) {
+                    if (cancelled || terminated) {
+                        clear();
+                        return;
+                    }
+                    int empty = 0;
+                    for (int i = 0; i < subscribers.length; i++) {
+                        ZipSubscriber<T> subscriber = subscribers[i];
+                        boolean d = subscriber.done;
+                        Throwable ex = d ? subscriber.error : null;
+                        if (ex == null) {
+                            if (row[i] != null) continue;
+                            T v = subscriber.queue.poll();
+                            if (v != null) {
+                                row[i] = v;
+                                subscriber.consumed();
+                                continue;
+                            }
+                            if (!d) {
+                                empty++;
+                                continue;
+                            }
+                        }
+                        terminate(ex);
+                        return;
+                    }
+                    if (empty != 0 || e == r) break;
+
+                    R result;
+                    try {
+                        result = zipper.apply(row.clone());
+                        if (result == null) {
+                            throw new NullPointerException("zipper returned null");
+                        }
+                    } catch (Throwable ex) {
+                        terminate(ex);
+                        return;
+                    }
+                    Arrays.fill(row, null);
+                    downstream.onNext(result);
+                    e++;
+                }
+                if (e != 0L) {
+                    SubscriptionHelper.produced(requested, e);
+                }
+                missed = addAndGet(-missed);
+                if (missed == 0) break;
+            }
+        }
+
+        private void terminate(Throwable ex) {
+            terminated = true;
+            cancelSources();
+            clear();
+            if (ex != null) {
+                downstream.onError(ex);
+            } else {
+                downstream.onComplete();
+            }
+        }
+
+        void innerOverflow(ZipSubscriber<T> subscriber) {
+            subscriber.error = new MissingBackpressureException("zip: queue is full despite backpressure");
+            subscriber.done = true;
+            drain();
+        }
+    }
+
+    static final class ZipSubscriber<T> extends AtomicReference<Subscription> implements Subscriber<T> {
+        private final ZipCoordinator<T, ?> parent;
+        private final int prefetch;
+        private final int limit;
+        final SimpleQueue<T> queue;
+        Throwable error;
+        volatile boolean done;
+        /** Забрано дренажом с последнего дозапроса; трогается только из дренажа. */
+        private long produced;
+
+        ZipSubscriber(ZipCoordinator<T, ?> parent, int prefetch) {
+            this.parent = parent;
+            this.prefetch = prefetch;
+            this.limit = prefetch - (prefetch >> 2);
+            this.queue = new SpscArrayQueue<>(prefetch);
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            if (SubscriptionHelper.setOnce(this, subscription)) {
+                subscription.request(prefetch);
+            }
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (done) return;
+            if (!queue.offer(item)) {
+                SubscriptionHelper.cancel(this);
+                parent.innerOverflow(this);
+                return;
+            }
+            parent.drain();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (done) return;
+            error = t;
+            done = true;
+            parent.drain();
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) return;
+            done = true;
+            parent.drain();
+        }
+
+        void consumed() {
+            if (++produced == limit) {
+                get().request(produced);
+                produced = 0L;
+            }
+        }
+    }
+}
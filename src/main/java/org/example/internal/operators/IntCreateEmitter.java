@@ -0,0 +1,44 @@
+package org.example.internal.operators;
+
+import org.example.IntEmitter;
+import org.example.IntObserver;
+
+/**
+ * {@link CreateEmitter} для значений int.
+ */
+public final class IntCreateEmitter extends BasicEmitter implements IntEmitter {
+    private final IntObserver observer;
+
+    public IntCreateEmitter(IntObserver observer) {
+        this.observer = observer;
+    }
+
+    @Override
+    public void onNext(int item) {
+        if (!isDisposed()) {
+            observer.onNext(item);
+        }
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        if (!isDisposed()) {
+            try {
+                observer.onError(t);
+            } finally {
+                dispose();
+            }
+        }
+    }
+
+    @Override
+    public void onComplete() {
+        if (!isDisposed()) {
+            try {
+                observer.onComplete();
+            } finally {
+                dispose();
+            }
+        }
+    }
+}
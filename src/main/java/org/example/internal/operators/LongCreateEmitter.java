@@ -0,0 +1,44 @@
+package org.example.internal.operators;
+
+import org.example.LongEmitter;
+import org.example.LongObserver;
+
+/**
+ * {@link CreateEmitter} для значений long.
+ */
+public final class LongCreateEmitter extends BasicEmitter implements LongEmitter {
+    private final LongObserver observer;
+
+    public LongCreateEmitter(LongObserver observer) {
+        this.observer = observer;
+    }
+
+    @Override
+    public void onNext(long item) {
+        if (!isDisposed()) {
+            observer.onNext(item);
+        }
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        if (!isDisposed()) {
+            try {
+                observer.onError(t);
+            } finally {
+                dispose();
+            }
+        }
+    }
+
+    @Override
+    public void onComplete() {
+        if (!isDisposed()) {
+            try {
+                observer.onComplete();
+            } finally {
+                dispose();
+            }
+        }
+    }
+}
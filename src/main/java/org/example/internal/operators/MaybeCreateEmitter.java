@@ -0,0 +1,49 @@
+package org.example.internal.operators;
+
+import org.example.MaybeEmitter;
+import org.example.MaybeObserver;
+
+/**
+ * Emitter, который {@code Maybe.subscribe} отдаёт источнику. Первый сигнал
+ * доставляется и освобождает ресурс источника, остальные отбрасываются.
+ */
+public final class MaybeCreateEmitter<T> extends BasicEmitter implements MaybeEmitter<T> {
+    private final MaybeObserver<? super T> observer;
+
+    public MaybeCreateEmitter(MaybeObserver<? super T> observer) {
+        this.observer = observer;
+    }
+
+    @Override
+    public void onSuccess(T value) {
+        if (!isDisposed()) {
+            try {
+                observer.onSuccess(value);
+            } finally {
+                dispose();
+            }
+        }
+    }
+
+    @Override
+    public void onComplete() {
+        if (!isDisposed()) {
+            try {
+                observer.onComplete();
+            } finally {
+                dispose();
+            }
+        }
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        if (!isDisposed()) {
+            try {
+                observer.onError(t);
+            } finally {
+                dispose();
+            }
+        }
+    }
+}
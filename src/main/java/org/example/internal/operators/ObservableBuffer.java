@@ -0,0 +1,75 @@
+package org.example.internal.operators;
+
+import org.example.Disposable;
+import org.example.Emitter;
+import org.example.Observable;
+import org.example.Observer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * buffer(count): элементы собираются в списки по {@code count} штук;
+ * последний, неполный список выдаётся при завершении источника.
+ */
+public final class ObservableBuffer<T> implements Observable.OnSubscribe<List<T>> {
+    private final Observable<T> source;
+    private final int count;
+
+    public ObservableBuffer(Observable<T> source, int count) {
+        this.source = source;
+        this.count = count;
+    }
+
+    @Override
+    public void call(Emitter<List<T>> emitter) {
+        source.subscribe(new BufferObserver<>(emitter, count));
+    }
+
+    /**
+     * Список каждой пачки создаётся сразу нужного размера: сам список
+     * уходит вниз, поэтому переиспользовать его нельзя.
+     */
+    static final class BufferObserver<T> implements Observer<T> {
+        private final Emitter<List<T>> downstream;
+        private final int count;
+        private List<T> buffer;
+
+        BufferObserver(Emitter<List<T>> downstream, int count) {
+            this.downstream = downstream;
+            this.count = count;
+            this.buffer = new ArrayList<>(count);
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            downstream.onSubscribe(d);
+        }
+
+        @Override
+        public void onNext(T item) {
+            List<T> b = buffer;
+            b.add(item);
+            if (b.size() == count) {
+                buffer = new ArrayList<>(count);
+                downstream.onNext(b);
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            buffer = null;
+            downstream.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            List<T> b = buffer;
+            buffer = null;
+            if (b != null && !b.isEmpty()) {
+                downstream.onNext(b);
+            }
+            downstream.onComplete();
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package org.example.internal.operators;
+
+import org.example.Disposable;
+import org.example.Emitter;
+import org.example.Observable;
+import org.example.Observer;
+import org.example.Scheduler;
+import org.example.internal.disposables.DisposableHelper;
+import org.example.internal.queue.SimpleQueue;
+import org.example.internal.queue.SpscLinkedArrayQueue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * buffer(time[, count]): пачка выдаётся раз в {@code timespan} или сразу по
+ * набору {@code maxSize} элементов — что наступит раньше. Пустые пачки по
+ * таймеру не выдаются.
+ */
+public final class ObservableBufferTimed<T> implements Observable.OnSubscribe<List<T>> {
+    private final Observable<T> source;
+    private final long timespan;
+    private final TimeUnit unit;
+    private final Scheduler scheduler;
+    private final int maxSize;
+
+    public ObservableBufferTimed(Observable<T> source, long timespan, TimeUnit unit, Scheduler scheduler,
+                                 int maxSize) {
+        this.source = source;
+        this.timespan = timespan;
+        this.unit = unit;
+        this.scheduler = scheduler;
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    public void call(Emitter<List<T>> emitter) {
+        BufferTimedObserver<T> parent = new BufferTimedObserver<>(emitter, maxSize);
+        emitter.setDisposable(parent);
+        DisposableHelper.setOnce(parent.timer,
+                scheduler.createWorker().schedulePeriodically(parent, timespan, timespan, unit));
+        source.subscribe(parent);
+    }
+
+    /**
+     * Источник и таймер подменяют пачку под монитором этого объекта и там же
+     * ставят её в очередь выдачи; выдаёт очередь дренаж вне монитора, так что
+     * медленный подписчик не задерживает ни источник, ни таймер. Завершение
+     * проходит через тот же дренаж — уже после всех пачек, вставших в очередь
+     * раньше него. Счётчик (AtomicInteger) — work-in-progress дренажа.
+     */
+    static final class BufferTimedObserver<T> extends AtomicInteger implements Observer<T>, Runnable, Disposable {
+        private final Emitter<List<T>> downstream;
+        private final int maxSize;
+        private final int capacityHint;
+        final AtomicReference<Disposable> timer = new AtomicReference<>();
+        private final AtomicReference<Disposable> upstream = new AtomicReference<>();
+        /** Пачки к выдаче; кладут в неё только под монитором, поэтому производитель один. */
+        private final SimpleQueue<List<T>> batches = new SpscLinkedArrayQueue<>(16);
+        /** null — поток завершён. */
+        private List<T> buffer;
+        private volatile boolean done;
+        private Throwable error;
+
+        BufferTimedObserver(Emitter<List<T>> downstream, int maxSize) {
+            this.downstream = downstream;
+            this.maxSize = maxSize;
+            this.capacityHint = maxSize == Integer.MAX_VALUE ? 16 : maxSize;
+            this.buffer = new ArrayList<>(capacityHint);
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            DisposableHelper.setOnce(upstream, d);
+        }
+
+        @Override
+        public void onNext(T item) {
+            synchronized (this) {
+                List<T> b = buffer;
+                if (b == null) return;
+                b.add(item);
+                if (b.size() != maxSize) return;
+                buffer = new ArrayList<>(capacityHint);
+                batches.offer(b);
+            }
+            drain();
+        }
+
+        @Override
+        public void run() {
+            synchronized (this) {
+                List<T> b = buffer;
+                if (b == null || b.isEmpty()) return;
+                buffer = new ArrayList<>(capacityHint);
+                batches.offer(b);
+            }
+            drain();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            DisposableHelper.dispose(timer);
+            synchronized (this) {
+                if (buffer == null) return;
+                buffer = null;
+                error = t;
+                done = true;
+            }
+            drain();
+        }
+
+        @Override
+        public void onComplete() {
+            DisposableHelper.dispose(timer);
+            synchronized (this) {
+                List<T> b = buffer;
+                if (b == null) return;
+                buffer = null;
+                if (!b.isEmpty()) {
+                    batches.offer(b);
+                }
+                done = true;
+            }
+            drain();
+        }
+
+        private void drain() {
+            if (getAndIncrement() != 0) return;
+            int missed = 1;
+            for (;;) {
+                for (;;) {
+                    boolean d = done;
+                    List<T> b = batches.poll();
+                    if (d && b == null) {
+                        Throwable ex = error;
+                        if (ex != null) {
+                            downstream.onError(ex);
+                        } else {
+                            downstream.onComplete();
+                        }
+                        return;
+                    }
+                    if (b == null) break;
+                    downstream.onNext(b);
+                }
+                missed = addAndGet(-missed);
+                if (missed == 0) break;
+            }
+        }
+
+        @Override
+        public void dispose() {
+            DisposableHelper.dispose(timer);
+            DisposableHelper.dispose(upstream);
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return DisposableHelper.isDisposed(upstream.get());
+        }
+    }
+}
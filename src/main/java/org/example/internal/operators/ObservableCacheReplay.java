@@ -0,0 +1,209 @@
+package org.example.internal.operators;
+
+import org.example.Disposable;
+import org.example.Emitter;
+import org.example.Observable;
+import org.example.Observer;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * cache: источник подписывается один раз, с первым подписчиком; все
+ * подписчики, и ранние, и поздние, получают одну и ту же историю. Отмена
+ * подписчиков источник не останавливает — результат нужен следующим.
+ * <p>
+ * История хранится плотно: элементы лежат подряд в массивах-сегментах,
+ * последний слот сегмента ссылается на следующий, а размер сегментов растёт
+ * вдвое до {@link #MAX_SEGMENT}. На элемент — один слот массива, без узла.
+ */
+public final class ObservableCacheReplay<T> implements Observable.OnSubscribe<T> {
+    private static final int FIRST_SEGMENT = 16;
+    private static final int MAX_SEGMENT = 1024;
+    private static final CacheSubscription<?>[] EMPTY = new CacheSubscription[0];
+    private static final CacheSubscription<?>[] TERMINATED = new CacheSubscription[0];
+
+    private final Observable<? extends T> source;
+    private final AtomicBoolean connected = new AtomicBoolean();
+    private final AtomicReference<CacheSubscription<T>[]> subscribers;
+
+    /** Первый сегмент; элементы и ссылка на следующий сегмент в последнем слоте. */
+    private final Object[] head = new Object[FIRST_SEGMENT + 1];
+    /** Хвост и позиция в нём; трогаются только писателем. */
+    private Object[] tail = head;
+    private int tailOffset;
+    /** Число сохранённых элементов; запись публикует уже записанные слоты. */
+    private volatile long size;
+    private Throwable error;
+    private volatile boolean done;
+
+    @SuppressWarnings("unchecked")
+    public ObservableCacheReplay(Observable<? extends T> source) {
+        this.source = source;
+        this.subscribers = new AtomicReference<>((CacheSubscription<T>[]) EMPTY);
+    }
+
+    @Override
+    public void call(Emitter<T> emitter) {
+        CacheSubscription<T> cs = new CacheSubscription<>(emitter, this);
+        if (add(cs)) {
+            emitter.setCancellable(() -> remove(cs));
+        }
+        if (connected.compareAndSet(false, true)) {
+            source.subscribe(new CacheObserver());
+        }
+        replay(cs);
+    }
+
+    /**
+     * Источник завершился ошибкой; такой результат обычно не стоит раздавать дальше.
+     */
+    public boolean hasFailed() {
+        return done && error != null;
+    }
+
+    private boolean add(CacheSubscription<T> cs) {
+        for (;;) {
+            CacheSubscription<T>[] current = subscribers.get();
+            if (current == TERMINATED) return false;
+            CacheSubscription<T>[] next = Arrays.copyOf(current, current.length + 1);
+            next[current.length] = cs;
+            if (subscribers.compareAndSet(current, next)) return true;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void remove(CacheSubscription<T> cs) {
+        for (;;) {
+            CacheSubscription<T>[] current = subscribers.get();
+            int index = -1;
+            for (int i = 0; i < current.length; i++) {
+                if (current[i] == cs) {
+                    index = i;
+                    break;
+                }
+            }
+            if (index < 0) return;
+            CacheSubscription<T>[] next;
+            if (current.length == 1) {
+                next = (CacheSubscription<T>[]) EMPTY;
+            } else {
+                next = new CacheSubscription[current.length - 1];
+                System.arraycopy(current, 0, next, 0, index);
+                System.arraycopy(current, index + 1, next, index, current.length - index - 1);
+            }
+            if (subscribers.compareAndSet(current, next)) return;
+        }
+    }
+
+    private void replay(CacheSubscription<T> cs) {
+        if (cs.getAndIncrement() != 0) return;
+        int missed = 1;
+        long index = cs.index;
+        int offset = cs.offset;
+        Object[] segment = cs.segment;
+        for (;;) {
+            if (cs.downstream.isDisposed()) {
+                cs.segment = null;
+                return;
+            }
+            boolean d = done;
+            long s = size;
+            while (index != s) {
+                if (cs.downstream.isDisposed()) {
+                    cs.segment = null;
+                    return;
+                }
+                if (offset == segment.length - 1) {
+                    segment = (Object[]) segment[offset];
+                    offset = 0;
+                }
+                @SuppressWarnings("unchecked")
+                T item = (T) segment[offset];
+                cs.downstream.onNext(item);
+                offset++;
+                index++;
+            }
+            if (d && index == s) {
+                cs.segment = null;
+                Throwable ex = error;
+                if (ex != null) {
+                    cs.downstream.onError(ex);
+                } else {
+                    cs.downstream.onComplete();
+                }
+                return;
+            }
+            cs.index = index;
+            cs.offset = offset;
+            cs.segment = segment;
+            missed = cs.addAndGet(-missed);
+            if (missed == 0) break;
+        }
+    }
+
+    /**
+     * Позиция подписчика в истории. Счётчик (AtomicInteger) — work-in-progress
+     * его дренажа: новые элементы и первое воспроизведение не пересекаются.
+     */
+    static final class CacheSubscription<T> extends AtomicInteger {
+        final Emitter<T> downstream;
+        long index;
+        int offset;
+        Object[] segment;
+
+        CacheSubscription(Emitter<T> downstream, ObservableCacheReplay<T> parent) {
+            this.downstream = downstream;
+            this.segment = parent.head;
+        }
+    }
+
+    /**
+     * Подписка на источник; пишет в историю только она.
+     */
+    final class CacheObserver implements Observer<T> {
+        @Override
+        public void onSubscribe(Disposable d) {
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (done) return;
+            int capacity = tail.length - 1;
+            if (tailOffset == capacity) {
+                Object[] next = new Object[Math.min(capacity * 2, MAX_SEGMENT) + 1];
+                tail[capacity] = next;
+                tail = next;
+                tailOffset = 0;
+            }
+            tail[tailOffset++] = item;
+            size = size + 1;
+            for (CacheSubscription<T> cs : subscribers.get()) {
+                replay(cs);
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (done) return;
+            error = t;
+            terminate();
+        }
+
+        @Override
+        public void onComplete() {
+            terminate();
+        }
+
+        @SuppressWarnings("unchecked")
+        private void terminate() {
+            if (done) return;
+            done = true;
+            for (CacheSubscription<T> cs : subscribers.getAndSet((CacheSubscription<T>[]) TERMINATED)) {
+                replay(cs);
+            }
+        }
+    }
+}
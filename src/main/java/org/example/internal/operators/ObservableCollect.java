@@ -0,0 +1,95 @@
+package org.example.internal.operators;
+
+import org.example.Disposable;
+import org.example.Observable;
+import org.example.Observer;
+import org.example.Single;
+import org.example.SingleEmitter;
+
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * collect: элементы складываются в изменяемый контейнер подписки, по
+ * завершении источника выдаётся {@code finisher(container)}. Контейнер
+ * заполняется из одного потока — внешняя синхронизация не нужна.
+ */
+public final class ObservableCollect<T, A, R> implements Single.OnSubscribe<R> {
+    private final Observable<T> source;
+    private final Supplier<A> supplier;
+    private final BiConsumer<A, ? super T> accumulator;
+    private final Function<A, R> finisher;
+
+    public ObservableCollect(Observable<T> source, Supplier<A> supplier,
+                             BiConsumer<A, ? super T> accumulator, Function<A, R> finisher) {
+        this.source = source;
+        this.supplier = supplier;
+        this.accumulator = accumulator;
+        this.finisher = finisher;
+    }
+
+    @Override
+    public void call(SingleEmitter<R> emitter) {
+        A container = supplier.get();
+        source.subscribe(new CollectObserver<>(emitter, container, accumulator, finisher));
+    }
+
+    static final class CollectObserver<T, A, R> implements Observer<T> {
+        private final SingleEmitter<R> downstream;
+        private final BiConsumer<A, ? super T> accumulator;
+        private final Function<A, R> finisher;
+        private A container;
+
+        CollectObserver(SingleEmitter<R> downstream, A container,
+                        BiConsumer<A, ? super T> accumulator, Function<A, R> finisher) {
+            this.downstream = downstream;
+            this.container = container;
+            this.accumulator = accumulator;
+            this.finisher = finisher;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            downstream.setDisposable(d);
+        }
+
+        @Override
+        public void onNext(T item) {
+            A c = container;
+            if (c == null) return;
+            try {
+                accumulator.accept(c, item);
+            } catch (Throwable ex) {
+                container = null;
+                downstream.onError(ex);
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (container == null) return;
+            container = null;
+            downstream.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            A c = container;
+            if (c == null) return;
+            container = null;
+            R result;
+            try {
+                result = finisher.apply(c);
+            } catch (Throwable ex) {
+                downstream.onError(ex);
+                return;
+            }
+            if (result == null) {
+                downstream.onError(new NullPointerException("collect result is null"));
+            } else {
+                downstream.onSuccess(result);
+            }
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package org.example.internal.operators;
+
+import org.example.Disposable;
+import org.example.Emitter;
+import org.example.MissingBackpressureException;
+import org.example.Observable;
+import org.example.Observer;
+import org.example.internal.disposables.DisposableHelper;
+import org.example.internal.queue.SimpleQueue;
+import org.example.internal.queue.SpscArrayQueue;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * combineLatest: после каждого нового элемента любого источника выдаётся
+ * комбинация последних элементов всех источников (когда у каждого есть хотя
+ * бы один). У каждого источника своя ограниченная очередь, и дренаж забирает
+ * из неё элементы по одному, так что ни одна комбинация не теряется.
+ * <p>
+ * Притормозить источник Observable не может: если он обогнал дренаж на
+ * {@link Observable#bufferSize()} элементов, поток завершается ошибкой
+ * {@link MissingBackpressureException}, а не копит память без предела.
+ */
+public final class ObservableCombineLatest<T, R> implements Observable.OnSubscribe<R> {
+    private final Observable<? extends T>[] sources;
+    private final Function<? super Object[], ? extends R> combiner;
+
+    public ObservableCombineLatest(Observable<? extends T>[] sources, Function<? super Object[], ? extends R> combiner) {
+        this.sources = sources;
+        this.combiner = combiner;
+    }
+
+    @Override
+    public void call(Emitter<R> emitter) {
+        if (sources.length == 0) {
+            emitter.onComplete();
+            return;
+        }
+        LatestCoordinator<T, R> parent = new LatestCoordinator<>(emitter, combiner, sources.length);
+        emitter.setDisposable(parent);
+        parent.subscribe(sources);
+    }
+
+    /**
+     * Счётчик (AtomicInteger) — work-in-progress дренажа.
+     */
+    static final class LatestCoordinator<T, R> extends AtomicInteger implements Disposable {
+        private final Emitter<R> downstream;
+        private final Function<? super Object[], ? extends R> combiner;
+        private final LatestObserver<T>[] observers;
+        /** Последние элементы источников; трогаются только из дренажа. */
+        private final Object[] latest;
+        private int filled;
+        private volatile boolean disposed;
+        private boolean terminated;
+
+        @SuppressWarnings("unchecked")
+        LatestCoordinator(Emitter<R> downstream, Function<? super Object[], ? extends R> combiner, int count) {
+            this.downstream = downstream;
+            this.combiner = combiner;
+            this.observers = new LatestObserver[count];
+            for (int i = 0; i < count; i++) {
+                observers[i] = new LatestObserver<>(this);
+            }
+            this.latest = new Object[count];
+        }
+
+        void subscribe(Observable<? extends T>[] sources) {
+            for (int i = 0; i < sources.length; i++) {
+                if (disposed || terminated) return;
+                sources[i].subscribe(observers[i]);
+            }
+        }
+
+        @Override
+        public void dispose() {
+            if (disposed) return;
+            disposed = true;
+            cancelSources();
+            if (getAndIncrement() == 0) {
+                clear();
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return disposed;
+        }
+
+        private void cancelSources() {
+            for (LatestObserver<T> observer : observers) {
+                DisposableHelper.dispose(observer.upstream);
+            }
+        }
+
+        private void clear() {
+            for (LatestObserver<T> observer : observers) {
+                observer.queue.clear();
+            }
+            Arrays.fill(latest, null);
+        }
+
+        /**
+         * За проход у каждого источника забирается не больше одного элемента,
+         * и на каждый — своя комбинация; проходы идут, пока очереди не пусты.
+         */
+        void drain() {
+            if (getAndIncrement() != 0) return;
+            int missed = 1;
+            LatestObserver<T>[] observers = this.observers;
+            Object[] latest = this.latest;
+            for (;;) {
+                for (;;) {
+                    if (disposed || terminated) {
+                        clear();
+                        return;
+                    }
+                    boolean progress = false;
+                    int finished = 0;
+                    for (int i = 0; i < observers.length; i++) {
+                        LatestObserver<T> observer = observers[i];
+                        // done читается до очереди: элемент перед onComplete не потеряется
+                        boolean d = observer.done;
+                        Throwable ex = d ? observer.error : null;
+                        if (ex != null) {
+                            terminate(ex);
+                            return;
+                        }
+                        T v = observer.queue.poll();
+                        if (v != null) {
+                            progress = true;
+                            if (latest[i] == null) {
+                                filled++;
+                            }
+                            latest[i] = v;
+                            if (filled == latest.length && !emit(latest)) return;
+                        } else if (d) {
+                            if (latest[i] == null) {
+                                // источник без элементов: комбинаций не будет никогда
+                                terminate(null);
+                                return;
+                            }
+                            finished++;
+                        }
+                    }
+                    if (finished == observers.length) {
+                        terminate(null);
+                        return;
+                    }
+                    if (!progress) break;
+                }
+                missed = addAndGet(-missed);
+                if (missed == 0) break;
+            }
+        }
+
+        private boolean emit(Object[] latest) {
+            R result;
+            try {
+                result = combiner.apply(latest.clone());
+                if (result == null) {
+                    throw new NullPointerException("combiner returned null");
+                }
+            } catch (Throwable ex) {
+                terminate(ex);
+                return false;
+            }
+            downstream.onNext(result);
+            return true;
+        }
+
+        private void terminate(Throwable ex) {
+            terminated = true;
+            cancelSources();
+            clear();
+            if (ex != null) {
+                downstream.onError(ex);
+            } else {
+                downstream.onComplete();
+            }
+        }
+    }
+
+    static final class LatestObserver<T> implements Observer<T> {
+        private final LatestCoordinator<T, ?> parent;
+        final AtomicReference<Disposable> upstream = new AtomicReference<>();
+        final SimpleQueue<T> queue = new SpscArrayQueue<>(Observable.bufferSize());
+        Throwable error;
+        volatile boolean done;
+
+        LatestObserver(LatestCoordinator<T, ?> parent) {
+            this.parent = parent;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            DisposableHelper.setOnce(upstream, d);
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (done) return;
+            if (!queue.offer(item)) {
+                DisposableHelper.dispose(upstream);
+                onError(new MissingBackpressureException("combineLatest: source is ahead of the consumer by "
+                        + Observable.bufferSize() + " items"));
+                return;
+            }
+            parent.drain();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (done) return;
+            error = t;
+            done = true;
+            parent.drain();
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) return;
+            done = true;
+            parent.drain();
+        }
+    }
+}
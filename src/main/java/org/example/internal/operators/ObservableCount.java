@@ -0,0 +1,45 @@
+package org.example.internal.operators;
+
+import org.example.Disposable;
+import org.example.Observable;
+import org.example.Observer;
+import org.example.Single;
+import org.example.SingleEmitter;
+
+/**
+ * count: счётчик — примитивное поле подписки, элементы не упаковываются.
+ */
+public final class ObservableCount<T> implements Single.OnSubscribe<Long> {
+    private final Observable<T> source;
+
+    public ObservableCount(Observable<T> source) {
+        this.source = source;
+    }
+
+    @Override
+    public void call(SingleEmitter<Long> emitter) {
+        source.subscribe(new Observer<T>() {
+            private long count;
+
+            @Override
+            public void onSubscribe(Disposable d) {
+                emitter.setDisposable(d);
+            }
+
+            @Override
+            public void onNext(T item) {
+                count++;
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                emitter.onError(t);
+            }
+
+            @Override
+            public void onComplete() {
+                emitter.onSuccess(count);
+            }
+        });
+    }
+}
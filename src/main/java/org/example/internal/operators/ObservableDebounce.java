@@ -0,0 +1,129 @@
+package org.example.internal.operators;
+
+import org.example.Disposable;
+import org.example.Emitter;
+import org.example.Observable;
+import org.example.Observer;
+import org.example.Scheduler;
+import org.example.internal.disposables.DisposableHelper;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * debounce: элемент выдаётся, только если после него за {@code timeout}
+ * ничего не пришло. Таймер не перевзводится на каждый элемент: взведён не
+ * больше чем один, и, сработав, он сверяет время прихода последнего
+ * элемента по монотонным часам и при необходимости досыпает остаток.
+ * Так пачка из тысяч элементов стоит одного-двух таймеров, а не тысяч.
+ */
+public final class ObservableDebounce<T> implements Observable.OnSubscribe<T> {
+    private final Observable<T> source;
+    private final long timeoutNanos;
+    private final Scheduler scheduler;
+
+    public ObservableDebounce(Observable<T> source, long timeout, TimeUnit unit, Scheduler scheduler) {
+        this.source = source;
+        this.timeoutNanos = unit.toNanos(timeout);
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public void call(Emitter<T> emitter) {
+        // таймер выдаёт элементы в своём потоке, а терминальный сигнал приходит от источника
+        DebounceObserver<T> parent = new DebounceObserver<>(emitter.serialize(), timeoutNanos,
+                scheduler.createWorker());
+        emitter.setDisposable(parent);
+        source.subscribe(parent);
+    }
+
+    /**
+     * Последний элемент и момент его прихода.
+     */
+    record Pending<T>(T value, long arrival) {
+    }
+
+    /**
+     * Флаг (AtomicBoolean) — «таймер взведён». Элемент уходит вниз только
+     * тем, кто снял его из ячейки через CAS, поэтому дважды он не выдаётся.
+     */
+    static final class DebounceObserver<T> extends AtomicBoolean implements Observer<T>, Runnable, Disposable {
+        private final Emitter<T> downstream;
+        private final long timeoutNanos;
+        private final Scheduler scheduler;
+        private final AtomicReference<Pending<T>> latest = new AtomicReference<>();
+        private final AtomicReference<Disposable> upstream = new AtomicReference<>();
+        private final AtomicReference<Disposable> timer = new AtomicReference<>();
+
+        DebounceObserver(Emitter<T> downstream, long timeoutNanos, Scheduler scheduler) {
+            this.downstream = downstream;
+            this.timeoutNanos = timeoutNanos;
+            this.scheduler = scheduler;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            DisposableHelper.setOnce(upstream, d);
+        }
+
+        @Override
+        public void onNext(T item) {
+            latest.set(new Pending<>(item, scheduler.now(TimeUnit.NANOSECONDS)));
+            if (compareAndSet(false, true)) {
+                DisposableHelper.set(timer, scheduler.schedule(this, timeoutNanos, TimeUnit.NANOSECONDS));
+            }
+        }
+
+        @Override
+        public void run() {
+            for (;;) {
+                Pending<T> pending = latest.get();
+                if (pending == null) {
+                    set(false);
+                    // элемент мог прийти, пока флаг был поднят: тогда таймер взводим сами
+                    if (latest.get() == null || !compareAndSet(false, true)) return;
+                    continue;
+                }
+                long wait = pending.arrival() + timeoutNanos - scheduler.now(TimeUnit.NANOSECONDS);
+                if (wait > 0) {
+                    // прежний таймер уже отработал: set() его не прерывает
+                    DisposableHelper.set(timer, scheduler.schedule(this, wait, TimeUnit.NANOSECONDS));
+                    return;
+                }
+                if (latest.compareAndSet(pending, null)) {
+                    downstream.onNext(pending.value());
+                }
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            DisposableHelper.dispose(timer);
+            latest.set(null);
+            downstream.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            DisposableHelper.dispose(timer);
+            Pending<T> pending = latest.getAndSet(null);
+            if (pending != null) {
+                downstream.onNext(pending.value());
+            }
+            downstream.onComplete();
+        }
+
+        @Override
+        public void dispose() {
+            DisposableHelper.dispose(upstream);
+            DisposableHelper.dispose(timer);
+            latest.set(null);
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return DisposableHelper.isDisposed(upstream.get());
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package org.example.internal.operators;
+
+import org.example.Disposable;
+import org.example.Emitter;
+import org.example.Observable;
+import org.example.Observer;
+import org.example.Scheduler;
+import org.example.internal.disposables.DisposableHelper;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * delay: каждый сигнал, включая терминальный, сдвигается на заданное время.
+ * На подписку взведён не больше чем один таймер — на ближайший по сроку сигнал.
+ */
+public final class ObservableDelay<T> implements Observable.OnSubscribe<T> {
+    private final Observable<T> source;
+    private final long delayNanos;
+    private final Scheduler scheduler;
+
+    public ObservableDelay(Observable<T> source, long delay, TimeUnit unit, Scheduler scheduler) {
+        this.source = source;
+        this.delayNanos = unit.toNanos(delay);
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public void call(Emitter<T> emitter) {
+        DelayObserver<T> parent = new DelayObserver<>(emitter, delayNanos, scheduler.createWorker());
+        emitter.setDisposable(parent);
+        source.subscribe(parent);
+    }
+
+    /**
+     * @param kind 0 — onNext, 1 — onError, 2 — onComplete
+     */
+    record Timed(Object value, long due, int kind) {
+    }
+
+    /**
+     * Флаг (AtomicBoolean) — «таймер взведён». Пока он поднят, дренаж не может
+     * запуститься второй раз, так что сигналы уходят вниз последовательно.
+     * Отмена снимает взведённый таймер и подписку на источник.
+     */
+    static final class DelayObserver<T> extends AtomicBoolean implements Observer<T>, Runnable, Disposable {
+        private final Emitter<T> downstream;
+        private final long delayNanos;
+        private final Scheduler scheduler;
+        private final Queue<Timed> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicReference<Disposable> upstream = new AtomicReference<>();
+        private final AtomicReference<Disposable> timer = new AtomicReference<>();
+        private boolean terminated;
+
+        DelayObserver(Emitter<T> downstream, long delayNanos, Scheduler scheduler) {
+            this.downstream = downstream;
+            this.delayNanos = delayNanos;
+            this.scheduler = scheduler;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            DisposableHelper.setOnce(upstream, d);
+        }
+
+        @Override
+        public void onNext(T item) {
+            enqueue(item, 0);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            enqueue(t, 1);
+        }
+
+        @Override
+        public void onComplete() {
+            enqueue(null, 2);
+        }
+
+        private void enqueue(Object value, int kind) {
+            queue.offer(new Timed(value, scheduler.now(TimeUnit.NANOSECONDS) + delayNanos, kind));
+            if (compareAndSet(false, true)) {
+                DisposableHelper.set(timer, scheduler.schedule(this, delayNanos, TimeUnit.NANOSECONDS));
+            }
+        }
+
+        @Override
+        public void dispose() {
+            DisposableHelper.dispose(upstream);
+            if (DisposableHelper.dispose(timer)) {
+                queue.clear();
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return DisposableHelper.isDisposed(timer.get());
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void run() {
+            for (;;) {
+                long now = scheduler.now(TimeUnit.NANOSECONDS);
+                Timed head;
+                while ((head = queue.peek()) != null && head.due() - now <= 0) {
+                    queue.poll();
+                    if (terminated || downstream.isDisposed()) continue;
+                    switch (head.kind()) {
+                        case 0 -> downstream.onNext((T) head.value());
+                        case 1 -> {
+                            terminated = true;
+                            downstream.onError((Throwable) head.value());
+                        }
+                        default -> {
+                            terminated = true;
+                            downstream.onComplete();
+                        }
+                    }
+                }
+                set(false);
+                head = queue.peek();
+                // сигнал мог прийти, пока флаг был поднят: тогда таймер взводим сами
+                if (head == null || !compareAndSet(false, true)) return;
+                long wait = head.due() - scheduler.now(TimeUnit.NANOSECONDS);
+                if (wait > 0) {
+                    // прежний таймер уже отработал: set() его не прерывает
+                    DisposableHelper.set(timer, scheduler.schedule(this, wait, TimeUnit.NANOSECONDS));
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package org.example.internal.operators;
+
+import org.example.Disposable;
+import org.example.MaybeEmitter;
+import org.example.Observable;
+import org.example.Observer;
+import org.example.Single;
+import org.example.Maybe;
+import org.example.SingleEmitter;
+
+import java.util.NoSuchElementException;
+
+/**
+ * firstOrError/firstElement: первый элемент выдаётся сразу, источник при
+ * этом отменяется. Пустой источник даёт {@link NoSuchElementException}
+ * для Single и onComplete для Maybe.
+ */
+public final class ObservableFirst<T> implements Single.OnSubscribe<T>, Maybe.OnSubscribe<T> {
+    private final Observable<T> source;
+
+    public ObservableFirst(Observable<T> source) {
+        this.source = source;
+    }
+
+    @Override
+    public void call(SingleEmitter<T> emitter) {
+        source.subscribe(new FirstObserver<>(emitter, null));
+    }
+
+    @Override
+    public void call(MaybeEmitter<T> emitter) {
+        source.subscribe(new FirstObserver<>(null, emitter));
+    }
+
+    /**
+     * Ровно один из emitter'ов не {@code null}.
+     */
+    static final class FirstObserver<T> implements Observer<T> {
+        private final SingleEmitter<T> single;
+        private final MaybeEmitter<T> maybe;
+        private Disposable upstream;
+        private boolean done;
+
+        FirstObserver(SingleEmitter<T> single, MaybeEmitter<T> maybe) {
+            this.single = single;
+            this.maybe = maybe;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            upstream = d;
+            if (single != null) {
+                single.setDisposable(d);
+            } else {
+                maybe.setDisposable(d);
+            }
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (done) return;
+            done = true;
+            upstream.dispose();
+            if (single != null) {
+                single.onSuccess(item);
+            } else {
+                maybe.onSuccess(item);
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (done) return;
+            done = true;
+            if (single != null) {
+                single.onError(t);
+            } else {
+                maybe.onError(t);
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) return;
+            done = true;
+            if (single != null) {
+                single.onError(new NoSuchElementException("source is empty"));
+            } else {
+                maybe.onComplete();
+            }
+        }
+    }
+}
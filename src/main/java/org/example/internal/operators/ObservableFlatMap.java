@@ -0,0 +1,268 @@
+package org.example.internal.operators;
+
+import org.example.Disposable;
+import org.example.Emitter;
+import org.example.Observable;
+import org.example.Observer;
+import org.example.internal.disposables.DisposableHelper;
+import org.example.internal.queue.SimpleQueue;
+import org.example.internal.queue.SpscLinkedArrayQueue;
+
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * flatMap: внутренние потоки подписываются параллельно (не больше
+ * {@code maxConcurrency} одновременно), их элементы выдаются по мере
+ * поступления через один последовательный выход.
+ */
+public final class ObservableFlatMap<T, R> implements Observable.OnSubscribe<R> {
+    private final Observable<T> source;
+    private final Function<? super T, ? extends Observable<? extends R>> mapper;
+    private final int maxConcurrency;
+
+    public ObservableFlatMap(Observable<T> source, Function<? super T, ? extends Observable<? extends R>> mapper,
+                             int maxConcurrency) {
+        this.source = source;
+        this.mapper = mapper;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    @Override
+    public void call(Emitter<R> emitter) {
+        MergeObserver<T, R> parent = new MergeObserver<>(emitter, mapper, maxConcurrency);
+        emitter.setDisposable(parent);
+        source.subscribe(parent);
+    }
+
+    /**
+     * Счётчик (AtomicInteger) — work-in-progress выхода: в downstream в каждый
+     * момент пишет только тот поток, который поднял его с нуля. Отмена
+     * снимает подписку с источника и со всех подписанных внутренних потоков.
+     */
+    static final class MergeObserver<T, R> extends AtomicInteger implements Observer<T>, Disposable {
+        private final Emitter<R> downstream;
+        private final Function<? super T, ? extends Observable<? extends R>> mapper;
+        private final int maxConcurrency;
+        private final Set<InnerObserver<R>> inners = ConcurrentHashMap.newKeySet();
+        /** Внутренние источники, ждущие свободного слота. */
+        private final Queue<Observable<? extends R>> pending = new ConcurrentLinkedQueue<>();
+        /** Занятые слоты: подписанные и ещё не вычитанные до конца внутренние потоки. */
+        private final AtomicInteger active = new AtomicInteger();
+        private final AtomicReference<Throwable> error = new AtomicReference<>();
+        private final AtomicReference<Disposable> upstream = new AtomicReference<>();
+
+        private volatile boolean done;
+        private volatile boolean terminated;
+        private volatile boolean disposed;
+
+        MergeObserver(Emitter<R> downstream, Function<? super T, ? extends Observable<? extends R>> mapper,
+                      int maxConcurrency) {
+            this.downstream = downstream;
+            this.mapper = mapper;
+            this.maxConcurrency = maxConcurrency;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            DisposableHelper.setOnce(upstream, d);
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (done) return;
+            Observable<? extends R> inner;
+            try {
+                inner = mapper.apply(item);
+            } catch (Throwable ex) {
+                onError(ex);
+                return;
+            }
+            pending.offer(inner);
+            subscribePending();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (done) return;
+            done = true;
+            if (error.compareAndSet(null, t)) {
+                drain();
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) return;
+            done = true;
+            drain();
+        }
+
+        private void subscribePending() {
+            for (;;) {
+                int a = active.get();
+                if (a >= maxConcurrency) return;
+                if (!active.compareAndSet(a, a + 1)) continue;
+
+                Observable<? extends R> source = pending.poll();
+                if (source == null) {
+                    active.decrementAndGet();
+                    // элемент мог попасть в очередь, пока слот был занят нами
+                    if (pending.isEmpty()) return;
+                    continue;
+                }
+                InnerObserver<R> inner = new InnerObserver<>(this);
+                inners.add(inner);
+                if (disposed) {
+                    // dispose() мог обойти inners до добавления
+                    inner.dispose();
+                    pending.clear();
+                    return;
+                }
+                source.subscribe(inner);
+            }
+        }
+
+        @Override
+        public void dispose() {
+            if (disposed) return;
+            disposed = true;
+            DisposableHelper.dispose(upstream);
+            for (InnerObserver<R> inner : inners) {
+                inner.dispose();
+            }
+            pending.clear();
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return disposed;
+        }
+
+        void tryEmit(R item, InnerObserver<R> inner) {
+            if (get() == 0 && compareAndSet(0, 1)) {
+                if (inner.queue.isEmpty()) {
+                    if (!terminated) {
+                        downstream.onNext(item);
+                    }
+                } else {
+                    inner.queue.offer(item);
+                }
+                if (decrementAndGet() == 0) return;
+            } else {
+                inner.queue.offer(item);
+                if (getAndIncrement() != 0) return;
+            }
+            drainLoop();
+        }
+
+        void innerError(Throwable t) {
+            if (error.compareAndSet(null, t)) {
+                drain();
+            }
+        }
+
+        void drain() {
+            if (getAndIncrement() == 0) {
+                drainLoop();
+            }
+        }
+
+        private void drainLoop() {
+            int missed = 1;
+            for (;;) {
+                if (checkTerminated()) return;
+
+                int finished = 0;
+                for (InnerObserver<R> inner : inners) {
+                    for (;;) {
+                        if (checkTerminated()) return;
+                        R item = inner.queue.poll();
+                        if (item == null) break;
+                        downstream.onNext(item);
+                    }
+                    if (inner.done && inner.queue.isEmpty()) {
+                        inners.remove(inner);
+                        finished++;
+                    }
+                }
+
+                if (finished != 0) {
+                    active.addAndGet(-finished);
+                    subscribePending();
+                    continue;
+                }
+
+                if (done && active.get() == 0 && pending.isEmpty()) {
+                    terminated = true;
+                    downstream.onComplete();
+                    return;
+                }
+
+                missed = addAndGet(-missed);
+                if (missed == 0) break;
+            }
+        }
+
+        private boolean checkTerminated() {
+            if (terminated || disposed) {
+                return true;
+            }
+            Throwable ex = error.get();
+            if (ex != null) {
+                terminated = true;
+                // остальные потоки отменит dispose() после onError
+                pending.clear();
+                downstream.onError(ex);
+                return true;
+            }
+            return false;
+        }
+    }
+
+    static final class InnerObserver<R> extends AtomicReference<Disposable> implements Observer<R>, Disposable {
+        private final MergeObserver<?, R> parent;
+        final SimpleQueue<R> queue = new SpscLinkedArrayQueue<>(Observable.bufferSize());
+        volatile boolean done;
+
+        InnerObserver(MergeObserver<?, R> parent) {
+            this.parent = parent;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            DisposableHelper.setOnce(this, d);
+        }
+
+        @Override
+        public void onNext(R item) {
+            parent.tryEmit(item, this);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            parent.innerError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            done = true;
+            parent.drain();
+        }
+
+        @Override
+        public void dispose() {
+            DisposableHelper.dispose(this);
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return DisposableHelper.isDisposed(get());
+        }
+    }
+}
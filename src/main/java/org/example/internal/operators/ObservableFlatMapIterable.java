@@ -0,0 +1,57 @@
+package org.example.internal.operators;
+
+import org.example.Disposable;
+import org.example.Emitter;
+import org.example.Observable;
+import org.example.Observer;
+
+import java.util.Iterator;
+import java.util.function.Function;
+
+/**
+ * flatMapIterable: каждый элемент разворачивается в последовательность
+ * синхронно, в потоке, где элемент получен. После buffer + observeOn так
+ * распаковывается целая пачка за одну задачу планировщика.
+ */
+public final class ObservableFlatMapIterable<T, R> implements Observable.OnSubscribe<R> {
+    private final Observable<T> source;
+    private final Function<? super T, ? extends Iterable<? extends R>> mapper;
+
+    public ObservableFlatMapIterable(Observable<T> source, Function<? super T, ? extends Iterable<? extends R>> mapper) {
+        this.source = source;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public void call(Emitter<R> emitter) {
+        source.subscribe(new Observer<T>() {
+            @Override
+            public void onSubscribe(Disposable d) {
+                emitter.onSubscribe(d);
+            }
+
+            @Override
+            public void onNext(T item) {
+                try {
+                    Iterator<? extends R> it = mapper.apply(item).iterator();
+                    while (it.hasNext()) {
+                        if (emitter.isDisposed()) return;
+                        emitter.onNext(it.next());
+                    }
+                } catch (Throwable ex) {
+                    emitter.onError(ex);
+                }
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                emitter.onError(t);
+            }
+
+            @Override
+            public void onComplete() {
+                emitter.onComplete();
+            }
+        });
+    }
+}
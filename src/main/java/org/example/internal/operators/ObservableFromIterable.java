@@ -0,0 +1,34 @@
+package org.example.internal.operators;
+
+import org.example.Observable;
+import org.example.Emitter;
+import org.example.internal.fuseable.SyncFuseable;
+
+import java.util.Iterator;
+
+/**
+ * Синхронный источник из Iterable; поддерживает слияние с observeOn.
+ */
+public final class ObservableFromIterable<T> implements Observable.OnSubscribe<T>, SyncFuseable<T> {
+    private final Iterable<? extends T> source;
+
+    public ObservableFromIterable(Iterable<? extends T> source) {
+        this.source = source;
+    }
+
+    @Override
+    public void call(Emitter<T> emitter) {
+        Iterator<? extends T> it = source.iterator();
+        while (it.hasNext()) {
+            if (emitter.isDisposed()) return;
+            emitter.onNext(it.next());
+        }
+        emitter.onComplete();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Iterator<T> fusedIterator() {
+        return (Iterator<T>) source.iterator();
+    }
+}
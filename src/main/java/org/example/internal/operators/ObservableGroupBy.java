@@ -0,0 +1,155 @@
+package org.example.internal.operators;
+
+import org.example.Disposable;
+import org.example.Emitter;
+import org.example.GroupedObservable;
+import org.example.Observable;
+import org.example.Observer;
+import org.example.internal.disposables.DisposableHelper;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * groupBy: один поиск в хеш-таблице на элемент вместо фильтра на каждый ключ.
+ * Открытых групп не больше {@code maxGroups}: таблица упорядочена по
+ * последнему обращению, и при переполнении завершается группа, дольше всех
+ * не получавшая элементов. Если её ключ встретится снова, откроется новая
+ * группа. Группа, от которой отписались, тоже закрывается.
+ * <p>
+ * Отписка от внешнего потока не отменяет источник, пока у открытых групп
+ * есть подписчики: источник отменяется, когда ушли и внешний подписчик, и
+ * все группы. Новые ключи после ухода внешнего подписчика отбрасываются —
+ * выдать их группы некому.
+ */
+public final class ObservableGroupBy<T, K, V> implements Observable.OnSubscribe<GroupedObservable<K, V>> {
+    /** Ключ null в таблице. */
+    private static final Object NULL_KEY = new Object();
+
+    private final Observable<T> source;
+    private final Function<? super T, ? extends K> keySelector;
+    private final Function<? super T, ? extends V> valueSelector;
+    private final int maxGroups;
+
+    public ObservableGroupBy(Observable<T> source, Function<? super T, ? extends K> keySelector,
+                             Function<? super T, ? extends V> valueSelector, int maxGroups) {
+        this.source = source;
+        this.keySelector = keySelector;
+        this.valueSelector = valueSelector;
+        this.maxGroups = maxGroups;
+    }
+
+    @Override
+    public void call(Emitter<GroupedObservable<K, V>> emitter) {
+        GroupByObserver<T, K, V> parent = new GroupByObserver<>(emitter, keySelector, valueSelector, maxGroups);
+        emitter.setDisposable(parent);
+        source.subscribe(parent);
+    }
+
+    static final class Group<K, V> extends GroupedObservable<K, V> {
+        final UnicastWindow<V> buffer;
+
+        Group(K key, SharedUpstream parent) {
+            super(key);
+            this.buffer = new UnicastWindow<>(parent);
+        }
+
+        @Override
+        protected void subscribeActual(Emitter<V> emitter) {
+            buffer.call(emitter);
+        }
+    }
+
+    /**
+     * Таблица групп трогается только из сигналов источника, которые
+     * последовательны, поэтому синхронизация ей не нужна. Источник общий
+     * для внешнего подписчика и открытых групп.
+     */
+    static final class GroupByObserver<T, K, V> extends SharedUpstream implements Observer<T> {
+        private final Emitter<GroupedObservable<K, V>> downstream;
+        private final Function<? super T, ? extends K> keySelector;
+        private final Function<? super T, ? extends V> valueSelector;
+        private final Map<Object, Group<K, V>> groups;
+        private boolean done;
+
+        GroupByObserver(Emitter<GroupedObservable<K, V>> downstream, Function<? super T, ? extends K> keySelector,
+                        Function<? super T, ? extends V> valueSelector, int maxGroups) {
+            this.downstream = downstream;
+            this.keySelector = keySelector;
+            this.valueSelector = valueSelector;
+            this.groups = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Object, Group<K, V>> eldest) {
+                    if (size() <= maxGroups) return false;
+                    // группа вытеснена: элементов в неё больше не будет
+                    eldest.getValue().buffer.onComplete();
+                    return true;
+                }
+            };
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            DisposableHelper.setOnce(upstream, d);
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (done) return;
+            K key;
+            V value;
+            try {
+                key = keySelector.apply(item);
+                value = valueSelector.apply(item);
+            } catch (Throwable ex) {
+                DisposableHelper.dispose(upstream);
+                onError(ex);
+                return;
+            }
+            Object mapKey = key != null ? key : NULL_KEY;
+            Group<K, V> group = groups.get(mapKey);
+            if (group == null || group.buffer.isCancelled()) {
+                if (isDisposed()) {
+                    if (group != null) {
+                        groups.remove(mapKey);
+                    }
+                    return;
+                }
+                acquire();
+                group = new Group<>(key, this);
+                groups.put(mapKey, group);
+                downstream.onNext(group);
+            }
+            group.buffer.onNext(value);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (done) return;
+            done = true;
+            for (Group<K, V> group : drainGroups()) {
+                group.buffer.onError(t);
+            }
+            downstream.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) return;
+            done = true;
+            for (Group<K, V> group : drainGroups()) {
+                group.buffer.onComplete();
+            }
+            downstream.onComplete();
+        }
+
+        private List<Group<K, V>> drainGroups() {
+            List<Group<K, V>> list = new ArrayList<>(groups.values());
+            groups.clear();
+            return list;
+        }
+    }
+}
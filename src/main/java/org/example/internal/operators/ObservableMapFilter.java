@@ -0,0 +1,170 @@
+package org.example.internal.operators;
+
+import org.example.Disposable;
+import org.example.Emitter;
+import org.example.Observable;
+import org.example.Observer;
+import org.example.internal.fuseable.SyncFuseable;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Слитая цепочка подряд идущих map/filter: одна подписка на источник,
+ * один Observer и одна проверка завершения на элемент вместо отдельной
+ * стадии на каждый оператор.
+ */
+public final class ObservableMapFilter<T, R> implements Observable.OnSubscribe<R>, SyncFuseable<R> {
+    /** Результат стадий для отброшенного фильтром элемента. */
+    static final Object FILTERED = new Object();
+
+    private final Observable<T> source;
+    private final SyncFuseable<T> syncSource;
+    /** Function или Predicate; какой именно — говорит {@link #filters}. */
+    private final Object[] stages;
+    private final boolean[] filters;
+
+    private ObservableMapFilter(Observable<T> source, SyncFuseable<T> syncSource, Object[] stages, boolean[] filters) {
+        this.source = source;
+        this.syncSource = syncSource;
+        this.stages = stages;
+        this.filters = filters;
+    }
+
+    /**
+     * Первая стадия над произвольным источником.
+     *
+     * @param syncSource источник как {@link SyncFuseable} или {@code null}
+     */
+    public static <T, R> ObservableMapFilter<T, R> of(Observable<T> source, SyncFuseable<T> syncSource,
+                                                     Object stage, boolean filter) {
+        return new ObservableMapFilter<>(source, syncSource, new Object[] { stage }, new boolean[] { filter });
+    }
+
+    public <V> ObservableMapFilter<T, V> withMap(Function<? super R, ? extends V> mapper) {
+        return append(mapper, false);
+    }
+
+    public ObservableMapFilter<T, R> withFilter(Predicate<? super R> predicate) {
+        return append(predicate, true);
+    }
+
+    private <V> ObservableMapFilter<T, V> append(Object stage, boolean filter) {
+        int n = stages.length;
+        Object[] s = Arrays.copyOf(stages, n + 1);
+        boolean[] f = Arrays.copyOf(filters, n + 1);
+        s[n] = stage;
+        f[n] = filter;
+        return new ObservableMapFilter<>(source, syncSource, s, f);
+    }
+
+    Object apply(Object value) {
+        return apply(stages, filters, value);
+    }
+
+    /**
+     * Прогоняет значение через стадии; для отброшенного фильтром — {@link #FILTERED}.
+     */
+    @SuppressWarnings("unchecked")
+    static Object apply(Object[] s, boolean[] f, Object value) {
+        for (int i = 0; i < s.length; i++) {
+            if (f[i]) {
+                if (!((Predicate<Object>) s[i]).test(value)) return FILTERED;
+            } else {
+                value = ((Function<Object, Object>) s[i]).apply(value);
+            }
+        }
+        return value;
+    }
+
+    @Override
+    public void call(Emitter<R> emitter) {
+        source.subscribe(new MapFilterObserver<>(emitter, this));
+    }
+
+    @Override
+    public Iterator<R> fusedIterator() {
+        if (syncSource == null) return null;
+        Iterator<T> it = syncSource.fusedIterator();
+        if (it == null) return null;
+        return new MapFilterIterator<>(it, this);
+    }
+
+    static final class MapFilterObserver<T, R> implements Observer<T> {
+        private final Emitter<R> downstream;
+        private final ObservableMapFilter<T, R> stages;
+        private boolean done;
+
+        MapFilterObserver(Emitter<R> downstream, ObservableMapFilter<T, R> stages) {
+            this.downstream = downstream;
+            this.stages = stages;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            downstream.onSubscribe(d);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void onNext(T item) {
+            if (done) return;
+            Object v;
+            try {
+                v = stages.apply(item);
+            } catch (Throwable ex) {
+                onError(ex);
+                return;
+            }
+            if (v != FILTERED) {
+                downstream.onNext((R) v);
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (done) return;
+            done = true;
+            downstream.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) return;
+            done = true;
+            downstream.onComplete();
+        }
+    }
+
+    static final class MapFilterIterator<T, R> implements Iterator<R> {
+        private final Iterator<T> source;
+        private final ObservableMapFilter<T, R> stages;
+        private Object next = FILTERED;
+
+        MapFilterIterator(Iterator<T> source, ObservableMapFilter<T, R> stages) {
+            this.source = source;
+            this.stages = stages;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == FILTERED) {
+                if (!source.hasNext()) return false;
+                next = stages.apply(source.next());
+            }
+            return true;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public R next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            Object v = next;
+            next = FILTERED;
+            return (R) v;
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package org.example.internal.operators;
+
+import org.example.Disposable;
+import org.example.Emitter;
+import org.example.Observable;
+import org.example.Observer;
+import org.example.Scheduler;
+import org.example.internal.fuseable.SyncFuseable;
+import org.example.internal.queue.SimpleQueue;
+import org.example.internal.queue.SpscLinkedArrayQueue;
+import org.example.plugins.Plugins;
+import org.example.plugins.QueueProbe;
+
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * observeOn: сигналы складываются в очередь подписки и вычитываются пачками
+ * одной задачей планировщика, так что порядок и последовательность вызовов
+ * Observer сохраняются. Если источник синхронный ({@link SyncFuseable}),
+ * задача сама вытягивает из него элементы — без очереди и без подписки.
+ */
+public final class ObservableObserveOn<T> implements Observable.OnSubscribe<T> {
+    private final Observable<T> source;
+    private final SyncFuseable<T> syncSource;
+    private final Scheduler scheduler;
+    private final int bufferSize;
+
+    /**
+     * @param syncSource источник, пригодный для синхронного слияния, или {@code null}
+     */
+    public ObservableObserveOn(Observable<T> source, SyncFuseable<T> syncSource, Scheduler scheduler, int bufferSize) {
+        this.source = source;
+        this.syncSource = syncSource;
+        this.scheduler = scheduler;
+        this.bufferSize = bufferSize;
+    }
+
+    @Override
+    public void call(Emitter<T> emitter) {
+        Scheduler worker = scheduler.createWorker();
+        Iterator<T> it = syncSource != null ? syncSource.fusedIterator() : null;
+        if (it != null) {
+            worker.execute(new SyncObserveOn<>(emitter, it, worker, bufferSize));
+        } else {
+            source.subscribe(new ObserveOnObserver<>(emitter, worker, bufferSize));
+        }
+    }
+
+    /**
+     * Слитый вариант: элементы и все слитые map/filter вычисляются прямо
+     * в задаче планировщика, пачками по {@code batchSize}.
+     */
+    static final class SyncObserveOn<T> implements Runnable {
+        private final Emitter<T> downstream;
+        private final Iterator<T> it;
+        private final Scheduler scheduler;
+        private final int batchSize;
+
+        SyncObserveOn(Emitter<T> downstream, Iterator<T> it, Scheduler scheduler, int batchSize) {
+            this.downstream = downstream;
+            this.it = it;
+            this.scheduler = scheduler;
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        public void run() {
+            for (int i = 0; i < batchSize; i++) {
+                if (downstream.isDisposed()) return;
+                T item;
+                try {
+                    if (!it.hasNext()) {
+                        downstream.onComplete();
+                        return;
+                    }
+                    item = it.next();
+                } catch (Throwable ex) {
+                    downstream.onError(ex);
+                    return;
+                }
+                downstream.onNext(item);
+            }
+            scheduler.execute(this);
+        }
+    }
+
+    /**
+     * Счётчик (AtomicInteger) — work-in-progress: задача дренажа ставится
+     * в планировщик только при переходе 0 -> 1.
+     */
+    static final class ObserveOnObserver<T> extends AtomicInteger implements Observer<T>, Runnable {
+        private final Emitter<T> downstream;
+        private final Scheduler scheduler;
+        private final int batchSize;
+        private final SimpleQueue<T> queue = new SpscLinkedArrayQueue<>(Observable.bufferSize());
+        /** {@code null}, если метрики выключены. */
+        private final QueueProbe probe = Plugins.queueProbe("observeOn");
+
+        private Throwable error;
+        private volatile boolean done;
+
+        ObserveOnObserver(Emitter<T> downstream, Scheduler scheduler, int batchSize) {
+            this.downstream = downstream;
+            this.scheduler = scheduler;
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            downstream.onSubscribe(d);
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (done) return;
+            if (probe != null) {
+                probe.onEnqueue();
+            }
+            queue.offer(item);
+            schedule();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (done) return;
+            error = t;
+            done = true;
+            schedule();
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) return;
+            done = true;
+            schedule();
+        }
+
+        private void schedule() {
+            if (getAndIncrement() == 0) {
+                scheduler.execute(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            int missed = 1;
+            int emitted = 0;
+            for (;;) {
+                for (;;) {
+                    if (downstream.isDisposed()) {
+                        queue.clear();
+                        return;
+                    }
+                    boolean d = done;
+                    T item = queue.poll();
+                    boolean empty = item == null;
+
+                    if (d && empty) {
+                        // ошибка доставляется после уже принятых элементов
+                        Throwable ex = error;
+                        if (ex != null) {
+                            downstream.onError(ex);
+                        } else {
+                            downstream.onComplete();
+                        }
+                        return;
+                    }
+                    if (empty) break;
+
+                    if (probe != null) {
+                        probe.onDequeue();
+                    }
+                    downstream.onNext(item);
+
+                    if (++emitted == batchSize) {
+                        // отдаём поток планировщика другим задачам; счётчик не сброшен,
+                        // поэтому параллельного дренажа не появится
+                        scheduler.execute(this);
+                        return;
+                    }
+                }
+                missed = addAndGet(-missed);
+                if (missed == 0) break;
+            }
+        }
+    }
+}
@@ -0,0 +1,357 @@
+package org.example.internal.operators;
+
+import org.example.Disposable;
+import org.example.Emitter;
+import org.example.Observable;
+import org.example.Observer;
+import org.example.Scheduler;
+import org.example.internal.disposables.DisposableHelper;
+import org.example.internal.queue.SimpleQueue;
+import org.example.internal.queue.SpscLinkedArrayQueue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+/**
+ * Параллельные «рельсы»: элементы источника раздаются по кругу в
+ * {@code parallelism} очередей, каждая рельса прогоняет свои элементы через
+ * стадии map/filter (и при необходимости собирает их в контейнер) в собственном
+ * исполнителе планировщика, а результаты сливаются обратно в один поток.
+ * <p>
+ * При упорядоченном слиянии рельса выдаёт ровно один результат на каждый
+ * входной элемент — значение или {@link ObservableMapFilter#FILTERED}, — и
+ * слияние читает рельсы в том же круговом порядке, в каком они раздавались.
+ */
+public final class ObservableParallel<T, R> implements Observable.OnSubscribe<R> {
+    private final Observable<T> source;
+    private final int parallelism;
+    private final Scheduler scheduler;
+    private final Object[] stages;
+    private final boolean[] filters;
+    private final boolean ordered;
+    private final Collector<Object, Object, Object> collector;
+
+    /**
+     * @param scheduler планировщик рельс или {@code null} — рельсы работают в потоке источника
+     * @param collector сборка внутри рельс с объединением контейнеров рельс или {@code null};
+     *                  результат {@code null} не выдаётся
+     */
+    public ObservableParallel(Observable<T> source, int parallelism, Scheduler scheduler,
+                              Object[] stages, boolean[] filters, boolean ordered,
+                              Collector<Object, Object, Object> collector) {
+        this.source = source;
+        this.parallelism = parallelism;
+        this.scheduler = scheduler;
+        this.stages = stages;
+        this.filters = filters;
+        this.ordered = ordered;
+        this.collector = collector;
+    }
+
+    @Override
+    public void call(Emitter<R> emitter) {
+        ParallelObserver<T, R> parent = new ParallelObserver<>(emitter, this);
+        emitter.setDisposable(parent);
+        source.subscribe(parent);
+    }
+
+    /**
+     * Раздаёт элементы по рельсам и сливает их результаты. Счётчик
+     * (AtomicInteger) — work-in-progress слияния: выдаёт вниз тот поток
+     * рельсы, который поднял его с нуля.
+     */
+    static final class ParallelObserver<T, R> extends AtomicInteger implements Observer<T>, Disposable {
+        private final Emitter<R> downstream;
+        private final Rail[] rails;
+        private final boolean ordered;
+        final Supplier<Object> supplier;
+        final BiConsumer<Object, Object> accumulator;
+        private final BinaryOperator<Object> combiner;
+        private final Function<Object, Object> finisher;
+        private final AtomicReference<Throwable> error = new AtomicReference<>();
+        private final AtomicReference<Disposable> upstream = new AtomicReference<>();
+        volatile boolean disposed;
+
+        /** Рельса для следующего элемента; источник последователен, гонки нет. */
+        private int dispatchIndex;
+        /** Рельса, из которой упорядоченное слияние читает следующий результат. */
+        private int mergeIndex;
+        private Object container;
+        private boolean terminated;
+
+        ParallelObserver(Emitter<R> downstream, ObservableParallel<T, R> config) {
+            this.downstream = downstream;
+            this.ordered = config.ordered;
+            Collector<Object, Object, Object> c = config.collector;
+            this.supplier = c != null ? c.supplier() : null;
+            this.accumulator = c != null ? c.accumulator() : null;
+            this.combiner = c != null ? c.combiner() : null;
+            this.finisher = c != null ? c.finisher() : null;
+            this.rails = new Rail[config.parallelism];
+            for (int i = 0; i < rails.length; i++) {
+                Scheduler worker = config.scheduler != null ? config.scheduler.createWorker() : null;
+                rails[i] = new Rail(this, worker, config.stages, config.filters);
+            }
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            DisposableHelper.setOnce(upstream, d);
+        }
+
+        @Override
+        public void onNext(T item) {
+            Rail rail = rails[dispatchIndex];
+            if (++dispatchIndex == rails.length) {
+                dispatchIndex = 0;
+            }
+            rail.offer(item);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            railError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            for (Rail rail : rails) {
+                rail.complete();
+            }
+        }
+
+        void railError(Throwable t) {
+            if (error.compareAndSet(null, t)) {
+                drain();
+            }
+        }
+
+        boolean isCancelled() {
+            return disposed || error.get() != null;
+        }
+
+        @Override
+        public void dispose() {
+            disposed = true;
+            DisposableHelper.dispose(upstream);
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return disposed;
+        }
+
+        void drain() {
+            if (getAndIncrement() != 0) return;
+            int missed = 1;
+            for (;;) {
+                if (terminated) return;
+                if (disposed) {
+                    clearRails();
+                    return;
+                }
+                Throwable ex = error.get();
+                if (ex != null) {
+                    terminated = true;
+                    clearRails();
+                    downstream.onError(ex);
+                    return;
+                }
+
+                boolean complete;
+                if (supplier != null) {
+                    complete = drainCollected();
+                } else if (ordered) {
+                    complete = drainOrdered();
+                } else {
+                    complete = drainUnordered();
+                }
+                if (complete) {
+                    terminated = true;
+                    downstream.onComplete();
+                    return;
+                }
+                if (disposed || error.get() != null) {
+                    continue;
+                }
+
+                missed = addAndGet(-missed);
+                if (missed == 0) break;
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private boolean drainUnordered() {
+            boolean allFinished = true;
+            for (Rail rail : rails) {
+                boolean finished = rail.finished;
+                Object v;
+                while ((v = rail.out.poll()) != null) {
+                    if (disposed || error.get() != null) return false;
+                    downstream.onNext((R) v);
+                }
+                allFinished &= finished;
+            }
+            return allFinished;
+        }
+
+        @SuppressWarnings("unchecked")
+        private boolean drainOrdered() {
+            for (;;) {
+                if (disposed || error.get() != null) return false;
+                Rail rail = rails[mergeIndex];
+                boolean finished = rail.finished;
+                Object v = rail.out.poll();
+                if (v == null) {
+                    // элемент с этим номером ушёл бы в эту же рельсу: раз её нет, больше элементов не будет
+                    return finished;
+                }
+                if (++mergeIndex == rails.length) {
+                    mergeIndex = 0;
+                }
+                if (v != ObservableMapFilter.FILTERED) {
+                    downstream.onNext((R) v);
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private boolean drainCollected() {
+            boolean allFinished = true;
+            try {
+                for (Rail rail : rails) {
+                    boolean finished = rail.finished;
+                    Object v;
+                    while ((v = rail.out.poll()) != null) {
+                        container = container == null ? v : combiner.apply(container, v);
+                    }
+                    allFinished &= finished;
+                }
+                if (allFinished) {
+                    Object result = finisher.apply(container != null ? container : supplier.get());
+                    container = null;
+                    if (result != null) {
+                        downstream.onNext((R) result);
+                    }
+                }
+            } catch (Throwable ex) {
+                error.compareAndSet(null, ex);
+                return false;
+            }
+            return allFinished;
+        }
+
+        private void clearRails() {
+            for (Rail rail : rails) {
+                rail.out.clear();
+            }
+        }
+    }
+
+    /**
+     * Одна рельса: входная очередь, стадии и очередь результатов. Счётчик
+     * (AtomicInteger) — work-in-progress; задача рельсы выполняется в её
+     * исполнителе строго по одной.
+     */
+    static final class Rail extends AtomicInteger implements Runnable {
+        private final ParallelObserver<?, ?> parent;
+        private final Scheduler worker;
+        private final Object[] stages;
+        private final boolean[] filters;
+        private final SimpleQueue<Object> in = new SpscLinkedArrayQueue<>(Observable.bufferSize());
+        final SimpleQueue<Object> out = new SpscLinkedArrayQueue<>(Observable.bufferSize());
+        private final int drainEvery = Observable.bufferSize();
+        private volatile boolean sourceDone;
+        volatile boolean finished;
+        private Object container;
+
+        Rail(ParallelObserver<?, ?> parent, Scheduler worker, Object[] stages, boolean[] filters) {
+            this.parent = parent;
+            this.worker = worker;
+            this.stages = stages;
+            this.filters = filters;
+        }
+
+        void offer(Object item) {
+            in.offer(item);
+            schedule();
+        }
+
+        void complete() {
+            sourceDone = true;
+            schedule();
+        }
+
+        private void schedule() {
+            if (getAndIncrement() == 0) {
+                if (worker != null) {
+                    worker.execute(this);
+                } else {
+                    run();
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            int missed = 1;
+            int produced = 0;
+            for (;;) {
+                for (;;) {
+                    if (parent.isCancelled()) {
+                        in.clear();
+                        return;
+                    }
+                    boolean d = sourceDone;
+                    Object item = in.poll();
+                    if (item == null) {
+                        if (d) {
+                            if (container != null) {
+                                out.offer(container);
+                            }
+                            finished = true;
+                            parent.drain();
+                            return;
+                        }
+                        break;
+                    }
+
+                    Object v;
+                    try {
+                        v = ObservableMapFilter.apply(stages, filters, item);
+                        if (parent.supplier != null) {
+                            if (v != ObservableMapFilter.FILTERED) {
+                                if (container == null) {
+                                    container = parent.supplier.get();
+                                }
+                                parent.accumulator.accept(container, v);
+                            }
+                            continue;
+                        }
+                    } catch (Throwable ex) {
+                        parent.railError(ex);
+                        return;
+                    }
+                    if (v != ObservableMapFilter.FILTERED || parent.ordered) {
+                        out.offer(v);
+                        if (++produced == drainEvery) {
+                            produced = 0;
+                            parent.drain();
+                        }
+                    }
+                }
+                if (produced != 0) {
+                    produced = 0;
+                    parent.drain();
+                }
+                missed = addAndGet(-missed);
+                if (missed == 0) break;
+            }
+        }
+    }
+}
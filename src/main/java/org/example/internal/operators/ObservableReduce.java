@@ -0,0 +1,84 @@
+package org.example.internal.operators;
+
+import org.example.Disposable;
+import org.example.Observable;
+import org.example.Observer;
+import org.example.Single;
+import org.example.SingleEmitter;
+
+import java.util.NoSuchElementException;
+import java.util.function.BinaryOperator;
+
+/**
+ * reduce без начального значения: первый элемент становится аккумулятором.
+ * Пустой источник завершается {@link NoSuchElementException}.
+ */
+public final class ObservableReduce<T> implements Single.OnSubscribe<T> {
+    private final Observable<T> source;
+    private final BinaryOperator<T> reducer;
+
+    public ObservableReduce(Observable<T> source, BinaryOperator<T> reducer) {
+        this.source = source;
+        this.reducer = reducer;
+    }
+
+    @Override
+    public void call(SingleEmitter<T> emitter) {
+        source.subscribe(new ReduceObserver<>(emitter, reducer));
+    }
+
+    static final class ReduceObserver<T> implements Observer<T> {
+        private final SingleEmitter<T> downstream;
+        private final BinaryOperator<T> reducer;
+        private T value;
+        private boolean done;
+
+        ReduceObserver(SingleEmitter<T> downstream, BinaryOperator<T> reducer) {
+            this.downstream = downstream;
+            this.reducer = reducer;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            downstream.setDisposable(d);
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (done) return;
+            T v = value;
+            if (v == null) {
+                value = item;
+                return;
+            }
+            try {
+                value = reducer.apply(v, item);
+            } catch (Throwable ex) {
+                done = true;
+                value = null;
+                downstream.onError(ex);
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (done) return;
+            done = true;
+            value = null;
+            downstream.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) return;
+            done = true;
+            T v = value;
+            value = null;
+            if (v != null) {
+                downstream.onSuccess(v);
+            } else {
+                downstream.onError(new NoSuchElementException("reduce on an empty source"));
+            }
+        }
+    }
+}
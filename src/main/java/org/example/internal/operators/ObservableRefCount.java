@@ -0,0 +1,124 @@
+package org.example.internal.operators;
+
+import org.example.ConnectableObservable;
+import org.example.Disposable;
+import org.example.Emitter;
+import org.example.Observable;
+import org.example.Observer;
+import org.example.internal.disposables.DisposableHelper;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * refCount: первый подписчик подключает источник, последний отписавшийся —
+ * отключает. Счётчик меняется только на подписке и отписке, поэтому он
+ * под монитором; элементы идут мимо него.
+ */
+public final class ObservableRefCount<T> implements Observable.OnSubscribe<T> {
+    private final ConnectableObservable<T> source;
+    private RefConnection connection;
+
+    public ObservableRefCount(ConnectableObservable<T> source) {
+        this.source = source;
+    }
+
+    @Override
+    public void call(Emitter<T> emitter) {
+        RefConnection conn;
+        boolean connect;
+        synchronized (this) {
+            conn = connection;
+            if (conn == null) {
+                conn = new RefConnection();
+                connection = conn;
+            }
+            conn.subscribers++;
+            connect = !conn.connected;
+            conn.connected = true;
+        }
+
+        RefCountObserver<T> parent = new RefCountObserver<>(emitter, this, conn);
+        emitter.setDisposable(parent);
+        source.subscribe(parent);
+
+        if (connect) {
+            DisposableHelper.setOnce(conn.upstream, source.connect());
+        }
+    }
+
+    void cancel(RefConnection conn) {
+        synchronized (this) {
+            if (connection != conn || --conn.subscribers != 0) return;
+            connection = null;
+        }
+        DisposableHelper.dispose(conn.upstream);
+    }
+
+    void terminated(RefConnection conn) {
+        synchronized (this) {
+            if (connection == conn) {
+                connection = null;
+            }
+        }
+    }
+
+    static final class RefConnection {
+        final AtomicReference<Disposable> upstream = new AtomicReference<>();
+        int subscribers;
+        boolean connected;
+    }
+
+    static final class RefCountObserver<T> implements Observer<T>, Disposable {
+        private final Emitter<T> downstream;
+        private final ObservableRefCount<T> parent;
+        private final RefConnection conn;
+        private final AtomicReference<Disposable> upstream = new AtomicReference<>();
+        private final AtomicBoolean once = new AtomicBoolean();
+
+        RefCountObserver(Emitter<T> downstream, ObservableRefCount<T> parent, RefConnection conn) {
+            this.downstream = downstream;
+            this.parent = parent;
+            this.conn = conn;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            DisposableHelper.setOnce(upstream, d);
+        }
+
+        @Override
+        public void onNext(T item) {
+            downstream.onNext(item);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (once.compareAndSet(false, true)) {
+                parent.terminated(conn);
+            }
+            downstream.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            if (once.compareAndSet(false, true)) {
+                parent.terminated(conn);
+            }
+            downstream.onComplete();
+        }
+
+        @Override
+        public void dispose() {
+            DisposableHelper.dispose(upstream);
+            if (once.compareAndSet(false, true)) {
+                parent.cancel(conn);
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return DisposableHelper.isDisposed(upstream.get());
+        }
+    }
+}
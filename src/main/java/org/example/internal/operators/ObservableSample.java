@@ -0,0 +1,97 @@
+package org.example.internal.operators;
+
+import org.example.Disposable;
+import org.example.Emitter;
+import org.example.Observable;
+import org.example.Observer;
+import org.example.Scheduler;
+import org.example.internal.disposables.DisposableHelper;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * sample/throttleLast: источник только перезаписывает ячейку последнего
+ * элемента, а один периодический таймер на подписку раз в период выдаёт
+ * её содержимое, если с прошлого тика пришло что-то новое. При завершении
+ * источника последний невыданный элемент выдаётся перед onComplete.
+ */
+public final class ObservableSample<T> implements Observable.OnSubscribe<T> {
+    private final Observable<T> source;
+    private final long period;
+    private final TimeUnit unit;
+    private final Scheduler scheduler;
+
+    public ObservableSample(Observable<T> source, long period, TimeUnit unit, Scheduler scheduler) {
+        this.source = source;
+        this.period = period;
+        this.unit = unit;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public void call(Emitter<T> emitter) {
+        // тик таймера и терминальный сигнал источника могут прийти одновременно
+        SampleObserver<T> parent = new SampleObserver<>(emitter.serialize());
+        emitter.setDisposable(parent);
+        DisposableHelper.set(parent.timer,
+                scheduler.createWorker().schedulePeriodically(parent::tick, period, period, unit));
+        source.subscribe(parent);
+    }
+
+    /**
+     * Сам объект — ячейка последнего элемента, ещё не выданного тиком.
+     */
+    static final class SampleObserver<T> extends AtomicReference<T> implements Observer<T>, Disposable {
+        private final Emitter<T> downstream;
+        private final AtomicReference<Disposable> upstream = new AtomicReference<>();
+        final AtomicReference<Disposable> timer = new AtomicReference<>();
+
+        SampleObserver(Emitter<T> downstream) {
+            this.downstream = downstream;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            DisposableHelper.setOnce(upstream, d);
+        }
+
+        @Override
+        public void onNext(T item) {
+            lazySet(item);
+        }
+
+        void tick() {
+            T item = getAndSet(null);
+            if (item != null) {
+                downstream.onNext(item);
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            DisposableHelper.dispose(timer);
+            lazySet(null);
+            downstream.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            DisposableHelper.dispose(timer);
+            tick();
+            downstream.onComplete();
+        }
+
+        @Override
+        public void dispose() {
+            DisposableHelper.dispose(timer);
+            DisposableHelper.dispose(upstream);
+            lazySet(null);
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return DisposableHelper.isDisposed(upstream.get());
+        }
+    }
+}
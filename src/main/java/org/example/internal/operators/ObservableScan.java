@@ -0,0 +1,88 @@
+package org.example.internal.operators;
+
+import org.example.Disposable;
+import org.example.Emitter;
+import org.example.Observable;
+import org.example.Observer;
+
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+/**
+ * scan: выдаёт каждое промежуточное значение аккумулятора. С начальным
+ * значением оно выдаётся первым; без него первым выдаётся первый элемент.
+ */
+public final class ObservableScan<T, R> implements Observable.OnSubscribe<R> {
+    private final Observable<T> source;
+    /** {@code null} — без начального значения (тогда R совпадает с T). */
+    private final Supplier<R> seed;
+    private final BiFunction<R, ? super T, R> accumulator;
+
+    public ObservableScan(Observable<T> source, Supplier<R> seed, BiFunction<R, ? super T, R> accumulator) {
+        this.source = source;
+        this.seed = seed;
+        this.accumulator = accumulator;
+    }
+
+    @Override
+    public void call(Emitter<R> emitter) {
+        ScanObserver<T, R> parent = new ScanObserver<>(emitter, accumulator);
+        if (seed != null) {
+            R initial = seed.get();
+            parent.value = initial;
+            emitter.onNext(initial);
+        }
+        source.subscribe(parent);
+    }
+
+    static final class ScanObserver<T, R> implements Observer<T> {
+        private final Emitter<R> downstream;
+        private final BiFunction<R, ? super T, R> accumulator;
+        R value;
+        private boolean done;
+
+        ScanObserver(Emitter<R> downstream, BiFunction<R, ? super T, R> accumulator) {
+            this.downstream = downstream;
+            this.accumulator = accumulator;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            downstream.onSubscribe(d);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void onNext(T item) {
+            if (done) return;
+            R v = value;
+            if (v == null) {
+                v = (R) item;
+            } else {
+                try {
+                    v = accumulator.apply(v, item);
+                } catch (Throwable ex) {
+                    done = true;
+                    downstream.onError(ex);
+                    return;
+                }
+            }
+            value = v;
+            downstream.onNext(v);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (done) return;
+            done = true;
+            downstream.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) return;
+            done = true;
+            downstream.onComplete();
+        }
+    }
+}
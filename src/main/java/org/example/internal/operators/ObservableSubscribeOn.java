@@ -0,0 +1,74 @@
+package org.example.internal.operators;
+
+import org.example.Disposable;
+import org.example.Emitter;
+import org.example.Observable;
+import org.example.Observer;
+import org.example.Scheduler;
+import org.example.internal.disposables.DisposableHelper;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * subscribeOn: подписка на источник уходит задачей в планировщик.
+ */
+public final class ObservableSubscribeOn<T> implements Observable.OnSubscribe<T> {
+    private final Observable<T> source;
+    private final Scheduler scheduler;
+
+    public ObservableSubscribeOn(Observable<T> source, Scheduler scheduler) {
+        this.source = source;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public void call(Emitter<T> emitter) {
+        SubscribeOnObserver<T> parent = new SubscribeOnObserver<>(emitter);
+        emitter.setDisposable(parent);
+        DisposableHelper.setOnce(parent.task, scheduler.schedule(() -> source.subscribe(parent)));
+    }
+
+    /**
+     * Отменяет и задачу подписки, и саму подписку на источник.
+     */
+    static final class SubscribeOnObserver<T> implements Observer<T>, Disposable {
+        private final Emitter<T> downstream;
+        final AtomicReference<Disposable> task = new AtomicReference<>();
+        private final AtomicReference<Disposable> upstream = new AtomicReference<>();
+
+        SubscribeOnObserver(Emitter<T> downstream) {
+            this.downstream = downstream;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            DisposableHelper.setOnce(upstream, d);
+        }
+
+        @Override
+        public void onNext(T item) {
+            downstream.onNext(item);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            downstream.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            downstream.onComplete();
+        }
+
+        @Override
+        public void dispose() {
+            DisposableHelper.dispose(upstream);
+            DisposableHelper.dispose(task);
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return DisposableHelper.isDisposed(task.get());
+        }
+    }
+}
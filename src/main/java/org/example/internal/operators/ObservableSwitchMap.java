@@ -0,0 +1,200 @@
+package org.example.internal.operators;
+
+import org.example.Disposable;
+import org.example.Emitter;
+import org.example.Observable;
+import org.example.Observer;
+import org.example.internal.disposables.DisposableHelper;
+import org.example.internal.queue.SimpleQueue;
+import org.example.internal.queue.SpscLinkedArrayQueue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * switchMap: выдаются элементы только самого свежего внутреннего потока,
+ * сигналы предыдущих отбрасываются.
+ */
+public final class ObservableSwitchMap<T, R> implements Observable.OnSubscribe<R> {
+    private final Observable<T> source;
+    private final Function<? super T, ? extends Observable<? extends R>> mapper;
+
+    public ObservableSwitchMap(Observable<T> source, Function<? super T, ? extends Observable<? extends R>> mapper) {
+        this.source = source;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public void call(Emitter<R> emitter) {
+        SwitchMapObserver<T, R> parent = new SwitchMapObserver<>(emitter, mapper);
+        emitter.setDisposable(parent);
+        source.subscribe(parent);
+    }
+
+    /**
+     * Переключение на новый внутренний поток отменяет подписку на предыдущий.
+     */
+    static final class SwitchMapObserver<T, R> extends AtomicInteger implements Observer<T>, Disposable {
+        private final Emitter<R> downstream;
+        private final Function<? super T, ? extends Observable<? extends R>> mapper;
+        private final AtomicReference<SwitchInnerObserver<R>> current = new AtomicReference<>();
+        private final AtomicReference<Throwable> error = new AtomicReference<>();
+        private final AtomicReference<Disposable> upstream = new AtomicReference<>();
+
+        private volatile boolean done;
+        private volatile boolean terminated;
+        private volatile boolean disposed;
+
+        SwitchMapObserver(Emitter<R> downstream, Function<? super T, ? extends Observable<? extends R>> mapper) {
+            this.downstream = downstream;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            DisposableHelper.setOnce(upstream, d);
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (done) return;
+            Observable<? extends R> next;
+            try {
+                next = mapper.apply(item);
+            } catch (Throwable ex) {
+                onError(ex);
+                return;
+            }
+            SwitchInnerObserver<R> inner = new SwitchInnerObserver<>(this);
+            SwitchInnerObserver<R> previous = current.getAndSet(inner);
+            if (previous != null) {
+                previous.dispose();
+            }
+            if (disposed) {
+                inner.dispose();
+                return;
+            }
+            next.subscribe(inner);
+        }
+
+        @Override
+        public void dispose() {
+            if (disposed) return;
+            disposed = true;
+            DisposableHelper.dispose(upstream);
+            SwitchInnerObserver<R> inner = current.get();
+            if (inner != null) {
+                inner.dispose();
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return disposed;
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (done) return;
+            done = true;
+            if (error.compareAndSet(null, t)) {
+                drain();
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) return;
+            done = true;
+            drain();
+        }
+
+        void innerError(SwitchInnerObserver<R> inner, Throwable t) {
+            // ошибка устаревшего потока уже никому не интересна
+            if (current.get() == inner && error.compareAndSet(null, t)) {
+                drain();
+            }
+        }
+
+        void drain() {
+            if (getAndIncrement() != 0) return;
+            int missed = 1;
+            for (;;) {
+                if (terminated || disposed) return;
+                Throwable ex = error.get();
+                if (ex != null) {
+                    terminated = true;
+                    downstream.onError(ex);
+                    return;
+                }
+
+                boolean d = done;
+                SwitchInnerObserver<R> inner = current.get();
+                if (d && inner == null) {
+                    terminated = true;
+                    downstream.onComplete();
+                    return;
+                }
+
+                if (inner != null) {
+                    for (;;) {
+                        if (terminated || current.get() != inner) break;
+                        R item = inner.queue.poll();
+                        if (item == null) break;
+                        downstream.onNext(item);
+                    }
+                    if (inner.done && inner.queue.isEmpty() && current.compareAndSet(inner, null)) {
+                        continue;
+                    }
+                }
+
+                missed = addAndGet(-missed);
+                if (missed == 0) break;
+            }
+        }
+    }
+
+    static final class SwitchInnerObserver<R> extends AtomicReference<Disposable> implements Observer<R>, Disposable {
+        private final SwitchMapObserver<?, R> parent;
+        final SimpleQueue<R> queue = new SpscLinkedArrayQueue<>(Observable.bufferSize());
+        volatile boolean done;
+
+        SwitchInnerObserver(SwitchMapObserver<?, R> parent) {
+            this.parent = parent;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            DisposableHelper.setOnce(this, d);
+        }
+
+        @Override
+        public void onNext(R item) {
+            if (parent.current.get() != this) return;
+            queue.offer(item);
+            parent.drain();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            parent.innerError(this, t);
+        }
+
+        @Override
+        public void onComplete() {
+            done = true;
+            parent.drain();
+        }
+
+        @Override
+        public void dispose() {
+            DisposableHelper.dispose(this);
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return DisposableHelper.isDisposed(get());
+        }
+    }
+}
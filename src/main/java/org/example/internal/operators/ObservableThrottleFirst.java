@@ -0,0 +1,70 @@
+package org.example.internal.operators;
+
+import org.example.Disposable;
+import org.example.Emitter;
+import org.example.Observable;
+import org.example.Observer;
+import org.example.Scheduler;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * throttleFirst: выдаёт элемент и затем отбрасывает всё, что пришло в
+ * течение окна. Таймеров нет совсем: начало окна сравнивается с
+ * монотонными часами планировщика прямо в onNext, в потоке источника.
+ */
+public final class ObservableThrottleFirst<T> implements Observable.OnSubscribe<T> {
+    private final Observable<T> source;
+    private final long windowNanos;
+    private final Scheduler scheduler;
+
+    public ObservableThrottleFirst(Observable<T> source, long window, TimeUnit unit, Scheduler scheduler) {
+        this.source = source;
+        this.windowNanos = unit.toNanos(window);
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public void call(Emitter<T> emitter) {
+        source.subscribe(new ThrottleFirstObserver<>(emitter, windowNanos, scheduler));
+    }
+
+    static final class ThrottleFirstObserver<T> implements Observer<T> {
+        private final Emitter<T> downstream;
+        private final long windowNanos;
+        private final Scheduler scheduler;
+        /** Начало текущего окна; сигналы источника последовательны. */
+        private long windowStart;
+        private boolean started;
+
+        ThrottleFirstObserver(Emitter<T> downstream, long windowNanos, Scheduler scheduler) {
+            this.downstream = downstream;
+            this.windowNanos = windowNanos;
+            this.scheduler = scheduler;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            downstream.onSubscribe(d);
+        }
+
+        @Override
+        public void onNext(T item) {
+            long now = scheduler.now(TimeUnit.NANOSECONDS);
+            if (started && now - windowStart < windowNanos) return;
+            started = true;
+            windowStart = now;
+            downstream.onNext(item);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            downstream.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            downstream.onComplete();
+        }
+    }
+}
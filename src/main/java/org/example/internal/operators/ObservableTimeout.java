@@ -0,0 +1,121 @@
+package org.example.internal.operators;
+
+import org.example.Disposable;
+import org.example.Emitter;
+import org.example.Observable;
+import org.example.Observer;
+import org.example.Scheduler;
+import org.example.internal.disposables.DisposableHelper;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * timeout: если следующий сигнал не пришёл за отведённое время, поток
+ * завершается {@link TimeoutException}.
+ */
+public final class ObservableTimeout<T> implements Observable.OnSubscribe<T> {
+    private final Observable<T> source;
+    private final long timeout;
+    private final TimeUnit unit;
+    private final Scheduler scheduler;
+
+    public ObservableTimeout(Observable<T> source, long timeout, TimeUnit unit, Scheduler scheduler) {
+        this.source = source;
+        this.timeout = timeout;
+        this.unit = unit;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public void call(Emitter<T> emitter) {
+        TimeoutObserver<T> parent = new TimeoutObserver<>(emitter, timeout, unit, scheduler);
+        emitter.setDisposable(parent);
+        parent.startTimeout(0L);
+        source.subscribe(parent);
+    }
+
+    /**
+     * Счётчик (AtomicLong) — номер ожидаемого элемента; {@link Long#MAX_VALUE}
+     * означает, что поток завершён. Таймер срабатывает, только если номер
+     * не сдвинулся с момента его взвода. Срабатывание таймера и отмена
+     * снимают подписку с источника.
+     */
+    static final class TimeoutObserver<T> extends AtomicLong implements Observer<T>, Disposable {
+        private final Emitter<T> downstream;
+        private final long timeout;
+        private final TimeUnit unit;
+        private final Scheduler scheduler;
+        private final AtomicReference<Disposable> upstream = new AtomicReference<>();
+        private volatile Disposable timer;
+
+        TimeoutObserver(Emitter<T> downstream, long timeout, TimeUnit unit, Scheduler scheduler) {
+            this.downstream = downstream;
+            this.timeout = timeout;
+            this.unit = unit;
+            this.scheduler = scheduler;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            DisposableHelper.setOnce(upstream, d);
+        }
+
+        void startTimeout(long index) {
+            Disposable t = scheduler.schedule(() -> onTimeout(index), timeout, unit);
+            timer = t;
+            if (get() == Long.MAX_VALUE) {
+                t.dispose();
+            }
+        }
+
+        @Override
+        public void dispose() {
+            set(Long.MAX_VALUE);
+            Disposable t = timer;
+            if (t != null) {
+                t.dispose();
+            }
+            DisposableHelper.dispose(upstream);
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return get() == Long.MAX_VALUE;
+        }
+
+        private void onTimeout(long index) {
+            if (compareAndSet(index, Long.MAX_VALUE)) {
+                downstream.onError(new TimeoutException(
+                        "The source did not signal an event for " + timeout + " " + unit.toString().toLowerCase()));
+            }
+        }
+
+        @Override
+        public void onNext(T item) {
+            long index = get();
+            if (index == Long.MAX_VALUE || !compareAndSet(index, index + 1)) return;
+            timer.dispose();
+            downstream.onNext(item);
+            startTimeout(index + 1);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (getAndSet(Long.MAX_VALUE) != Long.MAX_VALUE) {
+                timer.dispose();
+                downstream.onError(t);
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            if (getAndSet(Long.MAX_VALUE) != Long.MAX_VALUE) {
+                timer.dispose();
+                downstream.onComplete();
+            }
+        }
+    }
+}
@@ -0,0 +1,310 @@
+package org.example.internal.operators;
+
+import org.example.BackpressureStrategy;
+import org.example.Disposable;
+import org.example.Flowable;
+import org.example.MissingBackpressureException;
+import org.example.Observable;
+import org.example.Observer;
+import org.example.Subscriber;
+import org.example.Subscription;
+import org.example.internal.queue.SimpleQueue;
+import org.example.internal.queue.SpscLinkedArrayQueue;
+import org.example.internal.subscriptions.SubscriptionHelper;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Переход Observable -> Flowable: элементы без спроса обрабатываются
+ * согласно {@link BackpressureStrategy}.
+ */
+public final class ObservableToFlowable<T> implements Flowable.OnSubscribe<T> {
+    private final Observable<T> source;
+    private final BackpressureStrategy strategy;
+
+    public ObservableToFlowable(Observable<T> source, BackpressureStrategy strategy) {
+        this.source = source;
+        this.strategy = strategy;
+    }
+
+    @Override
+    public void call(Subscriber<? super T> subscriber) {
+        BaseEmitter<T> emitter = switch (strategy) {
+            case BUFFER -> new BufferEmitter<>(subscriber);
+            case DROP -> new DropEmitter<>(subscriber);
+            case LATEST -> new LatestEmitter<>(subscriber);
+            case ERROR -> new ErrorEmitter<>(subscriber);
+        };
+        subscriber.onSubscribe(emitter);
+        source.subscribe(emitter);
+    }
+
+    /**
+     * Сам объект — счётчик спроса.
+     */
+    abstract static class BaseEmitter<T> extends AtomicLong implements Observer<T>, Subscription {
+        final Subscriber<? super T> downstream;
+        volatile boolean cancelled;
+        volatile Disposable upstream;
+
+        BaseEmitter(Subscriber<? super T> downstream) {
+            this.downstream = downstream;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            upstream = d;
+            if (cancelled) {
+                d.dispose();
+            }
+        }
+
+        @Override
+        public void request(long n) {
+            if (!SubscriptionHelper.validate(n)) {
+                cancel();
+                downstream.onError(SubscriptionHelper.invalidRequest(n));
+                return;
+            }
+            SubscriptionHelper.add(this, n);
+            onRequested();
+        }
+
+        void onRequested() {
+        }
+
+        @Override
+        public void cancel() {
+            if (cancelled) return;
+            cancelled = true;
+            Disposable d = upstream;
+            if (d != null) {
+                d.dispose();
+            }
+            onCancelled();
+        }
+
+        void onCancelled() {
+        }
+    }
+
+    /**
+     * Пропускает элемент только при наличии спроса; иначе — {@link #onOverflow(Object)}.
+     */
+    abstract static class NoOverflowBaseEmitter<T> extends BaseEmitter<T> {
+        NoOverflowBaseEmitter(Subscriber<? super T> downstream) {
+            super(downstream);
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (cancelled) return;
+            if (get() != 0L) {
+                downstream.onNext(item);
+                SubscriptionHelper.produced(this, 1);
+            } else {
+                onOverflow(item);
+            }
+        }
+
+        abstract void onOverflow(T item);
+
+        @Override
+        public void onError(Throwable t) {
+            if (cancelled) return;
+            cancelled = true;
+            downstream.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            if (cancelled) return;
+            cancelled = true;
+            downstream.onComplete();
+        }
+    }
+
+    static final class DropEmitter<T> extends NoOverflowBaseEmitter<T> {
+        DropEmitter(Subscriber<? super T> downstream) {
+            super(downstream);
+        }
+
+        @Override
+        void onOverflow(T item) {
+            // элемент отбрасывается
+        }
+    }
+
+    static final class ErrorEmitter<T> extends NoOverflowBaseEmitter<T> {
+        ErrorEmitter(Subscriber<? super T> downstream) {
+            super(downstream);
+        }
+
+        @Override
+        void onOverflow(T item) {
+            onError(new MissingBackpressureException("create: could not emit value due to lack of requests"));
+            Disposable d = upstream;
+            if (d != null) {
+                d.dispose();
+            }
+        }
+    }
+
+    /**
+     * Общий цикл дренажа для BUFFER и LATEST.
+     */
+    abstract static class DrainingEmitter<T> extends BaseEmitter<T> {
+        private final AtomicInteger wip = new AtomicInteger();
+        Throwable error;
+        volatile boolean done;
+
+        DrainingEmitter(Subscriber<? super T> downstream) {
+            super(downstream);
+        }
+
+        abstract T poll();
+
+        abstract boolean isEmpty();
+
+        abstract void clear();
+
+        @Override
+        public void onError(Throwable t) {
+            if (done || cancelled) return;
+            error = t;
+            done = true;
+            drain();
+        }
+
+        @Override
+        public void onComplete() {
+            if (done || cancelled) return;
+            done = true;
+            drain();
+        }
+
+        @Override
+        void onRequested() {
+            drain();
+        }
+
+        @Override
+        void onCancelled() {
+            if (wip.getAndIncrement() == 0) {
+                clear();
+            }
+        }
+
+        final void drain() {
+            if (wip.getAndIncrement() != 0) return;
+            int missed = 1;
+            for (;;) {
+                long r = get();
+                long e = 0L;
+                while (e != r) {
+                    if (cancelled) {
+                        clear();
+                        return;
+                    }
+                    boolean d = done;
+                    T item = poll();
+                    boolean empty = item == null;
+                    if (d && empty) {
+                        terminate();
+                        return;
+                    }
+                    if (empty) break;
+                    downstream.onNext(item);
+                    e++;
+                }
+                if (e == r) {
+                    if (cancelled) {
+                        clear();
+                        return;
+                    }
+                    if (done && isEmpty()) {
+                        terminate();
+                        return;
+                    }
+                }
+                if (e != 0L) {
+                    SubscriptionHelper.produced(this, e);
+                }
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) break;
+            }
+        }
+
+        private void terminate() {
+            cancelled = true;
+            Throwable ex = error;
+            if (ex != null) {
+                downstream.onError(ex);
+            } else {
+                downstream.onComplete();
+            }
+        }
+    }
+
+    static final class BufferEmitter<T> extends DrainingEmitter<T> {
+        private final SimpleQueue<T> queue = new SpscLinkedArrayQueue<>(Observable.bufferSize());
+
+        BufferEmitter(Subscriber<? super T> downstream) {
+            super(downstream);
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (done || cancelled) return;
+            queue.offer(item);
+            drain();
+        }
+
+        @Override
+        T poll() {
+            return queue.poll();
+        }
+
+        @Override
+        boolean isEmpty() {
+            return queue.isEmpty();
+        }
+
+        @Override
+        void clear() {
+            queue.clear();
+        }
+    }
+
+    static final class LatestEmitter<T> extends DrainingEmitter<T> {
+        private final AtomicReference<T> latest = new AtomicReference<>();
+
+        LatestEmitter(Subscriber<? super T> downstream) {
+            super(downstream);
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (done || cancelled) return;
+            latest.set(item);
+            drain();
+        }
+
+        @Override
+        T poll() {
+            return latest.getAndSet(null);
+        }
+
+        @Override
+        boolean isEmpty() {
+            return latest.get() == null;
+        }
+
+        @Override
+        void clear() {
+            latest.set(null);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package org.example.internal.operators;
+
+import org.example.Disposable;
+import org.example.Emitter;
+import org.example.Observable;
+import org.example.Observer;
+import org.example.internal.disposables.DisposableHelper;
+
+/**
+ * window(count): вместо списков выдаются окна — Observable по {@code count}
+ * элементов. Окно открывается с приходом его первого элемента. Отписка от
+ * внешнего потока источник не отменяет, пока открытое окно ещё читают.
+ */
+public final class ObservableWindow<T> implements Observable.OnSubscribe<Observable<T>> {
+    private final Observable<T> source;
+    private final int count;
+
+    public ObservableWindow(Observable<T> source, int count) {
+        this.source = source;
+        this.count = count;
+    }
+
+    @Override
+    public void call(Emitter<Observable<T>> emitter) {
+        WindowObserver<T> parent = new WindowObserver<>(emitter, count);
+        emitter.setDisposable(parent);
+        source.subscribe(parent);
+    }
+
+    static final class WindowObserver<T> extends SharedUpstream implements Observer<T> {
+        private final Emitter<Observable<T>> downstream;
+        private final int count;
+        private UnicastWindow<T> window;
+        private int size;
+
+        WindowObserver(Emitter<Observable<T>> downstream, int count) {
+            this.downstream = downstream;
+            this.count = count;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            DisposableHelper.setOnce(upstream, d);
+        }
+
+        @Override
+        public void onNext(T item) {
+            UnicastWindow<T> w = window;
+            if (w == null) {
+                if (isDisposed()) return;
+                acquire();
+                w = new UnicastWindow<>(this);
+                window = w;
+                downstream.onNext(Observable.create(w));
+            }
+            w.onNext(item);
+            if (++size == count) {
+                size = 0;
+                window = null;
+                w.onComplete();
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            UnicastWindow<T> w = window;
+            window = null;
+            if (w != null) {
+                w.onError(t);
+            }
+            downstream.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            UnicastWindow<T> w = window;
+            window = null;
+            if (w != null) {
+                w.onComplete();
+            }
+            downstream.onComplete();
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package org.example.internal.operators;
+
+import org.example.Disposable;
+import org.example.Emitter;
+import org.example.Observable;
+import org.example.Observer;
+import org.example.Scheduler;
+import org.example.internal.disposables.DisposableHelper;
+import org.example.internal.queue.SimpleQueue;
+import org.example.internal.queue.SpscLinkedArrayQueue;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * window(time): каждые {@code timespan} текущее окно закрывается и открывается
+ * новое. Как и в buffer(time), под монитором только подмена окна, постановка
+ * нового окна в очередь выдачи и постановка элемента в очередь окна; дренаж
+ * окна и выдача вниз — вне монитора. Выдачу окон и завершение ведёт один
+ * дренаж, поэтому onComplete не обгонит окно, открытое до него.
+ * После отписки от внешнего потока новые окна не открываются, а источник
+ * живёт, пока не закрыто последнее окно.
+ */
+public final class ObservableWindowTimed<T> implements Observable.OnSubscribe<Observable<T>> {
+    private final Observable<T> source;
+    private final long timespan;
+    private final TimeUnit unit;
+    private final Scheduler scheduler;
+
+    public ObservableWindowTimed(Observable<T> source, long timespan, TimeUnit unit, Scheduler scheduler) {
+        this.source = source;
+        this.timespan = timespan;
+        this.unit = unit;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public void call(Emitter<Observable<T>> emitter) {
+        WindowTimedObserver<T> parent = new WindowTimedObserver<>(emitter);
+        emitter.setDisposable(parent);
+        parent.run();
+        DisposableHelper.setOnce(parent.timer,
+                scheduler.createWorker().schedulePeriodically(parent, timespan, timespan, unit));
+        source.subscribe(parent);
+    }
+
+    static final class WindowTimedObserver<T> extends SharedUpstream implements Observer<T>, Runnable {
+        private final Emitter<Observable<T>> downstream;
+        final AtomicReference<Disposable> timer = new AtomicReference<>();
+        /** Окна к выдаче; кладут в неё только под монитором, поэтому производитель один. */
+        private final SimpleQueue<UnicastWindow<T>> windows = new SpscLinkedArrayQueue<>(16);
+        /** Счётчик самого объекта занят ссылками на источник. */
+        private final AtomicInteger wip = new AtomicInteger();
+        private UnicastWindow<T> window;
+        private volatile boolean done;
+        private Throwable error;
+
+        WindowTimedObserver(Emitter<Observable<T>> downstream) {
+            this.downstream = downstream;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            DisposableHelper.setOnce(upstream, d);
+        }
+
+        @Override
+        public void onNext(T item) {
+            UnicastWindow<T> w;
+            synchronized (this) {
+                w = window;
+                if (done || w == null) return;
+                w.offer(item);
+            }
+            w.drain();
+        }
+
+        /**
+         * Тик таймера: закрыть текущее окно и открыть следующее. Элемент,
+         * поставленный в закрываемое окно до подмены, дренаж ещё отдаст.
+         * Если внешний подписчик ушёл, следующего окна нет и таймер
+         * останавливается.
+         */
+        @Override
+        public void run() {
+            UnicastWindow<T> next = null;
+            UnicastWindow<T> closed;
+            synchronized (this) {
+                if (done) return;
+                if (!isDisposed()) {
+                    acquire();
+                    next = new UnicastWindow<>(this);
+                }
+                closed = window;
+                window = next;
+                if (next != null) {
+                    windows.offer(next);
+                }
+                if (closed != null) {
+                    closed.terminate(null);
+                }
+            }
+            if (closed != null) {
+                closed.drain();
+            }
+            if (next != null) {
+                drain();
+            } else {
+                DisposableHelper.dispose(timer);
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            DisposableHelper.dispose(timer);
+            UnicastWindow<T> w;
+            synchronized (this) {
+                if (done) return;
+                w = window;
+                window = null;
+                if (w != null) {
+                    w.terminate(t);
+                }
+                error = t;
+                done = true;
+            }
+            if (w != null) {
+                w.drain();
+            }
+            drain();
+        }
+
+        @Override
+        public void onComplete() {
+            DisposableHelper.dispose(timer);
+            UnicastWindow<T> w;
+            synchronized (this) {
+                if (done) return;
+                w = window;
+                window = null;
+                if (w != null) {
+                    w.terminate(null);
+                }
+                done = true;
+            }
+            if (w != null) {
+                w.drain();
+            }
+            drain();
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) return;
+            int missed = 1;
+            for (;;) {
+                for (;;) {
+                    boolean d = done;
+                    UnicastWindow<T> w = windows.poll();
+                    if (d && w == null) {
+                        Throwable ex = error;
+                        if (ex != null) {
+                            downstream.onError(ex);
+                        } else {
+                            downstream.onComplete();
+                        }
+                        return;
+                    }
+                    if (w == null) break;
+                    downstream.onNext(Observable.create(w));
+                }
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) break;
+            }
+        }
+
+        @Override
+        void disposeUpstream() {
+            DisposableHelper.dispose(timer);
+            super.disposeUpstream();
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package org.example.internal.operators;
+
+import org.example.Disposable;
+import org.example.Emitter;
+import org.example.Observable;
+import org.example.Observer;
+import org.example.internal.disposables.DisposableHelper;
+import org.example.internal.queue.SimpleQueue;
+import org.example.internal.queue.SpscLinkedArrayQueue;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * zip: i-й элемент результата собирается из i-х элементов всех источников.
+ * У каждого источника своя очередь; собирает и выдаёт тот поток, который
+ * поднял счётчик дренажа с нуля. Как только один источник завершился и его
+ * очередь пуста, новых наборов не будет: результат завершается, остальные
+ * источники отменяются.
+ */
+public final class ObservableZip<T, R> implements Observable.OnSubscribe<R> {
+    private final Observable<? extends T>[] sources;
+    private final Function<? super Object[], ? extends R> zipper;
+
+    public ObservableZip(Observable<? extends T>[] sources, Function<? super Object[], ? extends R> zipper) {
+        this.sources = sources;
+        this.zipper = zipper;
+    }
+
+    @Override
+    public void call(Emitter<R> emitter) {
+        if (sources.length == 0) {
+            emitter.onComplete();
+            return;
+        }
+        ZipCoordinator<T, R> parent = new ZipCoordinator<>(emitter, zipper, sources.length);
+        emitter.setDisposable(parent);
+        parent.subscribe(sources);
+    }
+
+    /**
+     * Счётчик (AtomicInteger) — work-in-progress дренажа.
+     */
+    static final class ZipCoordinator<T, R> extends AtomicInteger implements Disposable {
+        private final Emitter<R> downstream;
+        private final Function<? super Object[], ? extends R> zipper;
+        private final ZipObserver<T>[] observers;
+        /** Собираемый набор; трогается только из дренажа. */
+        private final Object[] row;
+        private volatile boolean disposed;
+        private boolean terminated;
+
+        @SuppressWarnings("unchecked")
+        ZipCoordinator(Emitter<R> downstream, Function<? super Object[], ? extends R> zipper, int count) {
+            this.downstream = downstream;
+            this.zipper = zipper;
+            this.observers = new ZipObserver[count];
+            for (int i = 0; i < count; i++) {
+                observers[i] = new ZipObserver<>(this);
+            }
+            this.row = new Object[count];
+        }
+
+        void subscribe(Observable<? extends T>[] sources) {
+            for (int i = 0; i < sources.length; i++) {
+                if (disposed || terminated) return;
+                sources[i].subscribe(observers[i]);
+            }
+        }
+
+        @Override
+        public void dispose() {
+            if (disposed) return;
+            disposed = true;
+            cancelSources();
+            if (getAndIncrement() == 0) {
+                clear();
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return disposed;
+        }
+
+        private void cancelSources() {
+            for (ZipObserver<T> observer : observers) {
+                DisposableHelper.dispose(observer.upstream);
+            }
+        }
+
+        private void clear() {
+            for (ZipObserver<T> observer : observers) {
+                observer.queue.clear();
+            }
+            Arrays.fill(row, null);
+        }
+
+        void drain() {
+            if (getAndIncrement() != 0) return;
+            int missed = 1;
+            ZipObserver<T>[] observers = this.observers;
+            Object[] row = this.row;
+            for (;;) {
+                for (;;) {
+                    if (disposed || terminated) {
+                        clear();
+                        return;
+                    }
+                    int empty = 0;
+                    for (int i = 0; i < observers.length; i++) {
+                        ZipObserver<T> observer = observers[i];
+                        boolean d = observer.done;
+                        Throwable ex = d ? observer.error : null;
+                        if (ex == null) {
+                            if (row[i] != null) continue;
+                            T v = observer.queue.poll();
+                            if (v != null) {
+                                row[i] = v;
+                                continue;
+                            }
+                            if (!d) {
+                                empty++;
+                                continue;
+                            }
+                        }
+                        // ошибка не ждёт очереди, а опустевший завершённый источник не даст больше наборов
+                        terminated = true;
+                        cancelSources();
+                        clear();
+                        if (ex != null) {
+                            downstream.onError(ex);
+                        } else {
+                            downstream.onComplete();
+                        }
+                        return;
+                    }
+                    if (empty != 0) break;
+
+                    R result;
+                    try {
+                        result = zipper.apply(row.clone());
+                        if (result == null) {
+                            throw new NullPointerException("zipper returned null");
+                        }
+                    } catch (Throwable ex) {
+                        terminated = true;
+                        cancelSources();
+                        clear();
+                        downstream.onError(ex);
+                        return;
+                    }
+                    Arrays.fill(row, null);
+                    downstream.onNext(result);
+                }
+                missed = addAndGet(-missed);
+                if (missed == 0) break;
+            }
+        }
+
+    }
+
+    static final class ZipObserver<T> implements Observer<T> {
+        private final ZipCoordinator<T, ?> parent;
+        final AtomicReference<Disposable> upstream = new AtomicReference<>();
+        final SimpleQueue<T> queue = new SpscLinkedArrayQueue<>(Observable.bufferSize());
+        Throwable error;
+        volatile boolean done;
+
+        ZipObserver(ZipCoordinator<T, ?> parent) {
+            this.parent = parent;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            DisposableHelper.setOnce(upstream, d);
+        }
+
+        @Override
+        public void onNext(T item) {
+            queue.offer(item);
+            parent.drain();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            error = t;
+            done = true;
+            parent.drain();
+        }
+
+        @Override
+        public void onComplete() {
+            done = true;
+            parent.drain();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package org.example.internal.operators;
+
+import org.example.Cancellable;
+import org.example.Disposable;
+import org.example.Emitter;
+import org.example.SerializedObserver;
+
+/**
+ * Результат {@link Emitter#serialize()}: сигналы сериализуются
+ * {@link SerializedObserver}, управление ресурсами уходит в исходный emitter.
+ */
+final class SerializedEmitter<T> extends SerializedObserver<T> implements Emitter<T> {
+    private final Emitter<T> emitter;
+
+    SerializedEmitter(Emitter<T> emitter) {
+        super(emitter);
+        this.emitter = emitter;
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return emitter.isDisposed();
+    }
+
+    @Override
+    public void setDisposable(Disposable d) {
+        emitter.setDisposable(d);
+    }
+
+    @Override
+    public void setCancellable(Cancellable c) {
+        emitter.setCancellable(c);
+    }
+
+    @Override
+    public void onSubscribe(Disposable d) {
+        emitter.setDisposable(d);
+    }
+
+    @Override
+    public Emitter<T> serialize() {
+        return this;
+    }
+}
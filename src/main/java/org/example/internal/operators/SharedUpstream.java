@@ -0,0 +1,55 @@
+package org.example.internal.operators;
+
+import org.example.Disposable;
+import org.example.internal.disposables.DisposableHelper;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Источник, общий для внешнего подписчика и выданных им окон или групп.
+ * Счётчик (AtomicInteger) — сколько их ещё нуждается в источнике: внешний
+ * подписчик плюс открытые окна. Отписка внешнего подписчика источник не
+ * отменяет, пока открытые окна читают; отменяет его тот, кто ушёл последним.
+ */
+abstract class SharedUpstream extends AtomicInteger implements Disposable {
+    final AtomicReference<Disposable> upstream = new AtomicReference<>();
+    private final AtomicBoolean cancelled = new AtomicBoolean();
+
+    SharedUpstream() {
+        super(1);
+    }
+
+    /**
+     * Новое окно, которому нужен источник; парный вызов — {@link #release()}.
+     */
+    final void acquire() {
+        getAndIncrement();
+    }
+
+    final void release() {
+        if (decrementAndGet() == 0) {
+            disposeUpstream();
+        }
+    }
+
+    void disposeUpstream() {
+        DisposableHelper.dispose(upstream);
+    }
+
+    /**
+     * Отписка внешнего подписчика: новых окон больше не будет.
+     */
+    @Override
+    public final void dispose() {
+        if (cancelled.compareAndSet(false, true)) {
+            release();
+        }
+    }
+
+    @Override
+    public final boolean isDisposed() {
+        return cancelled.get();
+    }
+}
@@ -0,0 +1,38 @@
+package org.example.internal.operators;
+
+import org.example.SingleEmitter;
+import org.example.SingleObserver;
+
+/**
+ * Emitter, который {@code Single.subscribe} отдаёт источнику. Первый сигнал
+ * доставляется и освобождает ресурс источника, остальные отбрасываются.
+ */
+public final class SingleCreateEmitter<T> extends BasicEmitter implements SingleEmitter<T> {
+    private final SingleObserver<? super T> observer;
+
+    public SingleCreateEmitter(SingleObserver<? super T> observer) {
+        this.observer = observer;
+    }
+
+    @Override
+    public void onSuccess(T value) {
+        if (!isDisposed()) {
+            try {
+                observer.onSuccess(value);
+            } finally {
+                dispose();
+            }
+        }
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        if (!isDisposed()) {
+            try {
+                observer.onError(t);
+            } finally {
+                dispose();
+            }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package org.example.internal.operators;
+
+import org.example.SingleEmitter;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * {@code Single.map}: emitter, который получает источник, сразу применяет
+ * функцию и передаёт результат вниз — без промежуточного SingleObserver.
+ * Нижний emitter держит его как свой ресурс, так что отмена доходит до источника.
+ */
+public final class SingleMapEmitter<T, R> extends BasicEmitter implements SingleEmitter<T> {
+    private final SingleEmitter<R> downstream;
+    private final Function<? super T, ? extends R> mapper;
+
+    public SingleMapEmitter(SingleEmitter<R> downstream, Function<? super T, ? extends R> mapper) {
+        this.downstream = downstream;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public void onSuccess(T value) {
+        if (isDisposed()) return;
+        R result;
+        try {
+            result = Objects.requireNonNull(mapper.apply(value), "mapper returned null");
+        } catch (Throwable ex) {
+            downstream.onError(ex);
+            return;
+        }
+        downstream.onSuccess(result);
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        if (!isDisposed()) {
+            downstream.onError(t);
+        }
+    }
+}
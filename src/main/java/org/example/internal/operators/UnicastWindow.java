@@ -0,0 +1,125 @@
+package org.example.internal.operators;
+
+import org.example.Emitter;
+import org.example.Observable;
+import org.example.internal.queue.SimpleQueue;
+import org.example.internal.queue.SpscLinkedArrayQueue;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Окно window (и группа groupBy): копит элементы, пока на него не
+ * подписались, и отдаёт их единственному подписчику. Счётчик
+ * (AtomicInteger) — work-in-progress дренажа.
+ * <p>
+ * Окно держит одну ссылку на общий источник ({@link SharedUpstream}) и
+ * отпускает её один раз: когда оператор его закрыл или когда подписчик
+ * отписался либо завершился.
+ */
+final class UnicastWindow<T> extends AtomicInteger implements Observable.OnSubscribe<T> {
+    private final SimpleQueue<T> queue = new SpscLinkedArrayQueue<>(Observable.bufferSize());
+    private final AtomicReference<Emitter<T>> subscriber = new AtomicReference<>();
+    private final SharedUpstream parent;
+    private final AtomicBoolean released = new AtomicBoolean();
+    private volatile boolean done;
+    private Throwable error;
+
+    /**
+     * Ссылку на источник забирает вызывающий ({@link SharedUpstream#acquire()}).
+     */
+    UnicastWindow(SharedUpstream parent) {
+        this.parent = parent;
+    }
+
+    @Override
+    public void call(Emitter<T> emitter) {
+        if (subscriber.compareAndSet(null, emitter)) {
+            emitter.setCancellable(this::release);
+            drain();
+        } else {
+            emitter.onError(new IllegalStateException("A window or group allows only one subscriber"));
+        }
+    }
+
+    /**
+     * Подписчик был и уже отписался: дальше элементы копить некому.
+     */
+    boolean isCancelled() {
+        Emitter<T> e = subscriber.get();
+        return e != null && e.isDisposed();
+    }
+
+    void onNext(T item) {
+        offer(item);
+        drain();
+    }
+
+    void onError(Throwable t) {
+        terminate(t);
+        drain();
+    }
+
+    void onComplete() {
+        terminate(null);
+        drain();
+    }
+
+    /**
+     * Ставит элемент в очередь без дренажа: window(time) делает это под своим
+     * монитором, а {@link #drain()} вызывает уже после него.
+     */
+    void offer(T item) {
+        // подписчик ушёл: элемент никто не заберёт, в очереди он бы только копился
+        if (isCancelled()) return;
+        queue.offer(item);
+    }
+
+    /**
+     * Завершает окно без дренажа; {@code t == null} — обычное завершение.
+     */
+    void terminate(Throwable t) {
+        error = t;
+        done = true;
+        release();
+    }
+
+    private void release() {
+        if (released.compareAndSet(false, true)) {
+            parent.release();
+        }
+    }
+
+    void drain() {
+        if (getAndIncrement() != 0) return;
+        int missed = 1;
+        for (;;) {
+            Emitter<T> e = subscriber.get();
+            if (e != null) {
+                for (;;) {
+                    if (e.isDisposed()) {
+                        // выход через счётчик: элемент, успевший встать в очередь, вычистит следующий дренаж
+                        queue.clear();
+                        break;
+                    }
+                    boolean d = done;
+                    T item = queue.poll();
+                    if (d && item == null) {
+                        Throwable ex = error;
+                        if (ex != null) {
+                            e.onError(ex);
+                        } else {
+                            e.onComplete();
+                        }
+                        return;
+                    }
+                    if (item == null) break;
+                    e.onNext(item);
+                }
+            }
+            missed = addAndGet(-missed);
+            if (missed == 0) break;
+        }
+    }
+}
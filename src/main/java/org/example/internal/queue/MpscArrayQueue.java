@@ -0,0 +1,147 @@
+package org.example.internal.queue;
+
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+
+import static org.example.internal.queue.QueueUtil.lvElement;
+import static org.example.internal.queue.QueueUtil.soElement;
+
+abstract class MpscArrayQueueColdFields<E> {
+    final Object[] buffer;
+    final int mask;
+
+    MpscArrayQueueColdFields(int capacity) {
+        int p2 = QueueUtil.roundToPowerOfTwo(capacity);
+        this.buffer = new Object[p2];
+        this.mask = p2 - 1;
+    }
+}
+
+abstract class MpscArrayQueueL1Pad<E> extends MpscArrayQueueColdFields<E> {
+    long p000, p001, p002, p003, p004, p005, p006, p007;
+    long p008, p009, p010, p011, p012, p013, p014, p015;
+    MpscArrayQueueL1Pad(int capacity) {
+        super(capacity);
+    }
+}
+
+abstract class MpscArrayQueueProducerFields<E> extends MpscArrayQueueL1Pad<E> {
+    static final VarHandle P_INDEX = QueueUtil.field(MpscArrayQueueProducerFields.class, "producerIndex");
+    static final VarHandle P_LIMIT = QueueUtil.field(MpscArrayQueueProducerFields.class, "producerLimit");
+
+    volatile long producerIndex;
+    /** Кэш {@code consumerIndex + capacity}: пока индекс ниже, индекс потребителя не читается. */
+    volatile long producerLimit;
+
+    MpscArrayQueueProducerFields(int capacity) {
+        super(capacity);
+        this.producerLimit = mask + 1;
+    }
+}
+
+abstract class MpscArrayQueueL2Pad<E> extends MpscArrayQueueProducerFields<E> {
+    long p100, p101, p102, p103, p104, p105, p106, p107;
+    long p108, p109, p110, p111, p112, p113, p114, p115;
+    MpscArrayQueueL2Pad(int capacity) {
+        super(capacity);
+    }
+}
+
+abstract class MpscArrayQueueConsumerFields<E> extends MpscArrayQueueL2Pad<E> {
+    static final VarHandle C_INDEX = QueueUtil.field(MpscArrayQueueConsumerFields.class, "consumerIndex");
+
+    volatile long consumerIndex;
+
+    MpscArrayQueueConsumerFields(int capacity) {
+        super(capacity);
+    }
+}
+
+abstract class MpscArrayQueueL3Pad<E> extends MpscArrayQueueConsumerFields<E> {
+    long p200, p201, p202, p203, p204, p205, p206, p207;
+    long p208, p209, p210, p211, p212, p213, p214, p215;
+    MpscArrayQueueL3Pad(int capacity) {
+        super(capacity);
+    }
+}
+
+/**
+ * Ограниченная кольцевая очередь: много производителей, один потребитель.
+ * Производитель занимает слот одним CAS индекса и затем публикует элемент
+ * записью с release; потребитель ничего не захватывает.
+ */
+public final class MpscArrayQueue<E> extends MpscArrayQueueL3Pad<E> implements SimpleQueue<E> {
+
+    public MpscArrayQueue(int capacity) {
+        super(capacity);
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+
+    @Override
+    public boolean offer(E value) {
+        Objects.requireNonNull(value);
+        int mask = this.mask;
+        long limit = (long) P_LIMIT.getVolatile(this);
+        long index;
+        do {
+            index = (long) P_INDEX.getVolatile(this);
+            if (index >= limit) {
+                limit = (long) C_INDEX.getVolatile(this) + mask + 1;
+                if (index >= limit) {
+                    return false;
+                }
+                P_LIMIT.setRelease(this, limit);
+            }
+        } while (!P_INDEX.compareAndSet(this, index, index + 1));
+        soElement(buffer, (int) index & mask, value);
+        return true;
+    }
+
+    /**
+     * Совпадает с {@link #offer(Object)}: без перечитывания индекса потребителя
+     * производители могли бы навсегда застрять на устаревшем пределе.
+     */
+    @Override
+    public boolean relaxedOffer(E value) {
+        return offer(value);
+    }
+
+    @Override
+    public E poll() {
+        return poll(true);
+    }
+
+    @Override
+    public E relaxedPoll() {
+        return poll(false);
+    }
+
+    @SuppressWarnings("unchecked")
+    private E poll(boolean waitForPublish) {
+        Object[] buffer = this.buffer;
+        long index = (long) C_INDEX.get(this);
+        int offset = (int) index & mask;
+        Object e = lvElement(buffer, offset);
+        if (e == null) {
+            if (!waitForPublish || index == (long) P_INDEX.getVolatile(this)) {
+                return null;
+            }
+            // слот занят, но производитель ещё не записал элемент
+            do {
+                Thread.onSpinWait();
+                e = lvElement(buffer, offset);
+            } while (e == null);
+        }
+        soElement(buffer, offset, null);
+        C_INDEX.setRelease(this, index + 1);
+        return (E) e;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return (long) C_INDEX.getVolatile(this) == (long) P_INDEX.getVolatile(this);
+    }
+}
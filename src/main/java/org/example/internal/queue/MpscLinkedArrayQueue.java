@@ -0,0 +1,177 @@
+package org.example.internal.queue;
+
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+
+import static org.example.internal.queue.QueueUtil.lvElement;
+import static org.example.internal.queue.QueueUtil.soElement;
+
+abstract class MpscLinkedArrayQueueL1Pad<E> {
+    long p000, p001, p002, p003, p004, p005, p006, p007;
+    long p008, p009, p010, p011, p012, p013, p014, p015;
+}
+
+abstract class MpscLinkedArrayQueueProducerFields<E> extends MpscLinkedArrayQueueL1Pad<E> {
+    static final VarHandle P_INDEX = QueueUtil.field(MpscLinkedArrayQueueProducerFields.class, "producerIndex");
+    static final VarHandle P_LIMIT = QueueUtil.field(MpscLinkedArrayQueueProducerFields.class, "producerLimit");
+
+    /** Удвоенный индекс; нечётное значение — кто-то из производителей заводит новое кольцо. */
+    volatile long producerIndex;
+    volatile long producerLimit;
+    long producerMask;
+    Object[] producerBuffer;
+}
+
+abstract class MpscLinkedArrayQueueL2Pad<E> extends MpscLinkedArrayQueueProducerFields<E> {
+    long p100, p101, p102, p103, p104, p105, p106, p107;
+    long p108, p109, p110, p111, p112, p113, p114, p115;
+}
+
+abstract class MpscLinkedArrayQueueConsumerFields<E> extends MpscLinkedArrayQueueL2Pad<E> {
+    static final VarHandle C_INDEX = QueueUtil.field(MpscLinkedArrayQueueConsumerFields.class, "consumerIndex");
+
+    volatile long consumerIndex;
+    long consumerMask;
+    Object[] consumerBuffer;
+}
+
+abstract class MpscLinkedArrayQueueL3Pad<E> extends MpscLinkedArrayQueueConsumerFields<E> {
+    long p200, p201, p202, p203, p204, p205, p206, p207;
+    long p208, p209, p210, p211, p212, p213, p214, p215;
+}
+
+/**
+ * Неограниченная очередь «много производителей — один потребитель» из
+ * кольцевых массивов одного размера. Индекс производителя хранится
+ * удвоенным: младший бит захватывает право завести следующее кольцо, и
+ * остальные производители ждут, пока оно не будет подвешено. Пока
+ * потребитель освобождает место, производители ходят по текущему кольцу
+ * и новых массивов не выделяют.
+ */
+public final class MpscLinkedArrayQueue<E> extends MpscLinkedArrayQueueL3Pad<E> implements SimpleQueue<E> {
+    /** Метка в слоте: дальше читать из следующего кольца. */
+    private static final Object JUMP = new Object();
+
+    /**
+     * @param chunkSize размер одного кольца; округляется до степени двойки, не меньше 2
+     */
+    public MpscLinkedArrayQueue(int chunkSize) {
+        int p2 = QueueUtil.roundToPowerOfTwo(Math.max(2, chunkSize));
+        long mask = (long) (p2 - 1) << 1;
+        Object[] buffer = new Object[p2 + 1];
+        producerBuffer = buffer;
+        producerMask = mask;
+        consumerBuffer = buffer;
+        consumerMask = mask;
+        P_LIMIT.setRelease(this, mask);
+    }
+
+    private static int offset(long index, long mask) {
+        return (int) ((index & mask) >> 1);
+    }
+
+    /** Слот со ссылкой на следующее кольцо — последний в массиве. */
+    private static int nextOffset(long mask) {
+        return (int) ((mask + 2) >> 1);
+    }
+
+    @Override
+    public boolean offer(E value) {
+        Objects.requireNonNull(value);
+        long mask;
+        Object[] buffer;
+        long index;
+        for (;;) {
+            long limit = (long) P_LIMIT.getVolatile(this);
+            index = (long) P_INDEX.getVolatile(this);
+            if ((index & 1) == 1) {
+                // другой производитель подвешивает новое кольцо
+                Thread.onSpinWait();
+                continue;
+            }
+            mask = producerMask;
+            buffer = producerBuffer;
+            if (limit <= index) {
+                long consumer = (long) C_INDEX.getVolatile(this);
+                if (consumer + mask > index) {
+                    // потребитель освободил место в текущем кольце
+                    if (!P_LIMIT.compareAndSet(this, limit, consumer + mask)) {
+                        continue;
+                    }
+                } else if (P_INDEX.compareAndSet(this, index, index + 1)) {
+                    resize(mask, buffer, index, value);
+                    return true;
+                } else {
+                    continue;
+                }
+            }
+            if (P_INDEX.compareAndSet(this, index, index + 2)) {
+                break;
+            }
+        }
+        soElement(buffer, offset(index, mask), value);
+        return true;
+    }
+
+    private void resize(long mask, Object[] oldBuffer, long index, E value) {
+        Object[] newBuffer = new Object[oldBuffer.length];
+        producerBuffer = newBuffer;
+        soElement(newBuffer, offset(index, mask), value);
+        soElement(oldBuffer, nextOffset(mask), newBuffer);
+        // гонки за старый предел проиграют: он сдвигается за уже занятый индекс
+        P_LIMIT.setRelease(this, index + mask);
+        P_INDEX.setRelease(this, index + 2);
+        // индекс виден раньше метки — потребитель дождётся её, как обычного элемента
+        soElement(oldBuffer, offset(index, mask), JUMP);
+    }
+
+    @Override
+    public boolean relaxedOffer(E value) {
+        return offer(value);
+    }
+
+    @Override
+    public E poll() {
+        return poll(true);
+    }
+
+    @Override
+    public E relaxedPoll() {
+        return poll(false);
+    }
+
+    @SuppressWarnings("unchecked")
+    private E poll(boolean waitForPublish) {
+        Object[] buffer = consumerBuffer;
+        long index = (long) C_INDEX.get(this);
+        long mask = consumerMask;
+        int offset = offset(index, mask);
+        Object e = lvElement(buffer, offset);
+        if (e == null) {
+            if (!waitForPublish || (index - (long) P_INDEX.getVolatile(this)) / 2 == 0) {
+                return null;
+            }
+            // слот занят, но производитель ещё не записал элемент
+            do {
+                Thread.onSpinWait();
+                e = lvElement(buffer, offset);
+            } while (e == null);
+        }
+        if (e == JUMP) {
+            int next = nextOffset(mask);
+            Object[] nextBuffer = (Object[]) lvElement(buffer, next);
+            soElement(buffer, next, null);
+            consumerBuffer = nextBuffer;
+            buffer = nextBuffer;
+            e = lvElement(nextBuffer, offset);
+        }
+        soElement(buffer, offset, null);
+        C_INDEX.setRelease(this, index + 2);
+        return (E) e;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return ((long) C_INDEX.getVolatile(this) - (long) P_INDEX.getVolatile(this)) / 2 == 0;
+    }
+}
@@ -0,0 +1,44 @@
+package org.example.internal.queue;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Доступ к слотам массива с нужной семантикой памяти: запись с release
+ * (lazySet) публикует элемент, чтение с acquire видит всё, что было записано до него.
+ */
+final class QueueUtil {
+    private static final VarHandle ELEMENT = MethodHandles.arrayElementVarHandle(Object[].class);
+
+    /** Шаг, на который SPSC-производитель заглядывает вперёд за свободными слотами. */
+    static final int MAX_LOOK_AHEAD_STEP = 4096;
+
+    private QueueUtil() {
+    }
+
+    static Object lvElement(Object[] buffer, int offset) {
+        return ELEMENT.getAcquire(buffer, offset);
+    }
+
+    static void soElement(Object[] buffer, int offset, Object value) {
+        ELEMENT.setRelease(buffer, offset, value);
+    }
+
+    static int roundToPowerOfTwo(int value) {
+        if (value <= 0) {
+            throw new IllegalArgumentException("capacity > 0 required but it was " + value);
+        }
+        if (value > 1 << 30) {
+            throw new IllegalArgumentException("capacity must not exceed 2^30 but it was " + value);
+        }
+        return 1 << (32 - Integer.numberOfLeadingZeros(value - 1));
+    }
+
+    static VarHandle field(Class<?> owner, String name) {
+        try {
+            return MethodHandles.lookup().findVarHandle(owner, name, long.class);
+        } catch (ReflectiveOperationException ex) {
+            throw new ExceptionInInitializerError(ex);
+        }
+    }
+}
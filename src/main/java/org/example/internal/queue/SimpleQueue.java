@@ -0,0 +1,43 @@
+package org.example.internal.queue;
+
+/**
+ * Очередь для внутренностей операторов. В отличие от {@link java.util.Queue}
+ * фиксирует, кто и из скольких потоков её вызывает: SPSC — один производитель
+ * и один потребитель, MPSC — много производителей и один потребитель.
+ * {@code null} класть нельзя: им обозначается пустой слот.
+ * <p>
+ * {@link #poll()}, {@link #relaxedPoll()} и {@link #clear()} вызывает только потребитель.
+ */
+public interface SimpleQueue<T> {
+
+    /**
+     * @return {@code false}, если ограниченная очередь заполнена
+     */
+    boolean offer(T value);
+
+    /**
+     * Как {@link #offer(Object)}, но вправе не перечитывать индекс потребителя
+     * и потому ответить «заполнена» чуть раньше, чем на самом деле.
+     */
+    boolean relaxedOffer(T value);
+
+    T poll();
+
+    /**
+     * Как {@link #poll()}, но не ждёт элемента, место под который производитель
+     * уже занял, а записать ещё не успел: тогда возвращает {@code null}.
+     */
+    T relaxedPoll();
+
+    /**
+     * Оценка при одновременной работе производителей; точна для потребителя,
+     * когда производители остановлены.
+     */
+    boolean isEmpty();
+
+    default void clear() {
+        while (poll() != null) {
+            // выбрасываем
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package org.example.internal.queue;
+
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+
+import static org.example.internal.queue.QueueUtil.lvElement;
+import static org.example.internal.queue.QueueUtil.soElement;
+
+abstract class SpscArrayQueueColdFields<E> {
+    final Object[] buffer;
+    final int mask;
+    final int lookAheadStep;
+
+    SpscArrayQueueColdFields(int capacity) {
+        int p2 = QueueUtil.roundToPowerOfTwo(capacity);
+        this.buffer = new Object[p2];
+        this.mask = p2 - 1;
+        this.lookAheadStep = Math.max(1, Math.min(p2 / 4, QueueUtil.MAX_LOOK_AHEAD_STEP));
+    }
+}
+
+abstract class SpscArrayQueueL1Pad<E> extends SpscArrayQueueColdFields<E> {
+    long p000, p001, p002, p003, p004, p005, p006, p007;
+    long p008, p009, p010, p011, p012, p013, p014, p015;
+    SpscArrayQueueL1Pad(int capacity) {
+        super(capacity);
+    }
+}
+
+abstract class SpscArrayQueueProducerFields<E> extends SpscArrayQueueL1Pad<E> {
+    static final VarHandle P_INDEX = QueueUtil.field(SpscArrayQueueProducerFields.class, "producerIndex");
+
+    volatile long producerIndex;
+    /** До этого индекса слоты заведомо свободны; меняет только производитель. */
+    long producerLimit;
+
+    SpscArrayQueueProducerFields(int capacity) {
+        super(capacity);
+    }
+}
+
+abstract class SpscArrayQueueL2Pad<E> extends SpscArrayQueueProducerFields<E> {
+    long p100, p101, p102, p103, p104, p105, p106, p107;
+    long p108, p109, p110, p111, p112, p113, p114, p115;
+    SpscArrayQueueL2Pad(int capacity) {
+        super(capacity);
+    }
+}
+
+abstract class SpscArrayQueueConsumerFields<E> extends SpscArrayQueueL2Pad<E> {
+    static final VarHandle C_INDEX = QueueUtil.field(SpscArrayQueueConsumerFields.class, "consumerIndex");
+
+    volatile long consumerIndex;
+
+    SpscArrayQueueConsumerFields(int capacity) {
+        super(capacity);
+    }
+}
+
+abstract class SpscArrayQueueL3Pad<E> extends SpscArrayQueueConsumerFields<E> {
+    long p200, p201, p202, p203, p204, p205, p206, p207;
+    long p208, p209, p210, p211, p212, p213, p214, p215;
+    SpscArrayQueueL3Pad(int capacity) {
+        super(capacity);
+    }
+}
+
+/**
+ * Ограниченная кольцевая очередь: один производитель, один потребитель.
+ * Ёмкость округляется вверх до степени двойки. Индексы производителя
+ * и потребителя разнесены по разным строкам кэша.
+ * <p>
+ * Занятость слота определяется самим элементом, а не сравнением индексов:
+ * производитель заглядывает на {@code lookAheadStep} слотов вперёд и до
+ * следующей проверки пишет, не читая индекс потребителя.
+ */
+public final class SpscArrayQueue<E> extends SpscArrayQueueL3Pad<E> implements SimpleQueue<E> {
+
+    public SpscArrayQueue(int capacity) {
+        super(capacity);
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+
+    @Override
+    public boolean offer(E value) {
+        Objects.requireNonNull(value);
+        Object[] buffer = this.buffer;
+        int mask = this.mask;
+        long index = (long) P_INDEX.get(this);
+        if (index >= producerLimit && !hasRoom(buffer, mask, index)) {
+            return false;
+        }
+        soElement(buffer, (int) index & mask, value);
+        P_INDEX.setRelease(this, index + 1);
+        return true;
+    }
+
+    private boolean hasRoom(Object[] buffer, int mask, long index) {
+        int step = lookAheadStep;
+        if (lvElement(buffer, (int) (index + step) & mask) == null) {
+            producerLimit = index + step;
+            return true;
+        }
+        return lvElement(buffer, (int) index & mask) == null;
+    }
+
+    @Override
+    public boolean relaxedOffer(E value) {
+        return offer(value);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E poll() {
+        Object[] buffer = this.buffer;
+        long index = (long) C_INDEX.get(this);
+        int offset = (int) index & mask;
+        Object e = lvElement(buffer, offset);
+        if (e == null) {
+            return null;
+        }
+        soElement(buffer, offset, null);
+        C_INDEX.setRelease(this, index + 1);
+        return (E) e;
+    }
+
+    @Override
+    public E relaxedPoll() {
+        return poll();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return (long) C_INDEX.getAcquire(this) == (long) P_INDEX.getAcquire(this);
+    }
+}
@@ -0,0 +1,147 @@
+package org.example.internal.queue;
+
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+
+import static org.example.internal.queue.QueueUtil.lvElement;
+import static org.example.internal.queue.QueueUtil.soElement;
+
+abstract class SpscLinkedArrayQueueL1Pad<E> {
+    long p000, p001, p002, p003, p004, p005, p006, p007;
+    long p008, p009, p010, p011, p012, p013, p014, p015;
+}
+
+abstract class SpscLinkedArrayQueueProducerFields<E> extends SpscLinkedArrayQueueL1Pad<E> {
+    static final VarHandle P_INDEX = QueueUtil.field(SpscLinkedArrayQueueProducerFields.class, "producerIndex");
+
+    volatile long producerIndex;
+    long producerLookAhead;
+    int producerLookAheadStep;
+    int producerMask;
+    Object[] producerBuffer;
+}
+
+abstract class SpscLinkedArrayQueueL2Pad<E> extends SpscLinkedArrayQueueProducerFields<E> {
+    long p100, p101, p102, p103, p104, p105, p106, p107;
+    long p108, p109, p110, p111, p112, p113, p114, p115;
+}
+
+abstract class SpscLinkedArrayQueueConsumerFields<E> extends SpscLinkedArrayQueueL2Pad<E> {
+    static final VarHandle C_INDEX = QueueUtil.field(SpscLinkedArrayQueueConsumerFields.class, "consumerIndex");
+
+    volatile long consumerIndex;
+    int consumerMask;
+    Object[] consumerBuffer;
+}
+
+abstract class SpscLinkedArrayQueueL3Pad<E> extends SpscLinkedArrayQueueConsumerFields<E> {
+    long p200, p201, p202, p203, p204, p205, p206, p207;
+    long p208, p209, p210, p211, p212, p213, p214, p215;
+}
+
+/**
+ * Неограниченная очередь «один производитель — один потребитель» из
+ * кольцевых массивов. Пока потребитель успевает, производитель ходит по
+ * одному кольцу; когда впереди занято, он заводит новый массив того же
+ * размера, ставит ссылку на него в последний слот старого и оставляет
+ * в текущем слоте метку перехода.
+ */
+public final class SpscLinkedArrayQueue<E> extends SpscLinkedArrayQueueL3Pad<E> implements SimpleQueue<E> {
+    private static final Object HAS_NEXT = new Object();
+
+    /**
+     * @param bufferSize размер одного кольца; округляется до степени двойки, не меньше 8
+     */
+    public SpscLinkedArrayQueue(int bufferSize) {
+        int p2 = QueueUtil.roundToPowerOfTwo(Math.max(8, bufferSize));
+        int mask = p2 - 1;
+        Object[] buffer = new Object[p2 + 1];
+        producerBuffer = buffer;
+        producerMask = mask;
+        producerLookAheadStep = Math.min(p2 / 4, QueueUtil.MAX_LOOK_AHEAD_STEP);
+        producerLookAhead = mask - 1;
+        consumerBuffer = buffer;
+        consumerMask = mask;
+        P_INDEX.setRelease(this, 0L);
+    }
+
+    @Override
+    public boolean offer(E value) {
+        Objects.requireNonNull(value);
+        Object[] buffer = producerBuffer;
+        long index = (long) P_INDEX.get(this);
+        int mask = producerMask;
+        int offset = (int) index & mask;
+        if (index < producerLookAhead) {
+            return write(buffer, value, index, offset);
+        }
+        int step = producerLookAheadStep;
+        if (lvElement(buffer, (int) (index + step) & mask) == null) {
+            producerLookAhead = index + step - 1;
+            return write(buffer, value, index, offset);
+        }
+        if (lvElement(buffer, (int) (index + 1) & mask) == null) {
+            return write(buffer, value, index, offset);
+        }
+        resize(buffer, index, offset, value, mask);
+        return true;
+    }
+
+    private boolean write(Object[] buffer, E value, long index, int offset) {
+        soElement(buffer, offset, value);
+        P_INDEX.setRelease(this, index + 1);
+        return true;
+    }
+
+    private void resize(Object[] oldBuffer, long index, int offset, E value, int mask) {
+        Object[] newBuffer = new Object[oldBuffer.length];
+        producerBuffer = newBuffer;
+        producerLookAhead = index + mask - 1;
+        soElement(newBuffer, offset, value);
+        soElement(oldBuffer, oldBuffer.length - 1, newBuffer);
+        soElement(oldBuffer, offset, HAS_NEXT);
+        P_INDEX.setRelease(this, index + 1);
+    }
+
+    @Override
+    public boolean relaxedOffer(E value) {
+        return offer(value);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E poll() {
+        Object[] buffer = consumerBuffer;
+        long index = (long) C_INDEX.get(this);
+        int mask = consumerMask;
+        int offset = (int) index & mask;
+        Object e = lvElement(buffer, offset);
+        if (e == null) {
+            return null;
+        }
+        if (e == HAS_NEXT) {
+            int last = buffer.length - 1;
+            Object[] next = (Object[]) lvElement(buffer, last);
+            soElement(buffer, last, null);
+            consumerBuffer = next;
+            e = lvElement(next, offset);
+            if (e == null) {
+                return null;
+            }
+            buffer = next;
+        }
+        soElement(buffer, offset, null);
+        C_INDEX.setRelease(this, index + 1);
+        return (E) e;
+    }
+
+    @Override
+    public E relaxedPoll() {
+        return poll();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return (long) P_INDEX.getAcquire(this) == (long) C_INDEX.getAcquire(this);
+    }
+}
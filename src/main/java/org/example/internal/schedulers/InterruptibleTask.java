@@ -0,0 +1,70 @@
+package org.example.internal.schedulers;
+
+import org.example.Disposable;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Задача, которую можно отменить и до запуска, и во время выполнения.
+ * Во время выполнения отмена прерывает поток; прерывание не переживает
+ * задачу и не достаётся следующей задаче того же потока пула. Сбрасывается
+ * только прерывание, отправленное самой отменой: чужое остаётся потоку.
+ */
+public final class InterruptibleTask extends AtomicReference<Object> implements Runnable, Disposable {
+    private static final Object DONE = new Object();
+    private static final Object DISPOSED = new Object();
+    private static final Object INTERRUPTING = new Object();
+    /** Отменена во время выполнения, и поток уже прерван этой отменой. */
+    private static final Object INTERRUPTED = new Object();
+
+    private final Runnable task;
+
+    public InterruptibleTask(Runnable task) {
+        this.task = task;
+    }
+
+    @Override
+    public void run() {
+        Thread current = Thread.currentThread();
+        if (!compareAndSet(null, current)) {
+            return;
+        }
+        try {
+            task.run();
+        } finally {
+            if (!compareAndSet(current, DONE)) {
+                while (get() == INTERRUPTING) {
+                    Thread.onSpinWait();
+                }
+                if (get() == INTERRUPTED) {
+                    Thread.interrupted();
+                }
+            }
+        }
+    }
+
+    @Override
+    public void dispose() {
+        for (;;) {
+            Object state = get();
+            if (state == DONE || state == DISPOSED || state == INTERRUPTING || state == INTERRUPTED) {
+                return;
+            }
+            if (state instanceof Thread runner && runner != Thread.currentThread()) {
+                if (compareAndSet(state, INTERRUPTING)) {
+                    runner.interrupt();
+                    set(INTERRUPTED);
+                    return;
+                }
+            } else if (compareAndSet(state, DISPOSED)) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public boolean isDisposed() {
+        Object state = get();
+        return state == DONE || state == DISPOSED || state == INTERRUPTING || state == INTERRUPTED;
+    }
+}
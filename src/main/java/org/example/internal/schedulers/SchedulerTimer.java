@@ -0,0 +1,131 @@
+package org.example.internal.schedulers;
+
+import org.example.Disposable;
+import org.example.Scheduler;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Общий для всех планировщиков таймер: один daemon-поток только отсчитывает
+ * задержки и передаёт созревшие задачи в {@link Scheduler#execute(Runnable)}.
+ */
+public final class SchedulerTimer {
+    private static final ScheduledThreadPoolExecutor TIMER;
+
+    static {
+        TIMER = new ScheduledThreadPoolExecutor(1, r -> {
+            Thread t = new Thread(r, "SchedulerTimer");
+            t.setDaemon(true);
+            return t;
+        });
+        TIMER.setRemoveOnCancelPolicy(true);
+    }
+
+    private SchedulerTimer() {
+    }
+
+    public static Disposable schedule(Scheduler scheduler, Runnable task, long delay, TimeUnit unit) {
+        DelayedTask delayed = new DelayedTask(task);
+        delayed.future = TIMER.schedule(() -> scheduler.execute(delayed), delay, unit);
+        return delayed;
+    }
+
+    public static Disposable schedulePeriodically(Scheduler scheduler, Runnable task,
+                                                  long initialDelay, long period, TimeUnit unit) {
+        PeriodicTask periodic = new PeriodicTask(scheduler, task);
+        periodic.future = TIMER.scheduleAtFixedRate(periodic, initialDelay, period, unit);
+        return periodic;
+    }
+
+    /**
+     * Отмена снимает задачу с таймера, а если та уже передана планировщику —
+     * не даёт ей выполниться.
+     */
+    static final class DelayedTask implements Runnable, Disposable {
+        private final Runnable task;
+        volatile ScheduledFuture<?> future;
+        private volatile boolean disposed;
+
+        DelayedTask(Runnable task) {
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            if (!disposed) {
+                task.run();
+            }
+        }
+
+        @Override
+        public void dispose() {
+            disposed = true;
+            ScheduledFuture<?> f = future;
+            if (f != null) {
+                f.cancel(false);
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return disposed;
+        }
+    }
+
+    /**
+     * Тики таймера не запускают задачу параллельно самой себе: пропущенные
+     * за время её работы тики выполняются подряд, в той же задаче планировщика.
+     */
+    static final class PeriodicTask extends AtomicInteger implements Runnable, Disposable {
+        private final Scheduler scheduler;
+        private final Runnable task;
+        volatile ScheduledFuture<?> future;
+        private volatile boolean disposed;
+
+        PeriodicTask(Scheduler scheduler, Runnable task) {
+            this.scheduler = scheduler;
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            if (!disposed && getAndIncrement() == 0) {
+                scheduler.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            int missed = 1;
+            for (;;) {
+                for (int i = 0; i < missed; i++) {
+                    if (disposed) return;
+                    try {
+                        task.run();
+                    } catch (Throwable ex) {
+                        dispose();
+                        throw ex;
+                    }
+                }
+                missed = addAndGet(-missed);
+                if (missed == 0) break;
+            }
+        }
+
+        @Override
+        public void dispose() {
+            disposed = true;
+            ScheduledFuture<?> f = future;
+            if (f != null) {
+                f.cancel(false);
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return disposed;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package org.example.internal.subscriptions;
+
+import org.example.Subscription;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Общие операции над Subscription и счётчиками спроса.
+ */
+public final class SubscriptionHelper {
+
+    /** Маркер отменённой подписки. */
+    public static final Subscription CANCELLED = new Subscription() {
+        @Override
+        public void request(long n) {
+        }
+
+        @Override
+        public void cancel() {
+        }
+    };
+
+    private SubscriptionHelper() {
+    }
+
+    public static boolean validate(long n) {
+        return n > 0L;
+    }
+
+    public static IllegalArgumentException invalidRequest(long n) {
+        return new IllegalArgumentException("§3.9 violated: positive request amount required but it was " + n);
+    }
+
+    /**
+     * Атомарно увеличивает спрос с насыщением на {@link Long#MAX_VALUE}.
+     *
+     * @return значение до увеличения
+     */
+    public static long add(AtomicLong requested, long n) {
+        for (;;) {
+            long r = requested.get();
+            if (r == Long.MAX_VALUE) return Long.MAX_VALUE;
+            long u = r + n;
+            if (u < 0L) u = Long.MAX_VALUE;
+            if (requested.compareAndSet(r, u)) return r;
+        }
+    }
+
+    /**
+     * Списывает выданные элементы; неограниченный спрос не уменьшается.
+     *
+     * @return оставшийся спрос
+     */
+    public static long produced(AtomicLong requested, long n) {
+        for (;;) {
+            long r = requested.get();
+            if (r == Long.MAX_VALUE) return Long.MAX_VALUE;
+            long u = r - n;
+            if (u < 0L) u = 0L;
+            if (requested.compareAndSet(r, u)) return u;
+        }
+    }
+
+    /**
+     * Устанавливает подписку один раз; если ссылка уже отменена — отменяет новую.
+     */
+    public static boolean setOnce(AtomicReference<Subscription> ref, Subscription s) {
+        if (!ref.compareAndSet(null, s)) {
+            s.cancel();
+            return false;
+        }
+        return true;
+    }
+
+    public static void cancel(AtomicReference<Subscription> ref) {
+        Subscription current = ref.getAndSet(CANCELLED);
+        if (current != null && current != CANCELLED) {
+            current.cancel();
+        }
+    }
+}
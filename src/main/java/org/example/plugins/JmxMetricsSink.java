@@ -0,0 +1,272 @@
+package org.example.plugins;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Метрики в JMX: каждая стадия и каждый планировщик — свой MBean
+ * {@code <domain>:type=Stage,name=...} и {@code <domain>:type=Scheduler,name=...}.
+ * Одноимённые стадии всех подписок складываются в один MBean; чтобы различать
+ * одинаковые операторы, им дают имена через {@link org.example.Observable#name(String)}.
+ * <p>
+ * Скорости (ItemsPerSecond) считаются от момента регистрации MBean.
+ */
+public final class JmxMetricsSink implements MetricsSink, AutoCloseable {
+    private final MBeanServer server;
+    private final String domain;
+    private final ConcurrentMap<String, Stage> stages = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, SchedulerStats> schedulers = new ConcurrentHashMap<>();
+
+    public JmxMetricsSink() {
+        this(ManagementFactory.getPlatformMBeanServer(), "org.example");
+    }
+
+    public JmxMetricsSink(MBeanServer server, String domain) {
+        this.server = server;
+        this.domain = domain;
+    }
+
+    @Override
+    public Stage stage(String name) {
+        return stages.computeIfAbsent(name, n -> register(new Stage(), StageMBean.class, "Stage", n));
+    }
+
+    @Override
+    public SchedulerStats scheduler(String name) {
+        return schedulers.computeIfAbsent(name, n -> register(new SchedulerStats(), SchedulerMBean.class, "Scheduler", n));
+    }
+
+    public ObjectName stageName(String name) {
+        return objectName("Stage", name);
+    }
+
+    public ObjectName schedulerName(String name) {
+        return objectName("Scheduler", name);
+    }
+
+    private ObjectName objectName(String type, String name) {
+        try {
+            return new ObjectName(domain + ":type=" + type + ",name=" + ObjectName.quote(name));
+        } catch (JMException ex) {
+            throw new IllegalArgumentException(ex);
+        }
+    }
+
+    private <M, I extends M> I register(I bean, Class<M> type, String kind, String name) {
+        try {
+            ObjectName objectName = objectName(kind, name);
+            if (server.isRegistered(objectName)) {
+                server.unregisterMBean(objectName);
+            }
+            server.registerMBean(new StandardMBean(bean, type), objectName);
+        } catch (JMException ex) {
+            throw new IllegalStateException("cannot register MBean for " + name, ex);
+        }
+        return bean;
+    }
+
+    /**
+     * Снимает зарегистрированные MBean.
+     */
+    @Override
+    public void close() {
+        for (String name : stages.keySet()) {
+            unregister(stageName(name));
+        }
+        for (String name : schedulers.keySet()) {
+            unregister(schedulerName(name));
+        }
+        stages.clear();
+        schedulers.clear();
+    }
+
+    private void unregister(ObjectName name) {
+        try {
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+        } catch (JMException ignored) {
+            // уже снят
+        }
+    }
+
+    private static double perSecond(long count, long since) {
+        long elapsed = System.nanoTime() - since;
+        return elapsed > 0 ? count * 1e9 / elapsed : 0.0;
+    }
+
+    private static double mean(LongAdder total, long count) {
+        return count > 0 ? (double) total.sum() / count : 0.0;
+    }
+
+    public interface StageMBean {
+        long getItems();
+
+        long getErrors();
+
+        long getCompletions();
+
+        double getItemsPerSecond();
+
+        /** Среднее время onNext ниже стадии, нс. */
+        double getMeanOnNextNanos();
+
+        long getQueueDepth();
+
+        long getMaxQueueDepth();
+
+        /** Средняя задержка в очереди по выборочным замерам, нс. */
+        double getMeanQueueLatencyNanos();
+    }
+
+    public interface SchedulerMBean {
+        long getQueuedTasks();
+
+        long getActiveTasks();
+
+        long getCompletedTasks();
+
+        double getMeanWaitNanos();
+
+        double getMeanRunNanos();
+    }
+
+    public static final class Stage implements StageMetrics, StageMBean {
+        private final long createdAt = System.nanoTime();
+        private final LongAdder items = new LongAdder();
+        private final LongAdder onNextNanos = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder completions = new LongAdder();
+        private final LongAdder latencySamples = new LongAdder();
+        private final LongAdder latencyNanos = new LongAdder();
+        private final AtomicLong maxDepth = new AtomicLong();
+        private volatile long depth;
+
+        @Override
+        public void onNext(long nanos) {
+            items.increment();
+            onNextNanos.add(nanos);
+        }
+
+        @Override
+        public void onError() {
+            errors.increment();
+        }
+
+        @Override
+        public void onComplete() {
+            completions.increment();
+        }
+
+        @Override
+        public void queueDepth(long depth) {
+            this.depth = depth;
+            if (depth > maxDepth.get()) {
+                maxDepth.accumulateAndGet(depth, Math::max);
+            }
+        }
+
+        @Override
+        public void queueLatency(long nanos) {
+            latencySamples.increment();
+            latencyNanos.add(nanos);
+        }
+
+        @Override
+        public long getItems() {
+            return items.sum();
+        }
+
+        @Override
+        public long getErrors() {
+            return errors.sum();
+        }
+
+        @Override
+        public long getCompletions() {
+            return completions.sum();
+        }
+
+        @Override
+        public double getItemsPerSecond() {
+            return perSecond(items.sum(), createdAt);
+        }
+
+        @Override
+        public double getMeanOnNextNanos() {
+            return mean(onNextNanos, items.sum());
+        }
+
+        @Override
+        public long getQueueDepth() {
+            return depth;
+        }
+
+        @Override
+        public long getMaxQueueDepth() {
+            return maxDepth.get();
+        }
+
+        @Override
+        public double getMeanQueueLatencyNanos() {
+            return mean(latencyNanos, latencySamples.sum());
+        }
+    }
+
+    public static final class SchedulerStats implements SchedulerMetrics, SchedulerMBean {
+        private final LongAdder queued = new LongAdder();
+        private final LongAdder started = new LongAdder();
+        private final LongAdder finished = new LongAdder();
+        private final LongAdder waitNanos = new LongAdder();
+        private final LongAdder runNanos = new LongAdder();
+
+        @Override
+        public void taskQueued() {
+            queued.increment();
+        }
+
+        @Override
+        public void taskStarted(long waitNanos) {
+            started.increment();
+            this.waitNanos.add(waitNanos);
+        }
+
+        @Override
+        public void taskFinished(long runNanos) {
+            finished.increment();
+            this.runNanos.add(runNanos);
+        }
+
+        @Override
+        public long getQueuedTasks() {
+            return Math.max(0, queued.sum() - started.sum());
+        }
+
+        @Override
+        public long getActiveTasks() {
+            return Math.max(0, started.sum() - finished.sum());
+        }
+
+        @Override
+        public long getCompletedTasks() {
+            return finished.sum();
+        }
+
+        @Override
+        public double getMeanWaitNanos() {
+            return mean(waitNanos, started.sum());
+        }
+
+        @Override
+        public double getMeanRunNanos() {
+            return mean(runNanos, finished.sum());
+        }
+    }
+}
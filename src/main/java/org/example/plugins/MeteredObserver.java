@@ -0,0 +1,41 @@
+package org.example.plugins;
+
+import org.example.Disposable;
+import org.example.Observer;
+
+/**
+ * Считает сигналы стадии и время, которое занял onNext ниже неё.
+ */
+final class MeteredObserver<T> implements Observer<T> {
+    private final Observer<? super T> downstream;
+    private final MetricsSink.StageMetrics metrics;
+
+    MeteredObserver(Observer<? super T> downstream, MetricsSink.StageMetrics metrics) {
+        this.downstream = downstream;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void onSubscribe(Disposable d) {
+        downstream.onSubscribe(d);
+    }
+
+    @Override
+    public void onNext(T item) {
+        long start = System.nanoTime();
+        downstream.onNext(item);
+        metrics.onNext(System.nanoTime() - start);
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        metrics.onError();
+        downstream.onError(t);
+    }
+
+    @Override
+    public void onComplete() {
+        metrics.onComplete();
+        downstream.onComplete();
+    }
+}
@@ -0,0 +1,28 @@
+package org.example.plugins;
+
+/**
+ * Задача планировщика с замером ожидания и выполнения.
+ */
+final class MeteredTask implements Runnable {
+    private final Runnable task;
+    private final MetricsSink.SchedulerMetrics metrics;
+    private final long queuedAt;
+
+    MeteredTask(Runnable task, MetricsSink.SchedulerMetrics metrics) {
+        this.task = task;
+        this.metrics = metrics;
+        metrics.taskQueued();
+        this.queuedAt = System.nanoTime();
+    }
+
+    @Override
+    public void run() {
+        long start = System.nanoTime();
+        metrics.taskStarted(start - queuedAt);
+        try {
+            task.run();
+        } finally {
+            metrics.taskFinished(System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package org.example.plugins;
+
+/**
+ * Приёмник метрик конвейера. Счётчики запрашиваются один раз — при подписке
+ * стадии или при постановке задачи, — а дальше вызываются только методы
+ * с примитивными аргументами, без выделения памяти на элемент.
+ *
+ * @see Plugins#setMetricsSink(MetricsSink)
+ * @see JmxMetricsSink
+ */
+public interface MetricsSink {
+
+    /**
+     * Счётчики стадии; {@code name} — {@link org.example.Observable#toString()}.
+     * Подписки на одноимённые стадии могут делить одни счётчики.
+     */
+    StageMetrics stage(String name);
+
+    /**
+     * Счётчики планировщика: {@code "computation"}, {@code "io"}, {@code "single"},
+     * {@code "newThread"} или {@code "virtualThread"}.
+     */
+    SchedulerMetrics scheduler(String name);
+
+    /**
+     * Вызывается из потоков конвейера; реализация должна быть потокобезопасной.
+     */
+    interface StageMetrics {
+        /**
+         * Стадия выдала элемент; {@code nanos} — сколько занял onNext
+         * нижестоящих стадий до ближайшей асинхронной границы.
+         */
+        void onNext(long nanos);
+
+        void onError();
+
+        void onComplete();
+
+        /** Глубина очереди стадии (observeOn) после выдачи очередного элемента. */
+        void queueDepth(long depth);
+
+        /** Время от постановки элемента в очередь до его выдачи. */
+        void queueLatency(long nanos);
+    }
+
+    interface SchedulerMetrics {
+        void taskQueued();
+
+        /** @param waitNanos сколько задача ждала потока */
+        void taskStarted(long waitNanos);
+
+        void taskFinished(long runNanos);
+    }
+}
@@ -0,0 +1,92 @@
+package org.example.plugins;
+
+import org.example.Observable;
+import org.example.Observer;
+
+import java.util.function.BiFunction;
+import java.util.function.UnaryOperator;
+
+/**
+ * Глобальные хуки: декорирование подписок и задач планировщиков и сбор
+ * метрик. Пока ничего не установлено, хук — одно чтение volatile-поля на
+ * подписку или задачу; на пути элемента проверок нет вовсе.
+ * <p>
+ * Хуки применяются к подпискам и задачам, созданным после установки.
+ */
+public final class Plugins {
+    private static volatile BiFunction<Observable<?>, Observer<?>, Observer<?>> onSubscribeHandler;
+    private static volatile UnaryOperator<Runnable> onScheduleHandler;
+    private static volatile MetricsSink metricsSink;
+
+    private Plugins() {
+    }
+
+    /**
+     * Подменяет Observer, которым стадия (первый аргумент) будет выдавать
+     * сигналы вниз. Вызывается для каждой стадии цепочки.
+     */
+    public static void setOnSubscribeHandler(BiFunction<Observable<?>, Observer<?>, Observer<?>> handler) {
+        onSubscribeHandler = handler;
+    }
+
+    /**
+     * Оборачивает каждую задачу, переданную в execute стандартных
+     * планировщиков (например, чтобы перенести контекст потока).
+     */
+    public static void setOnScheduleHandler(UnaryOperator<Runnable> handler) {
+        onScheduleHandler = handler;
+    }
+
+    /**
+     * Включает метрики стадий и планировщиков; {@code null} — выключает.
+     */
+    public static void setMetricsSink(MetricsSink sink) {
+        metricsSink = sink;
+    }
+
+    public static MetricsSink metricsSink() {
+        return metricsSink;
+    }
+
+    /**
+     * Снимает все хуки.
+     */
+    public static void reset() {
+        onSubscribeHandler = null;
+        onScheduleHandler = null;
+        metricsSink = null;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> Observer<? super T> onSubscribe(Observable<T> source, Observer<? super T> observer) {
+        BiFunction<Observable<?>, Observer<?>, Observer<?>> handler = onSubscribeHandler;
+        if (handler != null) {
+            observer = (Observer<? super T>) handler.apply(source, observer);
+        }
+        MetricsSink sink = metricsSink;
+        if (sink != null) {
+            observer = new MeteredObserver<>(observer, sink.stage(source.toString()));
+        }
+        return observer;
+    }
+
+    public static Runnable onSchedule(String scheduler, Runnable task) {
+        UnaryOperator<Runnable> handler = onScheduleHandler;
+        if (handler != null) {
+            task = handler.apply(task);
+        }
+        MetricsSink sink = metricsSink;
+        if (sink != null) {
+            task = new MeteredTask(task, sink.scheduler(scheduler));
+        }
+        return task;
+    }
+
+    /**
+     * Зонд очереди стадии {@code stage} или {@code null}, если метрики выключены.
+     */
+    public static QueueProbe queueProbe(String stage) {
+        MetricsSink sink = metricsSink;
+        return sink != null ? new QueueProbe(sink.stage(stage)) : null;
+    }
+}
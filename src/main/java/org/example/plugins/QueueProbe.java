@@ -0,0 +1,48 @@
+package org.example.plugins;
+
+/**
+ * Глубина и задержка очереди одной подписки с одним производителем
+ * и одним потребителем.
+ * <p>
+ * Задержка меряется выборочно, без хранения отметок времени для каждого
+ * элемента: производитель запоминает время постановки одного элемента,
+ * потребитель, дойдя до него, сообщает задержку и освобождает место
+ * для следующего замера.
+ */
+public final class QueueProbe {
+    private static final long NONE = -1L;
+
+    private final MetricsSink.StageMetrics metrics;
+    /** Пишет только производитель. */
+    private volatile long enqueued;
+    /** Номер отслеживаемого элемента; производитель ставит, потребитель сбрасывает в NONE. */
+    private volatile long tracked = NONE;
+    private long trackedAt;
+    /** Только потребитель. */
+    private long dequeued;
+
+    QueueProbe(MetricsSink.StageMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /** Вызывает производитель перед тем, как поставить элемент в очередь. */
+    public void onEnqueue() {
+        long seq = enqueued + 1;
+        if (tracked == NONE) {
+            trackedAt = System.nanoTime();
+            tracked = seq;
+        }
+        enqueued = seq;
+    }
+
+    /** Элемент взят из очереди; вызывает потребитель. */
+    public void onDequeue() {
+        long seq = ++dequeued;
+        long t = tracked;
+        if (t != NONE && seq >= t) {
+            metrics.queueLatency(System.nanoTime() - trackedAt);
+            tracked = NONE;
+        }
+        metrics.queueDepth(enqueued - seq);
+    }
+}
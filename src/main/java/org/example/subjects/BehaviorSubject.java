@@ -0,0 +1,180 @@
+package org.example.subjects;
+
+import org.example.Emitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Новый подписчик сразу получает последнее значение (или начальное), затем —
+ * все последующие. После завершения подписчик получает только терминальный сигнал.
+ * <p>
+ * Последнее значение хранится под seqlock'ом: запись — две записи счётчика
+ * версий, чтение на подписке — повтор при нечётной или изменившейся версии.
+ * Горячий путь onNext не берёт блокировок и ничего не выделяет.
+ */
+public final class BehaviorSubject<T> extends Subject<T> {
+    private final Subscribers<BehaviorDisposable<T>> subscribers = new Subscribers<>();
+    /** Нечётная версия — запись {@link #value} не завершена. */
+    private volatile long version;
+    /** Последнее значение, {@code null} или терминальный сигнал. */
+    private volatile Object value;
+
+    private BehaviorSubject(T initial) {
+        this.value = initial;
+    }
+
+    public static <T> BehaviorSubject<T> create() {
+        return new BehaviorSubject<>(null);
+    }
+
+    public static <T> BehaviorSubject<T> createDefault(T initial) {
+        return new BehaviorSubject<>(Objects.requireNonNull(initial));
+    }
+
+    @Override
+    protected void subscribeActual(Emitter<T> emitter) {
+        BehaviorDisposable<T> bd = new BehaviorDisposable<>(emitter, this);
+        if (subscribers.add(bd)) {
+            emitter.setCancellable(() -> {
+                bd.cancelled = true;
+                subscribers.remove(bd);
+            });
+            bd.emitFirst();
+        } else {
+            Signals.deliver(value, emitter);
+        }
+    }
+
+    private long write(Object v) {
+        long s = version;
+        version = s + 1;
+        value = v;
+        version = s + 2;
+        return s + 2;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void onNext(T item) {
+        Objects.requireNonNull(item);
+        if (Signals.isTerminal(value)) return;
+        long index = write(item);
+        for (Object bd : subscribers.get()) {
+            ((BehaviorDisposable<T>) bd).emitNext(item, index);
+        }
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        Objects.requireNonNull(t);
+        terminate(new Signals.ErrorSignal(t));
+    }
+
+    @Override
+    public void onComplete() {
+        terminate(Signals.COMPLETE);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void terminate(Object signal) {
+        if (Signals.isTerminal(value)) return;
+        long index = write(signal);
+        for (Object bd : subscribers.terminate()) {
+            ((BehaviorDisposable<T>) bd).emitNext(signal, index);
+        }
+    }
+
+    /**
+     * Последнее значение или {@code null}, если его нет или Subject завершён.
+     */
+    @SuppressWarnings("unchecked")
+    public T getValue() {
+        Object v = value;
+        return Signals.isTerminal(v) ? null : (T) v;
+    }
+
+    @Override
+    public boolean hasObservers() {
+        return subscribers.get().length != 0;
+    }
+
+    /**
+     * Сначала подписчику уходит значение, прочитанное на подписке; сигналы,
+     * пришедшие, пока оно доставлялось, копятся в очереди. После этого
+     * подписчик переходит на быстрый путь без монитора.
+     */
+    static final class BehaviorDisposable<T> {
+        private final Emitter<T> downstream;
+        private final BehaviorSubject<T> parent;
+        volatile boolean cancelled;
+        private volatile boolean fastPath;
+        private boolean next;
+        private boolean emitting;
+        private List<Object> queue;
+        private long index;
+
+        BehaviorDisposable(Emitter<T> downstream, BehaviorSubject<T> parent) {
+            this.downstream = downstream;
+            this.parent = parent;
+        }
+
+        void emitFirst() {
+            Object v;
+            synchronized (this) {
+                // emitNext уже доставил значение свежее прочитанного здесь
+                if (cancelled || next) return;
+                long s;
+                do {
+                    s = parent.version;
+                    v = parent.value;
+                } while ((s & 1) != 0 || s != parent.version);
+                index = s;
+                emitting = true;
+                next = true;
+            }
+            if (v != null && Signals.deliver(v, downstream)) return;
+            emitLoop();
+        }
+
+        void emitNext(Object v, long valueIndex) {
+            if (fastPath) {
+                if (!cancelled) {
+                    Signals.deliver(v, downstream);
+                }
+                return;
+            }
+            synchronized (this) {
+                if (cancelled || valueIndex <= index) return;
+                if (emitting) {
+                    if (queue == null) {
+                        queue = new ArrayList<>(4);
+                    }
+                    queue.add(v);
+                    return;
+                }
+                next = true;
+            }
+            fastPath = true;
+            Signals.deliver(v, downstream);
+        }
+
+        private void emitLoop() {
+            for (;;) {
+                List<Object> q;
+                synchronized (this) {
+                    q = queue;
+                    if (q == null) {
+                        emitting = false;
+                        return;
+                    }
+                    queue = null;
+                }
+                for (Object v : q) {
+                    if (cancelled || Signals.deliver(v, downstream)) return;
+                }
+            }
+        }
+    }
+}
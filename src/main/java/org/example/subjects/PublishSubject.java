@@ -0,0 +1,69 @@
+package org.example.subjects;
+
+import org.example.Emitter;
+
+import java.util.Objects;
+
+/**
+ * Раздаёт подписчикам только сигналы, пришедшие после их подписки.
+ * Подписчик, пришедший после завершения, сразу получает терминальный сигнал.
+ */
+public final class PublishSubject<T> extends Subject<T> {
+    private final Subscribers<Emitter<T>> subscribers = new Subscribers<>();
+    private volatile Throwable error;
+
+    private PublishSubject() {
+    }
+
+    public static <T> PublishSubject<T> create() {
+        return new PublishSubject<>();
+    }
+
+    @Override
+    protected void subscribeActual(Emitter<T> emitter) {
+        if (subscribers.add(emitter)) {
+            emitter.setCancellable(() -> subscribers.remove(emitter));
+        } else {
+            Throwable ex = error;
+            if (ex != null) {
+                emitter.onError(ex);
+            } else {
+                emitter.onComplete();
+            }
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void onNext(T item) {
+        Objects.requireNonNull(item);
+        for (Object e : subscribers.get()) {
+            ((Emitter<T>) e).onNext(item);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void onError(Throwable t) {
+        Objects.requireNonNull(t);
+        if (subscribers.isTerminated()) return;
+        error = t;
+        for (Object e : subscribers.terminate()) {
+            ((Emitter<T>) e).onError(t);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void onComplete() {
+        if (subscribers.isTerminated()) return;
+        for (Object e : subscribers.terminate()) {
+            ((Emitter<T>) e).onComplete();
+        }
+    }
+
+    @Override
+    public boolean hasObservers() {
+        return subscribers.get().length != 0;
+    }
+}
@@ -0,0 +1,221 @@
+package org.example.subjects;
+
+import org.example.Emitter;
+import org.example.Scheduler;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Новый подписчик сначала получает сохранённые элементы, затем — новые.
+ * Буфер можно ограничить числом элементов и/или их возрастом, чтобы память
+ * под историю не росла без предела.
+ * <p>
+ * Буфер — односвязный список: писатель только дописывает узлы в хвост и
+ * сдвигает голову, каждый подписчик идёт по списку своим указателем.
+ * Отставший подписчик удерживает старые узлы лишь до тех пор, пока их не прочитает.
+ */
+public final class ReplaySubject<T> extends Subject<T> {
+    private final Subscribers<ReplayDisposable<T>> subscribers = new Subscribers<>();
+    private final int maxSize;
+    private final long maxAgeNanos;
+    private final Scheduler scheduler;
+
+    /** Узел перед самым старым сохранённым элементом; его значение не выдаётся. */
+    private volatile Node head;
+    private Node tail;
+    private int size;
+    private boolean done;
+
+    private ReplaySubject(int maxSize, long maxAgeNanos, Scheduler scheduler) {
+        this.maxSize = maxSize;
+        this.maxAgeNanos = maxAgeNanos;
+        this.scheduler = scheduler;
+        Node start = new Node(null, 0L);
+        this.head = start;
+        this.tail = start;
+    }
+
+    /**
+     * Хранит всю историю.
+     */
+    public static <T> ReplaySubject<T> create() {
+        return new ReplaySubject<>(Integer.MAX_VALUE, Long.MAX_VALUE, null);
+    }
+
+    /**
+     * Хранит не больше {@code maxSize} последних элементов.
+     */
+    public static <T> ReplaySubject<T> createWithSize(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize > 0 required but it was " + maxSize);
+        }
+        return new ReplaySubject<>(maxSize, Long.MAX_VALUE, null);
+    }
+
+    /**
+     * Хранит элементы не старше {@code maxAge} по часам {@code scheduler}.
+     */
+    public static <T> ReplaySubject<T> createWithTime(long maxAge, TimeUnit unit, Scheduler scheduler) {
+        return createWithTimeAndSize(maxAge, unit, scheduler, Integer.MAX_VALUE);
+    }
+
+    public static <T> ReplaySubject<T> createWithTimeAndSize(long maxAge, TimeUnit unit, Scheduler scheduler,
+                                                             int maxSize) {
+        Objects.requireNonNull(unit);
+        Objects.requireNonNull(scheduler);
+        if (maxAge <= 0) {
+            throw new IllegalArgumentException("maxAge > 0 required but it was " + maxAge);
+        }
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize > 0 required but it was " + maxSize);
+        }
+        return new ReplaySubject<>(maxSize, unit.toNanos(maxAge), scheduler);
+    }
+
+    @Override
+    protected void subscribeActual(Emitter<T> emitter) {
+        ReplayDisposable<T> rd = new ReplayDisposable<>(emitter);
+        if (subscribers.add(rd)) {
+            emitter.setCancellable(() -> subscribers.remove(rd));
+        }
+        replay(rd);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void onNext(T item) {
+        Objects.requireNonNull(item);
+        if (done) return;
+        append(item);
+        size++;
+        trim();
+        for (Object rd : subscribers.get()) {
+            replay((ReplayDisposable<T>) rd);
+        }
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        Objects.requireNonNull(t);
+        terminate(new Signals.ErrorSignal(t));
+    }
+
+    @Override
+    public void onComplete() {
+        terminate(Signals.COMPLETE);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void terminate(Object signal) {
+        if (done) return;
+        done = true;
+        append(signal);
+        trim();
+        for (Object rd : subscribers.terminate()) {
+            replay((ReplayDisposable<T>) rd);
+        }
+    }
+
+    private void append(Object value) {
+        Node n = new Node(value, scheduler != null ? scheduler.now(TimeUnit.NANOSECONDS) : 0L);
+        Node t = tail;
+        tail = n;
+        t.set(n);
+    }
+
+    private void trim() {
+        Node h = head;
+        while (size > maxSize) {
+            h = h.get();
+            size--;
+        }
+        if (scheduler != null) {
+            long limit = scheduler.now(TimeUnit.NANOSECONDS) - maxAgeNanos;
+            for (;;) {
+                Node next = h.get();
+                if (next == null || Signals.isTerminal(next.value) || next.time > limit) break;
+                h = next;
+                size--;
+            }
+        }
+        head = h;
+    }
+
+    /**
+     * Начальная точка для нового подписчика: устаревшие, но ещё не вычищенные
+     * элементы пропускаются.
+     */
+    private Node startNode() {
+        Node h = head;
+        if (scheduler != null) {
+            long limit = scheduler.now(TimeUnit.NANOSECONDS) - maxAgeNanos;
+            for (;;) {
+                Node next = h.get();
+                if (next == null || Signals.isTerminal(next.value) || next.time > limit) break;
+                h = next;
+            }
+        }
+        return h;
+    }
+
+    private void replay(ReplayDisposable<T> rd) {
+        if (rd.getAndIncrement() != 0) return;
+        int missed = 1;
+        Node node = rd.node;
+        if (node == null) {
+            node = startNode();
+        }
+        for (;;) {
+            for (;;) {
+                if (rd.downstream.isDisposed()) {
+                    rd.node = null;
+                    return;
+                }
+                Node next = node.get();
+                if (next == null) break;
+                node = next;
+                if (Signals.deliver(next.value, rd.downstream)) {
+                    rd.node = null;
+                    return;
+                }
+            }
+            rd.node = node;
+            missed = rd.addAndGet(-missed);
+            if (missed == 0) break;
+        }
+    }
+
+    @Override
+    public boolean hasObservers() {
+        return subscribers.get().length != 0;
+    }
+
+    /**
+     * Узел списка; ссылка на следующий — значение AtomicReference.
+     */
+    static final class Node extends AtomicReference<Node> {
+        final Object value;
+        final long time;
+
+        Node(Object value, long time) {
+            this.value = value;
+            this.time = time;
+        }
+    }
+
+    /**
+     * Позиция подписчика в буфере. Счётчик (AtomicInteger) — work-in-progress
+     * его дренажа: новые элементы и первое воспроизведение не пересекаются.
+     */
+    static final class ReplayDisposable<T> extends AtomicInteger {
+        final Emitter<T> downstream;
+        Node node;
+
+        ReplayDisposable(Emitter<T> downstream) {
+            this.downstream = downstream;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package org.example.subjects;
+
+import org.example.Observer;
+
+/**
+ * Терминальные сигналы, хранимые рядом с элементами в буферах Subject'ов.
+ */
+final class Signals {
+    static final Object COMPLETE = new Object();
+
+    record ErrorSignal(Throwable error) {
+    }
+
+    private Signals() {
+    }
+
+    static boolean isTerminal(Object signal) {
+        return signal == COMPLETE || signal instanceof ErrorSignal;
+    }
+
+    /**
+     * @return {@code true}, если доставлен терминальный сигнал
+     */
+    @SuppressWarnings("unchecked")
+    static <T> boolean deliver(Object signal, Observer<T> observer) {
+        if (signal == COMPLETE) {
+            observer.onComplete();
+            return true;
+        }
+        if (signal instanceof ErrorSignal e) {
+            observer.onError(e.error());
+            return true;
+        }
+        observer.onNext((T) signal);
+        return false;
+    }
+}
@@ -0,0 +1,19 @@
+package org.example.subjects;
+
+import org.example.AbstractObservable;
+import org.example.Observer;
+
+/**
+ * Одновременно источник и получатель: сигналы, поданные в Subject как в
+ * Observer, раздаются всем его подписчикам. Источник, на который подписан
+ * Subject, выполняется один раз, сколько бы подписчиков ни было.
+ * <p>
+ * Методы Observer нужно вызывать последовательно, как и у любого Observer.
+ */
+public abstract class Subject<T> extends AbstractObservable<T> implements Observer<T> {
+
+    protected Subject() {
+    }
+
+    public abstract boolean hasObservers();
+}
@@ -0,0 +1,78 @@
+package org.example.subjects;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Массив подписчиков с копированием при записи: подписка и отписка заменяют
+ * массив через CAS, а раздача элемента только читает текущий массив —
+ * без блокировок на элемент.
+ */
+final class Subscribers<S> extends AtomicReference<Object[]> {
+    private static final Object[] EMPTY = new Object[0];
+    private static final Object[] TERMINATED = new Object[0];
+
+    Subscribers() {
+        super(EMPTY);
+    }
+
+    /**
+     * @return {@code false}, если Subject уже завершён
+     */
+    boolean add(S subscriber) {
+        for (;;) {
+            Object[] current = get();
+            if (current == TERMINATED) {
+                return false;
+            }
+            int n = current.length;
+            Object[] next = Arrays.copyOf(current, n + 1);
+            next[n] = subscriber;
+            if (compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    void remove(S subscriber) {
+        for (;;) {
+            Object[] current = get();
+            int n = current.length;
+            if (n == 0) {
+                return;
+            }
+            int index = -1;
+            for (int i = 0; i < n; i++) {
+                if (current[i] == subscriber) {
+                    index = i;
+                    break;
+                }
+            }
+            if (index < 0) {
+                return;
+            }
+            Object[] next;
+            if (n == 1) {
+                next = EMPTY;
+            } else {
+                next = new Object[n - 1];
+                System.arraycopy(current, 0, next, 0, index);
+                System.arraycopy(current, index + 1, next, index, n - index - 1);
+            }
+            if (compareAndSet(current, next)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Переводит в завершённое состояние и возвращает подписчиков на этот момент.
+     */
+    Object[] terminate() {
+        return getAndSet(TERMINATED);
+    }
+
+    boolean isTerminated() {
+        return get() == TERMINATED;
+    }
+}
@@ -1,31 +1,279 @@
 package schedulers;
 
 import org.example.Scheduler;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import org.example.internal.queue.MpscLinkedArrayQueue;
+import org.example.internal.queue.SimpleQueue;
+import org.example.plugins.Plugins;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * планировщик для вычислительных задач.
+ * <p>
+ * Вместо одной общей очереди — массив однопоточных воркеров, у каждого своя
+ * неблокирующая очередь. {@link #execute(Runnable)} раскладывает задачи
+ * по кругу, {@link #createWorker()} закрепляет подписку за наименее
+ * загруженным воркером. Простаивающий воркер забирает задачи из очередей
+ * занятых; задачи одного {@code createWorker()} при этом всё равно идут
+ * строго по одной и по порядку.
+ * <p>
+ * Очередь воркера — не MPSC: из неё забирают и сам воркер, и соседи при
+ * краже, то есть потребителей несколько. Поэтому это
+ * {@link ConcurrentLinkedQueue} (MPMC, тоже без блокировок). MPSC-очередь
+ * ({@link MpscLinkedArrayQueue}) — у исполнителя {@code createWorker()}: её
+ * вычитывает только он сам, а соседи крадут исполнитель целиком, одной
+ * задачей воркера.
  */
 public class ComputationScheduler implements Scheduler {
     private static final AtomicInteger COUNTER = new AtomicInteger(1);
-    private final ExecutorService executor;
+    private final int threads;
+    private final AtomicInteger roundRobin = new AtomicInteger();
+    private volatile PoolWorker[] workers;
 
     public ComputationScheduler() {
-        int cores = Runtime.getRuntime().availableProcessors();
-        executor = Executors.newFixedThreadPool(
-                cores,
-                r -> {
-                    Thread t = new Thread(r, "ComputeThread-" + COUNTER.getAndIncrement());
-                    t.setDaemon(true);
-                    return t;
-                }
-        );
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public ComputationScheduler(int threads) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("threads > 0 required but it was " + threads);
+        }
+        this.threads = threads;
+        this.workers = newWorkers();
+    }
+
+    private PoolWorker[] newWorkers() {
+        PoolWorker[] pool = new PoolWorker[threads];
+        for (int i = 0; i < threads; i++) {
+            pool[i] = new PoolWorker(pool);
+        }
+        return pool;
     }
 
     @Override
     public void execute(Runnable task) {
-        executor.submit(task);
+        PoolWorker[] pool = workers;
+        pool[Math.floorMod(roundRobin.getAndIncrement(), pool.length)].submit(Plugins.onSchedule("computation", task));
+    }
+
+    /**
+     * Последовательный исполнитель поверх наименее загруженного воркера.
+     */
+    @Override
+    public Scheduler createWorker() {
+        PoolWorker[] pool = workers;
+        int start = Math.floorMod(roundRobin.getAndIncrement(), pool.length);
+        int best = start;
+        for (int i = 1; i < pool.length && pool[best].pending.get() != 0; i++) {
+            int candidate = (start + i) % pool.length;
+            if (pool[candidate].pending.get() < pool[best].pending.get()) {
+                best = candidate;
+            }
+        }
+        return new PinnedWorker(this, best);
+    }
+
+    @Override
+    public synchronized void start() {
+        if (workers[0].shutdown) {
+            workers = newWorkers();
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        for (PoolWorker worker : workers) {
+            worker.shutdown();
+        }
+    }
+
+    private static void runTask(Runnable task) {
+        try {
+            task.run();
+        } catch (Throwable ex) {
+            Thread current = Thread.currentThread();
+            current.getUncaughtExceptionHandler().uncaughtException(current, ex);
+        }
+    }
+
+    /**
+     * Однопоточный воркер. Поток создаётся при первой задаче.
+     */
+    static final class PoolWorker implements Runnable {
+        private final PoolWorker[] siblings;
+        /** Много потребителей (владелец и воркеры-воры), поэтому MPMC. */
+        private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+        /** Задачи в очереди (без выполняющейся). */
+        final AtomicInteger pending = new AtomicInteger();
+        private final AtomicBoolean started = new AtomicBoolean();
+        private volatile Thread thread;
+        private volatile boolean parked;
+        volatile boolean shutdown;
+
+        PoolWorker(PoolWorker[] siblings) {
+            this.siblings = siblings;
+        }
+
+        void submit(Runnable task) {
+            if (shutdown) {
+                throw new RejectedExecutionException("ComputationScheduler is shut down");
+            }
+            queue.offer(task);
+            pending.incrementAndGet();
+            // shutdown() мог пройти между проверкой и offer: задачу либо
+            // забирают обратно и отклоняют, либо её уже взял воркер и выполнит
+            if (shutdown && queue.remove(task)) {
+                pending.decrementAndGet();
+                throw new RejectedExecutionException("ComputationScheduler is shut down");
+            }
+            if (!started.get() && started.compareAndSet(false, true)) {
+                Thread t = new Thread(this, "ComputeThread-" + COUNTER.getAndIncrement());
+                t.setDaemon(true);
+                thread = t;
+                t.start();
+            } else if (parked) {
+                LockSupport.unpark(thread);
+            } else {
+                // воркер занят — пусть задачу заберёт простаивающий сосед
+                wakeIdleSibling();
+            }
+        }
+
+        private Runnable poll() {
+            Runnable task = queue.poll();
+            if (task != null) {
+                pending.decrementAndGet();
+            }
+            return task;
+        }
+
+        private boolean hasStealableWork() {
+            for (PoolWorker victim : siblings) {
+                if (victim != this && !victim.parked && victim.pending.get() > 0) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private Runnable steal() {
+            for (PoolWorker victim : siblings) {
+                if (victim != this && !victim.parked && victim.pending.get() > 0) {
+                    Runnable task = victim.poll();
+                    if (task != null) return task;
+                }
+            }
+            return null;
+        }
+
+        private void wakeIdleSibling() {
+            for (PoolWorker sibling : siblings) {
+                if (sibling != this && sibling.parked) {
+                    LockSupport.unpark(sibling.thread);
+                    return;
+                }
+            }
+        }
+
+        void shutdown() {
+            shutdown = true;
+            Thread t = thread;
+            if (t != null) {
+                LockSupport.unpark(t);
+            }
+        }
+
+        @Override
+        public void run() {
+            for (;;) {
+                Runnable task = poll();
+                if (task == null) {
+                    task = steal();
+                }
+                if (task != null) {
+                    runTask(task);
+                    continue;
+                }
+                if (shutdown) {
+                    // задача могла встать в очередь после poll(), но до флага
+                    if (queue.isEmpty()) return;
+                    continue;
+                }
+
+                parked = true;
+                // повторная проверка после флага: иначе можно проспать задачу
+                if (queue.isEmpty() && !shutdown && !hasStealableWork()) {
+                    LockSupport.park(this);
+                }
+                parked = false;
+            }
+        }
+    }
+
+    /**
+     * Исполнитель одной подписки: задачи выполняются по одной и по порядку,
+     * в очереди воркера всегда стоит не больше одной его задачи. Выполнив задачу,
+     * он встаёт в конец очереди воркера, не занимая поток надолго.
+     * <p>
+     * Закреплён за номером воркера, а не за самим воркером: после
+     * {@code shutdown()}/{@code start()} задачи уходят в воркер нового пула.
+     */
+    static final class PinnedWorker extends AtomicInteger implements Scheduler, Runnable {
+        private final ComputationScheduler owner;
+        private final int index;
+        private final SimpleQueue<Runnable> tasks = new MpscLinkedArrayQueue<>(16);
+
+        PinnedWorker(ComputationScheduler owner, int index) {
+            this.owner = owner;
+            this.index = index;
+        }
+
+        @Override
+        public void execute(Runnable task) {
+            if (owner.workers[index].shutdown) {
+                throw new RejectedExecutionException("ComputationScheduler is shut down");
+            }
+            tasks.offer(Plugins.onSchedule("computation", task));
+            if (getAndIncrement() == 0) {
+                submit();
+            }
+        }
+
+        /**
+         * Если пул остановился, пока задача выполнялась, принятые после неё
+         * задачи дорабатывают здесь же, в текущем потоке воркера.
+         */
+        @Override
+        public void run() {
+            for (;;) {
+                runTask(tasks.poll());
+                if (decrementAndGet() == 0) return;
+                try {
+                    owner.workers[index].submit(this);
+                    return;
+                } catch (RejectedExecutionException ignored) {
+                    // пул остановлен: следующая задача выполняется без возврата в очередь
+                }
+            }
+        }
+
+        /**
+         * Первая задача после простоя. Если пул остановлен, она не принята:
+         * очередь и счётчик сбрасываются, чтобы после {@code start()}
+         * исполнитель снова принимал задачи.
+         */
+        private void submit() {
+            try {
+                owner.workers[index].submit(this);
+            } catch (RejectedExecutionException ex) {
+                tasks.clear();
+                set(0);
+                throw ex;
+            }
+        }
     }
 }
@@ -1,8 +1,13 @@
 package schedulers;
 
 import org.example.Scheduler;
+import org.example.plugins.Plugins;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
@@ -10,15 +15,54 @@ import java.util.concurrent.atomic.AtomicInteger;
  */
 public class IOThreadScheduler implements Scheduler {
     private static final AtomicInteger COUNTER = new AtomicInteger(1);
-    private final ExecutorService executor =
-            Executors.newCachedThreadPool(r -> {
-                Thread t = new Thread(r, "IOThread-" + COUNTER.getAndIncrement());
-                t.setDaemon(true);
-                return t;
-            });
+    private static final ThreadFactory FACTORY = r -> {
+        Thread t = new Thread(r, "IOThread-" + COUNTER.getAndIncrement());
+        t.setDaemon(true);
+        return t;
+    };
+    private final int maxThreads;
+    private volatile ExecutorService executor;
+
+    public IOThreadScheduler() {
+        this(Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param maxThreads предел числа потоков; задачи сверх него ждут в очереди.
+     *                   {@link Integer#MAX_VALUE} — без предела (кэширующий пул).
+     */
+    public IOThreadScheduler(int maxThreads) {
+        if (maxThreads <= 0) {
+            throw new IllegalArgumentException("maxThreads > 0 required but it was " + maxThreads);
+        }
+        this.maxThreads = maxThreads;
+        this.executor = newExecutor();
+    }
+
+    private ExecutorService newExecutor() {
+        if (maxThreads == Integer.MAX_VALUE) {
+            return Executors.newCachedThreadPool(FACTORY);
+        }
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(
+                maxThreads, maxThreads, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), FACTORY);
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
 
     @Override
     public void execute(Runnable task) {
-        executor.submit(task);
+        executor.submit(Plugins.onSchedule("io", task));
+    }
+
+    @Override
+    public synchronized void start() {
+        if (executor.isShutdown()) {
+            executor = newExecutor();
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        executor.shutdown();
     }
-}
\ No newline at end of file
+}
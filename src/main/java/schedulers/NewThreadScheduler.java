@@ -0,0 +1,34 @@
+package schedulers;
+
+import org.example.Scheduler;
+import org.example.plugins.Plugins;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Планировщик, запускающий каждую задачу в собственном новом потоке.
+ */
+public class NewThreadScheduler implements Scheduler {
+    private static final AtomicInteger COUNTER = new AtomicInteger(1);
+    private volatile boolean shutdown;
+
+    @Override
+    public void execute(Runnable task) {
+        if (shutdown) {
+            throw new RejectedExecutionException("NewThreadScheduler is shut down");
+        }
+        Thread t = new Thread(Plugins.onSchedule("newThread", task), "NewThread-" + COUNTER.getAndIncrement());
+        t.setDaemon(true);
+        t.start();
+    }
+
+    @Override
+    public void start() {
+        shutdown = false;
+    }
+
+    @Override
+    public void shutdown() {
+        shutdown = true;
+    }
+}
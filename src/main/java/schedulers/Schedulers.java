@@ -0,0 +1,95 @@
+package schedulers;
+
+import org.example.Scheduler;
+
+/**
+ * Общие экземпляры планировщиков. Пулы создаются один раз на процесс,
+ * поэтому {@code observeOn(Schedulers.computation())} можно писать где угодно,
+ * не плодя потоки.
+ * <p>
+ * Размеры пулов задаются системными свойствами:
+ * {@code customrx.computation-threads} (по умолчанию — число ядер) и
+ * {@code customrx.io-max-threads} (по умолчанию — без предела).
+ * <p>
+ * В тестах общий экземпляр можно подменить через {@code setXxx(...)}
+ * и вернуть обратно через {@link #reset()}.
+ */
+public final class Schedulers {
+    private static final Scheduler COMPUTATION = new ComputationScheduler(
+            Integer.getInteger("customrx.computation-threads", Runtime.getRuntime().availableProcessors()));
+    private static final Scheduler IO = new IOThreadScheduler(
+            Integer.getInteger("customrx.io-max-threads", Integer.MAX_VALUE));
+    private static final Scheduler SINGLE = new SingleThreadScheduler();
+    private static final Scheduler NEW_THREAD = new NewThreadScheduler();
+
+    private static volatile Scheduler computation = COMPUTATION;
+    private static volatile Scheduler io = IO;
+    private static volatile Scheduler single = SINGLE;
+    private static volatile Scheduler newThread = NEW_THREAD;
+
+    private Schedulers() {
+    }
+
+    public static Scheduler computation() {
+        return computation;
+    }
+
+    public static Scheduler io() {
+        return io;
+    }
+
+    public static Scheduler single() {
+        return single;
+    }
+
+    public static Scheduler newThread() {
+        return newThread;
+    }
+
+    public static void setComputation(Scheduler scheduler) {
+        computation = scheduler != null ? scheduler : COMPUTATION;
+    }
+
+    public static void setIo(Scheduler scheduler) {
+        io = scheduler != null ? scheduler : IO;
+    }
+
+    public static void setSingle(Scheduler scheduler) {
+        single = scheduler != null ? scheduler : SINGLE;
+    }
+
+    public static void setNewThread(Scheduler scheduler) {
+        newThread = scheduler != null ? scheduler : NEW_THREAD;
+    }
+
+    /**
+     * Возвращает стандартные экземпляры вместо подменённых.
+     */
+    public static void reset() {
+        computation = COMPUTATION;
+        io = IO;
+        single = SINGLE;
+        newThread = NEW_THREAD;
+    }
+
+    /**
+     * Перезапускает остановленные стандартные планировщики.
+     */
+    public static void start() {
+        COMPUTATION.start();
+        IO.start();
+        SINGLE.start();
+        NEW_THREAD.start();
+    }
+
+    /**
+     * Останавливает стандартные планировщики: уже принятые задачи доработают,
+     * новые будут отклонены до вызова {@link #start()}.
+     */
+    public static void shutdown() {
+        COMPUTATION.shutdown();
+        IO.shutdown();
+        SINGLE.shutdown();
+        NEW_THREAD.shutdown();
+    }
+}
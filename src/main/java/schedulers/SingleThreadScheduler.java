@@ -1,6 +1,7 @@
 package schedulers;
 
 import org.example.Scheduler;
+import org.example.plugins.Plugins;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
@@ -8,15 +9,30 @@ import java.util.concurrent.Executors;
  * Однопоточный планировщик.
  */
 public class SingleThreadScheduler implements Scheduler {
-    private final ExecutorService executor =
-            Executors.newSingleThreadExecutor(r -> {
-                Thread t = new Thread(r, "SingleThread");
-                t.setDaemon(true);
-                return t;
-            });
+    private volatile ExecutorService executor = newExecutor();
+
+    private static ExecutorService newExecutor() {
+        return Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "SingleThread");
+            t.setDaemon(true);
+            return t;
+        });
+    }
 
     @Override
     public void execute(Runnable task) {
-        executor.submit(task);
+        executor.submit(Plugins.onSchedule("single", task));
+    }
+
+    @Override
+    public synchronized void start() {
+        if (executor.isShutdown()) {
+            executor = newExecutor();
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        executor.shutdown();
     }
 }
@@ -0,0 +1,70 @@
+package schedulers;
+
+import org.example.Scheduler;
+import org.example.plugins.Plugins;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Планировщик для блокирующего IO на виртуальных потоках: каждая задача
+ * получает свой виртуальный поток, и тысячи одновременно заблокированных
+ * источников не держат тысячи потоков ОС.
+ */
+public class VirtualThreadScheduler implements Scheduler {
+    private final Semaphore permits;
+    private volatile ExecutorService executor = newExecutor();
+
+    public VirtualThreadScheduler() {
+        this.permits = null;
+    }
+
+    /**
+     * @param maxConcurrency сколько задач может выполняться одновременно;
+     *                       остальные ждут разрешения в своих виртуальных потоках.
+     */
+    public VirtualThreadScheduler(int maxConcurrency) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("maxConcurrency > 0 required but it was " + maxConcurrency);
+        }
+        this.permits = new Semaphore(maxConcurrency);
+    }
+
+    private static ExecutorService newExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("VirtualThread-", 1).factory());
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        Runnable decorated = Plugins.onSchedule("virtualThread", task);
+        if (permits == null) {
+            executor.execute(decorated);
+            return;
+        }
+        executor.execute(() -> {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            try {
+                decorated.run();
+            } finally {
+                permits.release();
+            }
+        });
+    }
+
+    @Override
+    public synchronized void start() {
+        if (executor.isShutdown()) {
+            executor = newExecutor();
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -2,6 +2,9 @@ package org.example;
 
 import schedulers.IOThreadScheduler;
 import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.*;
@@ -38,7 +41,7 @@ class AdvancedScenariosTest {
     @Test
     void testErrorInInnerFlatMapDoesNotCrashOuter() throws InterruptedException {
         CountDownLatch latch = new CountDownLatch(1);
-        AtomicReference<Throwable> errRef = new AtomicReference<>();
+        List<String> signals = Collections.synchronizedList(new ArrayList<>());
 
         Observable.<Integer>create(obs -> {
                     obs.onNext(1);
@@ -51,12 +54,13 @@ class AdvancedScenariosTest {
                         })
                 )
                 .subscribe(
-                        s -> fail("onNext не ожидается"),
-                        err -> { errRef.set(err); latch.countDown(); },
-                        () -> {}
+                        signals::add,
+                        err -> { signals.add("error: " + err.getMessage()); latch.countDown(); },
+                        () -> signals.add("complete")
                 );
 
         assertTrue(latch.await(1, TimeUnit.SECONDS));
-        assertEquals("inner fail", errRef.get().getMessage());
+        assertEquals(List.of("ok", "error: inner fail"), signals,
+                "Элемент внутреннего источника приходит до его ошибки, завершения нет");
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,113 @@
+package org.example;
+
+import schedulers.ComputationScheduler;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import static org.junit.jupiter.api.Assertions.*;
+
+class AggregationTest {
+
+    /** Результат синхронного Single. */
+    private static <T> T result(Single<T> single) {
+        AtomicReference<T> value = new AtomicReference<>();
+        single.subscribe(value::set, t -> fail(t));
+        return value.get();
+    }
+
+    @Test
+    void testReduceAndScan() {
+        assertEquals(15, result(Observable.range(1, 5).reduce(Integer::sum)));
+        assertEquals("abc", result(Observable.fromArray("a", "b", "c").reduce("", String::concat)));
+
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        Observable.<Integer>fromArray().reduce(Integer::sum).subscribe(v -> fail("пустой поток"), error::set);
+        assertInstanceOf(NoSuchElementException.class, error.get());
+
+        List<Integer> sums = new ArrayList<>();
+        Observable.range(1, 4).scan(Integer::sum).subscribe(sums::add, err -> fail(err), () -> {});
+        assertEquals(List.of(1, 3, 6, 10), sums);
+
+        List<Integer> seeded = new ArrayList<>();
+        Observable.range(1, 3).scan(100, Integer::sum).subscribe(seeded::add, err -> fail(err), () -> {});
+        assertEquals(List.of(100, 101, 103, 106), seeded);
+    }
+
+    @Test
+    void testCollectCountToListToMap() {
+        assertEquals(1000L, result(Observable.range(0, 1000).count()));
+        assertEquals(List.of(0, 1, 2), result(Observable.range(0, 3).toList(3)));
+
+        Map<Integer, String> byLength = result(Observable.fromArray("a", "bb", "ccc").toMap(String::length));
+        assertEquals(Map.of(1, "a", 2, "bb", 3, "ccc"), byLength);
+
+        StringBuilder sb = result(Observable.range(0, 4).collect(StringBuilder::new, StringBuilder::append));
+        assertEquals("0123", sb.toString());
+
+        Map<Boolean, Long> evenOdd = result(Observable.range(0, 10)
+                .collect(Collectors.partitioningBy(i -> i % 2 == 0, Collectors.counting())));
+        assertEquals(Map.of(true, 5L, false, 5L), evenOdd);
+    }
+
+    @Test
+    void testAccumulatorErrorCancelsSource() {
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        AtomicInteger produced = new AtomicInteger();
+        Observable.<Integer>create(emitter -> {
+                    for (int i = 0; i < 100 && !emitter.isDisposed(); i++) {
+                        produced.incrementAndGet();
+                        emitter.onNext(i);
+                    }
+                    emitter.onComplete();
+                })
+                .collect(ArrayList<Integer>::new, (list, item) -> {
+                    if (item == 5) throw new IllegalStateException("boom");
+                    list.add(item);
+                })
+                .subscribe(v -> fail("ожидалась ошибка"), error::set);
+
+        assertEquals("boom", error.get().getMessage());
+        assertEquals(6, produced.get(), "Источник должен остановиться после ошибки");
+    }
+
+    @Test
+    void testParallelCollectCombinesRails() throws InterruptedException {
+        ComputationScheduler computation = new ComputationScheduler(4);
+        CountDownLatch done = new CountDownLatch(1);
+        AtomicReference<List<Integer>> list = new AtomicReference<>();
+
+        Observable.range(0, 10_000)
+                .parallel(4)
+                .runOn(computation)
+                .map(i -> i * 2)
+                .collect(Collectors.toList())
+                .subscribe(v -> {
+                    list.set(v);
+                    done.countDown();
+                }, t -> fail(t));
+
+        assertTrue(done.await(5, TimeUnit.SECONDS), "Сборка не завершилась");
+        assertEquals(10_000, list.get().size());
+        assertEquals(10_000L * 9_999, list.get().stream().mapToLong(Integer::longValue).sum());
+
+        AtomicReference<Long> sum = new AtomicReference<>();
+        CountDownLatch summed = new CountDownLatch(1);
+        Observable.<Integer>fromArray()
+                .parallel(2)
+                .collect(Collectors.summingLong(Integer::longValue))
+                .subscribe(v -> {
+                    sum.set(v);
+                    summed.countDown();
+                }, t -> fail(t));
+        assertTrue(summed.await(5, TimeUnit.SECONDS));
+        assertEquals(0L, sum.get(), "Пустой поток даёт результат от пустого контейнера");
+        computation.shutdown();
+    }
+}
@@ -0,0 +1,238 @@
+package org.example;
+
+import schedulers.ComputationScheduler;
+import schedulers.SingleThreadScheduler;
+import org.example.subjects.PublishSubject;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchingTest {
+
+    @Test
+    void testBufferByCount() {
+        List<List<Integer>> out = new ArrayList<>();
+
+        Observable.range(1, 7)
+                .buffer(3)
+                .subscribe(out::add, err -> fail(), () -> {});
+
+        assertEquals(List.of(List.of(1, 2, 3), List.of(4, 5, 6), List.of(7)), out);
+    }
+
+    @Test
+    void testBufferByTimeFlushesOnTimerAndOnComplete() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(1);
+        List<List<Integer>> out = Collections.synchronizedList(new ArrayList<>());
+
+        Observable.<Integer>create(emitter -> {
+                    emitter.onNext(1);
+                    emitter.onNext(2);
+                    try {
+                        Thread.sleep(120);
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    emitter.onNext(3);
+                    emitter.onComplete();
+                })
+                .subscribeOn(new SingleThreadScheduler())
+                .buffer(50, TimeUnit.MILLISECONDS, new ComputationScheduler())
+                .subscribe(out::add, err -> fail(), done::countDown);
+
+        assertTrue(done.await(1, TimeUnit.SECONDS));
+        assertEquals(List.of(List.of(1, 2), List.of(3)), out, "пустые пачки по таймеру не выдаются");
+    }
+
+    @Test
+    void testSlowBufferConsumerDoesNotBlockSource() throws InterruptedException {
+        PublishSubject<Integer> source = PublishSubject.create();
+        CountDownLatch inHandler = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(1);
+        List<Integer> out = Collections.synchronizedList(new ArrayList<>());
+
+        source.buffer(10, TimeUnit.MILLISECONDS, new SingleThreadScheduler())
+                .subscribe(batch -> {
+                    out.addAll(batch);
+                    inHandler.countDown();
+                    LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(500));
+                }, err -> fail(), done::countDown);
+
+        source.onNext(1);
+        assertTrue(inHandler.await(1, TimeUnit.SECONDS));
+        long start = System.nanoTime();
+        source.onNext(2);
+        long blockedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertTrue(blockedMillis < 200, "Медленный подписчик не держит источник: " + blockedMillis + " мс");
+
+        source.onComplete();
+        assertTrue(done.await(2, TimeUnit.SECONDS));
+        assertEquals(List.of(1, 2), out);
+    }
+
+    @Test
+    void testBufferByCountOrTime() {
+        List<List<Integer>> out = new ArrayList<>();
+
+        Observable.range(0, 10)
+                .buffer(1, TimeUnit.HOURS, new ComputationScheduler(), 4)
+                .subscribe(out::add, err -> fail(), () -> {});
+
+        assertEquals(List.of(List.of(0, 1, 2, 3), List.of(4, 5, 6, 7), List.of(8, 9)), out);
+    }
+
+    @Test
+    void testWindowByCount() {
+        List<List<Integer>> windows = new ArrayList<>();
+
+        Observable.range(1, 5)
+                .window(2)
+                .subscribe(w -> {
+                    List<Integer> items = new ArrayList<>();
+                    windows.add(items);
+                    w.subscribe(items::add, err -> fail(), () -> {});
+                }, err -> fail(), () -> {});
+
+        assertEquals(List.of(List.of(1, 2), List.of(3, 4), List.of(5)), windows);
+    }
+
+    @Test
+    void testWindowByCountKeepsSourceWhileWindowIsSubscribed() {
+        AtomicReference<Emitter<Integer>> source = new AtomicReference<>();
+        AtomicBoolean sourceDisposed = new AtomicBoolean();
+        List<Integer> received = new ArrayList<>();
+        Disposable[] window = new Disposable[1];
+        Disposable outer = Observable.<Integer>create(emitter -> {
+                    source.set(emitter);
+                    emitter.setCancellable(() -> sourceDisposed.set(true));
+                })
+                .window(3)
+                .subscribe(w -> window[0] = w.subscribe(received::add, err -> fail(), () -> {}),
+                        err -> fail(), () -> {});
+
+        source.get().onNext(1);
+        outer.dispose();
+        assertFalse(sourceDisposed.get(), "Пока окно читают, источник не отменяется");
+        source.get().onNext(2);
+        assertEquals(List.of(1, 2), received, "Открытое окно дочитывает элементы");
+
+        window[0].dispose();
+        assertTrue(sourceDisposed.get(), "Ушли внешний подписчик и окно — источник отменён");
+    }
+
+    @Test
+    void testWindowByTimeKeepsSourceWhileWindowIsSubscribed() {
+        SingleThreadScheduler scheduler = new SingleThreadScheduler();
+        AtomicReference<Emitter<Integer>> source = new AtomicReference<>();
+        AtomicBoolean sourceDisposed = new AtomicBoolean();
+        List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+        Disposable[] window = new Disposable[1];
+        try {
+            Disposable outer = Observable.<Integer>create(emitter -> {
+                        source.set(emitter);
+                        emitter.setCancellable(() -> sourceDisposed.set(true));
+                    })
+                    .window(1, TimeUnit.HOURS, scheduler)
+                    .subscribe(w -> window[0] = w.subscribe(received::add, err -> fail(), () -> {}),
+                            err -> fail(), () -> {});
+
+            source.get().onNext(1);
+            outer.dispose();
+            assertFalse(sourceDisposed.get(), "Пока окно читают, источник не отменяется");
+            source.get().onNext(2);
+            assertEquals(List.of(1, 2), received, "Открытое окно дочитывает элементы");
+
+            window[0].dispose();
+            assertTrue(sourceDisposed.get(), "Ушли внешний подписчик и окно — источник отменён");
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    void testWindowOpenedByTickIsNotOvertakenByComplete() throws InterruptedException {
+        AtomicReference<Runnable> tick = new AtomicReference<>();
+        Scheduler manual = new Scheduler() {
+            @Override
+            public void execute(Runnable task) {
+                task.run();
+            }
+
+            @Override
+            public Disposable schedulePeriodically(Runnable task, long initialDelay, long period, TimeUnit unit) {
+                tick.set(task);
+                return new Disposable() {
+                    @Override
+                    public void dispose() {
+                    }
+
+                    @Override
+                    public boolean isDisposed() {
+                        return false;
+                    }
+                };
+            }
+        };
+        AtomicReference<Emitter<Integer>> source = new AtomicReference<>();
+        List<String> events = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch closing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Observable.<Integer>create(source::set)
+                .window(1, TimeUnit.HOURS, manual)
+                .subscribe(w -> {
+                    boolean first = events.isEmpty();
+                    events.add("window");
+                    w.subscribe(i -> { }, err -> fail(), () -> {
+                        if (first) {
+                            // тик закрывает первое окно и застревает, не успев выдать второе
+                            closing.countDown();
+                            try {
+                                release.await();
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                        }
+                    });
+                }, err -> fail(), () -> events.add("complete"));
+
+        Thread ticker = new Thread(tick.get());
+        ticker.start();
+        assertTrue(closing.await(1, TimeUnit.SECONDS));
+        source.get().onComplete();
+        release.countDown();
+        ticker.join(1000);
+
+        assertEquals(List.of("window", "window", "complete"), events,
+                "Окно, открытое тиком до onComplete, выдаётся раньше завершения");
+    }
+
+    @Test
+    void testBatchCrossesObserveOnAsOneTask() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(1);
+        List<Integer> out = Collections.synchronizedList(new ArrayList<>());
+        List<String> threads = Collections.synchronizedList(new ArrayList<>());
+
+        Observable.range(0, 1000)
+                .buffer(100)
+                .observeOn(new ComputationScheduler())
+                .flatMapIterable(batch -> {
+                    threads.add(Thread.currentThread().getName());
+                    return batch;
+                })
+                .subscribe(out::add, err -> fail(), done::countDown);
+
+        assertTrue(done.await(1, TimeUnit.SECONDS));
+        assertEquals(IntStream.range(0, 1000).boxed().collect(Collectors.toList()), out);
+        assertEquals(10, threads.size(), "одна распаковка на пачку");
+    }
+}
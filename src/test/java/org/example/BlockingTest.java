@@ -0,0 +1,120 @@
+package org.example;
+
+import schedulers.IOThreadScheduler;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import static org.junit.jupiter.api.Assertions.*;
+
+class BlockingTest {
+
+    /** Бесконечный источник на {@code io}; отмена подписки отпускает {@code cancelled}. */
+    private static Observable<Integer> endless(IOThreadScheduler io, CountDownLatch cancelled) {
+        return Observable.<Integer>create(emitter -> {
+            emitter.setCancellable(cancelled::countDown);
+            int i = 0;
+            while (!emitter.isDisposed()) {
+                emitter.onNext(i++);
+                LockSupport.parkNanos(1_000_000);
+            }
+        }).subscribeOn(io);
+    }
+
+    @Test
+    void testBlockingIterableOverAsyncSource() {
+        IOThreadScheduler io = new IOThreadScheduler();
+        List<Integer> received = new ArrayList<>();
+        for (Integer i : Observable.range(0, 10_000).subscribeOn(io).blockingIterable(16)) {
+            received.add(i);
+        }
+        assertEquals(IntStream.range(0, 10_000).boxed().toList(), received, "Все элементы по порядку");
+
+        int sum = 0;
+        for (Integer i : Observable.range(1, 100).subscribeOn(io).blockingIterable()) {
+            sum += i;
+        }
+        assertEquals(5050, sum, "Каждый iterator() подписывается заново");
+        io.shutdown();
+    }
+
+    @Test
+    void testFlowableBlockingIterableBoundsProducer() {
+        int prefetch = 16;
+        AtomicInteger emitted = new AtomicInteger();
+        Iterator<Integer> it = Flowable.range(0, 1000)
+                .map(i -> {
+                    emitted.incrementAndGet();
+                    return i;
+                })
+                .blockingIterable(prefetch)
+                .iterator();
+        int read = 0;
+        while (it.hasNext()) {
+            assertEquals(read, it.next());
+            read++;
+            assertTrue(emitted.get() - read <= prefetch,
+                    "Источник ушёл вперёд больше чем на prefetch: " + (emitted.get() - read));
+        }
+        assertEquals(1000, read);
+    }
+
+    @Test
+    void testErrorAfterReceivedItems() {
+        IllegalStateException boom = new IllegalStateException("boom");
+        IOThreadScheduler io = new IOThreadScheduler();
+        Iterator<Integer> it = Observable.<Integer>create(emitter -> {
+                    emitter.onNext(1);
+                    emitter.onNext(2);
+                    emitter.onError(boom);
+                })
+                .subscribeOn(io)
+                .blockingIterable()
+                .iterator();
+        assertEquals(1, it.next());
+        assertEquals(2, it.next());
+        assertSame(boom, assertThrows(IllegalStateException.class, it::hasNext), "Ошибка источника как есть");
+        io.shutdown();
+    }
+
+    @Test
+    void testStreamCloseDisposesSource() throws Exception {
+        IOThreadScheduler io = new IOThreadScheduler();
+        CountDownLatch cancelled = new CountDownLatch(1);
+        Observable<Integer> endless = endless(io, cancelled);
+
+        List<Integer> first;
+        try (Stream<Integer> stream = endless.blockingStream()) {
+            first = stream.limit(3).toList();
+        }
+        assertEquals(List.of(0, 1, 2), first);
+        assertTrue(cancelled.await(5, TimeUnit.SECONDS), "close() должен отменить подписку");
+        io.shutdown();
+    }
+
+    @Test
+    void testBlockingFirstAndForEach() throws Exception {
+        IOThreadScheduler io = new IOThreadScheduler();
+        assertEquals(5, Observable.range(5, 3).subscribeOn(io).blockingFirst());
+        assertThrows(NoSuchElementException.class, () -> Observable.<Integer>fromArray().blockingFirst());
+
+        List<Integer> items = new ArrayList<>();
+        Observable.range(0, 100).subscribeOn(io).blockingForEach(items::add);
+        assertEquals(100, items.size(), "blockingForEach возвращается после завершения");
+
+        CountDownLatch cancelled = new CountDownLatch(1);
+        Observable<Integer> endless = endless(io, cancelled);
+        assertThrows(ArithmeticException.class, () -> endless.blockingForEach(i -> {
+            if (i == 2) throw new ArithmeticException();
+        }));
+        assertTrue(cancelled.await(5, TimeUnit.SECONDS), "Исключение в onNext должно отменить подписку");
+        io.shutdown();
+    }
+}
@@ -0,0 +1,129 @@
+package org.example;
+
+import schedulers.IOThreadScheduler;
+import schedulers.SingleThreadScheduler;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheTest {
+
+    @Test
+    void testCacheSubscribesOnceAndReplaysLongHistory() {
+        AtomicInteger subscriptions = new AtomicInteger();
+        Observable<Integer> cached = Observable.<Integer>create(emitter -> {
+            subscriptions.incrementAndGet();
+            for (int i = 0; i < 10_000; i++) {
+                emitter.onNext(i);
+            }
+            emitter.onComplete();
+        }).cache();
+
+        List<Integer> first = new ArrayList<>();
+        List<Integer> second = new ArrayList<>();
+        cached.subscribe(first::add, Assertions::fail, () -> { });
+        cached.subscribe(second::add, Assertions::fail, () -> { });
+
+        assertEquals(1, subscriptions.get(), "Источник подписывается один раз");
+        assertEquals(10_000, first.size());
+        assertEquals(first, second, "Поздний подписчик получает всю историю");
+        for (int i = 0; i < second.size(); i++) {
+            assertEquals(i, second.get(i), "Порядок сохраняется на границах сегментов");
+        }
+    }
+
+    @Test
+    void testConcurrentRequestsForKeyAreCoalesced() throws InterruptedException {
+        IOThreadScheduler io = new IOThreadScheduler();
+        Map<String, AtomicInteger> calls = new ConcurrentHashMap<>();
+        CountDownLatch release = new CountDownLatch(1);
+        ObservableCache<String, String> cache = ObservableCache.create(key -> Observable.<String>create(emitter -> {
+            calls.computeIfAbsent(key, k -> new AtomicInteger()).incrementAndGet();
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                emitter.onError(ex);
+                return;
+            }
+            emitter.onNext(key.toUpperCase());
+            emitter.onComplete();
+        }).subscribeOn(io), 100);
+
+        List<String> received = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch done = new CountDownLatch(20);
+        for (int i = 0; i < 20; i++) {
+            cache.get(i % 2 == 0 ? "hot" : "warm").subscribe(received::add, Assertions::fail, done::countDown);
+        }
+        release.countDown();
+        assertTrue(done.await(5, TimeUnit.SECONDS), "Все подписчики должны получить результат");
+
+        assertEquals(1, calls.get("hot").get(), "Одновременные запросы ключа — один вызов источника");
+        assertEquals(1, calls.get("warm").get());
+        assertEquals(10, Collections.frequency(received, "HOT"));
+        assertEquals(10, Collections.frequency(received, "WARM"));
+
+        List<String> again = new ArrayList<>();
+        cache.get("hot").subscribe(again::add, Assertions::fail, () -> { });
+        assertEquals(List.of("HOT"), again, "Готовый результат отдаётся из кэша");
+        assertEquals(1, calls.get("hot").get());
+        io.shutdown();
+    }
+
+    @Test
+    void testMaxSizeEvictsLeastRecentlyUsed() {
+        Map<String, AtomicInteger> calls = new ConcurrentHashMap<>();
+        ObservableCache<String, Integer> cache = ObservableCache.create(key -> Observable.<Integer>create(emitter -> {
+            emitter.onNext(calls.computeIfAbsent(key, k -> new AtomicInteger()).incrementAndGet());
+            emitter.onComplete();
+        }), 2);
+
+        for (String key : List.of("a", "b", "a", "c", "a", "b")) {
+            cache.get(key).subscribe(v -> { }, Assertions::fail, () -> { });
+        }
+        assertEquals(1, calls.get("a").get(), "Часто запрашиваемый ключ не вытесняется");
+        assertEquals(2, calls.get("b").get(), "Дольше всех не запрашиваемый ключ вытеснен");
+        assertEquals(2, cache.size());
+
+        cache.invalidate("a");
+        cache.get("a").subscribe(v -> { }, Assertions::fail, () -> { });
+        assertEquals(2, calls.get("a").get(), "После invalidate ключ загружается заново");
+    }
+
+    @Test
+    void testTtlExpiryAndFailuresReload() {
+        SingleThreadScheduler clock = new SingleThreadScheduler();
+        AtomicInteger calls = new AtomicInteger();
+        Observable<Integer> source = Observable.create(emitter -> {
+            int call = calls.incrementAndGet();
+            if (call == 1) {
+                emitter.onError(new IllegalStateException("backend unavailable"));
+                return;
+            }
+            emitter.onNext(call);
+            emitter.onComplete();
+        });
+        Observable<Integer> cached = source.cacheWithTtl(100, TimeUnit.MILLISECONDS, clock);
+        List<Object> received = new ArrayList<>();
+
+        cached.subscribe(received::add, received::add, () -> { });
+        assertInstanceOf(IllegalStateException.class, received.get(0));
+        cached.subscribe(received::add, Assertions::fail, () -> { });
+        cached.subscribe(received::add, Assertions::fail, () -> { });
+        assertEquals(2, calls.get(), "Ошибка не кэшируется, успешный результат — да");
+        assertEquals(List.of(2, 2), received.subList(1, 3));
+
+        LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(150));
+        cached.subscribe(received::add, Assertions::fail, () -> { });
+        assertEquals(3, calls.get(), "По истечении срока результат загружается заново");
+        assertEquals(3, received.get(3));
+    }
+}
@@ -0,0 +1,184 @@
+package org.example;
+
+import schedulers.ComputationScheduler;
+import schedulers.IOThreadScheduler;
+import schedulers.SingleThreadScheduler;
+import org.example.internal.schedulers.InterruptibleTask;
+import org.junit.jupiter.api.Test;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CancellationTest {
+
+    @Test
+    void testSyncInfiniteSourceStopsOnDispose() {
+        AtomicInteger produced = new AtomicInteger();
+        AtomicInteger received = new AtomicInteger();
+
+        Observable.<Integer>create(emitter -> {
+                    int i = 0;
+                    while (!emitter.isDisposed()) {
+                        produced.incrementAndGet();
+                        emitter.onNext(i++);
+                    }
+                })
+                .map(i -> i * 2)
+                .filter(i -> i >= 0)
+                .subscribe(new Observer<Integer>() {
+                    private Disposable upstream;
+
+                    @Override
+                    public void onSubscribe(Disposable d) {
+                        upstream = d;
+                    }
+
+                    @Override
+                    public void onNext(Integer item) {
+                        if (received.incrementAndGet() == 10) {
+                            upstream.dispose();
+                        }
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                        fail(t);
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        fail("бесконечный источник не завершается");
+                    }
+                });
+
+        assertEquals(10, received.get());
+        assertEquals(10, produced.get(), "источник должен остановиться сразу после отмены");
+    }
+
+    @Test
+    void testDisposeReachesSourceThroughFlatMapAndObserveOn() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch cancelled = new CountDownLatch(2);
+
+        Disposable d = Observable.fromArray(1, 2)
+                .flatMap(i -> Observable.<Integer>create(emitter -> {
+                    emitter.setCancellable(cancelled::countDown);
+                    emitter.onNext(i);
+                }))
+                .observeOn(new ComputationScheduler())
+                .subscribe(i -> started.countDown(), err -> fail(), () -> fail("не должно завершиться"));
+
+        assertTrue(started.await(1, TimeUnit.SECONDS));
+        d.dispose();
+        assertTrue(cancelled.await(1, TimeUnit.SECONDS), "оба внутренних источника должны быть отменены");
+        assertTrue(d.isDisposed());
+    }
+
+    @Test
+    void testSubscribeOnInterruptsBlockingSource() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        Disposable d = Observable.<Integer>create(emitter -> {
+                    started.countDown();
+                    try {
+                        Thread.sleep(10_000);
+                    } catch (InterruptedException e) {
+                        interrupted.countDown();
+                    }
+                })
+                .subscribeOn(new IOThreadScheduler())
+                .subscribe(i -> fail(), err -> fail(), () -> fail());
+
+        assertTrue(started.await(1, TimeUnit.SECONDS));
+        d.dispose();
+        assertTrue(interrupted.await(1, TimeUnit.SECONDS), "блокирующий источник должен быть прерван");
+    }
+
+    @Test
+    void testTaskClearsOnlyItsOwnInterrupt() throws InterruptedException {
+        InterruptibleTask[] self = new InterruptibleTask[1];
+        self[0] = new InterruptibleTask(() -> {
+            // прерывание не от отмены: его должен увидеть и код после задачи
+            Thread.currentThread().interrupt();
+            self[0].dispose();
+        });
+        self[0].run();
+        assertTrue(Thread.interrupted(), "Чужое прерывание не сбрасывается");
+
+        CountDownLatch running = new CountDownLatch(1);
+        AtomicBoolean sawInterrupt = new AtomicBoolean();
+        InterruptibleTask blocking = new InterruptibleTask(() -> {
+            running.countDown();
+            try {
+                Thread.sleep(5_000);
+            } catch (InterruptedException e) {
+                sawInterrupt.set(true);
+            }
+        });
+        Thread disposer = new Thread(() -> {
+            try {
+                running.await();
+            } catch (InterruptedException e) {
+                return;
+            }
+            blocking.dispose();
+        });
+        disposer.start();
+        blocking.run();
+        disposer.join();
+        assertTrue(sawInterrupt.get(), "Отмена прерывает выполняющуюся задачу");
+        assertFalse(Thread.currentThread().isInterrupted(), "Прерывание от отмены не переживает задачу");
+    }
+
+    @Test
+    void testPendingSubscribeOnTaskIsNotRun() throws InterruptedException {
+        SingleThreadScheduler single = new SingleThreadScheduler();
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch blocked = new CountDownLatch(1);
+        AtomicBoolean subscribed = new AtomicBoolean();
+        single.execute(() -> {
+            blocked.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException ignored) {
+            }
+        });
+        assertTrue(blocked.await(1, TimeUnit.SECONDS));
+
+        Disposable d = Observable.<Integer>create(emitter -> subscribed.set(true))
+                .subscribeOn(single)
+                .subscribe(i -> fail(), err -> fail(), () -> fail());
+        d.dispose();
+        release.countDown();
+
+        CountDownLatch drained = new CountDownLatch(1);
+        single.execute(drained::countDown);
+        assertTrue(drained.await(1, TimeUnit.SECONDS));
+        assertFalse(subscribed.get(), "отменённая до старта подписка не должна выполняться");
+    }
+
+    @Test
+    void testIntervalStopsTickingAfterDispose() throws InterruptedException {
+        CountDownLatch firstTicks = new CountDownLatch(3);
+        AtomicLong ticks = new AtomicLong();
+        AtomicReference<Disposable> ref = new AtomicReference<>();
+
+        ref.set(Observable.interval(5, TimeUnit.MILLISECONDS, new ComputationScheduler())
+                .subscribe(t -> {
+                    ticks.incrementAndGet();
+                    firstTicks.countDown();
+                }, err -> fail(), () -> fail()));
+
+        assertTrue(firstTicks.await(1, TimeUnit.SECONDS));
+        ref.get().dispose();
+        Thread.sleep(20);
+        long afterDispose = ticks.get();
+        Thread.sleep(50);
+        assertEquals(afterDispose, ticks.get(), "после отмены тики прекращаются");
+    }
+}
@@ -0,0 +1,292 @@
+package org.example;
+
+import schedulers.IOThreadScheduler;
+import org.example.subjects.PublishSubject;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CombiningTest {
+
+    private static <T> Flowable<T> countingRequests(Flowable<T> source, AtomicLong requested) {
+        return Flowable.create(subscriber -> source.subscribe(new Subscriber<T>() {
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                subscriber.onSubscribe(new Subscription() {
+                    @Override
+                    public void request(long n) {
+                        requested.addAndGet(n);
+                        subscription.request(n);
+                    }
+
+                    @Override
+                    public void cancel() {
+                        subscription.cancel();
+                    }
+                });
+            }
+
+            @Override
+            public void onNext(T item) {
+                subscriber.onNext(item);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                subscriber.onError(t);
+            }
+
+            @Override
+            public void onComplete() {
+                subscriber.onComplete();
+            }
+        }));
+    }
+
+    @Test
+    void testMergeFromSeveralThreads() throws InterruptedException {
+        IOThreadScheduler io = new IOThreadScheduler();
+        List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch done = new CountDownLatch(1);
+        Observable.merge(
+                        Observable.range(0, 1000).subscribeOn(io),
+                        Observable.range(1000, 1000).subscribeOn(io),
+                        Observable.range(2000, 1000).subscribeOn(io))
+                .subscribe(received::add, Assertions::fail, done::countDown);
+        assertTrue(done.await(5, TimeUnit.SECONDS), "merge должен завершиться");
+        assertEquals(3000, received.size(), "Ни один элемент не потерян");
+        assertEquals(3000, received.stream().distinct().count(), "Ни один элемент не продублирован");
+
+        List<Integer> flowable = new ArrayList<>();
+        Flowable.merge(Flowable.range(0, 3), Flowable.range(3, 2)).blockingIterable().forEach(flowable::add);
+        assertEquals(List.of(0, 1, 2, 3, 4), flowable);
+        io.shutdown();
+    }
+
+    @Test
+    void testZipPairsByIndexAndStopsAtShortest() throws InterruptedException {
+        List<String> pairs = new ArrayList<>();
+        AtomicBoolean completed = new AtomicBoolean();
+        Observable.zip(Observable.fromArray("a", "b", "c"), Observable.range(1, 10), (s, i) -> s + i)
+                .subscribe(pairs::add, Assertions::fail, () -> completed.set(true));
+        assertEquals(List.of("a1", "b2", "c3"), pairs);
+        assertTrue(completed.get(), "zip завершается по самому короткому источнику");
+
+        IOThreadScheduler io = new IOThreadScheduler();
+        List<Integer> sums = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch done = new CountDownLatch(1);
+        Observable.zip(List.of(
+                        Observable.range(0, 500).subscribeOn(io),
+                        Observable.range(0, 500).subscribeOn(io),
+                        Observable.range(0, 500).subscribeOn(io)),
+                        row -> (Integer) row[0] + (Integer) row[1] + (Integer) row[2])
+                .subscribe(sums::add, Assertions::fail, done::countDown);
+        assertTrue(done.await(5, TimeUnit.SECONDS), "zip должен завершиться");
+        assertEquals(500, sums.size());
+        for (int i = 0; i < sums.size(); i++) {
+            assertEquals(3 * i, sums.get(i), "Наборы собраны строго по индексу");
+        }
+        io.shutdown();
+    }
+
+    @Test
+    void testFlowableZipBoundsFastSource() {
+        AtomicLong fastRequested = new AtomicLong();
+        Flowable<Integer> fast = countingRequests(Flowable.range(0, 1_000_000), fastRequested);
+        Flowable<Integer> slow = Flowable.range(0, 10);
+        List<Integer> sums = new ArrayList<>();
+        Flowable.zip(fast, slow, Integer::sum).blockingIterable().forEach(sums::add);
+        assertEquals(10, sums.size());
+        assertEquals(18, sums.get(9));
+        assertTrue(fastRequested.get() <= Observable.bufferSize(),
+                "Быстрый источник не забегает дальше prefetch: " + fastRequested.get());
+    }
+
+    @Test
+    void testCombineLatestEmitsAfterEverySourceHasValue() {
+        PublishSubject<Integer> numbers = PublishSubject.create();
+        PublishSubject<String> letters = PublishSubject.create();
+        List<String> received = new ArrayList<>();
+        AtomicBoolean completed = new AtomicBoolean();
+        Observable.combineLatest(numbers, letters, (n, s) -> s + n)
+                .subscribe(received::add, Assertions::fail, () -> completed.set(true));
+
+        numbers.onNext(1);
+        numbers.onNext(2);
+        assertTrue(received.isEmpty(), "Пока у букв нет значения, комбинаций нет");
+        letters.onNext("a");
+        numbers.onNext(3);
+        letters.onNext("b");
+        assertEquals(List.of("a2", "a3", "b3"), received);
+
+        numbers.onComplete();
+        letters.onNext("c");
+        assertEquals(List.of("a2", "a3", "b3", "c3"), received, "Завершённый источник отдаёт последнее значение");
+        assertFalse(completed.get());
+        letters.onComplete();
+        assertTrue(completed.get(), "Завершается, когда завершены все источники");
+    }
+
+    @Test
+    void testVarargsOverloadsCombineEverySource() {
+        List<Integer> zipped = new ArrayList<>();
+        Observable.zip(row -> (Integer) row[0] * 100 + (Integer) row[1] * 10 + (Integer) row[2],
+                        Observable.range(1, 2), Observable.range(3, 2), Observable.range(5, 2))
+                .subscribe(zipped::add, Assertions::fail, () -> { });
+        assertEquals(List.of(135, 246), zipped);
+
+        List<String> combined = new ArrayList<>();
+        Observable.combineLatest(row -> "" + row[0] + row[1] + row[2],
+                        Observable.fromArray("a"), Observable.fromArray("b"), Observable.fromArray("c", "d"))
+                .subscribe(combined::add, Assertions::fail, () -> { });
+        assertEquals(List.of("abc", "abd"), combined);
+
+        List<Integer> flowable = new ArrayList<>();
+        Flowable.zip(row -> (Integer) row[0] + (Integer) row[1] + (Integer) row[2],
+                        Flowable.range(0, 3), Flowable.range(0, 3), Flowable.range(0, 3))
+                .blockingIterable().forEach(flowable::add);
+        assertEquals(List.of(0, 3, 6), flowable);
+    }
+
+    @Test
+    void testFlowableCombineLatestWaitsForDemand() {
+        AtomicLong secondRequested = new AtomicLong();
+        Flowable<Integer> second = countingRequests(Flowable.range(0, 1_000_000), secondRequested);
+        List<Integer> received = new ArrayList<>();
+        AtomicBoolean completed = new AtomicBoolean();
+        Flowable.combineLatest(Flowable.range(100, 1), second, Integer::sum).subscribe(new Subscriber<Integer>() {
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                subscription.request(2);
+            }
+
+            @Override
+            public void onNext(Integer item) {
+                received.add(item);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                fail(t);
+            }
+
+            @Override
+            public void onComplete() {
+                completed.set(true);
+            }
+        });
+
+        assertEquals(List.of(100, 101), received);
+        assertFalse(completed.get());
+        assertTrue(secondRequested.get() <= Observable.bufferSize(),
+                "Без спроса источник не забегает дальше prefetch: " + secondRequested.get());
+
+        List<Integer> all = new ArrayList<>();
+        Flowable.combineLatest(Flowable.range(0, 5), Flowable.range(10, 3), Integer::sum)
+                .blockingIterable().forEach(all::add);
+        assertEquals(List.of(14, 15, 16), all, "Завершившийся источник отдаёт последнее значение");
+    }
+
+    @Test
+    void testCombineLatestEmitsForEveryItemDuringSlowCombine() throws InterruptedException {
+        PublishSubject<Integer> first = PublishSubject.create();
+        PublishSubject<Integer> second = PublishSubject.create();
+        List<String> received = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch combining = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Observable.combineLatest(first, second, (a, b) -> {
+                    if (a == 1 && b == 0) {
+                        // медленная комбинация: тем временем второй источник выдаёт три элемента
+                        combining.countDown();
+                        awaitQuietly(release);
+                    }
+                    return a + ":" + b;
+                })
+                .subscribe(received::add, err -> fail(err), () -> { });
+
+        first.onNext(0);
+        second.onNext(0);
+        Thread emitter = new Thread(() -> first.onNext(1));
+        emitter.start();
+        assertTrue(combining.await(1, TimeUnit.SECONDS));
+        second.onNext(1);
+        second.onNext(2);
+        second.onNext(3);
+        release.countDown();
+        emitter.join(1000);
+
+        assertEquals(List.of("0:0", "1:0", "1:1", "1:2", "1:3"), received, "Ни одна комбинация не пропускается");
+    }
+
+    @Test
+    void testFlowableCombineLatestEmitsForEveryItem() throws InterruptedException {
+        PublishSubject<Integer> first = PublishSubject.create();
+        PublishSubject<Integer> second = PublishSubject.create();
+        PublishSubject<Integer> third = PublishSubject.create();
+        List<String> received = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch combining = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Flowable.combineLatest(row -> {
+                            if ((Integer) row[0] == 1 && (Integer) row[1] == 0) {
+                                // пока комбинация считается, элементы приходят сразу от двух источников
+                                combining.countDown();
+                                awaitQuietly(release);
+                            }
+                            return row[0] + ":" + row[1] + ":" + row[2];
+                        },
+                        first.toFlowable(BackpressureStrategy.BUFFER),
+                        second.toFlowable(BackpressureStrategy.BUFFER),
+                        third.toFlowable(BackpressureStrategy.BUFFER))
+                .subscribe(received::add, err -> fail(err), () -> { });
+
+        first.onNext(0);
+        second.onNext(0);
+        third.onNext(0);
+        Thread emitter = new Thread(() -> first.onNext(1));
+        emitter.start();
+        assertTrue(combining.await(1, TimeUnit.SECONDS));
+        second.onNext(1);
+        third.onNext(1);
+        release.countDown();
+        emitter.join(1000);
+
+        assertEquals(List.of("0:0:0", "1:0:0", "1:1:0", "1:1:1"), received,
+                "Элементы, пришедшие за один проход дренажа, дают каждый свою комбинацию");
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    void testErrorCancelsOtherSources() {
+        AtomicBoolean disposed = new AtomicBoolean();
+        Observable<Integer> endless = Observable.create(emitter -> emitter.setCancellable(() -> disposed.set(true)));
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        Observable.zip(endless, Observable.<Integer>create(emitter -> emitter.onError(new IllegalStateException("boom"))),
+                        Integer::sum)
+                .subscribe(v -> fail("Наборов нет"), error::set, () -> fail("Ошибка, а не завершение"));
+        assertInstanceOf(IllegalStateException.class, error.get());
+        assertTrue(disposed.get(), "Ошибка одного источника отменяет остальные");
+
+        disposed.set(false);
+        error.set(null);
+        Observable.combineLatest(endless, Observable.<Integer>create(emitter -> emitter.onError(new IllegalStateException())),
+                        Integer::sum)
+                .subscribe(v -> fail("Комбинаций нет"), error::set, () -> fail("Ошибка, а не завершение"));
+        assertInstanceOf(IllegalStateException.class, error.get());
+        assertTrue(disposed.get(), "combineLatest тоже отменяет остальные источники");
+    }
+}
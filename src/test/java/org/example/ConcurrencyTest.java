@@ -3,7 +3,10 @@ package org.example;
 import schedulers.IOThreadScheduler;
 import schedulers.ComputationScheduler;
 import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -53,4 +56,111 @@ class ConcurrencyTest {
         assertNotEquals(main, calledOn.get());
         assertTrue(calledOn.get().startsWith("ComputeThread-"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testObserveOnPreservesOrderOnComputationPool() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        List<Integer> received = new ArrayList<>();
+        int count = 10_000;
+
+        Observable.<Integer>create(obs -> {
+                    for (int i = 0; i < count; i++) obs.onNext(i);
+                    obs.onComplete();
+                })
+                .observeOn(new ComputationScheduler(), 16)
+                .subscribe(
+                        received::add,
+                        err -> fail(),
+                        latch::countDown
+                );
+
+        assertTrue(latch.await(2, TimeUnit.SECONDS));
+        assertEquals(count, received.size(), "onComplete не должен обгонять элементы");
+        for (int i = 0; i < count; i++) {
+            assertEquals(i, received.get(i).intValue());
+        }
+    }
+
+    @Test
+    void testObserveOnSubmitsOneTaskPerBatch() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicInteger submissions = new AtomicInteger();
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        // источник успевает выдать всё до первого дренажа
+        CountDownLatch emitted = new CountDownLatch(1);
+        Scheduler gated = task -> {
+            submissions.incrementAndGet();
+            pool.execute(() -> {
+                try {
+                    emitted.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                task.run();
+            });
+        };
+
+        Observable.<Integer>create(obs -> {
+                    for (int i = 0; i < 100; i++) obs.onNext(i);
+                    obs.onComplete();
+                    emitted.countDown();
+                })
+                .observeOn(gated, 50)
+                .subscribe(i -> {}, err -> fail(), latch::countDown);
+
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+        pool.shutdown();
+        assertTrue(submissions.get() <= 3, "Ожидалась одна задача на пачку, было " + submissions.get());
+    }
+
+    @Test
+    void testComputationWorkerRunsTasksInOrderWithoutOverlap() throws InterruptedException {
+        int tasks = 1_000;
+        CountDownLatch latch = new CountDownLatch(tasks);
+        List<Integer> order = new ArrayList<>();
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger overlaps = new AtomicInteger();
+        Scheduler worker = new ComputationScheduler(4).createWorker();
+
+        for (int i = 0; i < tasks; i++) {
+            int index = i;
+            worker.execute(() -> {
+                if (running.incrementAndGet() > 1) overlaps.incrementAndGet();
+                order.add(index);
+                running.decrementAndGet();
+                latch.countDown();
+            });
+        }
+
+        assertTrue(latch.await(2, TimeUnit.SECONDS));
+        assertEquals(0, overlaps.get(), "Задачи одного воркера не должны пересекаться");
+        for (int i = 0; i < tasks; i++) {
+            assertEquals(i, order.get(i).intValue());
+        }
+    }
+
+    @Test
+    void testIdleComputationWorkerStealsFromBusyOne() throws InterruptedException {
+        ComputationScheduler sched = new ComputationScheduler(2);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch blockerStarted = new CountDownLatch(1);
+        sched.execute(() -> {
+            blockerStarted.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertTrue(blockerStarted.await(1, TimeUnit.SECONDS));
+
+        // половина задач ляжет в очередь занятого воркера
+        CountDownLatch done = new CountDownLatch(10);
+        for (int i = 0; i < 10; i++) {
+            sched.execute(done::countDown);
+        }
+
+        assertTrue(done.await(1, TimeUnit.SECONDS), "Свободный воркер должен забрать задачи занятого");
+        release.countDown();
+    }
+}
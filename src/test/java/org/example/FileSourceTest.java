@@ -0,0 +1,205 @@
+package org.example;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileSourceTest {
+
+    @TempDir
+    Path dir;
+
+    private Path write(String name, byte[] content) throws Exception {
+        return Files.write(dir.resolve(name), content);
+    }
+
+    private static byte[] bytes(int size) {
+        byte[] data = new byte[size];
+        for (int i = 0; i < size; i++) {
+            data[i] = (byte) (i % 251);
+        }
+        return data;
+    }
+
+    private static byte[] concat(Iterable<ByteBuffer> chunks) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (ByteBuffer chunk : chunks) {
+            byte[] b = new byte[chunk.remaining()];
+            chunk.get(b);
+            out.writeBytes(b);
+        }
+        return out.toByteArray();
+    }
+
+    private static String text(ByteBuffer line) {
+        return StandardCharsets.UTF_8.decode(line).toString();
+    }
+
+    @Test
+    void testFileChunksMatchContent() throws Exception {
+        byte[] data = bytes(10_000);
+        Path file = write("data.bin", data);
+
+        List<ByteBuffer> chunks = new ArrayList<>();
+        Flowable.fromFile(file, 1024).blockingIterable().forEach(chunks::add);
+        assertEquals(10, chunks.size(), "Девять полных кусков и хвост");
+        assertArrayEquals(data, concat(chunks));
+
+        assertArrayEquals(data, concat(Flowable.fromMappedFile(file, 4096).blockingIterable()),
+                "Сегменты в памяти дают то же содержимое");
+
+        try (AsynchronousFileChannel channel = AsynchronousFileChannel.open(file, StandardOpenOption.READ)) {
+            assertArrayEquals(data, concat(Flowable.fromChannel(channel, 3000).blockingIterable()),
+                    "Асинхронный канал даёт то же содержимое");
+        }
+
+        Path empty = write("empty.bin", new byte[0]);
+        assertFalse(Flowable.fromFile(empty, 16).blockingIterable().iterator().hasNext(), "Пустой файл");
+    }
+
+    @Test
+    void testEmptyFileCompletesOnceWhenRequestRaces() throws Exception {
+        Path empty = write("race.bin", new byte[0]);
+        for (int round = 0; round < 500; round++) {
+            AtomicInteger completions = new AtomicInteger();
+            AtomicReference<Thread> requester = new AtomicReference<>();
+            Flowable.fromFile(empty, 16).subscribe(new Subscriber<ByteBuffer>() {
+                @Override
+                public void onSubscribe(Subscription subscription) {
+                    Thread t = new Thread(() -> subscription.request(1));
+                    requester.set(t);
+                    t.start();
+                }
+
+                @Override
+                public void onNext(ByteBuffer item) {
+                    fail("В пустом файле нет кусков");
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    fail(t);
+                }
+
+                @Override
+                public void onComplete() {
+                    completions.incrementAndGet();
+                }
+            });
+            requester.get().join();
+            assertEquals(1, completions.get(), "onComplete ровно один раз, раунд " + round);
+        }
+    }
+
+    @Test
+    void testSplitLinesAcrossChunkBoundaries() throws Exception {
+        String content = "first\r\nsecond line is longer than a chunk\n\nlast";
+        Path file = write("lines.txt", content.getBytes(StandardCharsets.UTF_8));
+        List<String> expected = List.of("first", "second line is longer than a chunk", "", "last");
+
+        for (int chunk : new int[] {1, 7, 64}) {
+            List<String> lines = new ArrayList<>();
+            for (ByteBuffer line : Flowable.splitLines(Flowable.fromFile(file, chunk)).blockingIterable()) {
+                lines.add(text(line));
+            }
+            assertEquals(expected, lines, "Куски по " + chunk + " байт");
+
+            lines.clear();
+            for (ByteBuffer line : Flowable.splitLines(Flowable.fromMappedFile(file, chunk)).blockingIterable()) {
+                lines.add(text(line));
+            }
+            assertEquals(expected, lines, "Сегменты по " + chunk + " байт");
+        }
+    }
+
+    @Test
+    void testReadsOnlyRequestedChunks() throws Exception {
+        Path file = write("lines.txt", "a\nb\nc\nd\ne\nf\n".getBytes(StandardCharsets.UTF_8));
+        AtomicInteger chunksRead = new AtomicInteger();
+        List<String> lines = new ArrayList<>();
+        AtomicReference<Subscription> subscription = new AtomicReference<>();
+        Flowable.splitLines(Flowable.fromFile(file, 4).map(chunk -> {
+                    chunksRead.incrementAndGet();
+                    return chunk;
+                }))
+                .subscribe(new Subscriber<>() {
+                    @Override
+                    public void onSubscribe(Subscription s) {
+                        subscription.set(s);
+                    }
+
+                    @Override
+                    public void onNext(ByteBuffer line) {
+                        lines.add(text(line));
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                        fail(t);
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        lines.add("<complete>");
+                    }
+                });
+        assertEquals(0, chunksRead.get(), "Без запроса файл не читается");
+
+        subscription.get().request(3);
+        assertEquals(List.of("a", "b", "c"), lines);
+        assertEquals(2, chunksRead.get(), "Прочитано ровно под три строки");
+
+        subscription.get().cancel();
+        subscription.get().request(10);
+        assertEquals(2, chunksRead.get(), "После отмены чтение прекращается");
+        assertEquals(List.of("a", "b", "c"), lines);
+    }
+
+    @Test
+    void testObservableFromFileStopsOnDispose() throws Exception {
+        Path file = write("data.bin", bytes(1000));
+        List<ByteBuffer> chunks = new ArrayList<>();
+        AtomicReference<Disposable> upstream = new AtomicReference<>();
+        Observable.fromFile(file, 10).subscribe(new Observer<>() {
+            @Override
+            public void onSubscribe(Disposable d) {
+                upstream.set(d);
+            }
+
+            @Override
+            public void onNext(ByteBuffer chunk) {
+                chunks.add(chunk);
+                if (chunks.size() == 3) {
+                    upstream.get().dispose();
+                }
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                fail(t);
+            }
+
+            @Override
+            public void onComplete() {
+                fail("Отменённая подписка не завершается");
+            }
+        });
+        assertEquals(3, chunks.size(), "Чтение останавливается на отмене");
+
+        List<Integer> sizes = new ArrayList<>();
+        Observable.fromMappedFile(file, 300).subscribe(b -> sizes.add(b.remaining()), Assertions::fail, () -> { });
+        assertEquals(List.of(300, 300, 300, 100), sizes);
+    }
+}
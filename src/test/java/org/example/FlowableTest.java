@@ -0,0 +1,253 @@
+package org.example;
+
+import schedulers.ComputationScheduler;
+import schedulers.SingleThreadScheduler;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import static org.junit.jupiter.api.Assertions.*;
+
+class FlowableTest {
+
+    @Test
+    void testRequestLimitsEmission() {
+        List<Integer> received = new ArrayList<>();
+        AtomicReference<Subscription> subRef = new AtomicReference<>();
+
+        Flowable.range(1, 10).subscribe(new Subscriber<Integer>() {
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                subRef.set(subscription);
+                subscription.request(3);
+            }
+            @Override
+            public void onNext(Integer item) {
+                received.add(item);
+            }
+            @Override
+            public void onError(Throwable t) {
+                fail(t);
+            }
+            @Override
+            public void onComplete() {
+            }
+        });
+
+        assertEquals(List.of(1, 2, 3), received);
+        subRef.get().request(2);
+        assertEquals(List.of(1, 2, 3, 4, 5), received);
+    }
+
+    @Test
+    void testSubscribeOnSignalsEarlyAndHonoursCancel() {
+        List<Runnable> pending = new ArrayList<>();
+        Scheduler deferred = pending::add;
+        AtomicInteger subscriptions = new AtomicInteger();
+        Flowable<Integer> source = Flowable.create(subscriber -> {
+            subscriptions.incrementAndGet();
+            Flowable.range(1, 3).subscribe(subscriber);
+        });
+        List<Integer> received = new ArrayList<>();
+        AtomicReference<Subscription> subRef = new AtomicReference<>();
+        Subscriber<Integer> subscriber = new Subscriber<>() {
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                subRef.set(subscription);
+                subscription.request(2);
+            }
+            @Override
+            public void onNext(Integer item) {
+                received.add(item);
+            }
+            @Override
+            public void onError(Throwable t) {
+                fail(t);
+            }
+            @Override
+            public void onComplete() {
+            }
+        };
+
+        source.subscribeOn(deferred).subscribe(subscriber);
+        assertNotNull(subRef.get(), "onSubscribe приходит до запуска задачи");
+        assertEquals(0, subscriptions.get());
+        pending.remove(0).run();
+        assertEquals(List.of(1, 2), received, "Спрос, выставленный до подписки на источник, не теряется");
+
+        source.subscribeOn(deferred).subscribe(subscriber);
+        subRef.get().cancel();
+        pending.remove(0).run();
+        assertEquals(1, subscriptions.get(), "Отменённая до старта подписка до источника не доходит");
+    }
+
+    @Test
+    void testSubscribeOnRoutesRequestsAndRejection() throws InterruptedException {
+        SingleThreadScheduler single = new SingleThreadScheduler();
+        List<String> threads = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch done = new CountDownLatch(3);
+        AtomicReference<Subscription> subRef = new AtomicReference<>();
+        Flowable.range(1, 3).subscribeOn(single).subscribe(new Subscriber<>() {
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                subRef.set(subscription);
+            }
+            @Override
+            public void onNext(Integer item) {
+                threads.add(Thread.currentThread().getName());
+                done.countDown();
+            }
+            @Override
+            public void onError(Throwable t) {
+                fail(t);
+            }
+            @Override
+            public void onComplete() {
+            }
+        });
+        subRef.get().request(3);
+        assertTrue(done.await(1, TimeUnit.SECONDS));
+        assertEquals(List.of("SingleThread", "SingleThread", "SingleThread"), threads,
+                "Спрос из чужого потока выставляется в планировщике");
+
+        single.shutdown();
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        Flowable.range(1, 3).subscribeOn(single).subscribe(v -> fail("Элементов нет"), error::set, () -> fail());
+        assertInstanceOf(RejectedExecutionException.class, error.get(), "Отказ планировщика приходит в onError");
+    }
+
+    @Test
+    void testObserveOnBoundsSourceRunAhead() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicInteger generated = new AtomicInteger();
+        AtomicInteger consumed = new AtomicInteger();
+        AtomicInteger maxLead = new AtomicInteger();
+        int prefetch = 16;
+
+        Flowable.range(0, 2_000)
+                .map(i -> {
+                    generated.incrementAndGet();
+                    return i;
+                })
+                .observeOn(new ComputationScheduler(), prefetch)
+                .subscribe(
+                        i -> {
+                            int lead = generated.get() - consumed.incrementAndGet();
+                            maxLead.accumulateAndGet(lead, Math::max);
+                        },
+                        err -> fail(),
+                        latch::countDown
+                );
+
+        assertTrue(latch.await(2, TimeUnit.SECONDS));
+        assertEquals(2_000, consumed.get());
+        assertTrue(maxLead.get() <= prefetch, "Источник убежал вперёд на " + maxLead.get());
+    }
+
+    @Test
+    void testToFlowableStrategies() {
+        Observable<Integer> src = Observable.create(obs -> {
+            for (int i = 1; i <= 5; i++) obs.onNext(i);
+            obs.onComplete();
+        });
+
+        assertEquals(List.of(1, 2, 3, 4, 5), requestAfterSource(src, BackpressureStrategy.BUFFER, 10));
+        assertEquals(List.of(1, 2), requestUpFront(src, BackpressureStrategy.DROP, 2));
+        assertEquals(List.of(5), requestAfterSource(src, BackpressureStrategy.LATEST, 10));
+
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        src.toFlowable(BackpressureStrategy.ERROR).subscribe(new Subscriber<Integer>() {
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                subscription.request(1);
+            }
+            @Override
+            public void onNext(Integer item) {
+            }
+            @Override
+            public void onError(Throwable t) {
+                error.set(t);
+            }
+            @Override
+            public void onComplete() {
+                fail("Ожидалась ошибка переполнения");
+            }
+        });
+        assertInstanceOf(MissingBackpressureException.class, error.get());
+    }
+
+    @Test
+    void testFlatMapRespectsMaxConcurrency() {
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger maxActive = new AtomicInteger();
+        List<Integer> out = new ArrayList<>();
+        List<Runnable> pending = new ArrayList<>();
+
+        Flowable.range(1, 6)
+                .flatMap(i -> Flowable.<Integer>create(s -> {
+                    maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+                    s.onSubscribe(new Subscription() {
+                        @Override
+                        public void request(long n) {
+                        }
+                        @Override
+                        public void cancel() {
+                        }
+                    });
+                    // внутренний источник завершится, когда тест его «отпустит»
+                    pending.add(() -> {
+                        active.decrementAndGet();
+                        s.onNext(i);
+                        s.onComplete();
+                    });
+                }), 2)
+                .subscribe(out::add, err -> fail(), () -> {});
+
+        while (!pending.isEmpty()) {
+            pending.remove(0).run();
+        }
+
+        assertEquals(2, maxActive.get());
+        assertEquals(List.of(1, 2, 3, 4, 5, 6), out);
+    }
+
+    private static List<Integer> requestAfterSource(Observable<Integer> src, BackpressureStrategy strategy, long n) {
+        List<Integer> received = new ArrayList<>();
+        AtomicReference<Subscription> subRef = new AtomicReference<>();
+        src.toFlowable(strategy).subscribe(collector(received, subRef, 0));
+        subRef.get().request(n);
+        return received;
+    }
+
+    private static List<Integer> requestUpFront(Observable<Integer> src, BackpressureStrategy strategy, long n) {
+        List<Integer> received = new ArrayList<>();
+        src.toFlowable(strategy).subscribe(collector(received, new AtomicReference<>(), n));
+        return received;
+    }
+
+    private static Subscriber<Integer> collector(List<Integer> received, AtomicReference<Subscription> subRef, long initial) {
+        return new Subscriber<>() {
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                subRef.set(subscription);
+                if (initial > 0) subscription.request(initial);
+            }
+            @Override
+            public void onNext(Integer item) {
+                received.add(item);
+            }
+            @Override
+            public void onError(Throwable t) {
+                fail(t);
+            }
+            @Override
+            public void onComplete() {
+            }
+        };
+    }
+}
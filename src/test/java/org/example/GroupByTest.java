@@ -0,0 +1,140 @@
+package org.example;
+
+import schedulers.IOThreadScheduler;
+import org.example.subjects.PublishSubject;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import static org.junit.jupiter.api.Assertions.*;
+
+class GroupByTest {
+
+    @Test
+    void testGroupsKeepOrderPerKey() {
+        Map<Integer, List<String>> byKey = new ConcurrentHashMap<>();
+        List<Integer> keys = new ArrayList<>();
+        Observable.range(0, 12)
+                .groupBy(i -> i % 3, i -> "v" + i)
+                .subscribe(group -> {
+                    keys.add(group.getKey());
+                    group.subscribe(v -> byKey.computeIfAbsent(group.getKey(), k -> new ArrayList<>()).add(v),
+                            Assertions::fail, () -> { });
+                }, Assertions::fail, () -> { });
+
+        assertEquals(List.of(0, 1, 2), keys, "Группа открывается при первой встрече ключа");
+        assertEquals(List.of("v0", "v3", "v6", "v9"), byKey.get(0));
+        assertEquals(List.of("v1", "v4", "v7", "v10"), byKey.get(1));
+        assertEquals(List.of("v2", "v5", "v8", "v11"), byKey.get(2));
+    }
+
+    @Test
+    void testMaxGroupsEvictsIdlestGroup() {
+        PublishSubject<String> source = PublishSubject.create();
+        List<String> opened = new ArrayList<>();
+        List<String> closed = new ArrayList<>();
+        source.groupBy(s -> s.substring(0, 1), s -> s, 2)
+                .subscribe(group -> {
+                    opened.add(group.getKey());
+                    group.subscribe(v -> { }, Assertions::fail, () -> closed.add(group.getKey()));
+                }, Assertions::fail, () -> { });
+
+        source.onNext("a1");
+        source.onNext("b1");
+        source.onNext("a2");
+        assertTrue(closed.isEmpty());
+        source.onNext("c1");
+        assertEquals(List.of("b"), closed, "Вытесняется группа, дольше всех простаивавшая");
+
+        source.onNext("b2");
+        assertEquals(List.of("a", "b", "c", "b"), opened, "Вытесненный ключ открывает новую группу");
+        assertEquals(List.of("b", "a"), closed);
+
+        source.onComplete();
+        assertEquals(List.of("b", "a", "c", "b"), closed, "Завершение источника закрывает все группы");
+    }
+
+    @Test
+    void testCancelledGroupIsReopened() {
+        PublishSubject<Integer> source = PublishSubject.create();
+        List<Integer> opened = new ArrayList<>();
+        List<Integer> received = new ArrayList<>();
+        source.groupBy(i -> i % 2)
+                .subscribe(group -> {
+                    opened.add(group.getKey());
+                    Disposable[] self = new Disposable[1];
+                    self[0] = group.subscribe(v -> {
+                        received.add(v);
+                        if (v == 2) {
+                            self[0].dispose();
+                        }
+                    }, Assertions::fail, () -> { });
+                }, Assertions::fail, () -> { });
+
+        source.onNext(0);
+        source.onNext(2);
+        source.onNext(4);
+        assertEquals(List.of(0, 0), opened, "После отписки ключ открывает новую группу");
+        assertEquals(List.of(0, 2, 4), received);
+    }
+
+    @Test
+    void testSourceLivesWhileGroupsAreSubscribed() {
+        AtomicReference<Emitter<Integer>> source = new AtomicReference<>();
+        AtomicBoolean sourceDisposed = new AtomicBoolean();
+        List<Integer> received = new ArrayList<>();
+        Disposable[] group = new Disposable[1];
+        Disposable outer = Observable.<Integer>create(emitter -> {
+                    source.set(emitter);
+                    emitter.setCancellable(() -> sourceDisposed.set(true));
+                })
+                .groupBy(i -> i % 2)
+                .subscribe(g -> group[0] = g.subscribe(received::add, Assertions::fail, () -> { }),
+                        Assertions::fail, () -> { });
+
+        source.get().onNext(0);
+        outer.dispose();
+        assertFalse(sourceDisposed.get(), "Пока у группы есть подписчик, источник не отменяется");
+        source.get().onNext(2);
+        source.get().onNext(1);
+        assertEquals(List.of(0, 2), received, "Открытая группа получает элементы, новый ключ отбрасывается");
+
+        group[0].dispose();
+        assertTrue(sourceDisposed.get(), "Ушли внешний подписчик и все группы — источник отменён");
+    }
+
+    @Test
+    void testGroupsObserveOnIndependently() throws InterruptedException {
+        IOThreadScheduler io = new IOThreadScheduler();
+        Map<Integer, List<Integer>> byKey = new ConcurrentHashMap<>();
+        Map<Integer, String> threads = new ConcurrentHashMap<>();
+        CountDownLatch done = new CountDownLatch(1);
+        Observable.range(0, 4000)
+                .groupBy(i -> i % 4)
+                .flatMap(group -> group.observeOn(io).map(v -> {
+                    threads.put(group.getKey(), Thread.currentThread().getName());
+                    byKey.computeIfAbsent(group.getKey(), k -> new ArrayList<>()).add(v);
+                    return v;
+                }))
+                .subscribe(v -> { }, Assertions::fail, done::countDown);
+
+        assertTrue(done.await(5, TimeUnit.SECONDS), "Все группы должны завершиться");
+        assertEquals(4, byKey.size());
+        for (Map.Entry<Integer, List<Integer>> entry : byKey.entrySet()) {
+            List<Integer> values = entry.getValue();
+            assertEquals(1000, values.size());
+            for (int i = 0; i < values.size(); i++) {
+                assertEquals(entry.getKey() + 4 * i, values.get(i), "Порядок внутри ключа сохраняется");
+            }
+        }
+        assertTrue(threads.values().stream().noneMatch(name -> name.equals(Thread.currentThread().getName())),
+                "Группы обрабатываются в потоках планировщика");
+        io.shutdown();
+    }
+}
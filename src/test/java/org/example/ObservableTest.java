@@ -1,6 +1,8 @@
 package org.example;
 
 import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import static org.junit.jupiter.api.Assertions.*;
@@ -31,18 +33,46 @@ class ObservableTest {
         String msg = "TestError";
         AtomicReference<Throwable> errRef = new AtomicReference<>();
         AtomicBoolean completed = new AtomicBoolean(false);
+        List<String> received = new ArrayList<>();
 
         Observable.<String>create(obs -> {
             obs.onNext("A");
             throw new RuntimeException(msg);
         }).subscribe(
-                s -> fail("Не ожидается onNext"),
+                received::add,
                 err -> errRef.set(err),
                 () -> completed.set(true)
         );
 
+        assertEquals(List.of("A"), received, "Элемент до ошибки доставляется");
         assertFalse(completed.get());
         assertNotNull(errRef.get());
         assertEquals(msg, errRef.get().getMessage());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testOnNextFailureDisposesSourceAndGoesToOnError() {
+        AtomicReference<Throwable> errRef = new AtomicReference<>();
+        AtomicBoolean disposed = new AtomicBoolean(false);
+        List<Integer> received = new ArrayList<>();
+
+        Observable.<Integer>create(obs -> {
+            obs.setCancellable(() -> disposed.set(true));
+            for (int i = 0; i < 5; i++) {
+                obs.onNext(i);
+            }
+            obs.onComplete();
+        }).subscribe(
+                i -> {
+                    received.add(i);
+                    if (i == 1) throw new IllegalStateException("handler");
+                },
+                errRef::set,
+                () -> fail("Не ожидается onComplete")
+        );
+
+        assertEquals(List.of(0, 1), received, "После сбоя обработчика элементы не приходят");
+        assertTrue(disposed.get(), "Сбой обработчика отменяет источник");
+        assertInstanceOf(IllegalStateException.class, errRef.get());
+    }
+}
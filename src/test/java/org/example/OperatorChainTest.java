@@ -1,8 +1,14 @@
 package org.example;
 
+import schedulers.IOThreadScheduler;
 import org.junit.jupiter.api.Test;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import static org.junit.jupiter.api.Assertions.*;
 
 class OperatorChainTest {
@@ -51,4 +57,100 @@ class OperatorChainTest {
 
         assertEquals(List.of("X1", "X2"), out);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testFlatMapEmitsBeforeInnerCompletes() {
+        List<String> out = new ArrayList<>();
+        AtomicReference<Observer<String>> innerRef = new AtomicReference<>();
+
+        Observable.<Integer>create(obs -> {
+                    obs.onNext(1);
+                    obs.onComplete();
+                })
+                .flatMap(i -> Observable.<String>create(innerRef::set))
+                .subscribe(out::add, err -> fail(), () -> {});
+
+        innerRef.get().onNext("first");
+        assertEquals(List.of("first"), out, "Элемент должен уйти до завершения внутреннего потока");
+    }
+
+    @Test
+    void testFlatMapSubscribesInnerSourcesConcurrently() throws InterruptedException {
+        int sources = 4;
+        CountDownLatch allStarted = new CountDownLatch(sources);
+        CountDownLatch done = new CountDownLatch(1);
+        List<Integer> out = Collections.synchronizedList(new ArrayList<>());
+        IOThreadScheduler io = new IOThreadScheduler();
+
+        Observable.<Integer>create(obs -> {
+                    for (int i = 0; i < sources; i++) obs.onNext(i);
+                    obs.onComplete();
+                })
+                .flatMap(i -> Observable.<Integer>create(inner -> {
+                    allStarted.countDown();
+                    try {
+                        // каждый поток ждёт остальных: при последовательной подписке это зависание
+                        allStarted.await(1, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    inner.onNext(i);
+                    inner.onComplete();
+                }).subscribeOn(io))
+                .subscribe(out::add, err -> fail(), done::countDown);
+
+        assertTrue(done.await(2, TimeUnit.SECONDS));
+        assertEquals(0, allStarted.getCount(), "Внутренние потоки должны работать параллельно");
+        assertEquals(sources, out.size());
+    }
+
+    @Test
+    void testFlatMapMaxConcurrency() {
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger maxActive = new AtomicInteger();
+        List<Runnable> running = new ArrayList<>();
+        List<Integer> out = new ArrayList<>();
+
+        Observable.<Integer>create(obs -> {
+                    for (int i = 1; i <= 5; i++) obs.onNext(i);
+                    obs.onComplete();
+                })
+                .flatMap(i -> Observable.<Integer>create(inner -> {
+                    maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+                    running.add(() -> {
+                        active.decrementAndGet();
+                        inner.onNext(i);
+                        inner.onComplete();
+                    });
+                }), 2)
+                .subscribe(out::add, err -> fail(), () -> {});
+
+        while (!running.isEmpty()) {
+            running.remove(0).run();
+        }
+
+        assertEquals(2, maxActive.get());
+        assertEquals(List.of(1, 2, 3, 4, 5), out);
+    }
+
+    @Test
+    void testSwitchMapDropsStaleInner() {
+        List<String> out = new ArrayList<>();
+        List<Observer<String>> inners = new ArrayList<>();
+        AtomicReference<Observer<Integer>> outer = new AtomicReference<>();
+
+        Observable.<Integer>create(outer::set)
+                .switchMap(i -> Observable.<String>create(inners::add))
+                .subscribe(out::add, err -> fail(), () -> out.add("done"));
+
+        outer.get().onNext(1);
+        inners.get(0).onNext("a1");
+        outer.get().onNext(2);
+        inners.get(0).onNext("a2");
+        inners.get(1).onNext("b1");
+        outer.get().onComplete();
+        inners.get(1).onComplete();
+
+        assertEquals(List.of("a1", "b1", "done"), out);
+    }
+}
@@ -0,0 +1,81 @@
+package org.example;
+
+import schedulers.SingleThreadScheduler;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import static org.junit.jupiter.api.Assertions.*;
+
+class OperatorFusionTest {
+
+    @Test
+    void testLongMapFilterChain() {
+        List<Integer> out = new ArrayList<>();
+        Observable<Integer> chain = Observable.range(1, 10);
+        for (int i = 0; i < 10; i++) {
+            chain = chain.map(x -> x + 1);
+        }
+        chain.filter(x -> x % 2 == 0)
+                .map(x -> x * 10)
+                .subscribe(out::add, err -> fail(), () -> {});
+
+        assertEquals(List.of(120, 140, 160, 180, 200), out);
+    }
+
+    @Test
+    void testFusedStagesAreIndependent() {
+        Observable<Integer> base = Observable.range(1, 3).map(x -> x * 2);
+        List<Integer> plus = new ArrayList<>();
+        List<Integer> times = new ArrayList<>();
+
+        base.map(x -> x + 1).subscribe(plus::add, err -> fail(), () -> {});
+        base.map(x -> x * 3).subscribe(times::add, err -> fail(), () -> {});
+
+        assertEquals(List.of(3, 5, 7), plus);
+        assertEquals(List.of(6, 12, 18), times, "Слияние не должно менять исходную цепочку");
+    }
+
+    @Test
+    void testMapperErrorGoesToOnError() {
+        AtomicReference<Throwable> errRef = new AtomicReference<>();
+        List<Integer> out = new ArrayList<>();
+
+        Observable.range(1, 5)
+                .map(x -> {
+                    if (x == 3) throw new IllegalStateException("bad " + x);
+                    return x;
+                })
+                .filter(x -> true)
+                .subscribe(out::add, errRef::set, () -> fail("После ошибки onComplete не ожидается"));
+
+        assertEquals(List.of(1, 2), out);
+        assertEquals("bad 3", errRef.get().getMessage());
+    }
+
+    @Test
+    void testObserveOnPullsFromFusedSourceOnScheduler() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        List<Integer> out = new ArrayList<>();
+        List<String> mapThreads = new ArrayList<>();
+        String main = Thread.currentThread().getName();
+
+        Observable.range(0, 1_000)
+                .map(x -> {
+                    mapThreads.add(Thread.currentThread().getName());
+                    return x;
+                })
+                .filter(x -> x % 2 == 0)
+                .observeOn(new SingleThreadScheduler(), 64)
+                .subscribe(out::add, err -> fail(), latch::countDown);
+
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+        assertEquals(500, out.size());
+        for (int i = 0; i < out.size(); i++) {
+            assertEquals(i * 2, out.get(i).intValue());
+        }
+        assertFalse(mapThreads.contains(main), "Слитый источник должен вычитываться в планировщике");
+    }
+}
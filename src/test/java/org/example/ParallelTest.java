@@ -0,0 +1,99 @@
+package org.example;
+
+import schedulers.ComputationScheduler;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelTest {
+
+    @Test
+    void testSequentialRunsRailsOnSeveralThreads() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(1);
+        List<Integer> out = Collections.synchronizedList(new ArrayList<>());
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+
+        Observable.range(0, 1000)
+                .parallel(4)
+                .runOn(new ComputationScheduler(4))
+                .map(i -> {
+                    threads.add(Thread.currentThread().getName());
+                    return i * 2;
+                })
+                .sequential()
+                .subscribe(out::add, err -> fail(), done::countDown);
+
+        assertTrue(done.await(2, TimeUnit.SECONDS));
+        Set<Integer> expected = IntStream.range(0, 1000).map(i -> i * 2).boxed().collect(Collectors.toSet());
+        assertEquals(1000, out.size());
+        assertEquals(expected, new HashSet<>(out));
+        assertTrue(threads.size() > 1, "рельсы должны работать в разных потоках: " + threads);
+    }
+
+    @Test
+    void testSequentialOrderedKeepsSourceOrder() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(1);
+        List<Integer> out = Collections.synchronizedList(new ArrayList<>());
+
+        Observable.range(0, 2000)
+                .parallel(3)
+                .runOn(new ComputationScheduler(3))
+                .filter(i -> i % 3 != 0)
+                .map(i -> i + 1)
+                .sequentialOrdered()
+                .subscribe(out::add, err -> fail(), done::countDown);
+
+        assertTrue(done.await(2, TimeUnit.SECONDS));
+        List<Integer> expected = IntStream.range(0, 2000).filter(i -> i % 3 != 0).map(i -> i + 1)
+                .boxed().collect(Collectors.toList());
+        assertEquals(expected, out);
+    }
+
+    @Test
+    void testReduceAcrossRails() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(1);
+        AtomicReference<Long> sum = new AtomicReference<>();
+
+        Observable.range(1, 10_000)
+                .parallel(4)
+                .runOn(new ComputationScheduler(4))
+                .map(i -> (long) i)
+                .reduce(Long::sum)
+                .subscribe(sum::set, err -> fail(), done::countDown);
+
+        assertTrue(done.await(2, TimeUnit.SECONDS));
+        assertEquals(50_005_000L, sum.get());
+    }
+
+    @Test
+    void testRailErrorTerminatesStream() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(1);
+        AtomicReference<Throwable> error = new AtomicReference<>();
+
+        Observable.range(0, 100)
+                .parallel(2)
+                .runOn(new ComputationScheduler(2))
+                .map(i -> {
+                    if (i == 50) throw new IllegalStateException("rail failure");
+                    return i;
+                })
+                .sequential()
+                .subscribe(i -> { }, e -> {
+                    error.set(e);
+                    done.countDown();
+                }, () -> fail("ожидалась ошибка"));
+
+        assertTrue(done.await(2, TimeUnit.SECONDS));
+        assertEquals("rail failure", error.get().getMessage());
+    }
+}
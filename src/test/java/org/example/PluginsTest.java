@@ -0,0 +1,131 @@
+package org.example;
+
+import org.example.plugins.JmxMetricsSink;
+import org.example.plugins.Plugins;
+import schedulers.IOThreadScheduler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import static org.junit.jupiter.api.Assertions.*;
+
+class PluginsTest {
+
+    @AfterEach
+    void tearDown() {
+        Plugins.reset();
+    }
+
+    @Test
+    void testDisabledHooksReturnOriginals() {
+        Observer<Integer> observer = new Observer<>() {
+            @Override
+            public void onNext(Integer item) {
+            }
+
+            @Override
+            public void onError(Throwable t) {
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        };
+        Runnable task = () -> {};
+
+        assertSame(observer, Plugins.onSubscribe(Observable.range(0, 1), observer), "Без хуков Observer не оборачивается");
+        assertSame(task, Plugins.onSchedule("io", task), "Без хуков задача не оборачивается");
+        assertNull(Plugins.queueProbe("observeOn"));
+    }
+
+    @Test
+    void testStageNames() {
+        assertEquals("create", Observable.create(emitter -> {}).toString());
+        assertEquals("mapFilter", Observable.range(0, 3).map(i -> i).toString());
+        assertEquals("parse", Observable.range(0, 3).map(i -> i).name("parse").toString());
+    }
+
+    @Test
+    void testHandlersDecorateSubscribeAndSchedule() throws InterruptedException {
+        List<String> stages = new CopyOnWriteArrayList<>();
+        AtomicInteger scheduled = new AtomicInteger();
+        Plugins.setOnSubscribeHandler((observable, observer) -> {
+            stages.add(observable.toString());
+            return observer;
+        });
+        Plugins.setOnScheduleHandler(task -> {
+            scheduled.incrementAndGet();
+            return task;
+        });
+
+        IOThreadScheduler io = new IOThreadScheduler();
+        CountDownLatch done = new CountDownLatch(1);
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        Observable.range(0, 10)
+                .name("source")
+                .map(i -> i + 1)
+                .name("increment")
+                .observeOn(io)
+                .subscribe(i -> {}, err -> {
+                    error.set(err);
+                    done.countDown();
+                }, done::countDown);
+
+        assertTrue(done.await(5, TimeUnit.SECONDS), "Поток не завершился");
+        assertNull(error.get(), "Поток должен завершиться без ошибки");
+        assertEquals(List.of("observeOn", "increment", "source"), stages);
+        assertTrue(scheduled.get() > 0, "Задачи планировщика должны проходить через хук");
+        io.shutdown();
+    }
+
+    @Test
+    void testJmxStageQueueAndSchedulerMetrics() throws Exception {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try (JmxMetricsSink sink = new JmxMetricsSink(server, "customrx.test")) {
+            Plugins.setMetricsSink(sink);
+
+            IOThreadScheduler io = new IOThreadScheduler();
+            CountDownLatch done = new CountDownLatch(1);
+            AtomicReference<Throwable> error = new AtomicReference<>();
+            Observable.range(0, 1000)
+                    .map(i -> i * 2)
+                    .name("double")
+                    .observeOn(io)
+                    .subscribe(i -> {}, err -> {
+                        error.set(err);
+                        done.countDown();
+                    }, done::countDown);
+            assertTrue(done.await(5, TimeUnit.SECONDS), "Поток не завершился");
+            assertNull(error.get(), "Поток должен завершиться без ошибки");
+
+            ObjectName stage = sink.stageName("double");
+            assertEquals(1000L, server.getAttribute(stage, "Items"));
+            assertEquals(1L, server.getAttribute(stage, "Completions"));
+
+            ObjectName observeOn = sink.stageName("observeOn");
+            assertEquals(1000L, server.getAttribute(observeOn, "Items"));
+            assertEquals(0L, server.getAttribute(observeOn, "QueueDepth"), "Очередь должна опустеть");
+            assertTrue((Double) server.getAttribute(observeOn, "MeanQueueLatencyNanos") > 0,
+                    "Должен быть хотя бы один замер задержки");
+
+            // задача отмечается завершённой уже после того, как выдала onComplete
+            ObjectName scheduler = sink.schedulerName("io");
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while ((Long) server.getAttribute(scheduler, "ActiveTasks") != 0 && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+            assertEquals(0L, server.getAttribute(scheduler, "ActiveTasks"));
+            assertTrue((Long) server.getAttribute(scheduler, "CompletedTasks") > 0);
+            io.shutdown();
+        }
+        assertFalse(server.isRegistered(new ObjectName("customrx.test:type=Stage,name=\"double\"")),
+                "close() должен снять MBean");
+    }
+}
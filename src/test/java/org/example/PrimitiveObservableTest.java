@@ -0,0 +1,88 @@
+package org.example;
+
+import schedulers.ComputationScheduler;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrimitiveObservableTest {
+
+    @Test
+    void testIntMapFilterChain() {
+        List<Integer> out = new ArrayList<>();
+        AtomicBoolean completed = new AtomicBoolean();
+
+        IntObservable.range(1, 5)
+                .map(x -> x * 10)
+                .filter(x -> x % 20 == 0)
+                .subscribe(out::add, err -> fail(), () -> completed.set(true));
+
+        assertEquals(List.of(20, 40), out);
+        assertTrue(completed.get());
+    }
+
+    @Test
+    void testBridgesToAndFromObservable() {
+        List<String> out = new ArrayList<>();
+
+        Observable.fromArray("a", "bb", "ccc")
+                .mapToInt(String::length)
+                .map(n -> n * n)
+                .boxed()
+                .map(n -> "len^2=" + n)
+                .subscribe(out::add, err -> fail(), () -> {});
+
+        assertEquals(List.of("len^2=1", "len^2=4", "len^2=9"), out);
+
+        List<Double> halves = new ArrayList<>();
+        Observable.range(1, 3)
+                .mapToDouble(i -> i / 2.0)
+                .filter(d -> d >= 1.0)
+                .boxed()
+                .subscribe(halves::add, err -> fail(), () -> {});
+        assertEquals(List.of(1.0, 1.5), halves);
+    }
+
+    @Test
+    void testOperatorErrorCancelsSource() {
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        List<Long> out = new ArrayList<>();
+
+        LongObservable.create(emitter -> {
+                    long i = 0;
+                    while (!emitter.isDisposed()) {
+                        emitter.onNext(i++);
+                    }
+                })
+                .map(x -> {
+                    if (x == 3) throw new IllegalStateException("bad " + x);
+                    return x;
+                })
+                .subscribe(out::add, error::set, () -> fail("ожидалась ошибка"));
+
+        assertEquals(List.of(0L, 1L, 2L), out);
+        assertInstanceOf(IllegalStateException.class, error.get());
+    }
+
+    @Test
+    void testLongIntervalTicks() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(3);
+        List<Long> ticks = Collections.synchronizedList(new ArrayList<>());
+
+        Disposable d = LongObservable.interval(5, TimeUnit.MILLISECONDS, new ComputationScheduler())
+                .subscribe(t -> {
+                    ticks.add(t);
+                    latch.countDown();
+                }, err -> fail(), () -> fail());
+
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+        d.dispose();
+        assertEquals(List.of(0L, 1L, 2L), ticks.subList(0, 3));
+    }
+}
@@ -0,0 +1,193 @@
+package org.example;
+
+import org.example.internal.queue.MpscArrayQueue;
+import org.example.internal.queue.MpscLinkedArrayQueue;
+import org.example.internal.queue.SimpleQueue;
+import org.example.internal.queue.SpscArrayQueue;
+import org.example.internal.queue.SpscLinkedArrayQueue;
+import schedulers.ComputationScheduler;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueueTest {
+
+    private static final int PRODUCERS = 4;
+    private static final int PER_PRODUCER = 100_000;
+
+    /**
+     * Производители стартуют одновременно и кладут {@code p * PER_PRODUCER + i};
+     * при заполненной очереди уступают поток и повторяют.
+     */
+    private static List<Thread> startProducers(SimpleQueue<Integer> queue, int producers,
+                                               CountDownLatch start, AtomicReference<Throwable> failure) {
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int base = p * PER_PRODUCER;
+            Thread t = new Thread(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < PER_PRODUCER; i++) {
+                        while (!queue.offer(base + i)) {
+                            Thread.yield();
+                        }
+                    }
+                } catch (Throwable ex) {
+                    failure.compareAndSet(null, ex);
+                }
+            });
+            t.start();
+            threads.add(t);
+        }
+        return threads;
+    }
+
+    /**
+     * Потребитель в текущем потоке: у каждого производителя элементы идут по
+     * порядку, ни один не теряется и не повторяется.
+     */
+    private static void consumeAndCheck(Supplier<SimpleQueue<Integer>> factory, int producers) throws Exception {
+        SimpleQueue<Integer> queue = factory.get();
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<Thread> threads = startProducers(queue, producers, start, failure);
+
+        int[] next = new int[producers];
+        int received = 0;
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        start.countDown();
+        while (received < producers * PER_PRODUCER) {
+            Integer v = queue.poll();
+            if (v == null) {
+                assertNull(failure.get(), "Производитель упал");
+                assertTrue(System.nanoTime() < deadline, "Элементы потерялись: получено " + received);
+                Thread.yield();
+                continue;
+            }
+            int p = v / PER_PRODUCER;
+            assertEquals(next[p], v % PER_PRODUCER, "Нарушен порядок элементов производителя " + p);
+            next[p]++;
+            received++;
+        }
+        for (Thread t : threads) {
+            t.join(5000);
+        }
+        assertNull(failure.get(), "Производитель упал");
+        assertNull(queue.poll(), "Лишние элементы в очереди");
+        assertTrue(queue.isEmpty(), "Очередь должна быть пустой");
+    }
+
+    @Test
+    void testBoundedQueuesRejectWhenFull() {
+        List<SimpleQueue<Integer>> queues = List.of(new SpscArrayQueue<>(5), new MpscArrayQueue<>(5));
+        for (SimpleQueue<Integer> queue : queues) {
+            for (int i = 0; i < 8; i++) {
+                assertTrue(queue.offer(i), "Ёмкость округляется до 8");
+            }
+            assertFalse(queue.offer(8), "Заполненная очередь не принимает элемент");
+            assertFalse(queue.relaxedOffer(8), "Заполненная очередь не принимает элемент");
+
+            assertEquals(0, queue.poll());
+            assertTrue(queue.offer(8), "Освободившийся слот снова доступен");
+            for (int i = 1; i <= 8; i++) {
+                assertEquals(i, queue.relaxedPoll(), "Порядок FIFO");
+            }
+            assertNull(queue.poll());
+            assertTrue(queue.isEmpty());
+        }
+    }
+
+    @Test
+    void testLinkedQueuesGrowAcrossChunks() {
+        List<SimpleQueue<Integer>> queues = List.of(new SpscLinkedArrayQueue<>(8), new MpscLinkedArrayQueue<>(8));
+        for (SimpleQueue<Integer> queue : queues) {
+            for (int round = 0; round < 3; round++) {
+                for (int i = 0; i < 100; i++) {
+                    assertTrue(queue.offer(i), "Неограниченная очередь принимает всё");
+                }
+                for (int i = 0; i < 50; i++) {
+                    assertEquals(i, queue.poll(), "Порядок FIFO через границы колец");
+                }
+                for (int i = 100; i < 150; i++) {
+                    queue.offer(i);
+                }
+                for (int i = 50; i < 150; i++) {
+                    assertEquals(i, queue.poll(), "Порядок FIFO после переиспользования кольца");
+                }
+                assertTrue(queue.isEmpty());
+            }
+            queue.offer(1);
+            queue.clear();
+            assertNull(queue.poll(), "clear() выбрасывает элементы");
+        }
+    }
+
+    @Test
+    void testSpscQueuesUnderConcurrency() throws Exception {
+        consumeAndCheck(() -> new SpscArrayQueue<>(64), 1);
+        consumeAndCheck(() -> new SpscLinkedArrayQueue<>(8), 1);
+    }
+
+    @Test
+    void testMpscQueuesUnderConcurrency() throws Exception {
+        consumeAndCheck(() -> new MpscArrayQueue<>(64), PRODUCERS);
+        consumeAndCheck(() -> new MpscLinkedArrayQueue<>(8), PRODUCERS);
+    }
+
+    @Test
+    void testFlowableObserveOnSignalsMissingBackpressure() throws Exception {
+        CountDownLatch done = new CountDownLatch(1);
+        CountDownLatch emitted = new CountDownLatch(1);
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        // источник игнорирует запрос и выдаёт больше prefetch, пока потребитель занят
+        Flowable<Integer> rogue = Flowable.create(subscriber -> {
+            subscriber.onSubscribe(new Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            for (int i = 0; i < 100; i++) {
+                subscriber.onNext(i);
+            }
+            emitted.countDown();
+            subscriber.onComplete();
+        });
+        rogue.observeOn(new ComputationScheduler(), 8).subscribe(new Subscriber<>() {
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(Integer item) {
+                try {
+                    emitted.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    fail(e);
+                }
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                error.set(t);
+                done.countDown();
+            }
+
+            @Override
+            public void onComplete() {
+                fail("Переполнение должно завершиться ошибкой");
+            }
+        });
+        assertTrue(done.await(5, TimeUnit.SECONDS), "Ошибка не пришла");
+        assertInstanceOf(MissingBackpressureException.class, error.get());
+    }
+}
@@ -0,0 +1,134 @@
+package org.example;
+
+import schedulers.SingleThreadScheduler;
+import org.example.subjects.PublishSubject;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateControlTest {
+
+    @Test
+    void testThrottleFirstDropsWithinWindow() {
+        TestScheduler scheduler = new TestScheduler();
+        PublishSubject<Integer> source = PublishSubject.create();
+        List<Integer> received = new ArrayList<>();
+        source.throttleFirst(200, TimeUnit.MILLISECONDS, scheduler)
+                .subscribe(received::add, Assertions::fail, () -> { });
+
+        source.onNext(1);
+        source.onNext(2);
+        scheduler.advanceTimeBy(199, TimeUnit.MILLISECONDS);
+        source.onNext(3);
+        assertEquals(List.of(1), received, "Внутри окна проходит только первый элемент");
+        scheduler.advanceTimeBy(51, TimeUnit.MILLISECONDS);
+        source.onNext(4);
+        source.onNext(5);
+        assertEquals(List.of(1, 4), received, "Новое окно открывается следующим элементом");
+    }
+
+    @Test
+    void testSampleEmitsLatestPerPeriod() {
+        TestScheduler scheduler = new TestScheduler();
+        PublishSubject<Integer> source = PublishSubject.create();
+        List<Integer> received = new ArrayList<>();
+        AtomicBoolean completed = new AtomicBoolean();
+        source.sample(20, TimeUnit.MILLISECONDS, scheduler)
+                .subscribe(received::add, Assertions::fail, () -> completed.set(true));
+
+        source.onNext(1);
+        source.onNext(2);
+        source.onNext(3);
+        scheduler.advanceTimeBy(20, TimeUnit.MILLISECONDS);
+        assertEquals(List.of(3), received, "За период выдаётся только последний элемент");
+        scheduler.advanceTimeBy(20, TimeUnit.MILLISECONDS);
+        assertEquals(List.of(3), received, "Период без элементов ничего не выдаёт");
+
+        source.onNext(4);
+        source.onComplete();
+        assertTrue(completed.get());
+        assertEquals(List.of(3, 4), received, "Последний элемент не теряется при завершении");
+    }
+
+    @Test
+    void testDebounceArmsOneTimerPerBurst() {
+        TestScheduler scheduler = new TestScheduler();
+        PublishSubject<Integer> source = PublishSubject.create();
+        List<Integer> received = new ArrayList<>();
+        AtomicBoolean completed = new AtomicBoolean();
+        source.debounce(100, TimeUnit.MILLISECONDS, scheduler)
+                .subscribe(received::add, Assertions::fail, () -> completed.set(true));
+
+        for (int i = 0; i < 10_000; i++) {
+            source.onNext(i);
+        }
+        scheduler.advanceTimeBy(99, TimeUnit.MILLISECONDS);
+        assertTrue(received.isEmpty(), "До затишья элементов нет");
+        scheduler.advanceTimeBy(1, TimeUnit.MILLISECONDS);
+        assertEquals(List.of(9_999), received, "Из пачки выходит только последний элемент");
+        assertEquals(1, scheduler.timers, "Таймер не взводится на каждый элемент");
+
+        source.onNext(42);
+        source.onComplete();
+        assertTrue(completed.get());
+        assertEquals(List.of(9_999, 42), received, "Ожидающий элемент выдаётся при завершении");
+    }
+
+    @Test
+    void testOverflowOperatorsBoundQueueWhileConsumerIsBusy() throws InterruptedException {
+        SingleThreadScheduler consumer = new SingleThreadScheduler();
+        try {
+            List<Integer> dropped = burstIntoBusyConsumer(source -> source.onOverflowDrop(consumer, 16));
+            assertEquals(0, dropped.get(0));
+            assertTrue(dropped.size() <= 1 + 16, "onOverflowDrop(16): очередь не больше 16, получено " + dropped);
+
+            List<Integer> latest = burstIntoBusyConsumer(source -> source.onOverflowLatest(consumer));
+            assertEquals(0, latest.get(0));
+            assertEquals(99, latest.get(latest.size() - 1), "onOverflowLatest: последний элемент доходит");
+            assertTrue(latest.size() <= 3, "onOverflowLatest: пропущенное не копится, получено " + latest);
+        } finally {
+            consumer.shutdown();
+        }
+    }
+
+    /**
+     * 100 элементов подряд, пока потребитель занят первым; латентность
+     * сравнивается в OverflowLatencyBenchmark.
+     */
+    private static List<Integer> burstIntoBusyConsumer(
+            Function<Observable<Integer>, Observable<Integer>> overflow) throws InterruptedException {
+        PublishSubject<Integer> source = PublishSubject.create();
+        List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch busy = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(1);
+        overflow.apply(source).subscribe(i -> {
+            received.add(i);
+            if (i == 0) {
+                busy.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }, Assertions::fail, done::countDown);
+
+        source.onNext(0);
+        assertTrue(busy.await(1, TimeUnit.SECONDS));
+        for (int i = 1; i < 100; i++) {
+            source.onNext(i);
+        }
+        source.onComplete();
+        release.countDown();
+        assertTrue(done.await(1, TimeUnit.SECONDS), "Поток должен завершиться");
+        return new ArrayList<>(received);
+    }
+}
@@ -3,8 +3,10 @@ package org.example;
 import schedulers.ComputationScheduler;
 import schedulers.IOThreadScheduler;
 import schedulers.SingleThreadScheduler;
+import schedulers.VirtualThreadScheduler;
 import org.junit.jupiter.api.Test;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.*;
@@ -103,6 +105,7 @@ class SchedulerIntegrationTest {
         CountDownLatch latch = new CountDownLatch(1);
         AtomicReference<Throwable> errRef = new AtomicReference<>();
         String msg = "Err";
+        List<Integer> received = Collections.synchronizedList(new ArrayList<>());
 
         Observable.<Integer>create(o -> {
                     o.onNext(1);
@@ -111,12 +114,124 @@ class SchedulerIntegrationTest {
                 .subscribeOn(new IOThreadScheduler())
                 .observeOn(new ComputationScheduler())
                 .subscribe(
-                        i -> fail(),
+                        received::add,
                         e -> { errRef.set(e); latch.countDown(); },
                         () -> fail()
                 );
 
         assertTrue(latch.await(1, TimeUnit.SECONDS));
+        assertEquals(List.of(1), received, "Элемент до ошибки доставляется");
         assertEquals(msg, errRef.get().getMessage());
     }
+
+    @Test
+    void testScheduleRunsOnSchedulerThreadAfterDelay() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicReference<String> ranOn = new AtomicReference<>();
+        AtomicLong elapsed = new AtomicLong();
+        ComputationScheduler sched = new ComputationScheduler();
+        long start = sched.now(TimeUnit.MILLISECONDS);
+
+        sched.schedule(() -> {
+            ranOn.set(Thread.currentThread().getName());
+            elapsed.set(sched.now(TimeUnit.MILLISECONDS) - start);
+            latch.countDown();
+        }, 50, TimeUnit.MILLISECONDS);
+
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+        assertTrue(elapsed.get() >= 50, "Задача выполнилась раньше срока: " + elapsed.get());
+        assertTrue(ranOn.get().startsWith("ComputeThread-"));
+    }
+
+    @Test
+    void testDisposedScheduleDoesNotRun() throws InterruptedException {
+        AtomicBoolean ran = new AtomicBoolean();
+        Disposable d = new IOThreadScheduler().schedule(() -> ran.set(true), 50, TimeUnit.MILLISECONDS);
+        d.dispose();
+        Thread.sleep(100);
+        assertFalse(ran.get());
+    }
+
+    @Test
+    void testSchedulePeriodicallyUntilDisposed() throws InterruptedException {
+        AtomicInteger ticks = new AtomicInteger();
+        AtomicInteger concurrent = new AtomicInteger();
+        AtomicBoolean overlapped = new AtomicBoolean();
+
+        Disposable d = new ComputationScheduler().schedulePeriodically(() -> {
+            if (concurrent.incrementAndGet() > 1) overlapped.set(true);
+            ticks.incrementAndGet();
+            try {
+                Thread.sleep(15);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            concurrent.decrementAndGet();
+        }, 0, 5, TimeUnit.MILLISECONDS);
+
+        Thread.sleep(150);
+        d.dispose();
+        Thread.sleep(50);
+        int snapshot = ticks.get();
+        Thread.sleep(50);
+
+        assertTrue(snapshot > 2);
+        assertEquals(snapshot, ticks.get(), "После dispose тиков быть не должно");
+        assertFalse(overlapped.get(), "Запуски одной периодической задачи не должны пересекаться");
+    }
+
+    @Test
+    void testVirtualThreadSchedulerRunsBlockingSources() throws InterruptedException {
+        int sources = 1_000;
+        CountDownLatch latch = new CountDownLatch(sources);
+        AtomicBoolean allVirtual = new AtomicBoolean(true);
+        VirtualThreadScheduler sched = new VirtualThreadScheduler();
+
+        for (int i = 0; i < sources; i++) {
+            Observable.<Integer>create(o -> {
+                        if (!Thread.currentThread().isVirtual()) allVirtual.set(false);
+                        try {
+                            Thread.sleep(100);
+                        } catch (InterruptedException e) {
+                            throw new RuntimeException(e);
+                        }
+                        o.onNext(1);
+                        o.onComplete();
+                    })
+                    .subscribeOn(sched)
+                    .observeOn(sched)
+                    .subscribe(x -> {}, err -> fail(), latch::countDown);
+        }
+
+        // 1000 источников по 100 мс одновременно, а не по очереди
+        assertTrue(latch.await(2, TimeUnit.SECONDS));
+        assertTrue(allVirtual.get());
+        sched.shutdown();
+    }
+
+    @Test
+    void testVirtualThreadSchedulerLimitsConcurrency() throws InterruptedException {
+        int tasks = 20;
+        CountDownLatch latch = new CountDownLatch(tasks);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        VirtualThreadScheduler sched = new VirtualThreadScheduler(3);
+
+        for (int i = 0; i < tasks; i++) {
+            sched.execute(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(10);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                running.decrementAndGet();
+                latch.countDown();
+            });
+        }
+
+        assertTrue(latch.await(2, TimeUnit.SECONDS));
+        assertTrue(maxRunning.get() <= 3, "Одновременно выполнялось " + maxRunning.get());
+        sched.shutdown();
+    }
 }
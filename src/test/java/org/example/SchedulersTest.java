@@ -0,0 +1,130 @@
+package org.example;
+
+import schedulers.ComputationScheduler;
+import schedulers.Schedulers;
+import schedulers.SingleThreadScheduler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.jupiter.api.Assertions.*;
+
+class SchedulersTest {
+
+    @AfterEach
+    void tearDown() {
+        Schedulers.reset();
+        Schedulers.start();
+    }
+
+    @Test
+    void testSharedInstances() {
+        assertSame(Schedulers.computation(), Schedulers.computation());
+        assertSame(Schedulers.io(), Schedulers.io());
+        assertSame(Schedulers.single(), Schedulers.single());
+        assertSame(Schedulers.newThread(), Schedulers.newThread());
+    }
+
+    @Test
+    void testOverrideAndReset() {
+        List<String> calls = new ArrayList<>();
+        Scheduler original = Schedulers.computation();
+        Scheduler immediate = task -> {
+            calls.add("execute");
+            task.run();
+        };
+
+        Schedulers.setComputation(immediate);
+        List<Integer> out = new ArrayList<>();
+        Observable.<Integer>create(obs -> {
+                    obs.onNext(1);
+                    obs.onComplete();
+                })
+                .observeOn(Schedulers.computation())
+                .subscribe(out::add, err -> fail(), () -> {});
+
+        assertEquals(List.of(1), out, "Подменённый планировщик выполняет синхронно");
+        assertFalse(calls.isEmpty());
+
+        Schedulers.reset();
+        assertSame(original, Schedulers.computation());
+    }
+
+    @Test
+    void testShutdownAndStart() throws InterruptedException {
+        SingleThreadScheduler sched = new SingleThreadScheduler();
+        sched.shutdown();
+        assertThrows(RejectedExecutionException.class, () -> sched.execute(() -> {}));
+
+        sched.start();
+        CountDownLatch latch = new CountDownLatch(1);
+        sched.execute(latch::countDown);
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testComputationWorkerSurvivesRestart() throws InterruptedException {
+        ComputationScheduler sched = new ComputationScheduler(2);
+        Scheduler worker = sched.createWorker();
+        CountDownLatch first = new CountDownLatch(1);
+        worker.execute(first::countDown);
+        assertTrue(first.await(1, TimeUnit.SECONDS));
+
+        sched.shutdown();
+        assertThrows(RejectedExecutionException.class, () -> worker.execute(() -> {}));
+
+        sched.start();
+        CountDownLatch second = new CountDownLatch(2);
+        worker.execute(second::countDown);
+        worker.execute(second::countDown);
+        assertTrue(second.await(1, TimeUnit.SECONDS), "После start() исполнитель работает на новом пуле");
+        sched.shutdown();
+    }
+
+    @Test
+    void testTaskRacingShutdownRunsOrIsRejected() throws InterruptedException {
+        for (int round = 0; round < 1000; round++) {
+            ComputationScheduler sched = new ComputationScheduler(1);
+            AtomicInteger accepted = new AtomicInteger();
+            AtomicInteger executed = new AtomicInteger();
+            CountDownLatch go = new CountDownLatch(1);
+            Thread producer = new Thread(() -> {
+                go.countDown();
+                for (int i = 0; i < 1000; i++) {
+                    try {
+                        sched.execute(executed::incrementAndGet);
+                        accepted.incrementAndGet();
+                    } catch (RejectedExecutionException ex) {
+                        return;
+                    }
+                }
+            });
+            producer.start();
+            go.await();
+            sched.shutdown();
+            producer.join();
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+            while (executed.get() != accepted.get() && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+            assertEquals(accepted.get(), executed.get(), "Принятая задача должна выполниться, раунд " + round);
+        }
+    }
+
+    @Test
+    void testSharedSchedulersRestartAfterShutdown() throws InterruptedException {
+        Schedulers.shutdown();
+        assertThrows(RejectedExecutionException.class, () -> Schedulers.io().execute(() -> {}));
+
+        Schedulers.start();
+        CountDownLatch latch = new CountDownLatch(2);
+        Schedulers.io().execute(latch::countDown);
+        Schedulers.newThread().execute(latch::countDown);
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+    }
+}
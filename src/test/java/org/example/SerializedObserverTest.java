@@ -0,0 +1,144 @@
+package org.example;
+
+import schedulers.IOThreadScheduler;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.jupiter.api.Assertions.*;
+
+class SerializedObserverTest {
+
+    private static final int PRODUCERS = 4;
+    private static final int PER_PRODUCER = 10_000;
+
+    /** Проверяет, что Observer не вызывается двумя потоками сразу. */
+    private static final class CheckingObserver implements Observer<Integer> {
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicBoolean overlapped = new AtomicBoolean();
+        final List<Integer> items = new ArrayList<>();
+        final CountDownLatch done = new CountDownLatch(1);
+        volatile int receivedBeforeComplete = -1;
+
+        private void enter() {
+            if (inFlight.incrementAndGet() != 1) {
+                overlapped.set(true);
+            }
+        }
+
+        @Override
+        public void onNext(Integer item) {
+            enter();
+            items.add(item);
+            inFlight.decrementAndGet();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            fail(t);
+        }
+
+        @Override
+        public void onComplete() {
+            enter();
+            receivedBeforeComplete = items.size();
+            inFlight.decrementAndGet();
+            done.countDown();
+        }
+    }
+
+    private static void produce(Emitter<Integer> serial, IOThreadScheduler io) {
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger remaining = new AtomicInteger(PRODUCERS);
+        for (int p = 0; p < PRODUCERS; p++) {
+            int base = p * PER_PRODUCER;
+            io.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < PER_PRODUCER; i++) {
+                    serial.onNext(base + i);
+                }
+                if (remaining.decrementAndGet() == 0) {
+                    serial.onComplete();
+                }
+            });
+        }
+        start.countDown();
+    }
+
+    @Test
+    void testSerializedEmitterConcurrentProducers() throws InterruptedException {
+        IOThreadScheduler io = new IOThreadScheduler();
+        CheckingObserver observer = new CheckingObserver();
+
+        Observable.<Integer>create(emitter -> produce(emitter.serialize(), io))
+                .subscribe(observer);
+
+        assertTrue(observer.done.await(10, TimeUnit.SECONDS), "Поток не завершился");
+        assertFalse(observer.overlapped.get(), "Сигналы не должны пересекаться");
+        assertEquals(PRODUCERS * PER_PRODUCER, observer.receivedBeforeComplete,
+                "onComplete должен прийти после всех элементов");
+
+        // порядок элементов одного производителя сохраняется
+        int[] last = new int[PRODUCERS];
+        Arrays.fill(last, -1);
+        for (int item : observer.items) {
+            int p = item / PER_PRODUCER;
+            assertTrue(item > last[p], "Порядок производителя нарушен");
+            last[p] = item;
+        }
+        io.shutdown();
+    }
+
+    @Test
+    void testSerializedObserverDropsAfterTerminal() {
+        List<Integer> items = new ArrayList<>();
+        AtomicInteger completions = new AtomicInteger();
+        SerializedObserver<Integer> serial = new SerializedObserver<>(new Observer<Integer>() {
+            @Override
+            public void onNext(Integer item) {
+                items.add(item);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                fail("после onComplete ошибка не доставляется");
+            }
+
+            @Override
+            public void onComplete() {
+                completions.incrementAndGet();
+            }
+        });
+
+        serial.onNext(1);
+        serial.onComplete();
+        serial.onNext(2);
+        serial.onError(new RuntimeException());
+        serial.onComplete();
+
+        assertEquals(List.of(1), items);
+        assertEquals(1, completions.get(), "Терминальный сигнал должен прийти один раз");
+    }
+
+    @Test
+    void testSerializedEmitterKeepsDisposal() {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        Disposable d = Observable.<Integer>create(emitter -> {
+            Emitter<Integer> serial = emitter.serialize();
+            serial.setCancellable(() -> cancelled.set(true));
+            assertSame(serial, serial.serialize());
+        }).subscribe(i -> {}, err -> fail(err), () -> {});
+
+        assertFalse(cancelled.get());
+        d.dispose();
+        assertTrue(cancelled.get(), "Отмена должна дойти до ресурса исходного emitter");
+    }
+}
@@ -0,0 +1,94 @@
+package org.example;
+
+import schedulers.IOThreadScheduler;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleMaybeCompletableTest {
+
+    @Test
+    void testSingleMapFlatMapAndBlockingGet() {
+        IOThreadScheduler io = new IOThreadScheduler();
+        Single<Integer> lookup = Single.create(emitter -> io.execute(() -> emitter.onSuccess(21)));
+
+        String result = lookup
+                .map(x -> x * 2)
+                .flatMap(x -> Single.fromCallable(() -> "id-" + x))
+                .blockingGet();
+        assertEquals("id-42", result);
+
+        IllegalStateException ex = assertThrows(IllegalStateException.class,
+                () -> Single.<Integer>error(new IllegalStateException("boom")).map(x -> x + 1).blockingGet());
+        assertEquals("boom", ex.getMessage());
+        io.shutdown();
+    }
+
+    @Test
+    void testMaybeEmptyAndConversions() {
+        assertNull(Maybe.empty().blockingGet(), "Пустой Maybe даёт null");
+        assertEquals(5, Maybe.just(5).filter(x -> x > 1).blockingGet());
+        assertNull(Maybe.just(0).filter(x -> x > 1).blockingGet());
+        assertEquals("none", Maybe.<String>empty().defaultIfEmpty("none").blockingGet());
+        assertThrows(NoSuchElementException.class, () -> Maybe.empty().toSingle().blockingGet());
+        assertEquals(3, Maybe.fromCallable(() -> 1).flatMapSingle(x -> Single.just(x + 2)).blockingGet());
+
+        List<Integer> items = new ArrayList<>();
+        Maybe.just(7).toObservable().subscribe(items::add, err -> fail(err), () -> items.add(-1));
+        Maybe.<Integer>empty().toObservable().subscribe(items::add, err -> fail(err), () -> items.add(-1));
+        assertEquals(List.of(7, -1, -1), items);
+    }
+
+    @Test
+    void testObservableBridges() {
+        AtomicInteger produced = new AtomicInteger();
+        Observable<Integer> infinite = Observable.create(emitter -> {
+            for (int i = 0; !emitter.isDisposed(); i++) {
+                produced.incrementAndGet();
+                emitter.onNext(i);
+            }
+        });
+
+        assertEquals(0, infinite.firstOrError().blockingGet());
+        assertEquals(1, produced.get(), "firstOrError должен отменить источник после первого элемента");
+
+        assertThrows(NoSuchElementException.class, () -> Observable.<Integer>fromArray().firstOrError().blockingGet());
+        assertNull(Observable.<Integer>fromArray().firstElement().blockingGet());
+        assertEquals(3L, Observable.range(0, 3).count().blockingGet());
+
+        AtomicBoolean completed = new AtomicBoolean();
+        Observable.range(0, 10).ignoreElements()
+                .andThen(Completable.fromRunnable(() -> completed.set(true)))
+                .blockingAwait();
+        assertTrue(completed.get());
+        assertEquals("done", Completable.complete().toSingleDefault("done").blockingGet());
+    }
+
+    @Test
+    void testCompletableFutureInterop() throws Exception {
+        CompletableFuture<String> source = new CompletableFuture<>();
+        CompletableFuture<Integer> result = Single.fromCompletionStage(source)
+                .map(String::length)
+                .toCompletableFuture();
+        assertFalse(result.isDone());
+        source.complete("hello");
+        assertEquals(5, result.get(1, TimeUnit.SECONDS));
+
+        CompletableFuture<Void> failed = Completable.error(new IllegalArgumentException("bad")).toCompletableFuture();
+        ExecutionException ex = assertThrows(ExecutionException.class, () -> failed.get(1, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalArgumentException.class, ex.getCause());
+
+        AtomicBoolean cancelled = new AtomicBoolean();
+        CompletableFuture<Integer> pending = Single.<Integer>create(emitter -> emitter.setCancellable(() -> cancelled.set(true)))
+                .toCompletableFuture();
+        pending.cancel(false);
+        assertTrue(cancelled.get(), "Отмена future должна отменить подписку");
+    }
+}
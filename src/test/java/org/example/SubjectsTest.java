@@ -0,0 +1,158 @@
+package org.example;
+
+import org.example.subjects.BehaviorSubject;
+import org.example.subjects.PublishSubject;
+import org.example.subjects.ReplaySubject;
+import schedulers.ComputationScheduler;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import static org.junit.jupiter.api.Assertions.*;
+
+class SubjectsTest {
+
+    @Test
+    void testPublishSubjectDeliversOnlyNewItems() {
+        PublishSubject<Integer> subject = PublishSubject.create();
+        List<Integer> first = new ArrayList<>();
+        List<Integer> second = new ArrayList<>();
+        AtomicBoolean secondCompleted = new AtomicBoolean();
+
+        subject.subscribe(first::add, err -> fail(), () -> {});
+        subject.onNext(1);
+        Disposable d = subject.subscribe(second::add, err -> fail(), () -> secondCompleted.set(true));
+        subject.onNext(2);
+        d.dispose();
+        subject.onNext(3);
+        subject.onComplete();
+
+        assertEquals(List.of(1, 2, 3), first);
+        assertEquals(List.of(2), second);
+        assertFalse(secondCompleted.get(), "отписавшийся не получает onComplete");
+        assertFalse(subject.hasObservers());
+    }
+
+    @Test
+    void testBehaviorSubjectReplaysLatestValue() {
+        BehaviorSubject<String> subject = BehaviorSubject.createDefault("init");
+        List<String> early = new ArrayList<>();
+        List<String> late = new ArrayList<>();
+
+        subject.subscribe(early::add, err -> fail(), () -> {});
+        subject.onNext("a");
+        subject.onNext("b");
+        subject.subscribe(late::add, err -> fail(), () -> {});
+        subject.onNext("c");
+
+        assertEquals(List.of("init", "a", "b", "c"), early);
+        assertEquals(List.of("b", "c"), late);
+        assertEquals("c", subject.getValue());
+    }
+
+    @Test
+    void testBehaviorSubjectConcurrentSubscribeHasNoGapsOrDuplicates() throws InterruptedException {
+        BehaviorSubject<Integer> subject = BehaviorSubject.createDefault(0);
+        int items = 20_000;
+        List<List<Integer>> received = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch started = new CountDownLatch(1);
+
+        Thread producer = new Thread(() -> {
+            started.countDown();
+            for (int i = 1; i <= items; i++) subject.onNext(i);
+            subject.onComplete();
+        });
+        producer.start();
+        started.await();
+        for (int s = 0; s < 50; s++) {
+            List<Integer> out = Collections.synchronizedList(new ArrayList<>());
+            received.add(out);
+            subject.subscribe(out::add, err -> fail(), () -> {});
+        }
+        producer.join();
+
+        for (List<Integer> out : received) {
+            for (int i = 1; i < out.size(); i++) {
+                assertEquals(out.get(i - 1) + 1, out.get(i), "значения должны идти подряд");
+            }
+        }
+    }
+
+    @Test
+    void testReplaySubjectSizeBound() {
+        ReplaySubject<Integer> subject = ReplaySubject.createWithSize(3);
+        for (int i = 0; i < 10; i++) subject.onNext(i);
+        subject.onComplete();
+
+        List<Integer> out = new ArrayList<>();
+        AtomicBoolean completed = new AtomicBoolean();
+        subject.subscribe(out::add, err -> fail(), () -> completed.set(true));
+
+        assertEquals(List.of(7, 8, 9), out);
+        assertTrue(completed.get());
+    }
+
+    @Test
+    void testReplaySubjectTimeBound() throws InterruptedException {
+        ReplaySubject<Integer> subject = ReplaySubject.createWithTime(50, TimeUnit.MILLISECONDS, new ComputationScheduler());
+        subject.onNext(1);
+        subject.onNext(2);
+        Thread.sleep(100);
+        subject.onNext(3);
+
+        List<Integer> out = new ArrayList<>();
+        subject.subscribe(out::add, err -> fail(), () -> {});
+
+        assertEquals(List.of(3), out, "устаревшие элементы не воспроизводятся");
+    }
+
+    @Test
+    void testShareRunsSourceOnceAndDisconnects() {
+        AtomicInteger subscriptions = new AtomicInteger();
+        AtomicBoolean cancelled = new AtomicBoolean();
+        AtomicReference<Emitter<Integer>> feed = new AtomicReference<>();
+
+        Observable<Integer> shared = Observable.<Integer>create(emitter -> {
+                    subscriptions.incrementAndGet();
+                    emitter.setCancellable(() -> cancelled.set(true));
+                    feed.set(emitter);
+                })
+                .share();
+
+        List<Integer> a = new ArrayList<>();
+        List<Integer> b = new ArrayList<>();
+        Disposable da = shared.subscribe(a::add, err -> fail(), () -> {});
+        Disposable db = shared.subscribe(b::add, err -> fail(), () -> {});
+        feed.get().onNext(1);
+        feed.get().onNext(2);
+
+        assertEquals(1, subscriptions.get(), "источник запускается один раз на всех");
+        assertEquals(List.of(1, 2), a);
+        assertEquals(List.of(1, 2), b);
+
+        da.dispose();
+        assertFalse(cancelled.get());
+        db.dispose();
+        assertTrue(cancelled.get(), "последний отписавшийся отключает источник");
+    }
+
+    @Test
+    void testPublishConnect() {
+        List<Integer> a = new ArrayList<>();
+        List<Integer> b = new ArrayList<>();
+        ConnectableObservable<Integer> published = Observable.range(1, 3).publish();
+
+        published.subscribe(a::add, err -> fail(), () -> {});
+        published.subscribe(b::add, err -> fail(), () -> {});
+        assertTrue(a.isEmpty(), "до connect() источник не запускается");
+        published.connect();
+
+        assertEquals(List.of(1, 2, 3), a);
+        assertEquals(List.of(1, 2, 3), b);
+    }
+}
@@ -0,0 +1,94 @@
+package org.example;
+
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Планировщик с виртуальными часами для тестов операторов времени: время
+ * идёт только в {@link #advanceTimeBy(long, TimeUnit)}, а задачи, чей срок
+ * наступил, выполняются там же, в вызывающем потоке, по порядку сроков.
+ * {@link #execute(Runnable)} выполняет задачу сразу.
+ */
+final class TestScheduler implements Scheduler {
+    private final PriorityQueue<TimedTask> queue = new PriorityQueue<>();
+    private long nowNanos;
+    private long sequence;
+    /** Сколько раз взводился отложенный или периодический таймер. */
+    int timers;
+
+    @Override
+    public void execute(Runnable task) {
+        task.run();
+    }
+
+    @Override
+    public Disposable schedule(Runnable task, long delay, TimeUnit unit) {
+        return add(task, unit.toNanos(delay), 0L);
+    }
+
+    @Override
+    public Disposable schedulePeriodically(Runnable task, long initialDelay, long period, TimeUnit unit) {
+        return add(task, unit.toNanos(initialDelay), unit.toNanos(period));
+    }
+
+    @Override
+    public long now(TimeUnit unit) {
+        return unit.convert(nowNanos, TimeUnit.NANOSECONDS);
+    }
+
+    void advanceTimeBy(long time, TimeUnit unit) {
+        long target = nowNanos + unit.toNanos(time);
+        for (;;) {
+            TimedTask next = queue.peek();
+            if (next == null || next.due > target) break;
+            queue.poll();
+            if (next.disposed) continue;
+            nowNanos = next.due;
+            if (next.period != 0L) {
+                next.due += next.period;
+                next.order = sequence++;
+                queue.add(next);
+            }
+            next.task.run();
+        }
+        nowNanos = target;
+    }
+
+    private TimedTask add(Runnable task, long delayNanos, long periodNanos) {
+        timers++;
+        TimedTask timed = new TimedTask(task, nowNanos + Math.max(0L, delayNanos), periodNanos, sequence++);
+        queue.add(timed);
+        return timed;
+    }
+
+    private static final class TimedTask implements Disposable, Comparable<TimedTask> {
+        final Runnable task;
+        final long period;
+        long due;
+        long order;
+        volatile boolean disposed;
+
+        TimedTask(Runnable task, long due, long period, long order) {
+            this.task = task;
+            this.due = due;
+            this.period = period;
+            this.order = order;
+        }
+
+        @Override
+        public int compareTo(TimedTask other) {
+            int byDue = Long.compare(due, other.due);
+            return byDue != 0 ? byDue : Long.compare(order, other.order);
+        }
+
+        @Override
+        public void dispose() {
+            disposed = true;
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return disposed;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package org.example;
+
+import schedulers.ComputationScheduler;
+import schedulers.SingleThreadScheduler;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimedOperatorsTest {
+
+    @Test
+    void testIntervalEmitsSequence() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(5);
+        List<Long> ticks = Collections.synchronizedList(new ArrayList<>());
+
+        Disposable d = Observable.interval(10, TimeUnit.MILLISECONDS, new SingleThreadScheduler())
+                .subscribe(
+                        t -> {
+                            ticks.add(t);
+                            latch.countDown();
+                        },
+                        err -> fail(),
+                        () -> fail("interval не завершается")
+                );
+
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+        d.dispose();
+        assertEquals(List.of(0L, 1L, 2L, 3L, 4L), ticks.subList(0, 5));
+    }
+
+    @Test
+    void testTimerEmitsOnceAndCompletes() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        List<Long> out = Collections.synchronizedList(new ArrayList<>());
+
+        Observable.timer(20, TimeUnit.MILLISECONDS, new ComputationScheduler())
+                .subscribe(out::add, err -> fail(), latch::countDown);
+
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+        assertEquals(List.of(0L), out);
+    }
+
+    @Test
+    void testDelayShiftsSignalsAndKeepsOrder() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        List<Integer> out = Collections.synchronizedList(new ArrayList<>());
+        ComputationScheduler sched = new ComputationScheduler();
+        AtomicLong firstAt = new AtomicLong();
+        long start = sched.now(TimeUnit.MILLISECONDS);
+
+        Observable.range(0, 200)
+                .delay(30, TimeUnit.MILLISECONDS, sched)
+                .subscribe(
+                        i -> {
+                            firstAt.compareAndSet(0, sched.now(TimeUnit.MILLISECONDS) - start);
+                            out.add(i);
+                        },
+                        err -> fail(),
+                        latch::countDown
+                );
+
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+        assertTrue(firstAt.get() >= 30, "Элемент пришёл раньше задержки: " + firstAt.get());
+        assertEquals(200, out.size());
+        for (int i = 0; i < out.size(); i++) {
+            assertEquals(i, out.get(i).intValue());
+        }
+    }
+
+    @Test
+    void testTimeoutFiresWhenSourceIsSilent() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicReference<Throwable> errRef = new AtomicReference<>();
+        List<Integer> out = Collections.synchronizedList(new ArrayList<>());
+
+        Observable.<Integer>create(obs -> obs.onNext(1))
+                .timeout(30, TimeUnit.MILLISECONDS, new ComputationScheduler())
+                .subscribe(out::add, e -> {
+                    errRef.set(e);
+                    latch.countDown();
+                }, () -> fail());
+
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+        assertEquals(List.of(1), out);
+        assertInstanceOf(TimeoutException.class, errRef.get());
+    }
+}